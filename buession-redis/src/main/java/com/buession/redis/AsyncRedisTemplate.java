@@ -0,0 +1,379 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis;
+
+import com.buession.core.type.TypeReference;
+import com.buession.core.validator.Validate;
+import com.buession.lang.Status;
+import com.buession.redis.client.connection.RedisConnection;
+import com.buession.redis.client.connection.RedisConnectionUtils;
+import com.buession.redis.client.connection.datasource.DataSource;
+import com.buession.redis.client.connection.datasource.lettuce.LettuceRedisDataSource;
+import com.buession.redis.client.connection.lettuce.LettuceRedisConnection;
+import com.buession.redis.core.Options;
+import com.buession.redis.core.ScanResult;
+import com.buession.redis.core.Tuple;
+import com.buession.redis.core.internal.convert.response.OkStatusConverter;
+import com.buession.redis.exception.RedisException;
+import com.buession.redis.utils.KeyUtils;
+import com.buession.redis.utils.SafeEncoder;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 异步 Redis 操作模板，基于 Lettuce 异步命令，所有操作立即返回 {@link CompletionStage}，不阻塞调用线程
+ *
+ * <p>命令通过客户端上长期持有的多路复用连接发送，结果转换复用 {@link Converter} 与
+ * {@link com.buession.redis.serializer.Serializer}；仅支持 Lettuce 数据源。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class AsyncRedisTemplate extends RedisAccessor {
+
+	private final static OkStatusConverter OK_STATUS_CONVERTER = new OkStatusConverter();
+
+	private final static Function<byte[], String> STRING_DECODER = SafeEncoder::encode;
+
+	private volatile RedisAsyncCommands<byte[], byte[]> asyncCommands;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * 构造函数
+	 */
+	public AsyncRedisTemplate() {
+		super();
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param dataSource
+	 * 		数据源
+	 */
+	public AsyncRedisTemplate(DataSource dataSource) {
+		super(dataSource);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param dataSource
+	 * 		数据源
+	 * @param options
+	 * 		配置选项
+	 */
+	public AsyncRedisTemplate(DataSource dataSource, Options options) {
+		super(dataSource, options);
+	}
+
+	@Override
+	public void afterPropertiesSet() throws RedisException {
+		if(getDataSource() instanceof LettuceRedisDataSource == false && getDataSource() != null){
+			throw new RedisException(String.format("dataSource must be an instance of %s, but an instance of %s.",
+					LettuceRedisDataSource.class.getName(), getDataSource().getClass().getName()));
+		}
+
+		super.afterPropertiesSet();
+	}
+
+	public CompletionStage<Boolean> exists(final String key) {
+		return execute((commands)->commands.exists(rawKey(key)), (value)->value != null && value > 0);
+	}
+
+	public CompletionStage<Long> del(final String... keys) {
+		return execute((commands)->commands.del(rawKeys(keys)), Function.identity());
+	}
+
+	public CompletionStage<Status> expire(final String key, final int lifetime) {
+		return execute((commands)->commands.expire(rawKey(key), lifetime),
+				(value)->Status.valueOf(Boolean.TRUE.equals(value)));
+	}
+
+	public CompletionStage<Long> ttl(final String key) {
+		return execute((commands)->commands.ttl(rawKey(key)), Function.identity());
+	}
+
+	public CompletionStage<ScanResult<String>> scan(final String cursor, final String pattern, final int count) {
+		final ScanArgs scanArgs = ScanArgs.Builder.limit(count);
+
+		if(Validate.hasText(pattern)){
+			scanArgs.match(KeyUtils.rawKey(this, pattern));
+		}
+
+		return execute((commands)->commands.scan(ScanCursor.of(cursor), scanArgs),
+				(value)->new ScanResult<>(value.getCursor(), value.getKeys().stream().map(STRING_DECODER).toList()));
+	}
+
+	public CompletionStage<String> get(final String key) {
+		return execute((commands)->commands.get(rawKey(key)), STRING_DECODER);
+	}
+
+	public CompletionStage<byte[]> get(final byte[] key) {
+		return execute((commands)->commands.get(KeyUtils.rawKey(this, key)), Function.identity());
+	}
+
+	public <V> CompletionStage<V> get(final String key, final Class<V> clazz) {
+		return execute((commands)->commands.get(rawKey(key)),
+				decoder(new Converter.ClazzBinaryConverter<>(this, clazz)));
+	}
+
+	public <V> CompletionStage<V> get(final String key, final TypeReference<V> type) {
+		return execute((commands)->commands.get(rawKey(key)),
+				decoder(new Converter.TypeBinaryConverter<>(this, type)));
+	}
+
+	public CompletionStage<List<String>> mGet(final String... keys) {
+		return execute((commands)->commands.mget(rawKeys(keys)), (value)->values(value, STRING_DECODER));
+	}
+
+	public <V> CompletionStage<List<V>> mGet(final String[] keys, final Class<V> clazz) {
+		final Function<byte[], V> decoder = decoder(new Converter.ClazzBinaryConverter<>(this, clazz));
+		return execute((commands)->commands.mget(rawKeys(keys)),
+				(value)->values(value, decoder));
+	}
+
+	public <V> CompletionStage<List<V>> mGet(final String[] keys, final TypeReference<V> type) {
+		final Function<byte[], V> decoder = decoder(new Converter.TypeBinaryConverter<>(this, type));
+		return execute((commands)->commands.mget(rawKeys(keys)),
+				(value)->values(value, decoder));
+	}
+
+	public CompletionStage<Status> set(final String key, final String value) {
+		return execute((commands)->commands.set(rawKey(key), SafeEncoder.encode(value)),
+				OK_STATUS_CONVERTER::convert);
+	}
+
+	public <V> CompletionStage<Status> set(final String key, final V value) {
+		return execute((commands)->commands.set(rawKey(key), serializer.serializeAsBytes(value)),
+				OK_STATUS_CONVERTER::convert);
+	}
+
+	public CompletionStage<Status> setEx(final String key, final String value, final int lifetime) {
+		return execute((commands)->commands.setex(rawKey(key), lifetime, SafeEncoder.encode(value)),
+				OK_STATUS_CONVERTER::convert);
+	}
+
+	public <V> CompletionStage<Status> setEx(final String key, final V value, final int lifetime) {
+		return execute((commands)->commands.setex(rawKey(key), lifetime, serializer.serializeAsBytes(value)),
+				OK_STATUS_CONVERTER::convert);
+	}
+
+	public CompletionStage<Long> incr(final String key) {
+		return execute((commands)->commands.incr(rawKey(key)), Function.identity());
+	}
+
+	public CompletionStage<Long> incrBy(final String key, final long value) {
+		return execute((commands)->commands.incrby(rawKey(key), value), Function.identity());
+	}
+
+	public CompletionStage<Long> decr(final String key) {
+		return execute((commands)->commands.decr(rawKey(key)), Function.identity());
+	}
+
+	public CompletionStage<String> hGet(final String key, final String field) {
+		return execute((commands)->commands.hget(rawKey(key), SafeEncoder.encode(field)), STRING_DECODER);
+	}
+
+	public <V> CompletionStage<V> hGet(final String key, final String field, final Class<V> clazz) {
+		return execute((commands)->commands.hget(rawKey(key), SafeEncoder.encode(field)),
+				decoder(new Converter.ClazzBinaryConverter<>(this, clazz)));
+	}
+
+	public <V> CompletionStage<V> hGet(final String key, final String field, final TypeReference<V> type) {
+		return execute((commands)->commands.hget(rawKey(key), SafeEncoder.encode(field)),
+				decoder(new Converter.TypeBinaryConverter<>(this, type)));
+	}
+
+	public CompletionStage<Map<String, String>> hGetAll(final String key) {
+		return execute((commands)->commands.hgetall(rawKey(key)), (value)->map(value, STRING_DECODER));
+	}
+
+	public <V> CompletionStage<Map<String, V>> hGetAll(final String key, final Class<V> clazz) {
+		final Function<byte[], V> decoder = decoder(new Converter.ClazzBinaryConverter<>(this, clazz));
+		return execute((commands)->commands.hgetall(rawKey(key)),
+				(value)->map(value, decoder));
+	}
+
+	public <V> CompletionStage<Map<String, V>> hGetAll(final String key, final TypeReference<V> type) {
+		final Function<byte[], V> decoder = decoder(new Converter.TypeBinaryConverter<>(this, type));
+		return execute((commands)->commands.hgetall(rawKey(key)),
+				(value)->map(value, decoder));
+	}
+
+	public CompletionStage<Boolean> hSet(final String key, final String field, final String value) {
+		return execute((commands)->commands.hset(rawKey(key), SafeEncoder.encode(field), SafeEncoder.encode(value)),
+				Function.identity());
+	}
+
+	public <V> CompletionStage<Boolean> hSet(final String key, final String field, final V value) {
+		return execute((commands)->commands.hset(rawKey(key), SafeEncoder.encode(field),
+				serializer.serializeAsBytes(value)), Function.identity());
+	}
+
+	public CompletionStage<Long> hDel(final String key, final String... fields) {
+		return execute((commands)->commands.hdel(rawKey(key), SafeEncoder.encode(fields)), Function.identity());
+	}
+
+	public CompletionStage<ScanResult<com.buession.lang.KeyValue<String, String>>> hScan(final String key,
+	                                                                                    final String cursor,
+	                                                                                    final String pattern,
+	                                                                                    final int count) {
+		return execute((commands)->commands.hscan(rawKey(key), ScanCursor.of(cursor), scanArgs(pattern, count)),
+				(value)->new ScanResult<>(value.getCursor(), value.getMap().entrySet().stream()
+						.map((entry)->new com.buession.lang.KeyValue<>(SafeEncoder.encode(entry.getKey()),
+								SafeEncoder.encode(entry.getValue()))).toList()));
+	}
+
+	public CompletionStage<ScanResult<String>> sScan(final String key, final String cursor, final String pattern,
+	                                                 final int count) {
+		return execute((commands)->commands.sscan(rawKey(key), ScanCursor.of(cursor), scanArgs(pattern, count)),
+				(value)->new ScanResult<>(value.getCursor(), value.getValues().stream().map(STRING_DECODER).toList()));
+	}
+
+	public CompletionStage<ScanResult<Tuple>> zScan(final String key, final String cursor, final String pattern,
+	                                                final int count) {
+		return execute((commands)->commands.zscan(rawKey(key), ScanCursor.of(cursor), scanArgs(pattern, count)),
+				(value)->new ScanResult<>(value.getCursor(), value.getValues().stream()
+						.map((scoredValue)->new Tuple(SafeEncoder.encode(scoredValue.getValue()),
+								scoredValue.getScore())).toList()));
+	}
+
+	/**
+	 * 发送异步命令并转换结果
+	 *
+	 * @param callback
+	 * 		异步命令
+	 * @param converter
+	 * 		结果转换函数
+	 * @param <SR>
+	 * 		原始结果类型
+	 * @param <TR>
+	 * 		转换后的结果类型
+	 *
+	 * @return 转换后的结果
+	 */
+	protected <SR, TR> CompletionStage<TR> execute(final Function<RedisAsyncCommands<byte[], byte[]>,
+			RedisFuture<SR>> callback, final Function<SR, TR> converter) {
+		return callback.apply(getAsyncCommands()).thenApply(converter);
+	}
+
+	@SuppressWarnings({"unchecked"})
+	protected RedisAsyncCommands<byte[], byte[]> getAsyncCommands() {
+		RedisAsyncCommands<byte[], byte[]> commands = asyncCommands;
+
+		if(commands == null){
+			lock.lock();
+			try{
+				commands = asyncCommands;
+
+				if(commands == null){
+					final RedisConnection connection = fetchRequiredConnection();
+
+					try{
+						final LettuceRedisConnection<byte[], byte[], ?> lettuceRedisConnection =
+								(LettuceRedisConnection<byte[], byte[], ?>) connection;
+						commands = lettuceRedisConnection.getClient().getRedisAsyncCommands();
+						asyncCommands = commands;
+					}finally{
+						RedisConnectionUtils.releaseConnection(getConnectionFactory(), connection);
+					}
+				}
+			}finally{
+				lock.unlock();
+			}
+		}
+
+		return commands;
+	}
+
+	private <V> Function<byte[], V> decoder(final Converter<byte[], V> converter) {
+		return (value)->converter.convert(null, value);
+	}
+
+	private static ScanArgs scanArgs(final String pattern, final int count) {
+		final ScanArgs scanArgs = ScanArgs.Builder.limit(count);
+
+		if(Validate.hasText(pattern)){
+			scanArgs.match(pattern);
+		}
+
+		return scanArgs;
+	}
+
+	private byte[] rawKey(final String key) {
+		return keyEncoder.encodeRaw(key);
+	}
+
+	private byte[][] rawKeys(final String[] keys) {
+		final byte[][] result = new byte[keys.length][];
+
+		for(int i = 0; i < keys.length; i++){
+			result[i] = rawKey(keys[i]);
+		}
+
+		return result;
+	}
+
+	private static <V> List<V> values(final List<KeyValue<byte[], byte[]>> keyValues,
+	                                  final Function<byte[], V> converter) {
+		if(keyValues == null){
+			return null;
+		}
+
+		final List<V> result = new ArrayList<>(keyValues.size());
+
+		for(KeyValue<byte[], byte[]> keyValue : keyValues){
+			result.add(keyValue.hasValue() ? converter.apply(keyValue.getValue()) : null);
+		}
+
+		return result;
+	}
+
+	private static <V> Map<String, V> map(final Map<byte[], byte[]> data, final Function<byte[], V> converter) {
+		if(data == null){
+			return null;
+		}
+
+		final Map<String, V> result = new LinkedHashMap<>(data.size());
+
+		data.forEach((field, value)->result.put(SafeEncoder.encode(field), converter.apply(value)));
+
+		return result;
+	}
+
+}
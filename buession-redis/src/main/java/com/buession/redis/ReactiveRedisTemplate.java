@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis;
+
+import com.buession.core.type.TypeReference;
+import com.buession.core.utils.Assert;
+import com.buession.lang.KeyValue;
+import com.buession.lang.Status;
+import com.buession.redis.client.connection.datasource.DataSource;
+import com.buession.redis.core.Options;
+import com.buession.redis.core.ScanResult;
+import com.buession.redis.core.Tuple;
+import com.buession.redis.exception.RedisException;
+import com.buession.redis.scan.AdaptiveScanCount;
+import com.buession.redis.scan.ScanOptions;
+import org.springframework.beans.factory.InitializingBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * 响应式 Redis 操作模板，基于 {@link AsyncRedisTemplate} 以 Reactor {@link Mono}、{@link Flux} 返回结果
+ *
+ * <p>命令在订阅时才发送，值为 null 时 {@link Mono} 直接完成而不发出元素。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class ReactiveRedisTemplate implements InitializingBean, AutoCloseable {
+
+	private final static String SCAN_START_CURSOR = "0";
+
+	private final AsyncRedisTemplate asyncRedisTemplate;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param dataSource
+	 * 		数据源
+	 */
+	public ReactiveRedisTemplate(DataSource dataSource) {
+		this(new AsyncRedisTemplate(dataSource));
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param dataSource
+	 * 		数据源
+	 * @param options
+	 * 		配置选项
+	 */
+	public ReactiveRedisTemplate(DataSource dataSource, Options options) {
+		this(new AsyncRedisTemplate(dataSource, options));
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param asyncRedisTemplate
+	 * 		异步 Redis 操作模板
+	 */
+	public ReactiveRedisTemplate(AsyncRedisTemplate asyncRedisTemplate) {
+		Assert.isNull(asyncRedisTemplate, "AsyncRedisTemplate cloud not be null.");
+		this.asyncRedisTemplate = asyncRedisTemplate;
+	}
+
+	/**
+	 * 返回异步 Redis 操作模板
+	 *
+	 * @return 异步 Redis 操作模板
+	 */
+	public AsyncRedisTemplate getAsyncRedisTemplate() {
+		return asyncRedisTemplate;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws RedisException {
+		asyncRedisTemplate.afterPropertiesSet();
+	}
+
+	public Mono<Boolean> exists(final String key) {
+		return mono(()->asyncRedisTemplate.exists(key));
+	}
+
+	public Mono<Long> del(final String... keys) {
+		return mono(()->asyncRedisTemplate.del(keys));
+	}
+
+	public Mono<Status> expire(final String key, final int lifetime) {
+		return mono(()->asyncRedisTemplate.expire(key, lifetime));
+	}
+
+	public Mono<Long> ttl(final String key) {
+		return mono(()->asyncRedisTemplate.ttl(key));
+	}
+
+	/**
+	 * 以 SCAN 遍历匹配的 Key，下游请求时才获取下一批
+	 *
+	 * @param pattern
+	 * 		匹配模式
+	 * @param count
+	 * 		每批返回的数量提示
+	 *
+	 * @return 匹配的 Key
+	 */
+	public Flux<String> scan(final String pattern, final int count) {
+		return mono(()->asyncRedisTemplate.scan(SCAN_START_CURSOR, pattern, count))
+				.expand((result)->result.isCompleteIteration() ? Mono.empty() : mono(
+						()->asyncRedisTemplate.scan(result.getCursorAsString(), pattern, count)))
+				.concatMapIterable(ScanResult::getResults);
+	}
+
+	/**
+	 * 以 SCAN 遍历匹配的 Key，下游消费当前页时预取下一页，COUNT 提示根据单页耗时自适应调整
+	 *
+	 * @param pattern
+	 * 		匹配模式
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return 匹配的 Key
+	 */
+	public Flux<String> scan(final String pattern, final ScanOptions options) {
+		return scan(options, (cursor, count)->asyncRedisTemplate.scan(cursor, pattern, count));
+	}
+
+	/**
+	 * 以 HSCAN 遍历哈希表中匹配的域值对，下游消费当前页时预取下一页，COUNT 提示根据单页耗时自适应调整
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return 匹配的域值对
+	 */
+	public Flux<KeyValue<String, String>> hScan(final String key, final String pattern, final ScanOptions options) {
+		return scan(options, (cursor, count)->asyncRedisTemplate.hScan(key, cursor, pattern, count));
+	}
+
+	/**
+	 * 以 SSCAN 遍历集合中匹配的元素，下游消费当前页时预取下一页，COUNT 提示根据单页耗时自适应调整
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return 匹配的元素
+	 */
+	public Flux<String> sScan(final String key, final String pattern, final ScanOptions options) {
+		return scan(options, (cursor, count)->asyncRedisTemplate.sScan(key, cursor, pattern, count));
+	}
+
+	/**
+	 * 以 ZSCAN 遍历有序集合中匹配的成员，下游消费当前页时预取下一页，COUNT 提示根据单页耗时自适应调整
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return 匹配的成员
+	 */
+	public Flux<Tuple> zScan(final String key, final String pattern, final ScanOptions options) {
+		return scan(options, (cursor, count)->asyncRedisTemplate.zScan(key, cursor, pattern, count));
+	}
+
+	public Mono<String> get(final String key) {
+		return mono(()->asyncRedisTemplate.get(key));
+	}
+
+	public Mono<byte[]> get(final byte[] key) {
+		return mono(()->asyncRedisTemplate.get(key));
+	}
+
+	public <V> Mono<V> get(final String key, final Class<V> clazz) {
+		return mono(()->asyncRedisTemplate.get(key, clazz));
+	}
+
+	public <V> Mono<V> get(final String key, final TypeReference<V> type) {
+		return mono(()->asyncRedisTemplate.get(key, type));
+	}
+
+	public Mono<List<String>> mGet(final String... keys) {
+		return mono(()->asyncRedisTemplate.mGet(keys));
+	}
+
+	public <V> Mono<List<V>> mGet(final String[] keys, final Class<V> clazz) {
+		return mono(()->asyncRedisTemplate.mGet(keys, clazz));
+	}
+
+	public <V> Mono<List<V>> mGet(final String[] keys, final TypeReference<V> type) {
+		return mono(()->asyncRedisTemplate.mGet(keys, type));
+	}
+
+	public Mono<Status> set(final String key, final String value) {
+		return mono(()->asyncRedisTemplate.set(key, value));
+	}
+
+	public <V> Mono<Status> set(final String key, final V value) {
+		return mono(()->asyncRedisTemplate.set(key, value));
+	}
+
+	public Mono<Status> setEx(final String key, final String value, final int lifetime) {
+		return mono(()->asyncRedisTemplate.setEx(key, value, lifetime));
+	}
+
+	public <V> Mono<Status> setEx(final String key, final V value, final int lifetime) {
+		return mono(()->asyncRedisTemplate.setEx(key, value, lifetime));
+	}
+
+	public Mono<Long> incr(final String key) {
+		return mono(()->asyncRedisTemplate.incr(key));
+	}
+
+	public Mono<Long> incrBy(final String key, final long value) {
+		return mono(()->asyncRedisTemplate.incrBy(key, value));
+	}
+
+	public Mono<Long> decr(final String key) {
+		return mono(()->asyncRedisTemplate.decr(key));
+	}
+
+	public Mono<String> hGet(final String key, final String field) {
+		return mono(()->asyncRedisTemplate.hGet(key, field));
+	}
+
+	public <V> Mono<V> hGet(final String key, final String field, final Class<V> clazz) {
+		return mono(()->asyncRedisTemplate.hGet(key, field, clazz));
+	}
+
+	public <V> Mono<V> hGet(final String key, final String field, final TypeReference<V> type) {
+		return mono(()->asyncRedisTemplate.hGet(key, field, type));
+	}
+
+	public Mono<Map<String, String>> hGetAll(final String key) {
+		return mono(()->asyncRedisTemplate.hGetAll(key));
+	}
+
+	public <V> Mono<Map<String, V>> hGetAll(final String key, final Class<V> clazz) {
+		return mono(()->asyncRedisTemplate.hGetAll(key, clazz));
+	}
+
+	public <V> Mono<Map<String, V>> hGetAll(final String key, final TypeReference<V> type) {
+		return mono(()->asyncRedisTemplate.hGetAll(key, type));
+	}
+
+	public Mono<Boolean> hSet(final String key, final String field, final String value) {
+		return mono(()->asyncRedisTemplate.hSet(key, field, value));
+	}
+
+	public <V> Mono<Boolean> hSet(final String key, final String field, final V value) {
+		return mono(()->asyncRedisTemplate.hSet(key, field, value));
+	}
+
+	public Mono<Long> hDel(final String key, final String... fields) {
+		return mono(()->asyncRedisTemplate.hDel(key, fields));
+	}
+
+	@Override
+	public void close() throws Exception {
+		asyncRedisTemplate.close();
+	}
+
+	private static <T> Flux<T> scan(final ScanOptions options,
+	                                 final BiFunction<String, Integer, CompletionStage<ScanResult<T>>> loader) {
+		Assert.isNull(options, "ScanOptions cloud not be null.");
+
+		return Flux.defer(()->{
+			final AdaptiveScanCount count = new AdaptiveScanCount(options);
+
+			return page(loader, count, SCAN_START_CURSOR).expand((result)->result.isCompleteIteration() ?
+					Mono.empty() : page(loader, count, result.getCursorAsString()));
+		}).concatMapIterable(ScanResult::getResults, Math.max(1, options.getPrefetch()) + 1);
+	}
+
+	private static <T> Mono<ScanResult<T>> page(
+			final BiFunction<String, Integer, CompletionStage<ScanResult<T>>> loader, final AdaptiveScanCount count,
+			final String cursor) {
+		return Mono.defer(()->{
+			final long start = System.nanoTime();
+
+			return mono(()->loader.apply(cursor, count.get())).doOnNext(
+					(result)->count.record(System.nanoTime() - start));
+		});
+	}
+
+	private static <V> Mono<V> mono(final Supplier<CompletionStage<V>> supplier) {
+		return Mono.fromCompletionStage(supplier);
+	}
+
+}
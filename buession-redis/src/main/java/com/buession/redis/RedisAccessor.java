@@ -24,7 +24,14 @@
  */
 package com.buession.redis;
 
+import com.buession.core.concurrent.DefaultThreadFactory;
 import com.buession.core.utils.Assert;
+import com.buession.core.validator.Validate;
+import com.buession.redis.cache.HotKeyCache;
+import com.buession.redis.cache.HotKeyConfig;
+import com.buession.redis.cache.NearCache;
+import com.buession.redis.cache.NearCacheConfig;
+import com.buession.redis.cache.NearCacheInvalidator;
 import com.buession.redis.client.RedisClient;
 import com.buession.redis.client.connection.datasource.jedis.JedisRedisDataSource;
 import com.buession.redis.client.connection.datasource.lettuce.LettuceRedisDataSource;
@@ -38,6 +45,14 @@ import com.buession.redis.client.connection.datasource.DataSource;
 import com.buession.redis.client.connection.lettuce.LettuceRedisConnection;
 import com.buession.redis.client.jedis.JedisRedisClient;
 import com.buession.redis.client.lettuce.LettuceRedisClient;
+import com.buession.redis.coalesce.CoalescingConfig;
+import com.buession.redis.coalesce.HMGetBatchLoader;
+import com.buession.redis.coalesce.MGetBatchLoader;
+import com.buession.redis.coalesce.ReadCoalescer;
+import com.buession.redis.metrics.CommandMetrics;
+import com.buession.redis.metrics.CommandMetricsFactory;
+import com.buession.redis.metrics.MetricsConfig;
+import com.buession.redis.metrics.NoopCommandMetrics;
 import com.buession.redis.core.command.Command;
 import com.buession.redis.core.Options;
 import com.buession.redis.core.SessionCallback;
@@ -46,11 +61,25 @@ import com.buession.redis.core.command.RedisCommand;
 import com.buession.redis.core.command.RedisSubCommand;
 import com.buession.redis.exception.RedisException;
 import com.buession.redis.pipeline.Pipeline;
+import com.buession.redis.serializer.CompressingSerializer;
 import com.buession.redis.serializer.JacksonJsonSerializer;
 import com.buession.redis.serializer.Serializer;
+import com.buession.redis.utils.KeyEncoder;
+import com.buession.redis.utils.SafeEncoder;
+import io.lettuce.core.api.PipeliningFlushPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.lang.Nullable;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
 /**
  * Base class for {@link RedisTemplate} defining common properties. Not intended to be used directly.
  *
@@ -92,6 +121,59 @@ public abstract class RedisAccessor implements InitializingBean, AutoCloseable {
 	 */
 	protected boolean enableTransactionSupport = false;
 
+	/**
+	 * 本地缓存
+	 *
+	 * @since 4.0.0
+	 */
+	protected NearCache nearCache;
+
+	/**
+	 * 热点 Key 本地缓存
+	 *
+	 * @since 4.0.0
+	 */
+	protected HotKeyCache hotKeyCache;
+
+	/**
+	 * GET 命令合并器
+	 *
+	 * @since 4.0.0
+	 */
+	protected ReadCoalescer<byte[], byte[]> getCoalescer;
+
+	/**
+	 * HGET 命令合并器
+	 *
+	 * @since 4.0.0
+	 */
+	protected ReadCoalescer<HMGetBatchLoader.HashField, byte[]> hGetCoalescer;
+
+	/**
+	 * 命令指标收集器
+	 *
+	 * @since 4.0.0
+	 */
+	protected CommandMetrics commandMetrics = NoopCommandMetrics.INSTANCE;
+
+	/**
+	 * Key 编码器，随配置选项创建
+	 *
+	 * @since 4.0.0
+	 */
+	protected volatile KeyEncoder keyEncoder = KeyEncoder.NONE;
+
+	/**
+	 * 流式 SCAN 预取线程池
+	 *
+	 * @since 4.0.0
+	 */
+	private volatile ExecutorService scanExecutor;
+
+	private final ReentrantLock scanExecutorLock = new ReentrantLock();
+
+	private final static Logger logger = LoggerFactory.getLogger(RedisAccessor.class);
+
 	static {
 		DEFAULT_OPTIONS.setSerializer(DEFAULT_SERIALIZER);
 	}
@@ -142,6 +224,18 @@ public abstract class RedisAccessor implements InitializingBean, AutoCloseable {
 	 */
 	public void setOptions(Options options) {
 		this.options = options;
+		this.keyEncoder = KeyEncoder.create(options);
+	}
+
+	/**
+	 * 返回 Key 编码器
+	 *
+	 * @return Key 编码器
+	 *
+	 * @since 4.0.0
+	 */
+	public KeyEncoder getKeyEncoder() {
+		return keyEncoder;
 	}
 
 	/**
@@ -164,14 +258,59 @@ public abstract class RedisAccessor implements InitializingBean, AutoCloseable {
 		this.dataSource = dataSource;
 	}
 
+	/**
+	 * 返回本地缓存
+	 *
+	 * @return 本地缓存，未开启时返回 null
+	 *
+	 * @since 4.0.0
+	 */
+	@Nullable
+	public NearCache getNearCache() {
+		return nearCache;
+	}
+
+	/**
+	 * 返回热点 Key 本地缓存
+	 *
+	 * @return 热点 Key 本地缓存，未开启时返回 null
+	 *
+	 * @since 4.0.0
+	 */
+	@Nullable
+	public HotKeyCache getHotKeyCache() {
+		return hotKeyCache;
+	}
+
+	/**
+	 * 返回命令指标收集器
+	 *
+	 * @return 命令指标收集器，未开启时返回 {@link NoopCommandMetrics}
+	 *
+	 * @since 4.0.0
+	 */
+	public CommandMetrics getCommandMetrics() {
+		return commandMetrics;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws RedisException {
 		Assert.isNull(getDataSource(), "dataSource is required");
 
 		Options options = getOptions();
+		NearCacheConfig nearCacheConfig = null;
+		HotKeyConfig hotKeyConfig = null;
+		CoalescingConfig coalescingConfig = null;
+		MetricsConfig metricsConfig = null;
+		// 配置选项可能在 setOptions 之后被修改，初始化时重新创建
+		keyEncoder = KeyEncoder.create(options);
 		if(options != null){
 			serializer = options.getSerializer();
 			enableTransactionSupport = options.isEnableTransactionSupport();
+			nearCacheConfig = options.getNearCacheConfig();
+			hotKeyConfig = options.getHotKeyConfig();
+			coalescingConfig = options.getCoalescingConfig();
+			metricsConfig = options.getMetricsConfig();
 		}
 		if(serializer == null){
 			serializer = DEFAULT_SERIALIZER;
@@ -199,9 +338,49 @@ public abstract class RedisAccessor implements InitializingBean, AutoCloseable {
 				}
 			}
 		}
+
+		commandMetrics = CommandMetricsFactory.create(metricsConfig);
+		connectionFactory.setCommandMetrics(commandMetrics);
+		if(client != null){
+			client.setCommandMetrics(commandMetrics);
+		}
+		if(serializer instanceof CompressingSerializer){
+			((CompressingSerializer) serializer).setCommandMetrics(commandMetrics);
+		}
+
+		if(nearCacheConfig != null && nearCache == null){
+			initNearCache(nearCacheConfig);
+		}
+
+		if(hotKeyConfig != null && hotKeyCache == null){
+			hotKeyCache = new HotKeyCache(hotKeyConfig);
+		}
+		if(hotKeyCache != null){
+			hotKeyCache.setCommandMetrics(commandMetrics);
+		}
+		if(client != null){
+			client.setHotKeyCache(hotKeyCache);
+		}
+
+		if(coalescingConfig != null){
+			getCoalescer = new ReadCoalescer<>(coalescingConfig, new MGetBatchLoader());
+			hGetCoalescer = new ReadCoalescer<>(coalescingConfig, new HMGetBatchLoader());
+		}
 	}
 
 	public void pipeline() {
+		pipeline(null);
+	}
+
+	/**
+	 * 以指定的刷新策略开启管道，仅对 Lettuce 连接有效；Jedis 管道总是在同步时统一发送命令
+	 *
+	 * @param flushPolicy
+	 * 		管道刷新策略，为 null 时使用连接或数据源配置的刷新策略
+	 *
+	 * @since 4.0.0
+	 */
+	public void pipeline(final PipeliningFlushPolicy flushPolicy) {
 		RedisConnection connection = fetchRequiredConnection();
 		RedisClient client = fetchRequiredRedisClient(connection);
 
@@ -220,7 +399,14 @@ public abstract class RedisAccessor implements InitializingBean, AutoCloseable {
 			@Override
 			public Pipeline execute(final RedisConnection conn, final CommandArguments arguments)
 					throws RedisException {
-				return client.getConnection().openPipeline();
+				final RedisConnection redisConnection = client.getConnection();
+
+				if(flushPolicy != null &&
+						redisConnection instanceof LettuceRedisConnection<?, ?, ?> lettuceRedisConnection){
+					return lettuceRedisConnection.openPipeline(flushPolicy);
+				}else{
+					return redisConnection.openPipeline();
+				}
 			}
 
 		});
@@ -253,9 +439,192 @@ public abstract class RedisAccessor implements InitializingBean, AutoCloseable {
 		}
 	}
 
+	/**
+	 * 以本地缓存执行读命令；本地缓存不可用时，由热点 Key 本地缓存统计访问频率并缓存热点 Key；
+	 * 均未开启或处于事务、管道中时，直接从 Redis 读取
+	 *
+	 * @param key
+	 * 		本地缓存 Key，仅在本地缓存或热点 Key 本地缓存开启时计算
+	 * @param type
+	 * 		反序列化目标类型
+	 * @param callback
+	 * 		读命令
+	 * @param converter
+	 * 		结果转换器
+	 * @param <SR>
+	 * 		原始结果类型
+	 * @param <TR>
+	 * 		转换后的结果类型
+	 *
+	 * @return 转换后的结果
+	 *
+	 * @throws RedisException
+	 * 		Redis Exception
+	 * @since 4.0.0
+	 */
+	protected <SR, TR> TR execute(final Supplier<NearCache.Key> key, final Object type,
+	                              final SessionCallback<SR> callback, final Converter<SR, TR> converter)
+			throws RedisException {
+		if(nearCache == null && hotKeyCache == null){
+			return execute(callback, converter);
+		}
+
+		Assert.isNull(callback, "callback cloud not be null.");
+
+		RedisConnection connection = fetchRequiredConnection();
+		RedisClient client = fetchRequiredRedisClient(connection);
+
+		try{
+			if(isMulti(connection)){
+				return converter.convert(connection, callback.execute(client));
+			}
+
+			if(nearCache != null && nearCache.isActive()){
+				return nearCache.get(key.get(), type, ()->callback.execute(client),
+						(value)->converter.convert(connection, value));
+			}
+
+			if(hotKeyCache != null){
+				return hotKeyCache.get(key.get(), ()->callback.execute(client),
+						(value)->converter.convert(connection, value));
+			}
+
+			return converter.convert(connection, callback.execute(client));
+		}finally{
+			RedisConnectionUtils.releaseConnection(getConnectionFactory(), connection);
+		}
+	}
+
+	/**
+	 * 执行 GET 命令，开启读命令合并且不处于事务、管道中时，与其它线程的 GET 请求合并为 MGET
+	 *
+	 * @param client
+	 * 		Redis 客户端
+	 * @param key
+	 * 		Key
+	 *
+	 * @return Key 的值
+	 *
+	 * @since 4.0.0
+	 */
+	protected String coalescedGet(final RedisClient client, final String key) {
+		if(getCoalescer == null || isMulti(client.getConnection())){
+			return client.stringCommands().get(key);
+		}
+
+		return SafeEncoder.encode(getCoalescer.get(client, SafeEncoder.encode(key)));
+	}
+
+	/**
+	 * 执行 GET 命令，开启读命令合并且不处于事务、管道中时，与其它线程的 GET 请求合并为 MGET
+	 *
+	 * @param client
+	 * 		Redis 客户端
+	 * @param key
+	 * 		Key
+	 *
+	 * @return Key 的值
+	 *
+	 * @since 4.0.0
+	 */
+	protected byte[] coalescedGet(final RedisClient client, final byte[] key) {
+		if(getCoalescer == null || isMulti(client.getConnection())){
+			return client.stringCommands().get(key);
+		}
+
+		return getCoalescer.get(client, key);
+	}
+
+	/**
+	 * 执行 HGET 命令，开启读命令合并且不处于事务、管道中时，与其它线程的 HGET 请求合并为 HMGET
+	 *
+	 * @param client
+	 * 		Redis 客户端
+	 * @param key
+	 * 		Key
+	 * @param field
+	 * 		域
+	 *
+	 * @return 域的值
+	 *
+	 * @since 4.0.0
+	 */
+	protected String coalescedHGet(final RedisClient client, final String key, final String field) {
+		if(hGetCoalescer == null || isMulti(client.getConnection())){
+			return client.hashCommands().hGet(key, field);
+		}
+
+		return SafeEncoder.encode(hGetCoalescer.get(client,
+				new HMGetBatchLoader.HashField(SafeEncoder.encode(key), SafeEncoder.encode(field))));
+	}
+
+	/**
+	 * 执行 HGET 命令，开启读命令合并且不处于事务、管道中时，与其它线程的 HGET 请求合并为 HMGET
+	 *
+	 * @param client
+	 * 		Redis 客户端
+	 * @param key
+	 * 		Key
+	 * @param field
+	 * 		域
+	 *
+	 * @return 域的值
+	 *
+	 * @since 4.0.0
+	 */
+	protected byte[] coalescedHGet(final RedisClient client, final byte[] key, final byte[] field) {
+		if(hGetCoalescer == null || isMulti(client.getConnection())){
+			return client.hashCommands().hGet(key, field);
+		}
+
+		return hGetCoalescer.get(client, new HMGetBatchLoader.HashField(key, field));
+	}
+
 	@Override
 	public final void close() throws Exception {
-		// empty
+		if(nearCache != null){
+			nearCache.close();
+			nearCache = null;
+		}
+		if(hotKeyCache != null){
+			hotKeyCache.close();
+			hotKeyCache = null;
+		}
+		if(scanExecutor != null){
+			scanExecutor.shutdown();
+			scanExecutor = null;
+		}
+		if(client != null){
+			// 注销请求字节数统计及写命令 Key 记录
+			client.setCommandMetrics(null);
+			client.setHotKeyCache(null);
+		}
+	}
+
+	/**
+	 * 返回流式 SCAN 预取线程池，首次调用时创建
+	 *
+	 * @return 流式 SCAN 预取线程池
+	 *
+	 * @since 4.0.0
+	 */
+	protected Executor getScanExecutor() {
+		ExecutorService executor = scanExecutor;
+
+		if(executor == null){
+			scanExecutorLock.lock();
+			try{
+				executor = scanExecutor;
+				if(executor == null){
+					executor = scanExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+							new SynchronousQueue<>(), new DefaultThreadFactory("redis-scan-", true));
+				}
+			}finally{
+				scanExecutorLock.unlock();
+			}
+		}
+
+		return executor;
 	}
 
 	/**
@@ -302,6 +671,8 @@ public abstract class RedisAccessor implements InitializingBean, AutoCloseable {
 	protected RedisClient fetchRequiredRedisClient(final RedisConnection connection) throws RedisException {
 		if(client == null){
 			client = fetchRedisClient(connection);
+			client.setCommandMetrics(commandMetrics);
+			client.setHotKeyCache(hotKeyCache);
 		}
 
 		client.setConnection(connection);
@@ -326,4 +697,31 @@ public abstract class RedisAccessor implements InitializingBean, AutoCloseable {
 		return isTransaction(connection) || isPipeline(connection);
 	}
 
+	private void initNearCache(final NearCacheConfig nearCacheConfig) {
+		if(Validate.isEmpty(nearCacheConfig.getPrefixes()) && Validate.hasText(getOptions().getPrefix())){
+			nearCacheConfig.setPrefixes(new String[]{getOptions().getPrefix()});
+		}
+
+		final NearCache nearCache = new NearCache(nearCacheConfig);
+		final RedisConnection connection = fetchConnection();
+
+		try{
+			final NearCacheInvalidator invalidator = connection.createNearCacheInvalidator(
+					nearCacheConfig.getPrefixes());
+
+			if(invalidator == null){
+				if(logger.isWarnEnabled()){
+					logger.warn("{} does not support CLIENT TRACKING invalidation, near cache only relies on "
+							+ "expireAfterWrite.", connection.getClass().getName());
+				}
+			}else{
+				nearCache.bind(invalidator);
+			}
+		}finally{
+			RedisConnectionUtils.releaseConnection(getConnectionFactory(), connection);
+		}
+
+		this.nearCache = nearCache;
+	}
+
 }
@@ -25,10 +25,15 @@
 package com.buession.redis;
 
 import com.buession.core.type.TypeReference;
+import com.buession.core.utils.Assert;
 import com.buession.lang.KeyValue;
 import com.buession.lang.Status;
+import com.buession.redis.cache.NearCache;
+import com.buession.redis.client.connection.RedisClusterConnection;
 import com.buession.redis.client.connection.datasource.DataSource;
 import com.buession.redis.core.Options;
+import com.buession.redis.core.RedisClusterNode;
+import com.buession.redis.core.Tuple;
 import com.buession.redis.core.command.args.FnxFxx;
 import com.buession.redis.core.command.args.GetExType;
 import com.buession.redis.core.command.args.PxExType;
@@ -39,13 +44,29 @@ import com.buession.redis.core.command.args.NxXx;
 import com.buession.redis.core.ScanResult;
 import com.buession.redis.core.command.args.sortedset.ZRangeType;
 import com.buession.redis.core.command.args.json.JsonGetArgument;
+import com.buession.redis.core.command.args.json.JsonPatch;
+import com.buession.redis.core.command.args.json.JsonProjection;
 import com.buession.redis.core.command.args.string.SetType;
 import com.buession.redis.core.operations.*;
+import com.buession.redis.exception.RedisException;
+import com.buession.redis.scan.ScanIterator;
+import com.buession.redis.scan.ScanOptions;
+import com.buession.redis.scan.ScanPageLoader;
+import com.buession.redis.script.RedisFunctionLibrary;
+import com.buession.redis.script.RedisScript;
+import com.buession.redis.script.ScriptRegistry;
 import com.buession.redis.utils.KeyUtils;
+import com.buession.redis.utils.SafeEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Redis 命令操作封装扩展，可序列化对象和反序列化为对象
@@ -59,6 +80,57 @@ public class RedisTemplate extends AbstractRedisTemplate implements AutoSuggestO
 		ServerOperations, SetOperations, SortedSetOperations, StreamOperations, StringOperations, TDigestOperations,
 		TimeSeriesOperations, TopKOperations, TransactionOperations, VectorSetOperations {
 
+	private final static String NOSCRIPT = "NOSCRIPT";
+
+	private final static String FUNCTION_NOT_FOUND = "Function not found";
+
+	/**
+	 * 依次执行 JSON 局部更新操作，每个操作的参数为 命令、JSONPath、值个数、值；
+	 * 遇到第一个失败的操作即停止，返回的错误中包含失败操作的序号及已执行的操作数，已执行的操作不会回滚
+	 */
+	private final static RedisScript JSON_PATCH_SCRIPT = new RedisScript("""
+			local i = 1
+			local count = 0
+			while i <= #ARGV do
+				local n = tonumber(ARGV[i + 2])
+				local command = {ARGV[i], KEYS[1], ARGV[i + 1]}
+				for j = 1, n do
+					command[3 + j] = ARGV[i + 2 + j]
+				end
+				local reply = redis.pcall(unpack(command))
+				if type(reply) == 'table' and reply.err then
+					return redis.error_reply('ERR JSON patch operation ' .. (count + 1) .. ' (' .. ARGV[i] .. ' ' ..
+						ARGV[i + 1] .. ') failed, ' .. count .. ' operations already applied: ' .. reply.err)
+				end
+				count = count + 1
+				i = i + 3 + n
+			end
+			return count
+			""");
+
+	/**
+	 * 按 字段名、JSONPath 对读取 JSON 文档的值并组装为 JSON 对象，字段名已由客户端编码为 JSON 字符串
+	 */
+	private final static RedisScript JSON_PROJECT_SCRIPT = new RedisScript("""
+			if redis.call('EXISTS', KEYS[1]) == 0 then
+				return false
+			end
+			local fields = {}
+			for i = 1, #ARGV, 2 do
+				local value = 'null'
+				local types = redis.call('JSON.TYPE', KEYS[1], ARGV[i + 1])
+				if #types == 1 then
+					value = string.sub(redis.call('JSON.GET', KEYS[1], ARGV[i + 1]), 2, -2)
+				elseif #types > 1 then
+					value = redis.call('JSON.GET', KEYS[1], ARGV[i + 1])
+				end
+				fields[#fields + 1] = ARGV[i] .. ':' .. value
+			end
+			return '{' .. table.concat(fields, ',') .. '}'
+			""", true);
+
+	private final static Logger logger = LoggerFactory.getLogger(RedisTemplate.class);
+
 	/**
 	 * 构造函数
 	 */
@@ -90,49 +162,59 @@ public class RedisTemplate extends AbstractRedisTemplate implements AutoSuggestO
 
 	@Override
 	public <V> V hGet(final String key, final String field, final Class<V> clazz) {
-		return execute((client)->client.hashCommands().hGet(KeyUtils.rawKey(this, key), field),
+		final String rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.hGet(rawKey, field), clazz,
+				(client)->coalescedHGet(client, rawKey, field),
 				new Converter.ClazzStringConverter<>(this, clazz));
 	}
 
 	@Override
 	public <V> V hGet(final byte[] key, final byte[] field, final Class<V> clazz) {
-		return execute((client)->client.hashCommands().hGet(KeyUtils.rawKey(this, key), field),
+		final byte[] rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.hGet(rawKey, field), clazz,
+				(client)->coalescedHGet(client, rawKey, field),
 				new Converter.ClazzBinaryConverter<>(this, clazz));
 	}
 
 	@Override
 	public <V> V hGet(final String key, final String field, final TypeReference<V> type) {
-		return execute((client)->client.hashCommands().hGet(KeyUtils.rawKey(this, key), field),
+		final String rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.hGet(rawKey, field), type, (client)->coalescedHGet(client, rawKey, field),
 				new Converter.TypeStringConverter<>(this, type));
 	}
 
 	@Override
 	public <V> V hGet(final byte[] key, final byte[] field, final TypeReference<V> type) {
-		return execute((client)->client.hashCommands().hGet(KeyUtils.rawKey(this, key), field),
+		final byte[] rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.hGet(rawKey, field), type, (client)->coalescedHGet(client, rawKey, field),
 				new Converter.TypeBinaryConverter<>(this, type));
 	}
 
 	@Override
 	public <V> Map<String, V> hGetAll(final String key, final Class<V> clazz) {
-		return execute((client)->client.hashCommands().hGetAll(KeyUtils.rawKey(this, key)),
+		final String rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.hGetAll(rawKey), clazz, (client)->client.hashCommands().hGetAll(rawKey),
 				new Converter.ClazzMapStringConverter<>(this, clazz));
 	}
 
 	@Override
 	public <V> Map<byte[], V> hGetAll(final byte[] key, final Class<V> clazz) {
-		return execute((client)->client.hashCommands().hGetAll(KeyUtils.rawKey(this, key)),
+		final byte[] rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.hGetAll(rawKey), clazz, (client)->client.hashCommands().hGetAll(rawKey),
 				new Converter.ClazzMapBinaryConverter<>(this, clazz));
 	}
 
 	@Override
 	public <V> Map<String, V> hGetAll(final String key, final TypeReference<V> type) {
-		return execute((client)->client.hashCommands().hGetAll(KeyUtils.rawKey(this, key)),
+		final String rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.hGetAll(rawKey), type, (client)->client.hashCommands().hGetAll(rawKey),
 				new Converter.TypeMapStringConverter<>(this, type));
 	}
 
 	@Override
 	public <V> Map<byte[], V> hGetAll(final byte[] key, final TypeReference<V> type) {
-		return execute((client)->client.hashCommands().hGetAll(KeyUtils.rawKey(this, key)),
+		final byte[] rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.hGetAll(rawKey), type, (client)->client.hashCommands().hGetAll(rawKey),
 				new Converter.TypeMapBinaryConverter<>(this, type));
 	}
 
@@ -582,6 +664,40 @@ public class RedisTemplate extends AbstractRedisTemplate implements AutoSuggestO
 				new Converter.TypeListBinaryConverter<>(this, type));
 	}
 
+	@Override
+	public Status jsonPatch(final String key, final JsonPatch patch) {
+		return executeJsonPatch(KeyUtils.rawKeyAsBytes(this, key), patch);
+	}
+
+	@Override
+	public Status jsonPatch(final byte[] key, final JsonPatch patch) {
+		return executeJsonPatch(KeyUtils.rawKey(this, key), patch);
+	}
+
+	@Override
+	public <V> V jsonProject(final String key, final JsonProjection projection, final Class<V> clazz) {
+		final byte[] value = executeJsonProject(KeyUtils.rawKeyAsBytes(this, key), projection);
+		return value == null ? null : serializer.deserializeBytes(value, clazz);
+	}
+
+	@Override
+	public <V> V jsonProject(final byte[] key, final JsonProjection projection, final Class<V> clazz) {
+		final byte[] value = executeJsonProject(KeyUtils.rawKey(this, key), projection);
+		return value == null ? null : serializer.deserializeBytes(value, clazz);
+	}
+
+	@Override
+	public <V> V jsonProject(final String key, final JsonProjection projection, final TypeReference<V> type) {
+		final byte[] value = executeJsonProject(KeyUtils.rawKeyAsBytes(this, key), projection);
+		return value == null ? null : serializer.deserializeBytes(value, type);
+	}
+
+	@Override
+	public <V> V jsonProject(final byte[] key, final JsonProjection projection, final TypeReference<V> type) {
+		final byte[] value = executeJsonProject(KeyUtils.rawKey(this, key), projection);
+		return value == null ? null : serializer.deserializeBytes(value, type);
+	}
+
 	@Override
 	public <V> Status jsonSet(final String key, final String path, final V value) {
 		return jsonSet(key, path, serializer.serialize(value));
@@ -2148,25 +2264,29 @@ public class RedisTemplate extends AbstractRedisTemplate implements AutoSuggestO
 
 	@Override
 	public <V> V get(final String key, final Class<V> clazz) {
-		return execute((client)->client.stringCommands().get(KeyUtils.rawKey(this, key)),
+		final String rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.get(rawKey), clazz, (client)->coalescedGet(client, rawKey),
 				new Converter.ClazzStringConverter<>(this, clazz));
 	}
 
 	@Override
 	public <V> V get(final byte[] key, final Class<V> clazz) {
-		return execute((client)->client.stringCommands().get(KeyUtils.rawKey(this, key)),
+		final byte[] rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.get(rawKey), clazz, (client)->coalescedGet(client, rawKey),
 				new Converter.ClazzBinaryConverter<>(this, clazz));
 	}
 
 	@Override
 	public <V> V get(final String key, final TypeReference<V> type) {
-		return execute((client)->client.stringCommands().get(KeyUtils.rawKey(this, key)),
+		final String rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.get(rawKey), type, (client)->coalescedGet(client, rawKey),
 				new Converter.TypeStringConverter<>(this, type));
 	}
 
 	@Override
 	public <V> V get(final byte[] key, final TypeReference<V> type) {
-		return execute((client)->client.stringCommands().get(KeyUtils.rawKey(this, key)),
+		final byte[] rawKey = KeyUtils.rawKey(this, key);
+		return execute(()->NearCache.Key.get(rawKey), type, (client)->coalescedGet(client, rawKey),
 				new Converter.TypeBinaryConverter<>(this, type));
 	}
 
@@ -2366,4 +2486,644 @@ public class RedisTemplate extends AbstractRedisTemplate implements AutoSuggestO
 		return setNx(key, serializer.serializeAsBytes(value));
 	}
 
+	/**
+	 * 流式迭代匹配的 Key，调用方消费当前页时在后台预取下一页；集群模式下各主节点并行迭代
+	 *
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 *
+	 * @return Key 迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<String> scanIterator(final String pattern) {
+		return scanIterator(pattern, new ScanOptions());
+	}
+
+	/**
+	 * 流式迭代匹配的 Key，调用方消费当前页时在后台预取下一页；集群模式下各主节点并行迭代
+	 *
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 *
+	 * @return Key 迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<byte[]> scanIterator(final byte[] pattern) {
+		return scanIterator(pattern, new ScanOptions());
+	}
+
+	/**
+	 * 流式迭代匹配的 Key，调用方消费当前页时在后台预取下一页；集群模式下各主节点并行迭代
+	 *
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return Key 迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<String> scanIterator(final String pattern, final ScanOptions options) {
+		final List<ScanPageLoader<String>> loaders = keyScanLoaders(
+				pattern == null ? null : SafeEncoder.encode(pattern), (key)->SafeEncoder.encode(key),
+				(cursor, count)->pattern == null ? scan(cursor, count) : scan(cursor, pattern, count));
+		return new ScanIterator<>(loaders, options, getScanExecutor());
+	}
+
+	/**
+	 * 流式迭代匹配的 Key，调用方消费当前页时在后台预取下一页；集群模式下各主节点并行迭代
+	 *
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return Key 迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<byte[]> scanIterator(final byte[] pattern, final ScanOptions options) {
+		final List<ScanPageLoader<byte[]>> loaders = keyScanLoaders(pattern, Function.identity(),
+				(cursor, count)->pattern == null ? scan(SafeEncoder.encode(cursor), count) :
+						scan(SafeEncoder.encode(cursor), pattern, count));
+		return new ScanIterator<>(loaders, options, getScanExecutor());
+	}
+
+	/**
+	 * 流式迭代哈希表中匹配的域值对，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 *
+	 * @return 域值对迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<KeyValue<String, String>> hScanIterator(final String key, final String pattern) {
+		return hScanIterator(key, pattern, new ScanOptions());
+	}
+
+	/**
+	 * 流式迭代哈希表中匹配的域值对，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 *
+	 * @return 域值对迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<KeyValue<byte[], byte[]>> hScanIterator(final byte[] key, final byte[] pattern) {
+		return hScanIterator(key, pattern, new ScanOptions());
+	}
+
+	/**
+	 * 流式迭代哈希表中匹配的域值对，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return 域值对迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<KeyValue<String, String>> hScanIterator(final String key, final String pattern,
+	                                                            final ScanOptions options) {
+		return new ScanIterator<>((cursor, count)->pattern == null ? hScan(key, cursor, count) :
+				hScan(key, cursor, pattern, count), options, getScanExecutor());
+	}
+
+	/**
+	 * 流式迭代哈希表中匹配的域值对，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return 域值对迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<KeyValue<byte[], byte[]>> hScanIterator(final byte[] key, final byte[] pattern,
+	                                                            final ScanOptions options) {
+		return new ScanIterator<>((cursor, count)->pattern == null ?
+				hScan(key, SafeEncoder.encode(cursor), count) : hScan(key, SafeEncoder.encode(cursor), pattern, count),
+				options, getScanExecutor());
+	}
+
+	/**
+	 * 流式迭代集合中匹配的元素，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 *
+	 * @return 元素迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<String> sScanIterator(final String key, final String pattern) {
+		return sScanIterator(key, pattern, new ScanOptions());
+	}
+
+	/**
+	 * 流式迭代集合中匹配的元素，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 *
+	 * @return 元素迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<byte[]> sScanIterator(final byte[] key, final byte[] pattern) {
+		return sScanIterator(key, pattern, new ScanOptions());
+	}
+
+	/**
+	 * 流式迭代集合中匹配的元素，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return 元素迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<String> sScanIterator(final String key, final String pattern, final ScanOptions options) {
+		return new ScanIterator<>((cursor, count)->pattern == null ? sScan(key, cursor, count) :
+				sScan(key, cursor, pattern, count), options, getScanExecutor());
+	}
+
+	/**
+	 * 流式迭代集合中匹配的元素，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return 元素迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<byte[]> sScanIterator(final byte[] key, final byte[] pattern, final ScanOptions options) {
+		return new ScanIterator<>((cursor, count)->pattern == null ?
+				sScan(key, SafeEncoder.encode(cursor), count) : sScan(key, SafeEncoder.encode(cursor), pattern, count),
+				options, getScanExecutor());
+	}
+
+	/**
+	 * 流式迭代有序集合中匹配的成员，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 *
+	 * @return 成员迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<Tuple> zScanIterator(final String key, final String pattern) {
+		return zScanIterator(key, pattern, new ScanOptions());
+	}
+
+	/**
+	 * 流式迭代有序集合中匹配的成员，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 *
+	 * @return 成员迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<Tuple> zScanIterator(final byte[] key, final byte[] pattern) {
+		return zScanIterator(key, pattern, new ScanOptions());
+	}
+
+	/**
+	 * 流式迭代有序集合中匹配的成员，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return 成员迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<Tuple> zScanIterator(final String key, final String pattern, final ScanOptions options) {
+		return new ScanIterator<>((cursor, count)->pattern == null ? zScan(key, cursor, count) :
+				zScan(key, cursor, pattern, count), options, getScanExecutor());
+	}
+
+	/**
+	 * 流式迭代有序集合中匹配的成员，调用方消费当前页时在后台预取下一页
+	 *
+	 * @param key
+	 * 		Key
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 * @param options
+	 * 		迭代配置
+	 *
+	 * @return 成员迭代器
+	 *
+	 * @since 4.0.0
+	 */
+	public ScanIterator<Tuple> zScanIterator(final byte[] key, final byte[] pattern, final ScanOptions options) {
+		return new ScanIterator<>((cursor, count)->pattern == null ?
+				zScan(key, SafeEncoder.encode(cursor), count) : zScan(key, SafeEncoder.encode(cursor), pattern, count),
+				options, getScanExecutor());
+	}
+
+	/**
+	 * 以 EVALSHA 执行脚本，只读脚本以 EVALSHA_RO 执行；服务端返回 NOSCRIPT 时加载脚本后重试
+	 *
+	 * @param script
+	 * 		Lua 脚本
+	 * @param keys
+	 * 		Keys
+	 * @param arguments
+	 * 		参数
+	 *
+	 * @return 脚本返回值
+	 *
+	 * @since 4.0.0
+	 */
+	public Object eval(final RedisScript script, final String[] keys, final String[] arguments) {
+		Assert.isNull(script, "Script cloud not be null.");
+		return executeScript(script, ()->script.isReadOnly() ? evalShaRo(script.getSha1(), keys, arguments) :
+						evalSha(script.getSha1(), keys, arguments),
+				()->script.isReadOnly() ? evalRo(script.getScript(), keys, arguments) :
+						eval(script.getScript(), keys, arguments));
+	}
+
+	/**
+	 * 以 EVALSHA 执行脚本，只读脚本以 EVALSHA_RO 执行；服务端返回 NOSCRIPT 时加载脚本后重试
+	 *
+	 * @param script
+	 * 		Lua 脚本
+	 * @param keys
+	 * 		Keys
+	 * @param arguments
+	 * 		参数
+	 *
+	 * @return 脚本返回值
+	 *
+	 * @since 4.0.0
+	 */
+	public Object eval(final RedisScript script, final byte[][] keys, final byte[][] arguments) {
+		Assert.isNull(script, "Script cloud not be null.");
+		return executeScript(script, ()->script.isReadOnly() ? evalShaRo(script.getSha1Raw(), keys, arguments) :
+						evalSha(script.getSha1Raw(), keys, arguments),
+				()->script.isReadOnly() ? evalRo(script.getScriptRaw(), keys, arguments) :
+						eval(script.getScriptRaw(), keys, arguments));
+	}
+
+	/**
+	 * 调用函数库中的函数；服务端返回函数不存在时加载函数库后重试
+	 *
+	 * @param functionLibrary
+	 * 		函数库
+	 * @param function
+	 * 		函数名称
+	 * @param keys
+	 * 		Keys
+	 * @param arguments
+	 * 		参数
+	 *
+	 * @return 函数返回值
+	 *
+	 * @since 4.0.0
+	 */
+	public Object fCall(final RedisFunctionLibrary functionLibrary, final String function, final String[] keys,
+	                    final String[] arguments) {
+		return executeFunction(functionLibrary, ()->fCall(function, keys, arguments));
+	}
+
+	/**
+	 * 调用函数库中的函数；服务端返回函数不存在时加载函数库后重试
+	 *
+	 * @param functionLibrary
+	 * 		函数库
+	 * @param function
+	 * 		函数名称
+	 * @param keys
+	 * 		Keys
+	 * @param arguments
+	 * 		参数
+	 *
+	 * @return 函数返回值
+	 *
+	 * @since 4.0.0
+	 */
+	public Object fCall(final RedisFunctionLibrary functionLibrary, final byte[] function, final byte[][] keys,
+	                    final byte[][] arguments) {
+		return executeFunction(functionLibrary, ()->fCall(function, keys, arguments));
+	}
+
+	/**
+	 * 以只读方式调用函数库中的函数；服务端返回函数不存在时加载函数库后重试
+	 *
+	 * @param functionLibrary
+	 * 		函数库
+	 * @param function
+	 * 		函数名称
+	 * @param keys
+	 * 		Keys
+	 * @param arguments
+	 * 		参数
+	 *
+	 * @return 函数返回值
+	 *
+	 * @since 4.0.0
+	 */
+	public Object fCallRo(final RedisFunctionLibrary functionLibrary, final String function, final String[] keys,
+	                      final String[] arguments) {
+		return executeFunction(functionLibrary, ()->fCallRo(function, keys, arguments));
+	}
+
+	/**
+	 * 以只读方式调用函数库中的函数；服务端返回函数不存在时加载函数库后重试
+	 *
+	 * @param functionLibrary
+	 * 		函数库
+	 * @param function
+	 * 		函数名称
+	 * @param keys
+	 * 		Keys
+	 * @param arguments
+	 * 		参数
+	 *
+	 * @return 函数返回值
+	 *
+	 * @since 4.0.0
+	 */
+	public Object fCallRo(final RedisFunctionLibrary functionLibrary, final byte[] function, final byte[][] keys,
+	                      final byte[][] arguments) {
+		return executeFunction(functionLibrary, ()->fCallRo(function, keys, arguments));
+	}
+
+	/**
+	 * 加载脚本，集群模式下加载到所有主节点
+	 *
+	 * @param script
+	 * 		Lua 脚本
+	 *
+	 * @return 脚本 SHA1 摘要
+	 *
+	 * @since 4.0.0
+	 */
+	public String scriptLoad(final RedisScript script) {
+		Assert.isNull(script, "Script cloud not be null.");
+		loadOnMasters((connection, node)->connection.scriptLoadNode(node.getHost(), node.getPort(),
+				script.getScriptRaw()), ()->scriptLoad(script.getScriptRaw()));
+		return script.getSha1();
+	}
+
+	/**
+	 * 以 REPLACE 方式加载函数库，集群模式下加载到所有主节点
+	 *
+	 * @param functionLibrary
+	 * 		函数库
+	 *
+	 * @return 函数库名称
+	 *
+	 * @since 4.0.0
+	 */
+	public String functionLoad(final RedisFunctionLibrary functionLibrary) {
+		Assert.isNull(functionLibrary, "Function library cloud not be null.");
+		loadOnMasters((connection, node)->connection.functionLoadNode(node.getHost(), node.getPort(),
+				functionLibrary.getCodeRaw(), true), ()->functionLoad(functionLibrary.getCodeRaw(), true));
+		return functionLibrary.getName();
+	}
+
+	@Override
+	public void afterPropertiesSet() throws RedisException {
+		super.afterPropertiesSet();
+
+		final Options options = getOptions();
+		final ScriptRegistry scriptRegistry = options == null ? null : options.getScriptRegistry();
+
+		if(scriptRegistry != null){
+			preloadScripts(scriptRegistry);
+		}
+	}
+
+	private void preloadScripts(final ScriptRegistry scriptRegistry) {
+		// 预加载失败不影响启动，执行时会在 NOSCRIPT 或函数不存在时再次加载
+		for(RedisScript script : scriptRegistry.getScripts()){
+			try{
+				scriptLoad(script);
+			}catch(RedisException e){
+				logger.warn("Preload script {} error: {}", script.getSha1(), e.getMessage());
+			}
+		}
+
+		for(RedisFunctionLibrary functionLibrary : scriptRegistry.getFunctionLibraries()){
+			try{
+				functionLoad(functionLibrary);
+			}catch(RedisException e){
+				logger.warn("Preload function library {} error: {}", functionLibrary.getName(), e.getMessage());
+			}
+		}
+	}
+
+	private Status executeJsonPatch(final byte[] rawKey, final JsonPatch patch) {
+		Assert.isNull(patch, "JsonPatch cloud not be null.");
+
+		if(patch.isEmpty()){
+			return Status.SUCCESS;
+		}
+
+		final List<byte[]> arguments = new ArrayList<>(patch.getOperations().size() * 4);
+
+		for(JsonPatch.Operation operation : patch.getOperations()){
+			arguments.add(SafeEncoder.encode(operation.type().getCommand()));
+			arguments.add(SafeEncoder.encode(operation.path()));
+			arguments.add(SafeEncoder.encode(Integer.toString(operation.values().length)));
+
+			for(Object value : operation.values()){
+				// 增量直接以数值文本传输，其余值经序列化器序列化为 JSON
+				arguments.add(operation.type() == JsonPatch.Type.NUMINCRBY ? SafeEncoder.encode(value.toString()) :
+						serializer.serializeAsBytes(value));
+			}
+		}
+
+		eval(JSON_PATCH_SCRIPT, new byte[][]{rawKey}, arguments.toArray(new byte[0][]));
+		return Status.SUCCESS;
+	}
+
+	private byte[] executeJsonProject(final byte[] rawKey, final JsonProjection projection) {
+		Assert.isNull(projection, "JsonProjection cloud not be null.");
+		Assert.isFalse(projection.isEmpty() == false, "JsonProjection fields cloud not be empty.");
+
+		final byte[][] arguments = new byte[projection.getFields().size() * 2][];
+		int i = 0;
+
+		for(Map.Entry<String, String> field : projection.getFields().entrySet()){
+			arguments[i++] = SafeEncoder.encode(jsonQuote(field.getKey()));
+			arguments[i++] = SafeEncoder.encode(field.getValue());
+		}
+
+		final Object result = eval(JSON_PROJECT_SCRIPT, new byte[][]{rawKey}, arguments);
+		return result instanceof byte[] bytes ? bytes : result == null ? null : SafeEncoder.encode(result.toString());
+	}
+
+	private static String jsonQuote(final String str) {
+		final StringBuilder sb = new StringBuilder(str.length() + 2).append('"');
+
+		for(int i = 0; i < str.length(); i++){
+			final char c = str.charAt(i);
+
+			if(c == '"' || c == '\\'){
+				sb.append('\\').append(c);
+			}else if(c < 0x20){
+				sb.append(String.format("\\u%04x", (int) c));
+			}else{
+				sb.append(c);
+			}
+		}
+
+		return sb.append('"').toString();
+	}
+
+	private <R> R executeScript(final RedisScript script, final Supplier<R> evalSha, final Supplier<R> eval) {
+		try{
+			return evalSha.get();
+		}catch(RedisException e){
+			if(isError(e, NOSCRIPT) == false){
+				throw e;
+			}
+		}
+
+		scriptLoad(script);
+
+		try{
+			return evalSha.get();
+		}catch(RedisException e){
+			if(isError(e, NOSCRIPT) == false){
+				throw e;
+			}
+
+			// 槽位迁移期间目标节点可能不在已加载的主节点中，以脚本全文执行，EVAL 同样会缓存脚本
+			return eval.get();
+		}
+	}
+
+	private <R> R executeFunction(final RedisFunctionLibrary functionLibrary, final Supplier<R> fCall) {
+		Assert.isNull(functionLibrary, "Function library cloud not be null.");
+
+		try{
+			return fCall.get();
+		}catch(RedisException e){
+			if(isError(e, FUNCTION_NOT_FOUND) == false){
+				throw e;
+			}
+		}
+
+		functionLoad(functionLibrary);
+		return fCall.get();
+	}
+
+	private void loadOnMasters(final BiConsumer<RedisClusterConnection, RedisClusterNode> nodeLoader,
+	                           final Runnable loader) {
+		final List<RedisClusterNode> nodes = masterNodes();
+
+		if(nodes.isEmpty()){
+			loader.run();
+			return;
+		}
+
+		for(RedisClusterNode node : nodes){
+			execute((client)->{
+				nodeLoader.accept((RedisClusterConnection) client.getConnection(), node);
+				return null;
+			});
+		}
+	}
+
+	private List<RedisClusterNode> masterNodes() {
+		final List<RedisClusterNode> nodes = execute((client)->client.getConnection() instanceof RedisClusterConnection
+				? client.clusterCommands().clusterNodes() : null);
+
+		if(nodes == null){
+			return List.of();
+		}
+
+		final List<RedisClusterNode> masters = new ArrayList<>(nodes.size());
+
+		for(RedisClusterNode node : nodes){
+			if(node.getFlags() != null && node.getFlags().contains(RedisClusterNode.Flag.MASTER) &&
+					node.getFlags().contains(RedisClusterNode.Flag.FAIL) == false && node.getSlot() != null){
+				masters.add(node);
+			}
+		}
+
+		return masters;
+	}
+
+	private static boolean isError(final Throwable throwable, final String error) {
+		for(Throwable e = throwable; e != null; e = e.getCause() == e ? null : e.getCause()){
+			if(e.getMessage() != null && e.getMessage().contains(error)){
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private <T> List<ScanPageLoader<T>> keyScanLoaders(final byte[] pattern, final Function<byte[], T> decoder,
+	                                                   final ScanPageLoader<T> loader) {
+		final List<RedisClusterNode> nodes = masterNodes();
+
+		if(nodes.isEmpty()){
+			return List.of(loader);
+		}
+
+		final List<ScanPageLoader<T>> loaders = new ArrayList<>(nodes.size());
+
+		for(RedisClusterNode node : nodes){
+			loaders.add((cursor, count)->{
+				final ScanResult<byte[]> result = execute(
+						(client)->((RedisClusterConnection) client.getConnection()).scanNode(node.getHost(),
+								node.getPort(), SafeEncoder.encode(cursor), pattern, count));
+				return new ScanResult<>(result.getCursor(), result.getResults().stream().map(decoder).toList());
+			});
+		}
+
+		return loaders;
+	}
+
 }
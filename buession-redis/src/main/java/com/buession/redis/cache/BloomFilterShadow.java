@@ -0,0 +1,506 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import com.buession.core.utils.Assert;
+import com.buession.lang.Status;
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.utils.SafeEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 布隆过滤器本地副本，通过 BF.SCANDUMP 将服务端布隆过滤器加载到堆外内存，本地判定不存在的元素不再访问服务端，
+ * 本地判定可能存在的元素仍由服务端确认，因此不会增加误判：
+ *
+ * <ul>
+ *     <li>通过本对象添加的元素先写入服务端，成功后同步到本地副本；直接通过 {@link RedisTemplate}
+ *     或其它客户端添加的元素，最长在 {@link BloomFilterShadowOptions#getReloadInterval()} 后重新加载时可见</li>
+ *     <li>距上次成功加载超过 {@link BloomFilterShadowOptions#getMaxStaleness()}、过滤器超过
+ *     {@link BloomFilterShadowOptions#getMaxMemory()} 或格式不支持时，本地副本失效，所有判断直接访问服务端</li>
+ *     <li>服务端返回新增成功而本地副本判定元素已存在时，说明本地副本与服务端不一致（过滤器被重建或哈希不一致），
+ *     本地副本立即失效，直到下一次重新加载</li>
+ * </ul>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class BloomFilterShadow implements Closeable {
+
+	private final RedisTemplate redisTemplate;
+
+	private final String key;
+
+	private final byte[] rawKey;
+
+	private final BloomFilterShadowOptions options;
+
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * 本地副本写锁，保护 {@link #filter} 的置位与替换及 {@link #pending}
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * 是否正在重新加载，同一时刻只允许一个加载，加载期间不持有任何锁
+	 */
+	private final AtomicBoolean reloading = new AtomicBoolean(false);
+
+	private volatile LocalBloomFilter filter;
+
+	private volatile long loadedAt;
+
+	/**
+	 * 重新加载期间通过本对象添加的元素，加载完成后重放到新的本地副本
+	 */
+	private List<byte[]> pending;
+
+	private final LongAdder localNegatives = new LongAdder();
+
+	private final LongAdder serverChecks = new LongAdder();
+
+	private final LongAdder mismatches = new LongAdder();
+
+	private volatile boolean closed = false;
+
+	private final static Logger logger = LoggerFactory.getLogger(BloomFilterShadow.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param key
+	 * 		布隆过滤器 Key
+	 */
+	public BloomFilterShadow(final RedisTemplate redisTemplate, final String key) {
+		this(redisTemplate, key, new BloomFilterShadowOptions());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param key
+	 * 		布隆过滤器 Key
+	 * @param options
+	 * 		本地副本配置
+	 */
+	public BloomFilterShadow(final RedisTemplate redisTemplate, final String key,
+	                         final BloomFilterShadowOptions options) {
+		Assert.isNull(redisTemplate, "RedisTemplate cloud not be null.");
+		Assert.isBlank(key, "Bloom filter key cloud not be 'null' or empty.");
+		Assert.isNull(options, "BloomFilterShadowOptions cloud not be null.");
+		Assert.isFalse(isPositive(options.getReloadInterval()), "Reload interval must be greater than 0");
+		Assert.isFalse(isPositive(options.getMaxStaleness()), "Max staleness must be greater than 0");
+		Assert.isFalse(options.getMaxMemory() > 0, "Max memory must be greater than 0");
+		this.redisTemplate = redisTemplate;
+		this.key = key;
+		this.rawKey = SafeEncoder.encode(key);
+		this.options = options;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(
+				new DefaultThreadFactory("redis-bloom-shadow-", true));
+
+		reload();
+
+		final long interval = options.getReloadInterval().toMillis();
+		scheduler.scheduleWithFixedDelay(this::reload, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 返回布隆过滤器 Key
+	 *
+	 * @return 布隆过滤器 Key
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * 判断元素是否可能存在，本地副本判定不存在时不访问服务端
+	 *
+	 * @param item
+	 * 		元素
+	 *
+	 * @return 元素是否可能存在
+	 */
+	public boolean exists(final String item) {
+		return exists(SafeEncoder.encode(item));
+	}
+
+	/**
+	 * 判断元素是否可能存在，本地副本判定不存在时不访问服务端
+	 *
+	 * @param item
+	 * 		元素
+	 *
+	 * @return 元素是否可能存在
+	 */
+	public boolean exists(final byte[] item) {
+		final LocalBloomFilter current = activeFilter();
+
+		if(current != null && current.mightContain(item) == false){
+			localNegatives.increment();
+			return false;
+		}
+
+		serverChecks.increment();
+		return Boolean.TRUE.equals(redisTemplate.bfExists(rawKey, item));
+	}
+
+	/**
+	 * 批量判断元素是否可能存在，仅将本地副本判定可能存在的元素发送到服务端确认
+	 *
+	 * @param items
+	 * 		元素
+	 *
+	 * @return 各元素是否可能存在
+	 */
+	public List<Boolean> mExists(final String... items) {
+		return mExists(SafeEncoder.encode(items));
+	}
+
+	/**
+	 * 批量判断元素是否可能存在，仅将本地副本判定可能存在的元素发送到服务端确认
+	 *
+	 * @param items
+	 * 		元素
+	 *
+	 * @return 各元素是否可能存在
+	 */
+	public List<Boolean> mExists(final byte[]... items) {
+		final LocalBloomFilter current = activeFilter();
+
+		if(current == null){
+			serverChecks.add(items.length);
+			return redisTemplate.bfMExists(rawKey, items);
+		}
+
+		final Boolean[] result = new Boolean[items.length];
+		final int[] positions = new int[items.length];
+		int count = 0;
+
+		for(int i = 0; i < items.length; i++){
+			if(current.mightContain(items[i])){
+				positions[count++] = i;
+			}else{
+				result[i] = Boolean.FALSE;
+			}
+		}
+
+		localNegatives.add(items.length - count);
+
+		if(count > 0){
+			final byte[][] candidates = new byte[count][];
+
+			for(int i = 0; i < count; i++){
+				candidates[i] = items[positions[i]];
+			}
+
+			serverChecks.add(count);
+
+			final List<Boolean> exists = redisTemplate.bfMExists(rawKey, candidates);
+
+			for(int i = 0; i < count; i++){
+				result[positions[i]] = exists.get(i);
+			}
+		}
+
+		return Arrays.asList(result);
+	}
+
+	/**
+	 * 添加元素，写入服务端成功后同步到本地副本
+	 *
+	 * @param item
+	 * 		元素
+	 *
+	 * @return 元素为新增时返回 Status.SUCCESS，元素可能已存在时返回 Status.FAILURE
+	 */
+	public Status add(final String item) {
+		return add(SafeEncoder.encode(item));
+	}
+
+	/**
+	 * 添加元素，写入服务端成功后同步到本地副本
+	 *
+	 * @param item
+	 * 		元素
+	 *
+	 * @return 元素为新增时返回 Status.SUCCESS，元素可能已存在时返回 Status.FAILURE
+	 */
+	public Status add(final byte[] item) {
+		final Status status = redisTemplate.bfAdd(rawKey, item);
+
+		lock.lock();
+		try{
+			mirror(item, status == Status.SUCCESS);
+		}finally{
+			lock.unlock();
+		}
+
+		return status;
+	}
+
+	/**
+	 * 批量添加元素，写入服务端成功后同步到本地副本
+	 *
+	 * @param items
+	 * 		元素
+	 *
+	 * @return 各元素是否为新增
+	 */
+	public List<Boolean> mAdd(final String... items) {
+		return mAdd(SafeEncoder.encode(items));
+	}
+
+	/**
+	 * 批量添加元素，写入服务端成功后同步到本地副本
+	 *
+	 * @param items
+	 * 		元素
+	 *
+	 * @return 各元素是否为新增
+	 */
+	public List<Boolean> mAdd(final byte[]... items) {
+		final List<Boolean> result = redisTemplate.bfMAdd(rawKey, items);
+
+		lock.lock();
+		try{
+			for(int i = 0; i < items.length; i++){
+				mirror(items[i], result != null && Boolean.TRUE.equals(result.get(i)));
+			}
+		}finally{
+			lock.unlock();
+		}
+
+		return result;
+	}
+
+	/**
+	 * 立即从服务端重新加载本地副本；加载失败时保留原本地副本，直到超过最大过期时长；
+	 * 已有加载正在进行时直接返回 false
+	 *
+	 * @return 是否加载成功
+	 */
+	public boolean reload() {
+		if(closed || reloading.compareAndSet(false, true) == false){
+			return false;
+		}
+
+		try{
+			final long startAt = System.currentTimeMillis();
+
+			lock.lock();
+			try{
+				pending = new ArrayList<>();
+			}finally{
+				lock.unlock();
+			}
+
+			LocalBloomFilter loaded = null;
+
+			try{
+				loaded = load();
+				return true;
+			}catch(Exception e){
+				logger.warn("Load bloom filter '{}' shadow failure: {}", key, e.getMessage());
+				return false;
+			}finally{
+				lock.lock();
+				try{
+					if(loaded != null && closed == false){
+						for(byte[] item : pending){
+							loaded.put(item);
+						}
+
+						filter = loaded;
+						loadedAt = startAt;
+					}
+
+					pending = null;
+				}finally{
+					lock.unlock();
+				}
+			}
+		}finally{
+			reloading.set(false);
+		}
+	}
+
+	/**
+	 * 返回本地副本是否可用
+	 *
+	 * @return 本地副本是否可用
+	 */
+	public boolean isActive() {
+		return activeFilter() != null;
+	}
+
+	/**
+	 * 返回本地副本占用的堆外内存（单位：字节）
+	 *
+	 * @return 本地副本占用的堆外内存
+	 */
+	public long getMemoryUsage() {
+		final LocalBloomFilter current = filter;
+		return current == null ? 0 : current.getMemoryUsage();
+	}
+
+	/**
+	 * 返回本地副本最近一次成功加载的时间戳（单位：毫秒），未加载时返回 0
+	 *
+	 * @return 最近一次成功加载的时间戳
+	 */
+	public long getLoadedAt() {
+		return loadedAt;
+	}
+
+	/**
+	 * 返回由本地副本直接判定为不存在的元素数
+	 *
+	 * @return 本地判定不存在的元素数
+	 */
+	public long getLocalNegatives() {
+		return localNegatives.sum();
+	}
+
+	/**
+	 * 返回发送到服务端判断的元素数
+	 *
+	 * @return 服务端判断的元素数
+	 */
+	public long getServerChecks() {
+		return serverChecks.sum();
+	}
+
+	/**
+	 * 返回检测到本地副本与服务端不一致的次数
+	 *
+	 * @return 不一致次数
+	 */
+	public long getMismatches() {
+		return mismatches.sum();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		scheduler.shutdownNow();
+
+		lock.lock();
+		try{
+			filter = null;
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	private LocalBloomFilter activeFilter() {
+		final LocalBloomFilter current = filter;
+
+		if(current == null || closed){
+			return null;
+		}
+
+		return System.currentTimeMillis() - loadedAt > options.getMaxStaleness().toMillis() ? null : current;
+	}
+
+	private LocalBloomFilter load() {
+		final Map.Entry<Long, byte[]> header = scandump(0);
+
+		if(header == null || header.getKey() == 0 || header.getValue() == null){
+			throw new IllegalStateException("Bloom filter '" + key + "' not exists.");
+		}
+
+		final LocalBloomFilter result = LocalBloomFilter.parse(header.getValue(), options.getMaxMemory());
+		long iterator = header.getKey();
+		long size = 0;
+
+		while(closed == false){
+			final Map.Entry<Long, byte[]> chunk = scandump(iterator);
+
+			if(chunk == null || chunk.getKey() == 0){
+				if(size != result.getMemoryUsage()){
+					throw new IllegalStateException("Bloom filter '" + key + "' changed during load, expected " +
+							result.getMemoryUsage() + " bytes, actual " + size + " bytes.");
+				}
+
+				return result;
+			}
+
+			result.load(iterator - 1, chunk.getValue());
+			size += chunk.getValue().length;
+			iterator = chunk.getKey();
+		}
+
+		throw new IllegalStateException("Bloom filter '" + key + "' shadow closed.");
+	}
+
+	private Map.Entry<Long, byte[]> scandump(final long iterator) {
+		final Map<Long, byte[]> result = redisTemplate.bfScandump(rawKey, iterator);
+		return result == null || result.isEmpty() ? null : result.entrySet().iterator().next();
+	}
+
+	private void mirror(final byte[] item, final boolean added) {
+		if(pending != null){
+			pending.add(item);
+		}
+
+		final LocalBloomFilter current = filter;
+
+		if(current == null){
+			return;
+		}
+
+		// 本地副本只会缺少服务端已置位的位，本地判定已存在而服务端新增，说明两者不一致
+		if(current.put(item) && added){
+			mismatches.increment();
+			filter = null;
+			logger.warn("Bloom filter '{}' shadow is inconsistent with server, invalidated until next reload.", key);
+		}
+	}
+
+	private static boolean isPositive(final Duration duration) {
+		return duration != null && duration.isNegative() == false && duration.isZero() == false;
+	}
+
+}
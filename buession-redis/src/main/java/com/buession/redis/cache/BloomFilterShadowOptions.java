@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+import java.time.Duration;
+
+/**
+ * 布隆过滤器本地副本配置
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class BloomFilterShadowOptions {
+
+	/**
+	 * 默认重新加载周期
+	 */
+	public final static Duration DEFAULT_RELOAD_INTERVAL = Duration.ofMinutes(1);
+
+	/**
+	 * 默认最大过期时长
+	 */
+	public final static Duration DEFAULT_MAX_STALENESS = Duration.ofMinutes(5);
+
+	/**
+	 * 默认最大内存（单位：字节）
+	 */
+	public final static long DEFAULT_MAX_MEMORY = 64L * 1024 * 1024;
+
+	/**
+	 * 重新加载周期，即其它客户端添加的元素在本地副本中最长不可见的时间
+	 */
+	private Duration reloadInterval = DEFAULT_RELOAD_INTERVAL;
+
+	/**
+	 * 最大过期时长，距上次成功加载超过该时长时本地副本失效，所有判断直接访问服务端
+	 */
+	private Duration maxStaleness = DEFAULT_MAX_STALENESS;
+
+	/**
+	 * 本地副本允许占用的最大堆外内存（单位：字节），过滤器超过该大小时不加载本地副本
+	 */
+	private long maxMemory = DEFAULT_MAX_MEMORY;
+
+	/**
+	 * 构造函数
+	 */
+	public BloomFilterShadowOptions() {
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param reloadInterval
+	 * 		重新加载周期
+	 * @param maxMemory
+	 * 		最大内存（单位：字节）
+	 */
+	public BloomFilterShadowOptions(Duration reloadInterval, long maxMemory) {
+		this.reloadInterval = reloadInterval;
+		this.maxMemory = maxMemory;
+	}
+
+	/**
+	 * 返回重新加载周期
+	 *
+	 * @return 重新加载周期
+	 */
+	public Duration getReloadInterval() {
+		return reloadInterval;
+	}
+
+	/**
+	 * 设置重新加载周期
+	 *
+	 * @param reloadInterval
+	 * 		重新加载周期
+	 */
+	public void setReloadInterval(Duration reloadInterval) {
+		this.reloadInterval = reloadInterval;
+	}
+
+	/**
+	 * 返回最大过期时长
+	 *
+	 * @return 最大过期时长
+	 */
+	public Duration getMaxStaleness() {
+		return maxStaleness;
+	}
+
+	/**
+	 * 设置最大过期时长
+	 *
+	 * @param maxStaleness
+	 * 		最大过期时长
+	 */
+	public void setMaxStaleness(Duration maxStaleness) {
+		this.maxStaleness = maxStaleness;
+	}
+
+	/**
+	 * 返回最大内存（单位：字节）
+	 *
+	 * @return 最大内存
+	 */
+	public long getMaxMemory() {
+		return maxMemory;
+	}
+
+	/**
+	 * 设置最大内存（单位：字节）
+	 *
+	 * @param maxMemory
+	 * 		最大内存
+	 */
+	public void setMaxMemory(long maxMemory) {
+		this.maxMemory = maxMemory;
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+/**
+ * 访问频率估算，Count-Min Sketch 实现，计数达到采样上限后整体减半，使频率随时间衰减
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+final class FrequencySketch {
+
+	private final static int MAX_COUNT = 15;
+
+	private final static int[] SEEDS = {0x97cb3127, 0x2c1b3c6d, 0x297a2d39, 0xb5ad4ece};
+
+	private final int[] table;
+
+	private final int mask;
+
+	private final int sampleSize;
+
+	private int additions;
+
+	FrequencySketch(final int maxEntries) {
+		final int capacity = Integer.highestOneBit(Math.max(maxEntries, 16) - 1) << 1;
+
+		this.table = new int[capacity];
+		this.mask = capacity - 1;
+		this.sampleSize = capacity * 10;
+	}
+
+	void increment(final int hash) {
+		boolean added = false;
+
+		for(int seed : SEEDS){
+			final int index = indexOf(hash, seed);
+
+			if(table[index] < MAX_COUNT){
+				table[index]++;
+				added = true;
+			}
+		}
+
+		if(added && ++additions >= sampleSize){
+			reset();
+		}
+	}
+
+	int frequency(final int hash) {
+		int frequency = MAX_COUNT;
+
+		for(int seed : SEEDS){
+			frequency = Math.min(frequency, table[indexOf(hash, seed)]);
+		}
+
+		return frequency;
+	}
+
+	private int indexOf(final int hash, final int seed) {
+		int h = (hash ^ seed) * 0x9e3779b9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	private void reset() {
+		for(int i = 0; i < table.length; i++){
+			table[i] >>>= 1;
+		}
+
+		additions >>>= 1;
+	}
+
+}
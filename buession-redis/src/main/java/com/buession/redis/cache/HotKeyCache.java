@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.metrics.CommandMetrics;
+import com.buession.redis.metrics.NoopCommandMetrics;
+import com.buession.redis.utils.SafeEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 热点 Key 本地缓存，在读取路径上以 Count-Min Sketch 估算每个 Key 的 QPS，
+ * 达到阈值的 Key 晋升为热点 Key，其 GET、HGET、HGETALL 结果在本地缓存较短时间，用于吸收单个分片上的突发流量。
+ *
+ * <p>通过同一个 {@link com.buession.redis.RedisTemplate} 执行的写命令（{@link com.buession.redis.core.command.RedisCommand#isWrite()}），
+ * 执行后由 {@link com.buession.redis.client.RedisClient} 按命令参数中的 Key 清除本地缓存值，FLUSHDB、FLUSHALL、SWAPDB 清空全部缓存，
+ * 保证读到自己的写入；本地缓存不接收其它客户端的失效通知，其它客户端修改热点 Key 后，最长在
+ * {@link HotKeyConfig#getExpireAfterWrite()} 内仍可能读到旧值。缓存过期时若 Key 的估算 QPS 已低于阈值，则降级为普通 Key。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class HotKeyCache implements AutoCloseable {
+
+	private final HotKeyConfig config;
+
+	private final HotKeyDetector detector;
+
+	/**
+	 * 晋升阈值，统计窗口内的估算访问次数
+	 */
+	private final long threshold;
+
+	private final long windowNanos;
+
+	private final long expireAfterWrite;
+
+	private final Map<ByteBuffer, Promotion> hotKeys = new ConcurrentHashMap<>();
+
+	private volatile CommandMetrics commandMetrics = NoopCommandMetrics.INSTANCE;
+
+	private final static Logger logger = LoggerFactory.getLogger(HotKeyCache.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param config
+	 * 		热点 Key 本地缓存配置
+	 */
+	public HotKeyCache(final HotKeyConfig config) {
+		Assert.isNull(config, "HotKeyConfig cloud not be null.");
+		Assert.isFalse(config.getQpsThreshold() > 0, "QPS threshold must be greater than 0");
+		Assert.isFalse(config.getMaxHotKeys() > 0, "Max hot keys must be greater than 0");
+		Assert.isNull(config.getWindow(), "Window cloud not be null.");
+		Assert.isNull(config.getExpireAfterWrite(), "ExpireAfterWrite cloud not be null.");
+
+		this.config = config;
+		this.windowNanos = config.getWindow().toNanos();
+		this.expireAfterWrite = config.getExpireAfterWrite().toNanos();
+		Assert.isFalse(windowNanos > 0, "Window must be greater than 0");
+		Assert.isFalse(expireAfterWrite > 0, "ExpireAfterWrite must be greater than 0");
+
+		this.threshold = Math.max(1, config.getQpsThreshold() * windowNanos / TimeUnit.SECONDS.toNanos(1));
+		this.detector = new HotKeyDetector(config.getSketchWidth(), windowNanos, config.getSampleRate());
+	}
+
+	/**
+	 * 返回热点 Key 本地缓存配置
+	 *
+	 * @return 热点 Key 本地缓存配置
+	 */
+	public HotKeyConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * 设置命令指标收集器，记录热点 Key 的晋升、降级及本地缓存命中情况
+	 *
+	 * @param commandMetrics
+	 * 		命令指标收集器
+	 */
+	public void setCommandMetrics(final CommandMetrics commandMetrics) {
+		this.commandMetrics = commandMetrics == null ? NoopCommandMetrics.INSTANCE : commandMetrics;
+	}
+
+	/**
+	 * 记录一次访问；Key 为热点 Key 时从本地缓存读取，未命中或已过期时通过 {@code loader} 从 Redis 加载并写入缓存
+	 *
+	 * @param key
+	 * 		缓存 Key
+	 * @param loader
+	 * 		从 Redis 加载原始值
+	 * @param decoder
+	 * 		原始值反序列化
+	 * @param <SV>
+	 * 		原始值类型
+	 * @param <TV>
+	 * 		反序列化后的值类型
+	 *
+	 * @return 反序列化后的值
+	 */
+	@SuppressWarnings({"unchecked"})
+	public <SV, TV> TV get(final NearCache.Key key, final Supplier<SV> loader, final Function<SV, TV> decoder) {
+		final ByteBuffer rawKey = key.rawKey();
+		final int hash = rawKey.hashCode();
+		final long now = System.nanoTime();
+		final long frequency = detector.increment(hash, now);
+		Promotion promotion = hotKeys.get(rawKey);
+
+		if(promotion == null){
+			if(frequency < threshold || (promotion = promote(rawKey, frequency, now)) == null){
+				return decoder.apply(loader.get());
+			}
+		}
+
+		final Slot slot = promotion.slots.get(key);
+
+		if(slot != null){
+			if(now - slot.createTime < expireAfterWrite){
+				commandMetrics.recordHotKeyCacheAccess(true);
+				return decoder.apply((SV) slot.raw);
+			}
+
+			final long estimate = detector.estimate(hash, now);
+
+			if(estimate < threshold){
+				demote(rawKey, promotion, estimate);
+				return decoder.apply(loader.get());
+			}
+		}
+
+		commandMetrics.recordHotKeyCacheAccess(false);
+
+		final long stamp = promotion.version.get();
+		final SV raw = loader.get();
+
+		if(raw == null){
+			promotion.slots.remove(key);
+		}else{
+			final Slot loaded = new Slot(raw, System.nanoTime());
+
+			// 加载期间发生过失效时，结果可能早于写入，写入后再检查版本号，避免与 invalidate 的清空交错后留下旧值
+			if(stamp == promotion.version.get()){
+				promotion.slots.put(key, loaded);
+
+				if(stamp != promotion.version.get()){
+					promotion.slots.remove(key, loaded);
+				}
+			}
+		}
+
+		return decoder.apply(raw);
+	}
+
+	/**
+	 * 清除热点 Key 的本地缓存值，Key 仍保持热点状态
+	 *
+	 * @param key
+	 * 		原始 Key
+	 */
+	public void invalidate(final byte[] key) {
+		final Promotion promotion = hotKeys.get(ByteBuffer.wrap(key));
+
+		if(promotion != null){
+			promotion.version.incrementAndGet();
+			promotion.slots.clear();
+		}
+	}
+
+	/**
+	 * 返回当前热点 Key
+	 *
+	 * @return 当前热点 Key
+	 */
+	public Set<String> getHotKeys() {
+		final Set<String> result = ConcurrentHashMap.newKeySet(hotKeys.size());
+
+		hotKeys.values().forEach((promotion)->result.add(promotion.name));
+		return Collections.unmodifiableSet(result);
+	}
+
+	/**
+	 * 清空所有热点 Key 及本地缓存值
+	 */
+	public void clear() {
+		hotKeys.clear();
+	}
+
+	@Override
+	public void close() {
+		clear();
+	}
+
+	private Promotion promote(final ByteBuffer rawKey, final long frequency, final long now) {
+		if(hotKeys.size() >= config.getMaxHotKeys()){
+			sweep(now);
+
+			if(hotKeys.size() >= config.getMaxHotKeys()){
+				return null;
+			}
+		}
+
+		final Promotion promotion = new Promotion(toString(rawKey));
+		final Promotion previous = hotKeys.putIfAbsent(rawKey, promotion);
+
+		if(previous != null){
+			return previous;
+		}
+
+		final long qps = toQps(frequency);
+
+		commandMetrics.recordHotKeyPromotion(true);
+		if(logger.isDebugEnabled()){
+			logger.debug("Promote hot key '{}', qps: {}.", promotion.name, qps);
+		}
+
+		final HotKeyListener listener = config.getListener();
+
+		if(listener != null){
+			try{
+				listener.onPromoted(promotion.name, qps);
+			}catch(Exception e){
+				logger.warn("Hot key listener onPromoted error: {}", e.getMessage());
+			}
+		}
+
+		return promotion;
+	}
+
+	private void demote(final ByteBuffer rawKey, final Promotion promotion, final long frequency) {
+		if(hotKeys.remove(rawKey, promotion) == false){
+			return;
+		}
+
+		final long qps = toQps(frequency);
+
+		commandMetrics.recordHotKeyPromotion(false);
+		if(logger.isDebugEnabled()){
+			logger.debug("Demote hot key '{}', qps: {}.", promotion.name, qps);
+		}
+
+		final HotKeyListener listener = config.getListener();
+
+		if(listener != null){
+			try{
+				listener.onDemoted(promotion.name, qps);
+			}catch(Exception e){
+				logger.warn("Hot key listener onDemoted error: {}", e.getMessage());
+			}
+		}
+	}
+
+	private void sweep(final long now) {
+		hotKeys.forEach((rawKey, promotion)->{
+			final long estimate = detector.estimate(rawKey.hashCode(), now);
+
+			if(estimate < threshold){
+				demote(rawKey, promotion, estimate);
+			}
+		});
+	}
+
+	private long toQps(final long frequency) {
+		return frequency * TimeUnit.SECONDS.toNanos(1) / windowNanos;
+	}
+
+	private static String toString(final ByteBuffer rawKey) {
+		final byte[] bytes = new byte[rawKey.remaining()];
+
+		rawKey.duplicate().get(bytes);
+		return SafeEncoder.encode(bytes);
+	}
+
+	private final static class Promotion {
+
+		private final String name;
+
+		private final Map<NearCache.Key, Slot> slots = new ConcurrentHashMap<>(4);
+
+		/**
+		 * 失效版本号，每次失效时递增；加载期间版本号发生变化的结果不会写入缓存
+		 */
+		private final AtomicLong version = new AtomicLong();
+
+		private Promotion(final String name) {
+			this.name = name;
+		}
+
+	}
+
+	private record Slot(Object raw, long createTime) {
+
+	}
+
+}
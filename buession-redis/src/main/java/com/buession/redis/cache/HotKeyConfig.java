@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+import java.time.Duration;
+
+/**
+ * 热点 Key 本地缓存配置
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class HotKeyConfig {
+
+	/**
+	 * 默认晋升阈值（每秒访问次数）
+	 */
+	public final static int DEFAULT_QPS_THRESHOLD = 1000;
+
+	/**
+	 * 默认统计窗口
+	 */
+	public final static Duration DEFAULT_WINDOW = Duration.ofSeconds(1);
+
+	/**
+	 * 默认本地缓存过期时间
+	 */
+	public final static Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofSeconds(1);
+
+	/**
+	 * 默认最大热点 Key 数
+	 */
+	public final static int DEFAULT_MAX_HOT_KEYS = 1024;
+
+	/**
+	 * 默认 Count-Min Sketch 每行计数器个数
+	 */
+	public final static int DEFAULT_SKETCH_WIDTH = 4096;
+
+	/**
+	 * 晋升阈值，Key 在统计窗口内的估算 QPS 达到该值时晋升为热点 Key
+	 */
+	private int qpsThreshold = DEFAULT_QPS_THRESHOLD;
+
+	/**
+	 * 统计窗口，估算 QPS 时以当前窗口计数加上一窗口按剩余比例折算的计数
+	 */
+	private Duration window = DEFAULT_WINDOW;
+
+	/**
+	 * 热点 Key 本地缓存写入后过期时间，即可能读到旧值的最长时间
+	 */
+	private Duration expireAfterWrite = DEFAULT_EXPIRE_AFTER_WRITE;
+
+	/**
+	 * 最大热点 Key 数
+	 */
+	private int maxHotKeys = DEFAULT_MAX_HOT_KEYS;
+
+	/**
+	 * Count-Min Sketch 每行计数器个数，向上取整为 2 的幂
+	 */
+	private int sketchWidth = DEFAULT_SKETCH_WIDTH;
+
+	/**
+	 * 采样率，每 sampleRate 次访问计数一次，计数时按 sampleRate 加权；小于等于 1 时每次访问都计数
+	 */
+	private int sampleRate = 1;
+
+	/**
+	 * 热点 Key 晋升、降级监听器
+	 */
+	private HotKeyListener listener;
+
+	/**
+	 * 构造函数
+	 */
+	public HotKeyConfig() {
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param qpsThreshold
+	 * 		晋升阈值（每秒访问次数）
+	 * @param expireAfterWrite
+	 * 		热点 Key 本地缓存写入后过期时间
+	 */
+	public HotKeyConfig(int qpsThreshold, Duration expireAfterWrite) {
+		this.qpsThreshold = qpsThreshold;
+		this.expireAfterWrite = expireAfterWrite;
+	}
+
+	/**
+	 * 返回晋升阈值（每秒访问次数）
+	 *
+	 * @return 晋升阈值
+	 */
+	public int getQpsThreshold() {
+		return qpsThreshold;
+	}
+
+	/**
+	 * 设置晋升阈值（每秒访问次数）
+	 *
+	 * @param qpsThreshold
+	 * 		晋升阈值
+	 */
+	public void setQpsThreshold(int qpsThreshold) {
+		this.qpsThreshold = qpsThreshold;
+	}
+
+	/**
+	 * 返回统计窗口
+	 *
+	 * @return 统计窗口
+	 */
+	public Duration getWindow() {
+		return window;
+	}
+
+	/**
+	 * 设置统计窗口
+	 *
+	 * @param window
+	 * 		统计窗口
+	 */
+	public void setWindow(Duration window) {
+		this.window = window;
+	}
+
+	/**
+	 * 返回热点 Key 本地缓存写入后过期时间
+	 *
+	 * @return 写入后过期时间
+	 */
+	public Duration getExpireAfterWrite() {
+		return expireAfterWrite;
+	}
+
+	/**
+	 * 设置热点 Key 本地缓存写入后过期时间
+	 *
+	 * @param expireAfterWrite
+	 * 		写入后过期时间
+	 */
+	public void setExpireAfterWrite(Duration expireAfterWrite) {
+		this.expireAfterWrite = expireAfterWrite;
+	}
+
+	/**
+	 * 返回最大热点 Key 数
+	 *
+	 * @return 最大热点 Key 数
+	 */
+	public int getMaxHotKeys() {
+		return maxHotKeys;
+	}
+
+	/**
+	 * 设置最大热点 Key 数
+	 *
+	 * @param maxHotKeys
+	 * 		最大热点 Key 数
+	 */
+	public void setMaxHotKeys(int maxHotKeys) {
+		this.maxHotKeys = maxHotKeys;
+	}
+
+	/**
+	 * 返回 Count-Min Sketch 每行计数器个数
+	 *
+	 * @return Count-Min Sketch 每行计数器个数
+	 */
+	public int getSketchWidth() {
+		return sketchWidth;
+	}
+
+	/**
+	 * 设置 Count-Min Sketch 每行计数器个数
+	 *
+	 * @param sketchWidth
+	 * 		Count-Min Sketch 每行计数器个数
+	 */
+	public void setSketchWidth(int sketchWidth) {
+		this.sketchWidth = sketchWidth;
+	}
+
+	/**
+	 * 返回采样率
+	 *
+	 * @return 采样率
+	 */
+	public int getSampleRate() {
+		return sampleRate;
+	}
+
+	/**
+	 * 设置采样率
+	 *
+	 * @param sampleRate
+	 * 		采样率
+	 */
+	public void setSampleRate(int sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * 返回热点 Key 晋升、降级监听器
+	 *
+	 * @return 热点 Key 晋升、降级监听器
+	 */
+	public HotKeyListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * 设置热点 Key 晋升、降级监听器
+	 *
+	 * @param listener
+	 * 		热点 Key 晋升、降级监听器
+	 */
+	public void setListener(HotKeyListener listener) {
+		this.listener = listener;
+	}
+
+}
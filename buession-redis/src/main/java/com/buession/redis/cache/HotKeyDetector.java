@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 热点 Key 访问频率估算，按固定窗口轮转的 Count-Min Sketch 实现，线程安全；
+ * 估算值为当前窗口计数加上一窗口计数按剩余时间比例折算，避免窗口切换时估算值骤降
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+final class HotKeyDetector {
+
+	private final static int[] SEEDS = {0x97cb3127, 0x2c1b3c6d, 0x297a2d39, 0xb5ad4ece};
+
+	private final int width;
+
+	private final int mask;
+
+	private final long windowNanos;
+
+	private final int sampleRate;
+
+	private volatile Window current;
+
+	private volatile Window previous;
+
+	/**
+	 * 窗口轮转锁，只有获取到锁的线程执行轮转，其它线程不等待，继续使用当前窗口
+	 */
+	private final ReentrantLock rollLock = new ReentrantLock();
+
+	HotKeyDetector(final int width, final long windowNanos, final int sampleRate) {
+		final int capacity = Integer.highestOneBit(Math.max(width, 16) - 1) << 1;
+
+		this.width = capacity;
+		this.mask = capacity - 1;
+		this.windowNanos = windowNanos;
+		this.sampleRate = Math.max(sampleRate, 1);
+		this.current = new Window(SEEDS.length * capacity, System.nanoTime());
+	}
+
+	/**
+	 * 记录一次访问
+	 *
+	 * @param hash
+	 * 		Key 哈希值
+	 * @param now
+	 * 		当前时间（单位：纳秒）
+	 *
+	 * @return 记录后的估算访问次数
+	 */
+	long increment(final int hash, final long now) {
+		final Window window = roll(now);
+
+		if(sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0){
+			return estimate(hash, now, window);
+		}
+
+		int frequency = Integer.MAX_VALUE;
+
+		for(int i = 0; i < SEEDS.length; i++){
+			frequency = Math.min(frequency, window.counts.addAndGet(indexOf(hash, i), sampleRate));
+		}
+
+		return frequency + previousFrequency(hash, now, window);
+	}
+
+	/**
+	 * 返回估算访问次数
+	 *
+	 * @param hash
+	 * 		Key 哈希值
+	 * @param now
+	 * 		当前时间（单位：纳秒）
+	 *
+	 * @return 估算访问次数
+	 */
+	long estimate(final int hash, final long now) {
+		return estimate(hash, now, roll(now));
+	}
+
+	private long estimate(final int hash, final long now, final Window window) {
+		return window.frequency(hash) + previousFrequency(hash, now, window);
+	}
+
+	private long previousFrequency(final int hash, final long now, final Window window) {
+		final Window previous = this.previous;
+
+		if(previous == null){
+			return 0;
+		}
+
+		final long elapsed = now - window.start;
+		return elapsed >= windowNanos ? 0 : previous.frequency(hash) * (windowNanos - elapsed) / windowNanos;
+	}
+
+	private Window roll(final long now) {
+		final Window window = current;
+
+		if(now - window.start < windowNanos){
+			return window;
+		}
+
+		if(rollLock.tryLock() == false){
+			return current;
+		}
+
+		try{
+			if(current == window){
+				previous = now - window.start < windowNanos << 1 ? window : null;
+				current = new Window(window.counts.length(), now);
+			}
+
+			return current;
+		}finally{
+			rollLock.unlock();
+		}
+	}
+
+	private int indexOf(final int hash, final int row) {
+		int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+		return row * width + ((h ^ (h >>> 16)) & mask);
+	}
+
+	private final class Window {
+
+		private final AtomicIntegerArray counts;
+
+		private final long start;
+
+		Window(final int length, final long start) {
+			this.counts = new AtomicIntegerArray(length);
+			this.start = start;
+		}
+
+		long frequency(final int hash) {
+			int frequency = Integer.MAX_VALUE;
+
+			for(int i = 0; i < SEEDS.length; i++){
+				frequency = Math.min(frequency, counts.get(indexOf(hash, i)));
+			}
+
+			return frequency;
+		}
+
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+/**
+ * 热点 Key 监听器，在访问线程上同步回调，实现类不应阻塞
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public interface HotKeyListener {
+
+	/**
+	 * Key 晋升为热点 Key，开始由本地缓存响应
+	 *
+	 * @param key
+	 * 		Key
+	 * @param qps
+	 * 		晋升时的估算 QPS
+	 */
+	void onPromoted(String key, long qps);
+
+	/**
+	 * 热点 Key 降级，恢复直接访问 Redis
+	 *
+	 * @param key
+	 * 		Key
+	 * @param qps
+	 * 		降级时的估算 QPS
+	 */
+	default void onDemoted(String key, long qps) {
+	}
+
+}
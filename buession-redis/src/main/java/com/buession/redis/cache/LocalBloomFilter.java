@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * RedisBloom 可扩展布隆过滤器（Scalable Bloom Filter）的本地副本，由 BF.SCANDUMP 的数据构建，位数组分配在堆外内存。
+ *
+ * <p>BF.SCANDUMP 首个分块为过滤器链头部（小端、紧凑排列）：总元素数（u64）、过滤器数（u32）、选项（u32）、
+ * 扩展因子（u32），随后每个过滤器依次为：字节数（u64）、位数（u64）、元素数（u64）、误判率（double）、
+ * 每元素位数（double）、哈希函数个数（u32）、容量（u64）、n2（u8）；之后的分块按顺序拼接为各过滤器的位数组，
+ * 分块迭代器减 1 即为该分块在拼接后位数组中的偏移量。仅支持使用 64 位哈希（选项包含 FORCE64）的过滤器。</p>
+ *
+ * <p>哈希与 RedisBloom 一致：a = MurmurHash64A(item, 0xc6a4a7935bd1e995)，b = MurmurHash64A(item, a)，
+ * 第 i 个位为 (a + i * b) mod bits（n2 大于 0 时为 (a + i * b) &amp; (2^n2 - 1)），字节内按低位优先。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+final class LocalBloomFilter {
+
+	private final static long HASH_SEED = 0xc6a4a7935bd1e995L;
+
+	private final static int HEADER_SIZE = 20;
+
+	private final static int LINK_SIZE = 53;
+
+	/**
+	 * 过滤器链选项：使用 64 位哈希
+	 */
+	private final static int OPTION_FORCE64 = 4;
+
+	private final Link[] links;
+
+	private final long memoryUsage;
+
+	private LocalBloomFilter(final Link[] links, final long memoryUsage) {
+		this.links = links;
+		this.memoryUsage = memoryUsage;
+	}
+
+	/**
+	 * 解析 BF.SCANDUMP 首个分块
+	 *
+	 * @param header
+	 * 		首个分块
+	 * @param maxMemory
+	 * 		允许占用的最大堆外内存字节数
+	 *
+	 * @return 位数组尚未加载的本地副本
+	 *
+	 * @throws IllegalStateException
+	 * 		格式不支持或超出内存限制
+	 */
+	static LocalBloomFilter parse(final byte[] header, final long maxMemory) {
+		if(header == null || header.length < HEADER_SIZE){
+			throw new IllegalStateException("Unsupported BF.SCANDUMP header.");
+		}
+
+		final ByteBuffer buffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.getLong();
+		final int nfilters = buffer.getInt();
+		final int options = buffer.getInt();
+		buffer.getInt();
+
+		if((options & OPTION_FORCE64) == 0){
+			throw new IllegalStateException("Unsupported BF.SCANDUMP header, 32-bit hash filter.");
+		}
+
+		if(nfilters <= 0 || header.length != HEADER_SIZE + (long) nfilters * LINK_SIZE){
+			throw new IllegalStateException("Unsupported BF.SCANDUMP header, length: " + header.length +
+					", filters: " + nfilters + ".");
+		}
+
+		final long[] bytes = new long[nfilters];
+		final long[] bits = new long[nfilters];
+		final int[] hashes = new int[nfilters];
+		final int[] n2 = new int[nfilters];
+		long memoryUsage = 0;
+
+		for(int i = 0; i < nfilters; i++){
+			bytes[i] = buffer.getLong();
+			bits[i] = buffer.getLong();
+			buffer.getLong();
+			buffer.getDouble();
+			buffer.getDouble();
+			hashes[i] = buffer.getInt();
+			buffer.getLong();
+			n2[i] = buffer.get() & 0xFF;
+
+			if(bytes[i] <= 0 || bytes[i] > Integer.MAX_VALUE || bits[i] <= 0 || bits[i] > bytes[i] << 3 ||
+					hashes[i] <= 0){
+				throw new IllegalStateException("Unsupported BF.SCANDUMP filter, bytes: " + bytes[i] + ", bits: " +
+						bits[i] + ", hashes: " + hashes[i] + ".");
+			}
+
+			memoryUsage += bytes[i];
+		}
+
+		if(memoryUsage > maxMemory){
+			throw new IllegalStateException("Bloom filter requires " + memoryUsage + " bytes, exceeds max memory " +
+					maxMemory + " bytes.");
+		}
+
+		final Link[] links = new Link[nfilters];
+
+		for(int i = 0; i < nfilters; i++){
+			links[i] = new Link(ByteBuffer.allocateDirect((int) bytes[i]), bits[i], hashes[i], n2[i]);
+		}
+
+		return new LocalBloomFilter(links, memoryUsage);
+	}
+
+	/**
+	 * 写入 BF.SCANDUMP 的一个数据分块
+	 *
+	 * @param offset
+	 * 		分块在拼接后位数组中的偏移量
+	 * @param data
+	 * 		分块数据
+	 */
+	void load(long offset, final byte[] data) {
+		int position = 0;
+
+		for(Link link : links){
+			final int capacity = link.bits.capacity();
+
+			if(offset >= capacity){
+				offset -= capacity;
+				continue;
+			}
+
+			final int length = (int) Math.min(capacity - offset, data.length - position);
+
+			link.bits.put((int) offset, data, position, length);
+			position += length;
+			offset = 0;
+
+			if(position >= data.length){
+				return;
+			}
+		}
+
+		if(position < data.length){
+			throw new IllegalStateException("BF.SCANDUMP chunk exceeds filter size.");
+		}
+	}
+
+	/**
+	 * 返回所有过滤器位数组的总字节数
+	 *
+	 * @return 总字节数
+	 */
+	long getMemoryUsage() {
+		return memoryUsage;
+	}
+
+	/**
+	 * 判断元素是否可能存在
+	 *
+	 * @param item
+	 * 		元素
+	 *
+	 * @return 元素不存在时返回 false；返回 true 时元素可能存在
+	 */
+	boolean mightContain(final byte[] item) {
+		final long a = murmurHash64A(item, HASH_SEED);
+		final long b = murmurHash64A(item, a);
+
+		for(int i = links.length - 1; i >= 0; i--){
+			if(links[i].check(a, b, false)){
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * 添加元素到最后一个过滤器；调用方需保证添加操作串行执行
+	 *
+	 * @param item
+	 * 		元素
+	 *
+	 * @return 元素添加前是否可能已存在
+	 */
+	boolean put(final byte[] item) {
+		final long a = murmurHash64A(item, HASH_SEED);
+		final long b = murmurHash64A(item, a);
+
+		for(int i = links.length - 1; i >= 0; i--){
+			if(links[i].check(a, b, false)){
+				return true;
+			}
+		}
+
+		links[links.length - 1].check(a, b, true);
+		return false;
+	}
+
+	static long murmurHash64A(final byte[] data, final long seed) {
+		final long m = 0xc6a4a7935bd1e995L;
+		final int r = 47;
+		final int length = data.length;
+		final int blocks = length >>> 3;
+		long h = seed ^ (length * m);
+
+		for(int i = 0; i < blocks; i++){
+			final int offset = i << 3;
+			long k = (data[offset] & 0xFFL) | (data[offset + 1] & 0xFFL) << 8 | (data[offset + 2] & 0xFFL) << 16 |
+					(data[offset + 3] & 0xFFL) << 24 | (data[offset + 4] & 0xFFL) << 32 |
+					(data[offset + 5] & 0xFFL) << 40 | (data[offset + 6] & 0xFFL) << 48 |
+					(data[offset + 7] & 0xFFL) << 56;
+
+			k *= m;
+			k ^= k >>> r;
+			k *= m;
+
+			h ^= k;
+			h *= m;
+		}
+
+		final int tail = blocks << 3;
+
+		switch(length & 7){
+			case 7:
+				h ^= (data[tail + 6] & 0xFFL) << 48;
+			case 6:
+				h ^= (data[tail + 5] & 0xFFL) << 40;
+			case 5:
+				h ^= (data[tail + 4] & 0xFFL) << 32;
+			case 4:
+				h ^= (data[tail + 3] & 0xFFL) << 24;
+			case 3:
+				h ^= (data[tail + 2] & 0xFFL) << 16;
+			case 2:
+				h ^= (data[tail + 1] & 0xFFL) << 8;
+			case 1:
+				h ^= data[tail] & 0xFFL;
+				h *= m;
+			default:
+				break;
+		}
+
+		h ^= h >>> r;
+		h *= m;
+		h ^= h >>> r;
+
+		return h;
+	}
+
+	private final static class Link {
+
+		private final ByteBuffer bits;
+
+		private final long size;
+
+		private final long mask;
+
+		private final int hashes;
+
+		Link(final ByteBuffer bits, final long size, final int hashes, final int n2) {
+			this.bits = bits;
+			this.size = size;
+			this.mask = n2 > 0 && n2 < 64 ? (1L << n2) - 1 : 0;
+			this.hashes = hashes;
+		}
+
+		/**
+		 * 检查元素的所有位是否均已置位
+		 *
+		 * @param set
+		 * 		是否将未置位的位置位
+		 *
+		 * @return 所有位是否均已置位（置位前）
+		 */
+		boolean check(final long a, final long b, final boolean set) {
+			boolean found = true;
+
+			for(int i = 0; i < hashes; i++){
+				final long x = mask == 0 ? Long.remainderUnsigned(a + i * b, size) : (a + i * b) & mask;
+				final int index = (int) (x >>> 3);
+				final byte value = bits.get(index);
+				final int bit = 1 << (int) (x & 7);
+
+				if((value & bit) == 0){
+					if(set == false){
+						return false;
+					}
+
+					found = false;
+					bits.put(index, (byte) (value | bit));
+				}
+			}
+
+			return found;
+		}
+
+	}
+
+}
@@ -0,0 +1,552 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+import com.buession.core.utils.Assert;
+import com.buession.core.validator.Validate;
+import com.buession.redis.utils.SafeEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Redis 本地缓存，以原始 Key 为单位缓存 GET、HGET、HGETALL 的结果，按条目数和字节数限制容量，
+ * 由 {@link NearCacheInvalidator} 接收服务端 CLIENT TRACKING 失效消息后清除对应 Key。
+ *
+ * <p>失效消息是异步到达的，本节点写入后立即读取，仍可能在极短时间内读到旧值。</p>
+ *
+ * <p>开启 {@link NearCacheConfig#isCacheDeserializedValue()} 时，命中的调用方共享同一个反序列化对象：
+ * HGETALL 等返回的 {@link Map}、{@link List}、{@link Set} 会被包装为不可修改的视图，修改时抛出
+ * {@link UnsupportedOperationException}；其中的元素对象不会被复制，调用方不应修改。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class NearCache implements AutoCloseable {
+
+	private final NearCacheConfig config;
+
+	private final byte[][] prefixes;
+
+	private final long expireAfterWrite;
+
+	private final LinkedHashMap<ByteBuffer, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final FrequencySketch sketch;
+
+	/**
+	 * 失效版本号，按原始 Key 的哈希分段，失效时递增对应分段，清空时递增所有分段；
+	 * 加载期间所在分段版本号发生变化的结果不会写入缓存，其它 Key 的失效不影响正在进行的加载
+	 */
+	private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private final LongAdder invalidations = new LongAdder();
+
+	private long bytes;
+
+	private volatile NearCacheInvalidator invalidator;
+
+	private final static int VERSION_STRIPES = 64;
+
+	private final static Logger logger = LoggerFactory.getLogger(NearCache.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param config
+	 * 		本地缓存配置
+	 */
+	public NearCache(final NearCacheConfig config) {
+		Assert.isNull(config, "NearCacheConfig cloud not be null.");
+		Assert.isFalse(config.getMaxEntries() > 0, "Max entries must be greater than 0");
+		Assert.isFalse(config.getMaxBytes() > 0, "Max bytes must be greater than 0");
+
+		this.config = config;
+		this.prefixes = Validate.isEmpty(config.getPrefixes()) ? null : SafeEncoder.encode(config.getPrefixes());
+		this.expireAfterWrite = config.getExpireAfterWrite() == null ? 0 : config.getExpireAfterWrite().toNanos();
+		this.sketch = config.getEvictionPolicy() == EvictionPolicy.TINY_LFU ? new FrequencySketch(
+				config.getMaxEntries()) : null;
+	}
+
+	/**
+	 * 返回本地缓存配置
+	 *
+	 * @return 本地缓存配置
+	 */
+	public NearCacheConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * 绑定失效通知，并开始接收失效消息
+	 *
+	 * @param invalidator
+	 * 		失效通知
+	 */
+	public void bind(final NearCacheInvalidator invalidator) {
+		Assert.isNull(invalidator, "NearCacheInvalidator cloud not be null.");
+		this.invalidator = invalidator;
+		invalidator.start(this);
+	}
+
+	/**
+	 * 返回本地缓存当前是否可用；未绑定失效通知时，仅在配置了写入后过期时间时可用
+	 *
+	 * @return 本地缓存当前是否可用
+	 */
+	public boolean isActive() {
+		final NearCacheInvalidator invalidator = this.invalidator;
+		return invalidator == null ? expireAfterWrite > 0 : invalidator.isActive();
+	}
+
+	/**
+	 * 从本地缓存读取，未命中时通过 {@code loader} 从 Redis 加载并写入缓存
+	 *
+	 * @param key
+	 * 		缓存 Key
+	 * @param type
+	 * 		反序列化目标类型，{@link Class} 或 {@link com.buession.core.type.TypeReference}
+	 * @param loader
+	 * 		从 Redis 加载原始值
+	 * @param decoder
+	 * 		原始值反序列化
+	 * @param <SV>
+	 * 		原始值类型
+	 * @param <TV>
+	 * 		反序列化后的值类型
+	 *
+	 * @return 反序列化后的值
+	 */
+	@SuppressWarnings({"unchecked"})
+	public <SV, TV> TV get(final Key key, final Object type, final Supplier<SV> loader,
+	                       final Function<SV, TV> decoder) {
+		if(isCacheable(key) == false){
+			return decoder.apply(loader.get());
+		}
+
+		final Slot slot = lookup(key);
+
+		if(slot != null){
+			hits.increment();
+
+			if(slot.decoded != null && slot.type.equals(type)){
+				return (TV) slot.decoded;
+			}
+
+			return decoder.apply((SV) slot.raw);
+		}
+
+		misses.increment();
+
+		final int stripe = stripe(key.key);
+		final long stamp = versions.get(stripe);
+		final SV raw = loader.get();
+
+		if(raw == null){
+			return decoder.apply(null);
+		}
+
+		if(config.isCacheDeserializedValue()){
+			final TV value = (TV) unmodifiable(decoder.apply(raw));
+
+			put(key, new Slot(raw, type, value, weigh(raw), System.nanoTime()), stripe, stamp);
+			return value;
+		}
+
+		put(key, new Slot(raw, null, null, weigh(raw), System.nanoTime()), stripe, stamp);
+
+		return decoder.apply(raw);
+	}
+
+	/**
+	 * 使 Key 失效
+	 *
+	 * @param key
+	 * 		原始 Key
+	 */
+	public void invalidate(final byte[] key) {
+		final ByteBuffer rawKey = ByteBuffer.wrap(key);
+
+		lock.lock();
+		try{
+			versions.incrementAndGet(stripe(rawKey));
+
+			final Entry entry = entries.remove(rawKey);
+
+			if(entry != null){
+				bytes -= entry.weight;
+				invalidations.increment();
+			}
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 使多个 Key 失效
+	 *
+	 * @param keys
+	 * 		原始 Key
+	 */
+	public void invalidate(final Collection<byte[]> keys) {
+		if(keys == null){
+			clear();
+		}else{
+			keys.forEach(this::invalidate);
+		}
+	}
+
+	/**
+	 * 清空本地缓存
+	 */
+	public void clear() {
+		lock.lock();
+		try{
+			for(int i = 0; i < VERSION_STRIPES; i++){
+				versions.incrementAndGet(i);
+			}
+
+			invalidations.add(entries.size());
+			entries.clear();
+			bytes = 0;
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 返回本地缓存统计
+	 *
+	 * @return 本地缓存统计
+	 */
+	public NearCacheStats stats() {
+		lock.lock();
+		try{
+			return new NearCacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(),
+					entries.size(), bytes);
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		final NearCacheInvalidator invalidator = this.invalidator;
+
+		this.invalidator = null;
+		if(invalidator != null){
+			try{
+				invalidator.close();
+			}catch(Exception e){
+				logger.warn("Close near cache invalidator error: {}", e.getMessage());
+			}
+		}
+
+		clear();
+	}
+
+	private boolean isCacheable(final Key key) {
+		if(isActive() == false){
+			return false;
+		}
+
+		if(prefixes == null){
+			return true;
+		}
+
+		for(byte[] prefix : prefixes){
+			if(startsWith(key.key, prefix)){
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private Slot lookup(final Key key) {
+		lock.lock();
+		try{
+			if(sketch != null){
+				sketch.increment(key.key.hashCode());
+			}
+
+			final Entry entry = entries.get(key.key);
+			final Slot slot = entry == null ? null : entry.slots.get(key.slot);
+
+			if(slot != null && expireAfterWrite > 0 && System.nanoTime() - slot.createTime >= expireAfterWrite){
+				entry.slots.remove(key.slot);
+				entry.weight -= slot.weight;
+				bytes -= slot.weight;
+
+				if(entry.slots.isEmpty()){
+					entries.remove(key.key);
+					bytes -= entry.weight;
+				}
+
+				return null;
+			}
+
+			return slot;
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	private void put(final Key key, final Slot slot, final int stripe, final long stamp) {
+		if(slot.weight > config.getMaxBytes()){
+			return;
+		}
+
+		lock.lock();
+		try{
+			if(stamp != versions.get(stripe)){
+				return;
+			}
+
+			Entry entry = entries.get(key.key);
+
+			if(entry == null){
+				if(admit(key) == false){
+					return;
+				}
+
+				entry = new Entry();
+				entry.weight = key.key.remaining();
+				bytes += entry.weight;
+				entries.put(key.key, entry);
+			}
+
+			final Slot old = entry.slots.put(key.slot, slot);
+			final long delta = slot.weight - (old == null ? 0 : old.weight);
+
+			entry.weight += delta;
+			bytes += delta;
+
+			evict();
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	private boolean admit(final Key key) {
+		if(sketch == null || entries.size() < config.getMaxEntries()){
+			return true;
+		}
+
+		final ByteBuffer victim = entries.keySet().iterator().next();
+		return sketch.frequency(key.key.hashCode()) > sketch.frequency(victim.hashCode());
+	}
+
+	private void evict() {
+		final Iterator<Map.Entry<ByteBuffer, Entry>> iterator = entries.entrySet().iterator();
+
+		while((entries.size() > config.getMaxEntries() || bytes > config.getMaxBytes()) && iterator.hasNext()){
+			final Map.Entry<ByteBuffer, Entry> eldest = iterator.next();
+
+			iterator.remove();
+			bytes -= eldest.getValue().weight;
+			evictions.increment();
+		}
+	}
+
+	private static int stripe(final ByteBuffer key) {
+		final int hash = key.hashCode();
+		return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+	}
+
+	private static Object unmodifiable(final Object value) {
+		if(value instanceof Map<?, ?> map){
+			return Collections.unmodifiableMap(map);
+		}else if(value instanceof List<?> list){
+			return Collections.unmodifiableList(list);
+		}else if(value instanceof Set<?> set){
+			return Collections.unmodifiableSet(set);
+		}else{
+			return value;
+		}
+	}
+
+	private static boolean startsWith(final ByteBuffer key, final byte[] prefix) {
+		if(key.remaining() < prefix.length){
+			return false;
+		}
+
+		for(int i = 0; i < prefix.length; i++){
+			if(key.get(key.position() + i) != prefix[i]){
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static long weigh(final Object value) {
+		if(value instanceof byte[] bytes){
+			return bytes.length;
+		}else if(value instanceof String str){
+			return str.length();
+		}else if(value instanceof Map<?, ?> map){
+			long weight = 0;
+
+			for(Map.Entry<?, ?> e : map.entrySet()){
+				weight += weigh(e.getKey()) + weigh(e.getValue());
+			}
+
+			return weight;
+		}else{
+			return 16;
+		}
+	}
+
+	/**
+	 * 本地缓存 Key，由原始 Key、命令及哈希域组成
+	 */
+	public final static class Key {
+
+		private final ByteBuffer key;
+
+		private final SlotKey slot;
+
+		private Key(final byte[] key, final Operation operation, final byte[] field, final boolean binary) {
+			this.key = ByteBuffer.wrap(key);
+			this.slot = new SlotKey(operation, field == null ? null : ByteBuffer.wrap(field), binary);
+		}
+
+		public static Key get(final String key) {
+			return new Key(SafeEncoder.encode(key), Operation.GET, null, false);
+		}
+
+		public static Key get(final byte[] key) {
+			return new Key(key, Operation.GET, null, true);
+		}
+
+		public static Key hGet(final String key, final String field) {
+			return new Key(SafeEncoder.encode(key), Operation.HGET, SafeEncoder.encode(field), false);
+		}
+
+		public static Key hGet(final byte[] key, final byte[] field) {
+			return new Key(key, Operation.HGET, field, true);
+		}
+
+		public static Key hGetAll(final String key) {
+			return new Key(SafeEncoder.encode(key), Operation.HGETALL, null, false);
+		}
+
+		public static Key hGetAll(final byte[] key) {
+			return new Key(key, Operation.HGETALL, null, true);
+		}
+
+		ByteBuffer rawKey() {
+			return key;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(this == o){
+				return true;
+			}
+
+			if(o instanceof Key that){
+				return key.equals(that.key) && slot.equals(that.slot);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * key.hashCode() + slot.hashCode();
+		}
+
+	}
+
+	private enum Operation {
+
+		GET,
+
+		HGET,
+
+		HGETALL
+
+	}
+
+	private record SlotKey(Operation operation, ByteBuffer field, boolean binary) {
+
+	}
+
+	private final static class Slot {
+
+		private final Object raw;
+
+		private final Object type;
+
+		private final Object decoded;
+
+		private final long weight;
+
+		private final long createTime;
+
+		private Slot(final Object raw, final Object type, final Object decoded, final long weight,
+		             final long createTime) {
+			this.raw = raw;
+			this.type = type;
+			this.decoded = decoded;
+			this.weight = weight;
+			this.createTime = createTime;
+		}
+
+	}
+
+	private final static class Entry {
+
+		private final Map<SlotKey, Slot> slots = new HashMap<>(4);
+
+		private long weight;
+
+	}
+
+}
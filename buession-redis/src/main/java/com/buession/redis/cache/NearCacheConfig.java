@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+import java.time.Duration;
+
+/**
+ * 本地缓存配置
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class NearCacheConfig {
+
+	/**
+	 * 默认最大条目数
+	 */
+	public final static int DEFAULT_MAX_ENTRIES = 10000;
+
+	/**
+	 * 默认最大占用字节数
+	 */
+	public final static long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	/**
+	 * 最大条目数，以 Key 为单位
+	 */
+	private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+	/**
+	 * 最大占用字节数（估算值）
+	 */
+	private long maxBytes = DEFAULT_MAX_BYTES;
+
+	/**
+	 * 淘汰策略
+	 */
+	private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+	/**
+	 * 是否缓存反序列化后的对象，开启后命中时不再反序列化；Map、List、Set 结果以不可修改的视图返回，调用方不应修改返回的对象
+	 */
+	private boolean cacheDeserializedValue;
+
+	/**
+	 * 需要缓存的 Key 前缀（包含 {@link com.buession.redis.core.Options#getPrefix()}），
+	 * 同时作为 CLIENT TRACKING BCAST 的 PREFIX 参数；为空时使用 Key 前缀，Key 前缀也为空时缓存所有 Key
+	 */
+	private String[] prefixes;
+
+	/**
+	 * 写入后过期时间，为 null 时不过期，仅依赖失效通知
+	 */
+	private Duration expireAfterWrite;
+
+	/**
+	 * 构造函数
+	 */
+	public NearCacheConfig() {
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param maxEntries
+	 * 		最大条目数
+	 * @param maxBytes
+	 * 		最大占用字节数
+	 */
+	public NearCacheConfig(int maxEntries, long maxBytes) {
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * 返回最大条目数
+	 *
+	 * @return 最大条目数
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * 设置最大条目数
+	 *
+	 * @param maxEntries
+	 * 		最大条目数
+	 */
+	public void setMaxEntries(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * 返回最大占用字节数
+	 *
+	 * @return 最大占用字节数
+	 */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * 设置最大占用字节数
+	 *
+	 * @param maxBytes
+	 * 		最大占用字节数
+	 */
+	public void setMaxBytes(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * 返回淘汰策略
+	 *
+	 * @return 淘汰策略
+	 */
+	public EvictionPolicy getEvictionPolicy() {
+		return evictionPolicy;
+	}
+
+	/**
+	 * 设置淘汰策略
+	 *
+	 * @param evictionPolicy
+	 * 		淘汰策略
+	 */
+	public void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+		this.evictionPolicy = evictionPolicy;
+	}
+
+	/**
+	 * 返回是否缓存反序列化后的对象
+	 *
+	 * @return 是否缓存反序列化后的对象
+	 */
+	public boolean isCacheDeserializedValue() {
+		return getCacheDeserializedValue();
+	}
+
+	/**
+	 * 返回是否缓存反序列化后的对象
+	 *
+	 * @return 是否缓存反序列化后的对象
+	 */
+	public boolean getCacheDeserializedValue() {
+		return cacheDeserializedValue;
+	}
+
+	/**
+	 * 设置是否缓存反序列化后的对象
+	 *
+	 * @param cacheDeserializedValue
+	 * 		是否缓存反序列化后的对象
+	 */
+	public void setCacheDeserializedValue(boolean cacheDeserializedValue) {
+		this.cacheDeserializedValue = cacheDeserializedValue;
+	}
+
+	/**
+	 * 返回需要缓存的 Key 前缀
+	 *
+	 * @return 需要缓存的 Key 前缀
+	 */
+	public String[] getPrefixes() {
+		return prefixes;
+	}
+
+	/**
+	 * 设置需要缓存的 Key 前缀
+	 *
+	 * @param prefixes
+	 * 		需要缓存的 Key 前缀
+	 */
+	public void setPrefixes(String[] prefixes) {
+		this.prefixes = prefixes;
+	}
+
+	/**
+	 * 返回写入后过期时间
+	 *
+	 * @return 写入后过期时间
+	 */
+	public Duration getExpireAfterWrite() {
+		return expireAfterWrite;
+	}
+
+	/**
+	 * 设置写入后过期时间
+	 *
+	 * @param expireAfterWrite
+	 * 		写入后过期时间
+	 */
+	public void setExpireAfterWrite(Duration expireAfterWrite) {
+		this.expireAfterWrite = expireAfterWrite;
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+/**
+ * 本地缓存失效通知，基于 CLIENT TRACKING 接收服务端的 Key 失效消息，并同步到 {@link NearCache}
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public interface NearCacheInvalidator extends AutoCloseable {
+
+	/**
+	 * 开始接收失效消息
+	 *
+	 * @param nearCache
+	 * 		本地缓存
+	 */
+	void start(NearCache nearCache);
+
+	/**
+	 * 返回失效通知当前是否可靠；不可靠期间（如连接断开、重连后尚未重新开启 CLIENT TRACKING）本地缓存不可用
+	 *
+	 * @return 失效通知当前是否可靠
+	 */
+	boolean isActive();
+
+	/**
+	 * 停止接收失效消息，并释放连接
+	 */
+	@Override
+	void close();
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache;
+
+import com.buession.redis.utils.ObjectStringBuilder;
+
+/**
+ * 本地缓存统计
+ *
+ * @param hits
+ * 		命中次数
+ * @param misses
+ * 		未命中次数
+ * @param evictions
+ * 		淘汰次数
+ * @param invalidations
+ * 		失效次数
+ * @param size
+ * 		当前条目数
+ * @param bytes
+ * 		当前占用字节数（估算值）
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public record NearCacheStats(long hits, long misses, long evictions, long invalidations, long size, long bytes) {
+
+	/**
+	 * 返回命中率
+	 *
+	 * @return 命中率
+	 */
+	public double hitRate() {
+		final long requests = hits + misses;
+		return requests == 0 ? 1.0D : (double) hits / requests;
+	}
+
+	@Override
+	public String toString() {
+		return ObjectStringBuilder.create()
+				.add("hits", hits)
+				.add("misses", misses)
+				.add("evictions", evictions)
+				.add("invalidations", invalidations)
+				.add("size", size)
+				.add("bytes", bytes)
+				.build();
+	}
+
+}
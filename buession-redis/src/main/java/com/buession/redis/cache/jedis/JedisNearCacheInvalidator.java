@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache.jedis;
+
+import com.buession.core.utils.Assert;
+import com.buession.core.validator.Validate;
+import com.buession.redis.cache.NearCache;
+import com.buession.redis.cache.NearCacheInvalidator;
+import com.buession.redis.utils.SafeEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.Protocol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jedis 本地缓存失效通知，以 RESP2 重定向模式实现：订阅连接订阅 {@code __redis__:invalidate} 频道，
+ * 跟踪连接以 {@code CLIENT TRACKING ON REDIRECT <id> BCAST} 将失效消息转发至订阅连接
+ *
+ * <p>任一连接异常时清空本地缓存，并在后台线程中重新建立连接。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class JedisNearCacheInvalidator implements NearCacheInvalidator, Runnable {
+
+	private final static String INVALIDATE_CHANNEL = "__redis__:invalidate";
+
+	private final static String MESSAGE = "message";
+
+	private final static long RECONNECT_DELAY = 1000L;
+
+	private final HostAndPort hostAndPort;
+
+	private final JedisClientConfig clientConfig;
+
+	private final String[] prefixes;
+
+	private volatile Connection subscriber;
+
+	private volatile Connection tracking;
+
+	private volatile NearCache nearCache;
+
+	private volatile boolean active;
+
+	private volatile boolean closed;
+
+	private Thread thread;
+
+	private final static Logger logger = LoggerFactory.getLogger(JedisNearCacheInvalidator.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param hostAndPort
+	 * 		Redis 地址
+	 * @param clientConfig
+	 * 		客户端配置
+	 * @param prefixes
+	 * 		需要跟踪的 Key 前缀
+	 */
+	public JedisNearCacheInvalidator(final HostAndPort hostAndPort, final JedisClientConfig clientConfig,
+	                                 final String[] prefixes) {
+		Assert.isNull(hostAndPort, "Redis host and port cloud not be null.");
+		Assert.isNull(clientConfig, "Jedis client config cloud not be null.");
+		this.hostAndPort = hostAndPort;
+		this.clientConfig = clientConfig;
+		this.prefixes = prefixes;
+	}
+
+	@Override
+	public void start(final NearCache nearCache) {
+		this.nearCache = nearCache;
+		this.thread = new Thread(this, "buession-redis-near-cache-invalidator");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	@Override
+	public boolean isActive() {
+		final Connection tracking = this.tracking;
+		return active && tracking != null && tracking.isConnected() && tracking.isBroken() == false;
+	}
+
+	@Override
+	public void run() {
+		while(closed == false){
+			try{
+				subscriber = new Connection(hostAndPort, clientConfig);
+				tracking = new Connection(hostAndPort, clientConfig);
+
+				subscriber.sendCommand(Protocol.Command.CLIENT, "ID");
+				final long clientId = subscriber.getIntegerReply();
+
+				tracking.sendCommand(Protocol.Command.CLIENT, trackingArguments(clientId));
+				tracking.getStatusCodeReply();
+
+				subscriber.sendCommand(Protocol.Command.SUBSCRIBE, INVALIDATE_CHANNEL);
+				subscriber.setTimeoutInfinite();
+
+				listen();
+			}catch(Exception e){
+				if(closed == false){
+					logger.error("Near cache invalidation connection error: {}", e.getMessage());
+				}
+			}finally{
+				active = false;
+				clearCache();
+				closeQuietly(subscriber);
+				closeQuietly(tracking);
+			}
+
+			if(closed == false){
+				try{
+					Thread.sleep(RECONNECT_DELAY);
+				}catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		active = false;
+		closeQuietly(subscriber);
+		closeQuietly(tracking);
+
+		if(thread != null){
+			thread.interrupt();
+			thread = null;
+		}
+	}
+
+	private void listen() {
+		while(closed == false){
+			final Object reply = subscriber.getUnflushedObject();
+
+			if(reply instanceof List<?> message && message.size() >= 3){
+				final Object kind = message.get(0);
+
+				if(kind instanceof byte[] bytes && MESSAGE.equals(SafeEncoder.encode(bytes))){
+					onInvalidate(message.get(2));
+				}else{
+					// 订阅成功后开启前读取的值可能已经过期
+					clearCache();
+					active = true;
+				}
+			}
+		}
+	}
+
+	private void onInvalidate(final Object keys) {
+		final NearCache nearCache = this.nearCache;
+
+		if(nearCache == null){
+			return;
+		}
+
+		if(keys instanceof List<?> list){
+			final List<byte[]> rawKeys = new ArrayList<>(list.size());
+
+			for(Object key : list){
+				if(key instanceof byte[] rawKey){
+					rawKeys.add(rawKey);
+				}
+			}
+
+			nearCache.invalidate(rawKeys);
+		}else if(keys instanceof byte[] rawKey){
+			nearCache.invalidate(rawKey);
+		}else{
+			// FLUSHALL、FLUSHDB 或服务端内存淘汰跟踪表时，失效消息不携带 Key
+			nearCache.clear();
+		}
+	}
+
+	private String[] trackingArguments(final long clientId) {
+		final List<String> arguments = new ArrayList<>();
+
+		arguments.add("TRACKING");
+		arguments.add("ON");
+		arguments.add("REDIRECT");
+		arguments.add(Long.toString(clientId));
+		arguments.add("BCAST");
+
+		if(Validate.isNotEmpty(prefixes)){
+			for(String prefix : prefixes){
+				arguments.add("PREFIX");
+				arguments.add(prefix);
+			}
+		}
+
+		return arguments.toArray(new String[0]);
+	}
+
+	private void clearCache() {
+		final NearCache nearCache = this.nearCache;
+
+		if(nearCache != null){
+			nearCache.clear();
+		}
+	}
+
+	private static void closeQuietly(final Connection connection) {
+		if(connection != null){
+			try{
+				connection.close();
+			}catch(Exception e){
+				// ignore
+			}
+		}
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.cache.lettuce;
+
+import com.buession.core.utils.Assert;
+import com.buession.core.validator.Validate;
+import com.buession.redis.cache.NearCache;
+import com.buession.redis.cache.NearCacheInvalidator;
+import io.lettuce.core.BaseRedisClient;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.event.connection.DisconnectedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lettuce 本地缓存失效通知，在独占的 RESP3 连接上以 BCAST 模式开启 CLIENT TRACKING，
+ * 通过 Push 消息接收所有连接写入引起的 Key 失效
+ *
+ * <p>连接断开期间可能丢失失效消息，因此收到断开事件后暂停本地缓存，并检查跟踪连接的客户端 ID：
+ * ID 未变化说明断开的是其它连接，恢复本地缓存；否则说明跟踪连接已重连，清空本地缓存并重新开启 CLIENT TRACKING。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class LettuceNearCacheInvalidator implements NearCacheInvalidator, PushListener {
+
+	private final static String INVALIDATE = "invalidate";
+
+	private final BaseRedisClient<byte[], byte[]> client;
+
+	private final String[] prefixes;
+
+	private StatefulRedisConnection<byte[], byte[]> connection;
+
+	private Disposable eventSubscription;
+
+	private volatile NearCache nearCache;
+
+	private volatile boolean active;
+
+	private volatile long trackingClientId = -1;
+
+	private final static Logger logger = LoggerFactory.getLogger(LettuceNearCacheInvalidator.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param client
+	 * 		Lettuce 客户端
+	 * @param prefixes
+	 * 		需要跟踪的 Key 前缀
+	 */
+	public LettuceNearCacheInvalidator(final BaseRedisClient<byte[], byte[]> client, final String[] prefixes) {
+		Assert.isNull(client, "Lettuce client cloud not be null.");
+		this.client = client;
+		this.prefixes = prefixes;
+	}
+
+	@SuppressWarnings({"unchecked"})
+	@Override
+	public void start(final NearCache nearCache) {
+		this.nearCache = nearCache;
+		this.connection = (StatefulRedisConnection<byte[], byte[]>) client.getConnectionProvider()
+				.getDedicatedConnection();
+		this.connection.addListener(this);
+		this.eventSubscription = connection.getResources().eventBus().get().subscribe((event)->{
+			if(event instanceof DisconnectedEvent){
+				verifyTracking();
+			}
+		});
+
+		enableTracking();
+	}
+
+	@Override
+	public boolean isActive() {
+		return active && connection != null && connection.isOpen();
+	}
+
+	@Override
+	public void onPushMessage(final PushMessage message) {
+		if(INVALIDATE.equals(message.getType()) == false || nearCache == null){
+			return;
+		}
+
+		final List<Object> content = message.getContent();
+		final Object keys = content.size() > 1 ? content.get(1) : null;
+
+		if(keys instanceof List<?> list){
+			final List<byte[]> rawKeys = new ArrayList<>(list.size());
+
+			for(Object key : list){
+				if(key instanceof ByteBuffer buffer){
+					final byte[] rawKey = new byte[buffer.remaining()];
+
+					buffer.duplicate().get(rawKey);
+					rawKeys.add(rawKey);
+				}
+			}
+
+			nearCache.invalidate(rawKeys);
+		}else{
+			// FLUSHALL、FLUSHDB 或服务端内存淘汰跟踪表时，失效消息不携带 Key
+			nearCache.clear();
+		}
+	}
+
+	@Override
+	public void close() {
+		active = false;
+
+		if(eventSubscription != null){
+			eventSubscription.dispose();
+			eventSubscription = null;
+		}
+
+		if(connection != null){
+			connection.removeListener(this);
+
+			try{
+				if(connection.isOpen()){
+					connection.sync().clientTracking(TrackingArgs.Builder.enabled(false));
+				}
+			}catch(Exception e){
+				logger.warn("Disable client tracking error: {}", e.getMessage());
+			}
+
+			client.getConnectionProvider().release(connection);
+			connection = null;
+		}
+	}
+
+	private void enableTracking() {
+		final StatefulRedisConnection<byte[], byte[]> connection = this.connection;
+
+		if(connection == null){
+			return;
+		}
+
+		final TrackingArgs trackingArgs = TrackingArgs.Builder.enabled().bcast();
+
+		if(Validate.isNotEmpty(prefixes)){
+			trackingArgs.prefixes(prefixes);
+		}
+
+		connection.async().clientTracking(trackingArgs).thenCompose((status)->connection.async().clientId())
+				.whenComplete((clientId, throwable)->{
+					if(throwable == null){
+						trackingClientId = clientId;
+						// 开启前读取的值可能已经过期
+						clearCache();
+						active = true;
+					}else{
+						active = false;
+						logger.error("Enable client tracking error: {}", throwable.getMessage());
+					}
+				});
+	}
+
+	private void verifyTracking() {
+		final StatefulRedisConnection<byte[], byte[]> connection = this.connection;
+
+		if(connection == null){
+			return;
+		}
+
+		active = false;
+		connection.async().clientId().whenComplete((clientId, throwable)->{
+			if(throwable == null && clientId != null && clientId == trackingClientId){
+				active = true;
+			}else{
+				clearCache();
+				enableTracking();
+			}
+		});
+	}
+
+	private void clearCache() {
+		final NearCache nearCache = this.nearCache;
+
+		if(nearCache != null){
+			nearCache.clear();
+		}
+	}
+
+}
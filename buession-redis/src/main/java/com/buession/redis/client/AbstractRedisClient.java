@@ -24,10 +24,14 @@
  */
 package com.buession.redis.client;
 
+import com.buession.redis.cache.HotKeyCache;
 import com.buession.redis.client.connection.RedisConnection;
 import com.buession.redis.core.command.Command;
 import com.buession.redis.core.command.*;
 import com.buession.redis.exception.RedisException;
+import com.buession.redis.metrics.CommandMetrics;
+import com.buession.redis.metrics.NoopCommandMetrics;
+import com.buession.redis.metrics.PayloadSizes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +47,20 @@ public abstract class AbstractRedisClient implements RedisClient {
 	 */
 	protected RedisConnection connection;
 
+	/**
+	 * 命令指标收集器
+	 *
+	 * @since 4.0.0
+	 */
+	protected CommandMetrics commandMetrics = NoopCommandMetrics.INSTANCE;
+
+	/**
+	 * 热点 Key 本地缓存
+	 *
+	 * @since 4.0.0
+	 */
+	protected HotKeyCache hotKeyCache;
+
 	/**
 	 * 自动提示命令
 	 */
@@ -208,18 +226,62 @@ public abstract class AbstractRedisClient implements RedisClient {
 	}
 
 	@Override
-	public <R> R execute(final Command<RedisConnection, R> command, final CommandArguments arguments) {
-		long startTime = 0;
-		if(logger.isDebugEnabled()){
-			startTime = System.nanoTime();
+	public CommandMetrics getCommandMetrics() {
+		return commandMetrics;
+	}
+
+	@Override
+	public void setCommandMetrics(CommandMetrics commandMetrics) {
+		final CommandMetrics previous = this.commandMetrics;
+
+		this.commandMetrics = commandMetrics == null ? NoopCommandMetrics.INSTANCE : commandMetrics;
+
+		// 请求字节数在构建命令参数时累加，与是否记录参数无关
+		if(this.commandMetrics.isRecordBytes() != previous.isRecordBytes()){
+			if(this.commandMetrics.isRecordBytes()){
+				CommandArguments.retainTracking();
+			}else{
+				CommandArguments.releaseTracking();
+			}
+		}
+	}
+
+	@Override
+	public HotKeyCache getHotKeyCache() {
+		return hotKeyCache;
+	}
+
+	@Override
+	public void setHotKeyCache(HotKeyCache hotKeyCache) {
+		final HotKeyCache previous = this.hotKeyCache;
+
+		this.hotKeyCache = hotKeyCache;
+
+		// 写命令涉及的 Key 在构建命令参数时记录，与是否记录参数无关
+		if((hotKeyCache == null) != (previous == null)){
+			if(hotKeyCache != null){
+				CommandArguments.retainTracking();
+			}else{
+				CommandArguments.releaseTracking();
+			}
 		}
+	}
+
+	@Override
+	public <R> R execute(final Command<RedisConnection, R> command, final CommandArguments arguments) {
+		final CommandMetrics metrics = commandMetrics;
+		final long startTime = System.nanoTime();
+		boolean success = false;
+		R result = null;
 
 		if(logger.isDebugEnabled()){
 			logger.debug("Execute command: {}", runCommand(command.getCommand(), arguments));
 		}
 
 		try{
-			return getConnection().execute((conn)->command.execute(conn, arguments));
+			result = getConnection().execute((conn)->command.execute(conn, arguments));
+			success = true;
+			return result;
 		}catch(RedisException e){
 			if(logger.isErrorEnabled()){
 				logger.error("Execute command: {}, failure: {}", runCommand(command.getCommand(), arguments),
@@ -227,9 +289,36 @@ public abstract class AbstractRedisClient implements RedisClient {
 			}
 			throw e;
 		}finally{
+			final long elapsed = System.nanoTime() - startTime;
+
+			// 失败的写命令也可能已在服务端生效，同样清除本地缓存
+			if(hotKeyCache != null && command.getCommand() != null && command.getCommand().isWrite()){
+				invalidateHotKeys(hotKeyCache, command.getCommand(), arguments);
+			}
+
+			if(command.getCommand() != null){
+				metrics.recordCommand(command.getCommand(), elapsed, success);
+
+				if(metrics.isRecordBytes()){
+					metrics.recordBytes(command.getCommand(), arguments == null ? -1L : arguments.estimateSize(),
+							success ? PayloadSizes.estimate(result) : -1L);
+				}
+			}
+
 			if(logger.isDebugEnabled()){
-				long finishTime = System.nanoTime();
-				logger.debug("Command execution time: {}ns", finishTime - startTime);
+				logger.debug("Command execution time: {}ns", elapsed);
+			}
+		}
+	}
+
+	protected static void invalidateHotKeys(final HotKeyCache hotKeyCache, final RedisCommand command,
+	                                        final CommandArguments arguments) {
+		switch(command){
+			case FLUSHALL, FLUSHDB, SWAPDB -> hotKeyCache.clear();
+			default -> {
+				if(arguments != null){
+					arguments.forEachKey(command, hotKeyCache::invalidate);
+				}
 			}
 		}
 	}
@@ -237,7 +326,7 @@ public abstract class AbstractRedisClient implements RedisClient {
 	protected static String runCommand(final RedisCommand command, final CommandArguments arguments) {
 		final StringBuilder sb = new StringBuilder(command.name());
 
-		if(arguments != null){
+		if(arguments != null && arguments.isEmpty() == false){
 			sb.append(" ").append(arguments);
 		}
 
@@ -24,10 +24,12 @@
  */
 package com.buession.redis.client;
 
+import com.buession.redis.cache.HotKeyCache;
 import com.buession.redis.client.connection.RedisConnection;
 import com.buession.redis.core.command.Command;
 import com.buession.redis.core.command.*;
 import com.buession.redis.exception.RedisException;
+import com.buession.redis.metrics.CommandMetrics;
 
 /**
  * Redis 客户端
@@ -51,6 +53,44 @@ public interface RedisClient {
 	 */
 	void setConnection(RedisConnection connection);
 
+	/**
+	 * 返回命令指标收集器
+	 *
+	 * @return 命令指标收集器
+	 *
+	 * @since 4.0.0
+	 */
+	CommandMetrics getCommandMetrics();
+
+	/**
+	 * 设置命令指标收集器
+	 *
+	 * @param commandMetrics
+	 * 		命令指标收集器，为 null 时不记录指标
+	 *
+	 * @since 4.0.0
+	 */
+	void setCommandMetrics(CommandMetrics commandMetrics);
+
+	/**
+	 * 返回热点 Key 本地缓存
+	 *
+	 * @return 热点 Key 本地缓存
+	 *
+	 * @since 4.0.0
+	 */
+	HotKeyCache getHotKeyCache();
+
+	/**
+	 * 设置热点 Key 本地缓存，写命令执行后清除其涉及 Key 的本地缓存值
+	 *
+	 * @param hotKeyCache
+	 * 		热点 Key 本地缓存，为 null 时不清除
+	 *
+	 * @since 4.0.0
+	 */
+	void setHotKeyCache(HotKeyCache hotKeyCache);
+
 	/**
 	 * 返回自动提示命令实例
 	 *
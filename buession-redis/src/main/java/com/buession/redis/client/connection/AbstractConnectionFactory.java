@@ -27,6 +27,7 @@ package com.buession.redis.client.connection;
 import com.buession.redis.client.connection.datasource.ClusterDataSource;
 import com.buession.redis.client.connection.datasource.DataSource;
 import com.buession.redis.client.connection.datasource.SentinelDataSource;
+import com.buession.redis.metrics.CommandMetrics;
 
 /**
  * Redis 连接工厂抽象类
@@ -46,6 +47,11 @@ public abstract class AbstractConnectionFactory<DS extends DataSource> implement
 
 	private RedisConnection redisConnection;
 
+	/**
+	 * 命令指标收集器
+	 */
+	private CommandMetrics commandMetrics;
+
 	/**
 	 * 构造函数
 	 *
@@ -84,6 +90,10 @@ public abstract class AbstractConnectionFactory<DS extends DataSource> implement
 			}else{
 				redisConnection = getStandaloneConnection();
 			}
+
+			if(commandMetrics != null){
+				redisConnection.setCommandMetrics(commandMetrics);
+			}
 		}
 
 		if(redisConnection.isConnected() == false){
@@ -93,6 +103,15 @@ public abstract class AbstractConnectionFactory<DS extends DataSource> implement
 		return redisConnection;
 	}
 
+	@Override
+	public void setCommandMetrics(final CommandMetrics commandMetrics) {
+		this.commandMetrics = commandMetrics;
+
+		if(redisConnection != null){
+			redisConnection.setCommandMetrics(commandMetrics);
+		}
+	}
+
 	/**
 	 * 返回数据源
 	 *
@@ -36,6 +36,9 @@ import com.buession.redis.core.internal.convert.response.OkStatusConverter;
 import com.buession.redis.exception.NotMultiRedisException;
 import com.buession.redis.exception.RedisConnectionFailureException;
 import com.buession.redis.exception.RedisException;
+import com.buession.redis.metrics.BatchType;
+import com.buession.redis.metrics.CommandMetrics;
+import com.buession.redis.metrics.NoopCommandMetrics;
 import com.buession.redis.pipeline.Pipeline;
 import com.buession.redis.transaction.Transaction;
 import org.slf4j.Logger;
@@ -43,6 +46,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Redis 连接对象抽象类
@@ -113,8 +117,20 @@ public abstract class AbstractRedisConnection<C> implements RedisConnection {
 	 */
 	protected C client;
 
+	/**
+	 * 命令指标收集器
+	 *
+	 * @since 4.0.0
+	 */
+	protected volatile CommandMetrics commandMetrics = NoopCommandMetrics.INSTANCE;
+
 	private volatile boolean initialized = false;
 
+	/**
+	 * 初始化锁，使用 {@link ReentrantLock} 而非 synchronized，初始化期间不会钉住虚拟线程的载体线程
+	 */
+	private final ReentrantLock initializeLock = new ReentrantLock();
+
 	/**
 	 * 管道
 	 */
@@ -244,6 +260,16 @@ public abstract class AbstractRedisConnection<C> implements RedisConnection {
 		this.sslOptions = sslOptions;
 	}
 
+	@Override
+	public CommandMetrics getCommandMetrics() {
+		return commandMetrics;
+	}
+
+	@Override
+	public void setCommandMetrics(CommandMetrics commandMetrics) {
+		this.commandMetrics = commandMetrics == null ? NoopCommandMetrics.INSTANCE : commandMetrics;
+	}
+
 	public C getClient() {
 		return client;
 	}
@@ -305,6 +331,7 @@ public abstract class AbstractRedisConnection<C> implements RedisConnection {
 
 			pipeline.close();
 			pipeline = null;
+			recordBatch(BatchType.PIPELINE, result);
 
 			return result;
 		}else if(transaction != null){
@@ -312,6 +339,7 @@ public abstract class AbstractRedisConnection<C> implements RedisConnection {
 
 			transaction.close();
 			transaction = null;
+			recordBatch(BatchType.TRANSACTION, result);
 
 			return result;
 		}else{
@@ -345,15 +373,30 @@ public abstract class AbstractRedisConnection<C> implements RedisConnection {
 
 	protected void initialized() {
 		if(initialized == false){
-			synchronized(this){
+			initializeLock.lock();
+			try{
 				if(initialized == false){
 					internalInit();
 					initialized = true;
 				}
+			}finally{
+				initializeLock.unlock();
 			}
 		}
 	}
 
+	/**
+	 * 记录一次连接池借出等待时长，供连接池回调
+	 *
+	 * @param elapsed
+	 * 		等待时长（单位：纳秒）
+	 *
+	 * @since 4.0.0
+	 */
+	protected void recordPoolWait(final long elapsed) {
+		commandMetrics.recordPoolWait(elapsed);
+	}
+
 	protected abstract void internalInit();
 
 	protected abstract Status doConnect() throws RedisConnectionFailureException;
@@ -364,4 +407,10 @@ public abstract class AbstractRedisConnection<C> implements RedisConnection {
 
 	protected abstract void doClose() throws IOException;
 
+	private void recordBatch(final BatchType type, final List<Object> result) {
+		if(result != null){
+			commandMetrics.recordBatch(type, result.size());
+		}
+	}
+
 }
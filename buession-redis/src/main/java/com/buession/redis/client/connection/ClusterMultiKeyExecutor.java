@@ -0,0 +1,438 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.client.connection;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import com.buession.lang.KeyValue;
+import com.buession.lang.Status;
+import com.buession.redis.client.RedisClient;
+import com.buession.redis.core.RedisClusterNode;
+import com.buession.redis.exception.RedisException;
+import com.buession.redis.utils.SafeEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Redis 集群多 Key 命令执行器，将 MGET、MSET、DEL、EXISTS、UNLINK 等多 Key 命令按槽位拆分，
+ * 同一节点上的槽位批次串行执行，不同节点之间并行执行，并按原始 Key 顺序合并结果
+ *
+ * <p>槽位根据最终发送到服务端的 Key（已添加前缀）计算，因此与服务端的槽位划分始终一致；
+ * 节点归属仅用于决定并行分组，拓扑信息过期时由驱动自身的 MOVED 重定向保证正确性。</p>
+ *
+ * <p>拆分后的命令在不同线程、不同连接上执行，无法加入管道或事务，因此连接处于管道或事务中时拒绝执行。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class ClusterMultiKeyExecutor implements Closeable {
+
+	/**
+	 * 默认最大并行节点数
+	 */
+	public final static int DEFAULT_PARALLELISM = 4;
+
+	/**
+	 * 默认单节点超时时长（单位：毫秒）
+	 */
+	public final static int DEFAULT_NODE_TIMEOUT = 5000;
+
+	/**
+	 * 集群槽位数量
+	 */
+	private final static int SLOT_COUNT = 16384;
+
+	private final static String UNKNOWN_NODE = "";
+
+	private final int parallelism;
+
+	private final int nodeTimeout;
+
+	private final ToIntFunction<byte[]> slotFunction;
+
+	private volatile String[] slotOwners;
+
+	private volatile ExecutorService executorService;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final static Logger logger = LoggerFactory.getLogger(ClusterMultiKeyExecutor.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param parallelism
+	 * 		最大并行节点数，小于等于 1 时串行执行
+	 * @param nodeTimeout
+	 * 		单节点超时时长（单位：毫秒），小于等于 0 时不限制
+	 * @param slotFunction
+	 * 		槽位计算函数，由驱动提供
+	 */
+	public ClusterMultiKeyExecutor(final int parallelism, final int nodeTimeout,
+	                               final ToIntFunction<byte[]> slotFunction) {
+		this.parallelism = parallelism;
+		this.nodeTimeout = nodeTimeout;
+		this.slotFunction = slotFunction;
+	}
+
+	/**
+	 * 返回最大并行节点数
+	 *
+	 * @return 最大并行节点数
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * 返回单节点超时时长（单位：毫秒）
+	 *
+	 * @return 单节点超时时长
+	 */
+	public int getNodeTimeout() {
+		return nodeTimeout;
+	}
+
+	/**
+	 * 判断 Key 是否分布在多个槽位
+	 *
+	 * @param keys
+	 * 		Key
+	 * @param <K>
+	 * 		Key 类型，{@link String} 或 byte[]
+	 *
+	 * @return Key 分布在多个槽位返回 true；否则返回 false
+	 */
+	public <K> boolean isCrossSlot(final K[] keys) {
+		return isCrossSlot(keys, this::slot);
+	}
+
+	/**
+	 * 判断键值对的 Key 是否分布在多个槽位
+	 *
+	 * @param data
+	 * 		键值对
+	 * @param <K>
+	 * 		Key 类型，{@link String} 或 byte[]
+	 * @param <V>
+	 * 		值类型
+	 *
+	 * @return Key 分布在多个槽位返回 true；否则返回 false
+	 */
+	public <K, V> boolean isCrossSlotEntries(final KeyValue<K, V>[] data) {
+		return isCrossSlot(data, (item)->slot(item.getKey()));
+	}
+
+	/**
+	 * 按槽位拆分执行 MGET 类命令，结果按原始 Key 顺序合并
+	 *
+	 * @param client
+	 * 		Redis 客户端
+	 * @param keys
+	 * 		Key
+	 * @param command
+	 * 		单槽位命令
+	 * @param <K>
+	 * 		Key 类型
+	 * @param <V>
+	 * 		值类型
+	 *
+	 * @return 与 Key 顺序一致的值列表
+	 */
+	public <K, V> List<V> mGet(final RedisClient client, final K[] keys, final Function<K[], List<V>> command) {
+		final List<Part<K, List<V>>> parts = execute(client, keys, this::slot, command);
+		final List<V> result = new ArrayList<>(Collections.nCopies(keys.length, null));
+
+		for(Part<K, List<V>> part : parts){
+			if(part.result != null){
+				for(int i = 0; i < part.indexes.size(); i++){
+					result.set(part.indexes.get(i), part.result.get(i));
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * 按槽位拆分执行 DEL、EXISTS、UNLINK 等计数类命令，结果累加
+	 *
+	 * @param client
+	 * 		Redis 客户端
+	 * @param keys
+	 * 		Key
+	 * @param command
+	 * 		单槽位命令
+	 * @param <K>
+	 * 		Key 类型
+	 *
+	 * @return 各槽位结果之和
+	 */
+	public <K> Long count(final RedisClient client, final K[] keys, final Function<K[], Long> command) {
+		long result = 0;
+
+		for(Part<K, Long> part : execute(client, keys, this::slot, command)){
+			if(part.result != null){
+				result += part.result;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * 按槽位拆分执行 MSET 类命令，所有槽位均成功时返回成功
+	 *
+	 * @param client
+	 * 		Redis 客户端
+	 * @param data
+	 * 		键值对
+	 * @param command
+	 * 		单槽位命令
+	 * @param <K>
+	 * 		Key 类型
+	 * @param <V>
+	 * 		值类型
+	 *
+	 * @return 所有槽位均成功返回 Status.SUCCESS；否则返回 Status.FAILURE
+	 */
+	public <K, V> Status mSet(final RedisClient client, final KeyValue<K, V>[] data,
+	                          final Function<KeyValue<K, V>[], Status> command) {
+		for(Part<KeyValue<K, V>, Status> part : execute(client, data, (item)->slot(item.getKey()), command)){
+			if(part.result != Status.SUCCESS){
+				return Status.FAILURE;
+			}
+		}
+
+		return Status.SUCCESS;
+	}
+
+	@Override
+	public void close() {
+		final ExecutorService executor = executorService;
+
+		if(executor != null){
+			executorService = null;
+			executor.shutdown();
+		}
+	}
+
+	private <T, R> List<Part<T, R>> execute(final RedisClient client, final T[] items,
+	                                        final ToIntFunction<T> slotFunction, final Function<T[], R> command) {
+		final RedisConnection connection = client.getConnection();
+
+		if(connection.isPipeline() || connection.isTransaction()){
+			throw new RedisException("Cross-slot multi-key command is not supported in pipeline or transaction.");
+		}
+
+		final Map<Integer, List<Integer>> slots = new LinkedHashMap<>();
+
+		for(int i = 0; i < items.length; i++){
+			slots.computeIfAbsent(slotFunction.applyAsInt(items[i]), (slot)->new ArrayList<>()).add(i);
+		}
+
+		final String[] owners = getSlotOwners(client);
+		final Map<String, List<Part<T, R>>> nodes = new LinkedHashMap<>();
+		final List<Part<T, R>> parts = new ArrayList<>(slots.size());
+
+		slots.forEach((slot, indexes)->{
+			final T[] batch = Arrays.copyOf(items, indexes.size());
+
+			for(int i = 0; i < batch.length; i++){
+				batch[i] = items[indexes.get(i)];
+			}
+
+			final String node = owners[slot] == null ? UNKNOWN_NODE : owners[slot];
+			final Part<T, R> part = new Part<>(indexes, batch);
+
+			nodes.computeIfAbsent(node, (k)->new ArrayList<>()).add(part);
+			parts.add(part);
+		});
+
+		try{
+			if(nodes.size() == 1 || parallelism <= 1){
+				for(Part<T, R> part : parts){
+					part.result = command.apply(part.items);
+				}
+			}else{
+				executeParallel(nodes, command);
+			}
+		}catch(RuntimeException e){
+			slotOwners = null;
+			throw e;
+		}
+
+		return parts;
+	}
+
+	private <T, R> void executeParallel(final Map<String, List<Part<T, R>>> nodes, final Function<T[], R> command) {
+		final ExecutorService executor = getExecutorService();
+		final Map<String, Future<?>> futures = new LinkedHashMap<>(nodes.size());
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(nodeTimeout);
+
+		nodes.forEach((node, nodeParts)->futures.put(node, executor.submit(()->{
+			for(Part<T, R> part : nodeParts){
+				part.result = command.apply(part.items);
+			}
+		})));
+
+		String current = null;
+		try{
+			for(Map.Entry<String, Future<?>> e : futures.entrySet()){
+				current = e.getKey();
+				if(nodeTimeout > 0){
+					e.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				}else{
+					e.getValue().get();
+				}
+			}
+		}catch(TimeoutException e){
+			cancel(futures);
+			throw new RedisException("Multi-key command timed out on cluster node " +
+					(UNKNOWN_NODE.equals(current) ? "<unknown>" : current) + " after " + nodeTimeout + "ms.", e);
+		}catch(ExecutionException e){
+			cancel(futures);
+			final Throwable cause = e.getCause();
+			throw cause instanceof RuntimeException ? (RuntimeException) cause :
+					new RedisException(cause.getMessage(), cause);
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			cancel(futures);
+			throw new RedisException(e.getMessage(), e);
+		}
+	}
+
+	private String[] getSlotOwners(final RedisClient client) {
+		String[] owners = slotOwners;
+
+		if(owners == null){
+			owners = new String[SLOT_COUNT];
+
+			try{
+				final List<RedisClusterNode> nodes = client.clusterCommands().clusterNodes();
+
+				if(nodes != null){
+					for(RedisClusterNode node : nodes){
+						if(node.getFlags() != null && node.getFlags().contains(RedisClusterNode.Flag.MASTER) &&
+								node.getSlot() != null){
+							for(int slot : node.getSlot().getSlotsArray()){
+								owners[slot] = node.getId();
+							}
+						}
+					}
+				}
+			}catch(Exception e){
+				logger.warn("Load cluster topology failure, multi-key command will be executed serially: {}",
+						e.getMessage());
+			}
+
+			slotOwners = owners;
+		}
+
+		return owners;
+	}
+
+	private ExecutorService getExecutorService() {
+		ExecutorService executor = executorService;
+
+		if(executor == null){
+			lock.lock();
+			try{
+				executor = executorService;
+				if(executor == null){
+					final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(parallelism, parallelism, 60,
+							TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+							new DefaultThreadFactory("redis-cluster-multi-key-", true));
+
+					threadPoolExecutor.allowCoreThreadTimeOut(true);
+					executor = executorService = threadPoolExecutor;
+				}
+			}finally{
+				lock.unlock();
+			}
+		}
+
+		return executor;
+	}
+
+	private static void cancel(final Map<String, Future<?>> futures) {
+		for(Future<?> future : futures.values()){
+			future.cancel(true);
+		}
+	}
+
+	private static <T> boolean isCrossSlot(final T[] items, final ToIntFunction<T> slotFunction) {
+		if(items == null || items.length < 2){
+			return false;
+		}
+
+		final int first = slotFunction.applyAsInt(items[0]);
+
+		for(int i = 1; i < items.length; i++){
+			if(slotFunction.applyAsInt(items[i]) != first){
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private int slot(final Object key) {
+		return slotFunction.applyAsInt(key instanceof byte[] bytes ? bytes : SafeEncoder.encode((String) key));
+	}
+
+	private final static class Part<T, R> {
+
+		private final List<Integer> indexes;
+
+		private final T[] items;
+
+		private R result;
+
+		Part(final List<Integer> indexes, final T[] items) {
+			this.indexes = indexes;
+			this.items = items;
+		}
+
+	}
+
+}
@@ -26,6 +26,7 @@ package com.buession.redis.client.connection;
 
 import com.buession.lang.Status;
 import com.buession.redis.core.RedisMode;
+import com.buession.redis.core.ScanResult;
 import com.buession.redis.core.command.RedisCommand;
 import com.buession.redis.exception.NotSupportedCommandException;
 import com.buession.redis.exception.RedisException;
@@ -76,6 +77,107 @@ public interface RedisClusterConnection extends RedisConnection {
 	 */
 	void setTopologyRefreshPeriod(int topologyRefreshPeriod);
 
+	/**
+	 * 返回多 Key 命令按槽位拆分后的最大并行节点数
+	 *
+	 * @return 最大并行节点数
+	 *
+	 * @since 4.0.0
+	 */
+	int getMultiKeyParallelism();
+
+	/**
+	 * 设置多 Key 命令按槽位拆分后的最大并行节点数
+	 *
+	 * @param multiKeyParallelism
+	 * 		最大并行节点数，小于等于 1 时串行执行
+	 *
+	 * @since 4.0.0
+	 */
+	void setMultiKeyParallelism(int multiKeyParallelism);
+
+	/**
+	 * 返回多 Key 命令按槽位拆分后的单节点超时时长（单位：毫秒）
+	 *
+	 * @return 单节点超时时长
+	 *
+	 * @since 4.0.0
+	 */
+	int getMultiKeyNodeTimeout();
+
+	/**
+	 * 设置多 Key 命令按槽位拆分后的单节点超时时长
+	 *
+	 * @param multiKeyNodeTimeout
+	 * 		单节点超时时长（单位：毫秒），小于等于 0 时不限制
+	 *
+	 * @since 4.0.0
+	 */
+	void setMultiKeyNodeTimeout(int multiKeyNodeTimeout);
+
+	/**
+	 * 返回集群多 Key 命令执行器
+	 *
+	 * @return 集群多 Key 命令执行器，连接未初始化时返回 null
+	 *
+	 * @since 4.0.0
+	 */
+	ClusterMultiKeyExecutor getMultiKeyExecutor();
+
+	/**
+	 * 在指定主节点上执行一次 SCAN，用于按节点并行迭代整个集群的 Key
+	 *
+	 * @param host
+	 * 		节点地址
+	 * @param port
+	 * 		节点端口
+	 * @param cursor
+	 * 		游标
+	 * @param pattern
+	 * 		匹配模式，为 null 时不过滤
+	 * @param count
+	 * 		COUNT 提示
+	 *
+	 * @return 该节点上的一页 Key 及下一个游标
+	 *
+	 * @since 4.0.0
+	 */
+	ScanResult<byte[]> scanNode(String host, int port, byte[] cursor, byte[] pattern, int count);
+
+	/**
+	 * 在指定主节点上执行 SCRIPT LOAD，用于将脚本预加载到集群的所有主节点
+	 *
+	 * @param host
+	 * 		节点地址
+	 * @param port
+	 * 		节点端口
+	 * @param script
+	 * 		Lua 脚本
+	 *
+	 * @return 脚本 SHA1 摘要
+	 *
+	 * @since 4.0.0
+	 */
+	String scriptLoadNode(String host, int port, byte[] script);
+
+	/**
+	 * 在指定主节点上执行 FUNCTION LOAD，用于将函数库预加载到集群的所有主节点
+	 *
+	 * @param host
+	 * 		节点地址
+	 * @param port
+	 * 		节点端口
+	 * @param functionCode
+	 * 		函数库代码
+	 * @param replace
+	 * 		是否替换已存在的同名函数库
+	 *
+	 * @return 函数库名称
+	 *
+	 * @since 4.0.0
+	 */
+	String functionLoadNode(String host, int port, byte[] functionCode, boolean replace);
+
 	@Override
 	default Pipeline openPipeline() {
 		throw new NotSupportedCommandException(
@@ -28,11 +28,13 @@ import com.buession.core.Destroyable;
 import com.buession.core.Executor;
 import com.buession.lang.Status;
 import com.buession.net.ssl.SslConfiguration;
+import com.buession.redis.cache.NearCacheInvalidator;
 import com.buession.redis.client.connection.datasource.DataSource;
 import com.buession.redis.core.PoolConfig;
 import com.buession.redis.core.SslOptions;
 import com.buession.redis.exception.RedisConnectionFailureException;
 import com.buession.redis.exception.RedisException;
+import com.buession.redis.metrics.CommandMetrics;
 import com.buession.redis.pipeline.Pipeline;
 import com.buession.redis.transaction.Transaction;
 
@@ -193,6 +195,25 @@ public interface RedisConnection extends Destroyable, Closeable {
 	 */
 	void setSslOptions(SslOptions sslOptions);
 
+	/**
+	 * 返回命令指标收集器
+	 *
+	 * @return 命令指标收集器
+	 *
+	 * @since 4.0.0
+	 */
+	CommandMetrics getCommandMetrics();
+
+	/**
+	 * 设置命令指标收集器，用于记录连接池借出等待时长和管道、事务提交的命令数量
+	 *
+	 * @param commandMetrics
+	 * 		命令指标收集器，为 null 时不记录指标
+	 *
+	 * @since 4.0.0
+	 */
+	void setCommandMetrics(CommandMetrics commandMetrics);
+
 	/**
 	 * 连接 Redis
 	 *
@@ -285,6 +306,20 @@ public interface RedisConnection extends Destroyable, Closeable {
 	 */
 	Status discard() throws RedisException;
 
+	/**
+	 * 创建本地缓存失效通知器，基于 {@code CLIENT TRACKING} 广播模式
+	 *
+	 * @param prefixes
+	 * 		需要跟踪的 Key 前缀，为空时跟踪所有 Key
+	 *
+	 * @return 本地缓存失效通知器，当前连接不支持时返回 null
+	 *
+	 * @since 4.0.0
+	 */
+	default NearCacheInvalidator createNearCacheInvalidator(final String[] prefixes) {
+		return null;
+	}
+
 	/**
 	 * 检测是否处于连接状态
 	 *
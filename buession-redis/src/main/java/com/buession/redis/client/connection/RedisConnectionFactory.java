@@ -24,6 +24,8 @@
  */
 package com.buession.redis.client.connection;
 
+import com.buession.redis.metrics.CommandMetrics;
+
 /**
  * Redis 连接工厂
  *
@@ -60,4 +62,14 @@ public interface RedisConnectionFactory {
 	 */
 	RedisClusterConnection getClusterConnection();
 
+	/**
+	 * 设置命令指标收集器，应用于已创建和之后创建的连接
+	 *
+	 * @param commandMetrics
+	 * 		命令指标收集器
+	 *
+	 * @since 4.0.0
+	 */
+	void setCommandMetrics(CommandMetrics commandMetrics);
+
 }
@@ -25,6 +25,7 @@
 package com.buession.redis.client.connection.datasource;
 
 import com.buession.redis.client.connection.RedisNode;
+import com.buession.redis.core.ReadPreference;
 
 import java.util.Set;
 
@@ -86,4 +87,73 @@ public interface ClusterDataSource extends DataSource {
 	 */
 	void setTopologyRefreshPeriod(int topologyRefreshPeriod);
 
+	/**
+	 * 返回多 Key 命令按槽位拆分后的最大并行节点数
+	 *
+	 * @return 最大并行节点数
+	 *
+	 * @since 4.0.0
+	 */
+	int getMultiKeyParallelism();
+
+	/**
+	 * 设置多 Key 命令按槽位拆分后的最大并行节点数
+	 *
+	 * @param multiKeyParallelism
+	 * 		最大并行节点数，小于等于 1 时串行执行
+	 *
+	 * @since 4.0.0
+	 */
+	void setMultiKeyParallelism(int multiKeyParallelism);
+
+	/**
+	 * 返回多 Key 命令按槽位拆分后的单节点超时时长（单位：毫秒）
+	 *
+	 * @return 单节点超时时长
+	 *
+	 * @since 4.0.0
+	 */
+	int getMultiKeyNodeTimeout();
+
+	/**
+	 * 设置多 Key 命令按槽位拆分后的单节点超时时长
+	 *
+	 * @param multiKeyNodeTimeout
+	 * 		单节点超时时长（单位：毫秒），小于等于 0 时不限制
+	 *
+	 * @since 4.0.0
+	 */
+	void setMultiKeyNodeTimeout(int multiKeyNodeTimeout);
+
+	/**
+	 * 返回读取偏好，决定只读命令是否路由到从节点
+	 *
+	 * @return 读取偏好
+	 *
+	 * @since 4.0.0
+	 */
+	ReadPreference getReadPreference();
+
+	/**
+	 * 设置读取偏好；写命令、事务及管道始终在主节点上执行
+	 *
+	 * @param readPreference
+	 * 		读取偏好
+	 *
+	 * @since 4.0.0
+	 */
+	void setReadPreference(ReadPreference readPreference);
+
+	/**
+	 * 返回 Key 所属的集群槽位，按驱动自身的 CRC16 实现计算，支持 {@code {hashtag}}
+	 *
+	 * @param key
+	 * 		最终发送到服务端的 Key（已添加前缀）
+	 *
+	 * @return 槽位
+	 *
+	 * @since 4.0.0
+	 */
+	int getSlot(byte[] key);
+
 }
@@ -25,6 +25,7 @@
 package com.buession.redis.client.connection.datasource;
 
 import com.buession.redis.client.connection.RedisSentinelNode;
+import com.buession.redis.core.ReadPreference;
 
 import java.util.Set;
 
@@ -164,4 +165,23 @@ public interface SentinelDataSource extends DataSource {
 	 */
 	void setSentinels(Set<RedisSentinelNode> sentinels);
 
+	/**
+	 * 返回读取偏好，决定只读命令是否路由到从节点
+	 *
+	 * @return 读取偏好
+	 *
+	 * @since 4.0.0
+	 */
+	ReadPreference getReadPreference();
+
+	/**
+	 * 设置读取偏好；写命令、事务及管道始终在主节点上执行
+	 *
+	 * @param readPreference
+	 * 		读取偏好
+	 *
+	 * @since 4.0.0
+	 */
+	void setReadPreference(ReadPreference readPreference);
+
 }
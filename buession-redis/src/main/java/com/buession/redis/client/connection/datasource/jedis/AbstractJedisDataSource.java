@@ -33,4 +33,21 @@ import com.buession.redis.client.connection.datasource.AbstractDataSource;
  */
 public abstract class AbstractJedisDataSource extends AbstractDataSource implements JedisRedisDataSource {
 
+	/**
+	 * 是否使用虚拟线程友好的连接池
+	 *
+	 * @since 4.0.0
+	 */
+	private boolean virtualThreadFriendly;
+
+	@Override
+	public boolean getVirtualThreadFriendly() {
+		return virtualThreadFriendly;
+	}
+
+	@Override
+	public void setVirtualThreadFriendly(boolean virtualThreadFriendly) {
+		this.virtualThreadFriendly = virtualThreadFriendly;
+	}
+
 }
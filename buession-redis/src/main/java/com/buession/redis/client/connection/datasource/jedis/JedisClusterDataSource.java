@@ -24,9 +24,12 @@
  */
 package com.buession.redis.client.connection.datasource.jedis;
 
+import com.buession.redis.client.connection.ClusterMultiKeyExecutor;
 import com.buession.redis.client.connection.RedisNode;
 import com.buession.redis.client.connection.datasource.ClusterDataSource;
+import com.buession.redis.core.ReadPreference;
 import redis.clients.jedis.RedisClusterClient;
+import redis.clients.jedis.util.JedisClusterCRC16;
 
 import java.util.Set;
 
@@ -60,6 +63,27 @@ public class JedisClusterDataSource extends AbstractJedisDataSource implements C
 	 */
 	private int topologyRefreshPeriod = RedisClusterClient.DEFAULT_TIMEOUT;
 
+	/**
+	 * 多 Key 命令按槽位拆分后的最大并行节点数
+	 *
+	 * @since 4.0.0
+	 */
+	private int multiKeyParallelism = ClusterMultiKeyExecutor.DEFAULT_PARALLELISM;
+
+	/**
+	 * 多 Key 命令按槽位拆分后的单节点超时时长（单位：毫秒）
+	 *
+	 * @since 4.0.0
+	 */
+	private int multiKeyNodeTimeout = ClusterMultiKeyExecutor.DEFAULT_NODE_TIMEOUT;
+
+	/**
+	 * 读取偏好
+	 *
+	 * @since 4.0.0
+	 */
+	private ReadPreference readPreference = ReadPreference.MASTER;
+
 	@Override
 	public Set<RedisNode> getNodes() {
 		return nodes;
@@ -109,4 +133,39 @@ public class JedisClusterDataSource extends AbstractJedisDataSource implements C
 		this.topologyRefreshPeriod = topologyRefreshPeriod;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public int getMultiKeyParallelism() {
+		return multiKeyParallelism;
+	}
+
+	@Override
+	public void setMultiKeyParallelism(int multiKeyParallelism) {
+		this.multiKeyParallelism = multiKeyParallelism;
+	}
+
+	@Override
+	public int getMultiKeyNodeTimeout() {
+		return multiKeyNodeTimeout;
+	}
+
+	@Override
+	public void setMultiKeyNodeTimeout(int multiKeyNodeTimeout) {
+		this.multiKeyNodeTimeout = multiKeyNodeTimeout;
+	}
+
+	@Override
+	public ReadPreference getReadPreference() {
+		return readPreference;
+	}
+
+	@Override
+	public void setReadPreference(ReadPreference readPreference) {
+		this.readPreference = readPreference;
+	}
+
+	@Override
+	public int getSlot(byte[] key) {
+		return JedisClusterCRC16.getSlot(key);
+	}
+
+}
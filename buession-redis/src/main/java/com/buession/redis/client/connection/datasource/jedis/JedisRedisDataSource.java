@@ -33,4 +33,35 @@ import com.buession.redis.client.connection.datasource.DataSource;
  */
 public interface JedisRedisDataSource extends DataSource {
 
+	/**
+	 * 返回是否使用虚拟线程友好的连接池
+	 *
+	 * @return 是否使用虚拟线程友好的连接池
+	 *
+	 * @since 4.0.0
+	 */
+	default boolean isVirtualThreadFriendly() {
+		return getVirtualThreadFriendly();
+	}
+
+	/**
+	 * 返回是否使用虚拟线程友好的连接池
+	 *
+	 * @return 是否使用虚拟线程友好的连接池
+	 *
+	 * @since 4.0.0
+	 */
+	boolean getVirtualThreadFriendly();
+
+	/**
+	 * 设置是否使用虚拟线程友好的连接池；开启后单机模式的连接借还不再经过 commons-pool2，
+	 * 等待连接时不会占用虚拟线程的载体线程
+	 *
+	 * @param virtualThreadFriendly
+	 * 		是否使用虚拟线程友好的连接池
+	 *
+	 * @since 4.0.0
+	 */
+	void setVirtualThreadFriendly(boolean virtualThreadFriendly);
+
 }
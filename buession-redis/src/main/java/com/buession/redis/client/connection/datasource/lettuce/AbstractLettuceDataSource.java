@@ -25,6 +25,9 @@
 package com.buession.redis.client.connection.datasource.lettuce;
 
 import com.buession.redis.client.connection.datasource.AbstractDataSource;
+import com.buession.redis.pubsub.PubSubOptions;
+import io.lettuce.core.api.PipeliningFlushPolicy;
+import io.lettuce.core.providers.SharedConnectionProvider;
 
 /**
  * Lettuce 数据源抽象类
@@ -60,6 +63,27 @@ public abstract class AbstractLettuceDataSource extends AbstractDataSource imple
 	 */
 	private int shutdownTimeout;
 
+	/**
+	 * 管道刷新策略
+	 *
+	 * @since 4.0.0
+	 */
+	private PipeliningFlushPolicy pipeliningFlushPolicy = PipeliningFlushPolicy.flushEachCommand();
+
+	/**
+	 * 订阅消息分发配置
+	 *
+	 * @since 4.0.0
+	 */
+	private PubSubOptions pubSubOptions;
+
+	/**
+	 * 共享连接数
+	 *
+	 * @since 4.0.0
+	 */
+	private int sharedConnections = SharedConnectionProvider.DEFAULT_CONNECTIONS;
+
 	@Override
 	public int getComputationThreadPoolSize() {
 		return computationThreadPoolSize;
@@ -99,4 +123,35 @@ public abstract class AbstractLettuceDataSource extends AbstractDataSource imple
 	public void setShutdownTimeout(int shutdownTimeout) {
 		this.shutdownTimeout = shutdownTimeout;
 	}
+
+	@Override
+	public PipeliningFlushPolicy getPipeliningFlushPolicy() {
+		return pipeliningFlushPolicy;
+	}
+
+	@Override
+	public void setPipeliningFlushPolicy(PipeliningFlushPolicy pipeliningFlushPolicy) {
+		this.pipeliningFlushPolicy = pipeliningFlushPolicy;
+	}
+
+	@Override
+	public PubSubOptions getPubSubOptions() {
+		return pubSubOptions;
+	}
+
+	@Override
+	public void setPubSubOptions(PubSubOptions pubSubOptions) {
+		this.pubSubOptions = pubSubOptions;
+	}
+
+	@Override
+	public int getSharedConnections() {
+		return sharedConnections;
+	}
+
+	@Override
+	public void setSharedConnections(int sharedConnections) {
+		this.sharedConnections = sharedConnections;
+	}
+
 }
@@ -24,9 +24,12 @@
  */
 package com.buession.redis.client.connection.datasource.lettuce;
 
+import com.buession.redis.client.connection.ClusterMultiKeyExecutor;
 import com.buession.redis.client.connection.RedisNode;
 import com.buession.redis.client.connection.datasource.ClusterDataSource;
+import com.buession.redis.core.ReadPreference;
 import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.cluster.SlotHash;
 
 import java.util.Set;
 
@@ -65,6 +68,20 @@ public class LettuceClusterDataSource extends AbstractLettuceDataSource implemen
 	 */
 	private int topologyRefreshPeriod = (int) ClusterTopologyRefreshOptions.DEFAULT_REFRESH_PERIOD;
 
+	/**
+	 * 多 Key 命令按槽位拆分后的最大并行节点数
+	 *
+	 * @since 4.0.0
+	 */
+	private int multiKeyParallelism = ClusterMultiKeyExecutor.DEFAULT_PARALLELISM;
+
+	/**
+	 * 多 Key 命令按槽位拆分后的单节点超时时长（单位：毫秒）
+	 *
+	 * @since 4.0.0
+	 */
+	private int multiKeyNodeTimeout = ClusterMultiKeyExecutor.DEFAULT_NODE_TIMEOUT;
+
 	/**
 	 * Whether adaptive topology refreshing using all available refresh triggers should be used.
 	 *
@@ -80,6 +97,13 @@ public class LettuceClusterDataSource extends AbstractLettuceDataSource implemen
 	 */
 	private boolean dynamicRefreshSources = ClusterTopologyRefreshOptions.DEFAULT_DYNAMIC_REFRESH_SOURCES;
 
+	/**
+	 * 读取偏好
+	 *
+	 * @since 4.0.0
+	 */
+	private ReadPreference readPreference = ReadPreference.MASTER;
+
 	@Override
 	public Set<RedisNode> getNodes() {
 		return nodes;
@@ -139,6 +163,26 @@ public class LettuceClusterDataSource extends AbstractLettuceDataSource implemen
 		this.topologyRefreshPeriod = topologyRefreshPeriod;
 	}
 
+	@Override
+	public int getMultiKeyParallelism() {
+		return multiKeyParallelism;
+	}
+
+	@Override
+	public void setMultiKeyParallelism(int multiKeyParallelism) {
+		this.multiKeyParallelism = multiKeyParallelism;
+	}
+
+	@Override
+	public int getMultiKeyNodeTimeout() {
+		return multiKeyNodeTimeout;
+	}
+
+	@Override
+	public void setMultiKeyNodeTimeout(int multiKeyNodeTimeout) {
+		this.multiKeyNodeTimeout = multiKeyNodeTimeout;
+	}
+
 	public boolean isAdaptive() {
 		return getAdaptive();
 	}
@@ -163,4 +207,19 @@ public class LettuceClusterDataSource extends AbstractLettuceDataSource implemen
 		this.dynamicRefreshSources = dynamicRefreshSources;
 	}
 
+	@Override
+	public ReadPreference getReadPreference() {
+		return readPreference;
+	}
+
+	@Override
+	public void setReadPreference(ReadPreference readPreference) {
+		this.readPreference = readPreference;
+	}
+
+	@Override
+	public int getSlot(byte[] key) {
+		return SlotHash.getSlot(key);
+	}
+
 }
@@ -25,6 +25,8 @@
 package com.buession.redis.client.connection.datasource.lettuce;
 
 import com.buession.redis.client.connection.datasource.DataSource;
+import com.buession.redis.pubsub.PubSubOptions;
+import io.lettuce.core.api.PipeliningFlushPolicy;
 
 import java.time.Duration;
 
@@ -112,4 +114,62 @@ public interface LettuceRedisDataSource extends DataSource {
 	 */
 	void setShutdownTimeout(int shutdownTimeout);
 
+	/**
+	 * 返回管道刷新策略
+	 *
+	 * @return 管道刷新策略
+	 *
+	 * @since 4.0.0
+	 */
+	PipeliningFlushPolicy getPipeliningFlushPolicy();
+
+	/**
+	 * 设置管道刷新策略
+	 *
+	 * @param pipeliningFlushPolicy
+	 * 		管道刷新策略
+	 *
+	 * @since 4.0.0
+	 */
+	void setPipeliningFlushPolicy(PipeliningFlushPolicy pipeliningFlushPolicy);
+
+	/**
+	 * 返回订阅消息分发配置
+	 *
+	 * @return 订阅消息分发配置
+	 *
+	 * @since 4.0.0
+	 */
+	PubSubOptions getPubSubOptions();
+
+	/**
+	 * 设置订阅消息分发配置
+	 *
+	 * @param pubSubOptions
+	 * 		订阅消息分发配置
+	 *
+	 * @since 4.0.0
+	 */
+	void setPubSubOptions(PubSubOptions pubSubOptions);
+
+	/**
+	 * 返回共享连接数；大于 0 时非阻塞、非事务命令轮询复用这些共享连接，阻塞命令、事务、管道及 Pub/Sub 仍使用独占连接；
+	 * 小于等于 0 时每次命令均从连接池借还连接
+	 *
+	 * @return 共享连接数
+	 *
+	 * @since 4.0.0
+	 */
+	int getSharedConnections();
+
+	/**
+	 * 设置共享连接数
+	 *
+	 * @param sharedConnections
+	 * 		共享连接数，小于等于 0 时每次命令均从连接池借还连接
+	 *
+	 * @since 4.0.0
+	 */
+	void setSharedConnections(int sharedConnections);
+
 }
@@ -28,6 +28,7 @@ import com.buession.core.builder.SetBuilder;
 import com.buession.redis.client.connection.RedisSentinelNode;
 import com.buession.redis.client.connection.datasource.SentinelDataSource;
 import com.buession.redis.core.Constants;
+import com.buession.redis.core.ReadPreference;
 import com.buession.redis.core.RedisNode;
 
 import java.util.Set;
@@ -79,6 +80,13 @@ public class LettuceSentinelDataSource extends AbstractLettuceDataSource impleme
 	 */
 	private String masterName = RedisSentinelNode.DEFAULT_MASTER_NAME;
 
+	/**
+	 * 读取偏好
+	 *
+	 * @since 4.0.0
+	 */
+	private ReadPreference readPreference = ReadPreference.MASTER;
+
 	/**
 	 * 哨兵节点
 	 */
@@ -165,4 +173,14 @@ public class LettuceSentinelDataSource extends AbstractLettuceDataSource impleme
 		this.sentinels = sentinels;
 	}
 
+	@Override
+	public ReadPreference getReadPreference() {
+		return readPreference;
+	}
+
+	@Override
+	public void setReadPreference(ReadPreference readPreference) {
+		this.readPreference = readPreference;
+	}
+
 }
@@ -25,20 +25,30 @@
 package com.buession.redis.client.connection.jedis;
 
 import com.buession.lang.Status;
+import com.buession.redis.client.connection.ClusterMultiKeyExecutor;
 import com.buession.redis.client.connection.RedisClusterConnection;
 import com.buession.redis.client.connection.RedisNode;
 import com.buession.redis.client.connection.datasource.jedis.JedisClusterDataSource;
 import com.buession.redis.core.PoolConfig;
+import com.buession.redis.core.ReadPreference;
 import com.buession.redis.core.RedisMode;
+import com.buession.redis.core.ScanResult;
 import com.buession.redis.core.command.RedisCommand;
 import com.buession.redis.exception.NotSupportedCommandException;
 import com.buession.redis.exception.RedisConnectionFailureException;
+import com.buession.redis.exception.RedisException;
 import com.buession.redis.transaction.Transaction;
+import com.buession.redis.utils.SafeEncoder;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.ConnectionPool;
 import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisCluster;
 import redis.clients.jedis.RedisClusterClient;
 import redis.clients.jedis.builders.ClusterClientBuilder;
+import redis.clients.jedis.params.ScanParams;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Optional;
 
@@ -68,6 +78,27 @@ public class JedisClusterConnection extends AbstractJedisRedisConnection<RedisCl
 	 */
 	private int topologyRefreshPeriod;
 
+	/**
+	 * 多 Key 命令按槽位拆分后的最大并行节点数
+	 *
+	 * @since 4.0.0
+	 */
+	private int multiKeyParallelism = ClusterMultiKeyExecutor.DEFAULT_PARALLELISM;
+
+	/**
+	 * 多 Key 命令按槽位拆分后的单节点超时时长（单位：毫秒）
+	 *
+	 * @since 4.0.0
+	 */
+	private int multiKeyNodeTimeout = ClusterMultiKeyExecutor.DEFAULT_NODE_TIMEOUT;
+
+	/**
+	 * 集群多 Key 命令执行器
+	 *
+	 * @since 4.0.0
+	 */
+	private ClusterMultiKeyExecutor multiKeyExecutor;
+
 	/**
 	 * 构造函数
 	 */
@@ -144,6 +175,74 @@ public class JedisClusterConnection extends AbstractJedisRedisConnection<RedisCl
 		this.topologyRefreshPeriod = topologyRefreshPeriod;
 	}
 
+	@Override
+	public int getMultiKeyParallelism() {
+		return multiKeyParallelism;
+	}
+
+	@Override
+	public void setMultiKeyParallelism(int multiKeyParallelism) {
+		this.multiKeyParallelism = multiKeyParallelism;
+	}
+
+	@Override
+	public int getMultiKeyNodeTimeout() {
+		return multiKeyNodeTimeout;
+	}
+
+	@Override
+	public void setMultiKeyNodeTimeout(int multiKeyNodeTimeout) {
+		this.multiKeyNodeTimeout = multiKeyNodeTimeout;
+	}
+
+	@Override
+	public ClusterMultiKeyExecutor getMultiKeyExecutor() {
+		return multiKeyExecutor;
+	}
+
+	@Override
+	public ScanResult<byte[]> scanNode(final String host, final int port, final byte[] cursor, final byte[] pattern,
+	                                   final int count) {
+		final ConnectionPool pool = getNodePool(host, port);
+		final ScanParams scanParams = new ScanParams().count(count);
+
+		if(pattern != null){
+			scanParams.match(pattern);
+		}
+
+		try(Connection connection = pool.getResource()){
+			final redis.clients.jedis.resps.ScanResult<byte[]> result = new Jedis(connection).scan(cursor,
+					scanParams);
+			return new ScanResult<>(result.getCursorAsBytes(), result.getResult());
+		}catch(Exception e){
+			throw executeException(e);
+		}
+	}
+
+	@Override
+	public String scriptLoadNode(final String host, final int port, final byte[] script) {
+		final ConnectionPool pool = getNodePool(host, port);
+
+		try(Connection connection = pool.getResource()){
+			return SafeEncoder.encode(new Jedis(connection).scriptLoad(script));
+		}catch(Exception e){
+			throw executeException(e);
+		}
+	}
+
+	@Override
+	public String functionLoadNode(final String host, final int port, final byte[] functionCode,
+	                               final boolean replace) {
+		final ConnectionPool pool = getNodePool(host, port);
+
+		try(Connection connection = pool.getResource()){
+			final Jedis jedis = new Jedis(connection);
+			return replace ? jedis.functionLoadReplace(functionCode) : jedis.functionLoad(functionCode);
+		}catch(Exception e){
+			throw executeException(e);
+		}
+	}
+
 	@Override
 	public Transaction multi() {
 		throw new NotSupportedCommandException(RedisMode.CLUSTER, RedisCommand.MULTI);
@@ -175,7 +274,23 @@ public class JedisClusterConnection extends AbstractJedisRedisConnection<RedisCl
 			}
 
 			client = builder.build();
+			multiKeyExecutor = new ClusterMultiKeyExecutor(getMultiKeyParallelism(), getMultiKeyNodeTimeout(),
+					dataSource::getSlot);
+
+			if(dataSource.getReadPreference() != null && dataSource.getReadPreference() != ReadPreference.MASTER &&
+					logger.isWarnEnabled()){
+				logger.warn("Read preference {} is not supported by jedis cluster, all commands execute on master.",
+						dataSource.getReadPreference());
+			}
+		}
+	}
+
+	@Override
+	protected void doDestroy() throws IOException {
+		if(multiKeyExecutor != null){
+			multiKeyExecutor.close();
 		}
+		super.doDestroy();
 	}
 
 	@Override
@@ -187,4 +302,14 @@ public class JedisClusterConnection extends AbstractJedisRedisConnection<RedisCl
 		return client == null ? Status.FAILURE : Status.SUCCESS;
 	}
 
+	private ConnectionPool getNodePool(final String host, final int port) {
+		final ConnectionPool pool = client.getClusterNodes().get(host + ":" + port);
+
+		if(pool == null){
+			throw new RedisException("Unknown cluster node " + host + ":" + port + ".");
+		}
+
+		return pool;
+	}
+
 }
@@ -25,12 +25,16 @@
 package com.buession.redis.client.connection.jedis;
 
 import com.buession.lang.Status;
+import com.buession.redis.cache.NearCacheInvalidator;
+import com.buession.redis.cache.jedis.JedisNearCacheInvalidator;
 import com.buession.redis.client.connection.RedisStandaloneConnection;
 import com.buession.redis.client.connection.datasource.jedis.JedisDataSource;
 import com.buession.redis.core.PoolConfig;
 import com.buession.redis.exception.RedisConnectionFailureException;
 import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.RedisClient;
+import redis.clients.jedis.RedisProtocol;
 import redis.clients.jedis.builders.StandaloneClientBuilder;
 
 import java.util.Optional;
@@ -85,12 +89,22 @@ public class JedisConnection extends AbstractJedisRedisConnection<RedisClient> i
 				clientConfigBuilder.database(dataSource.getDatabase());
 			}
 
-			final StandaloneClientBuilder<RedisClient> builder = RedisClient.builder()
-					.hostAndPort(dataSource.getHost(), dataSource.getPort())
-					.clientConfig(clientConfigBuilder.build());
+			final HostAndPort hostAndPort = new HostAndPort(dataSource.getHost(), dataSource.getPort());
+			final DefaultJedisClientConfig clientConfig = clientConfigBuilder.build();
+			final StandaloneClientBuilder<RedisClient> builder = RedisClient.builder().hostAndPort(hostAndPort)
+					.clientConfig(clientConfig);
 
-			Optional.ofNullable(getConnectionPoolConfig()).ifPresent(builder::poolConfig);
-			Optional.ofNullable(getCacheConfig()).ifPresent(builder::cacheConfig);
+			if(dataSource.isVirtualThreadFriendly()){
+				// 客户端缓存依赖 commons-pool2 连接池，虚拟线程友好模式下不开启
+				final VirtualThreadConnectionProvider connectionProvider = new VirtualThreadConnectionProvider(
+						hostAndPort, clientConfig, getPoolConfig() == null ? new PoolConfig() : getPoolConfig());
+
+				connectionProvider.setBorrowWaitListener(this::recordPoolWait);
+				builder.connectionProvider(connectionProvider);
+			}else{
+				Optional.ofNullable(getConnectionPoolConfig()).ifPresent(builder::poolConfig);
+				Optional.ofNullable(getCacheConfig()).ifPresent(builder::cacheConfig);
+			}
 
 			client = builder.build();
 		}
@@ -105,4 +119,21 @@ public class JedisConnection extends AbstractJedisRedisConnection<RedisClient> i
 		return client == null ? Status.FAILURE : Status.SUCCESS;
 	}
 
+	@Override
+	public NearCacheInvalidator createNearCacheInvalidator(final String[] prefixes) {
+		final JedisDataSource dataSource = (JedisDataSource) getDataSource();
+		final DefaultJedisClientConfig.Builder clientConfigBuilder = DefaultJedisClientConfig.builder();
+
+		commonClientConfigBuilder(clientConfigBuilder);
+		// 失效消息通过 RESP2 REDIRECT 模式投递到订阅连接
+		clientConfigBuilder.protocol(RedisProtocol.RESP2);
+
+		if(dataSource.getDatabase() > 0){
+			clientConfigBuilder.database(dataSource.getDatabase());
+		}
+
+		return new JedisNearCacheInvalidator(new HostAndPort(dataSource.getHost(), dataSource.getPort()),
+				clientConfigBuilder.build(), prefixes);
+	}
+
 }
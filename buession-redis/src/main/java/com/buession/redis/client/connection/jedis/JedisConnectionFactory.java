@@ -80,6 +80,8 @@ public final class JedisConnectionFactory extends AbstractConnectionFactory<Jedi
 		if(dataSource.getTopologyRefreshPeriod() > 0){
 			connection.setTopologyRefreshPeriod(dataSource.getTopologyRefreshPeriod());
 		}
+		connection.setMultiKeyParallelism(dataSource.getMultiKeyParallelism());
+		connection.setMultiKeyNodeTimeout(dataSource.getMultiKeyNodeTimeout());
 
 		return connection;
 	}
@@ -25,6 +25,7 @@
 package com.buession.redis.client.connection.jedis;
 
 import com.buession.redis.client.connection.RedisConnection;
+import com.buession.redis.core.command.RedisCommand;
 import redis.clients.jedis.Transaction;
 import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.csc.CacheConfig;
@@ -67,4 +68,29 @@ public interface JedisRedisConnection<C extends UnifiedJedis> extends RedisConne
 	 */
 	C getClient();
 
+	/**
+	 * 返回执行指定命令的 Jedis 原生客户端，只读命令可能被路由到从节点
+	 *
+	 * @param command
+	 * 		命令
+	 *
+	 * @return Jedis 原生客户端
+	 *
+	 * @since 4.0.0
+	 */
+	default UnifiedJedis getClient(RedisCommand command) {
+		return getClient();
+	}
+
+	/**
+	 * 通知连接从节点客户端执行失败，以便在下次健康检查前不再路由到该节点
+	 *
+	 * @param client
+	 * 		从节点客户端
+	 *
+	 * @since 4.0.0
+	 */
+	default void markReplicaDown(UnifiedJedis client) {
+	}
+
 }
@@ -0,0 +1,396 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.client.connection.jedis;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import com.buession.core.utils.Assert;
+import com.buession.redis.core.ReadPreference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.ConnectionPoolConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.RedisClient;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.builders.StandaloneClientBuilder;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Jedis 哨兵模式从节点读路由器，通过哨兵发现从节点，定期 PING 做健康检查并统计延迟，
+ * 按 {@link ReadPreference} 为只读命令选择执行节点；返回 null 时表示应在主节点上执行
+ *
+ * <p>节点列表以不可变快照的方式发布，选择节点、标记节点不可用与刷新之间均不加锁，健康检查的 PING 不会阻塞其它线程。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class JedisReplicaRouter implements Closeable {
+
+	/**
+	 * 默认拓扑刷新及健康检查周期（单位：毫秒）
+	 */
+	public final static int DEFAULT_REFRESH_PERIOD = 5000;
+
+	/**
+	 * 延迟指数加权移动平均系数
+	 */
+	private final static double LATENCY_ALPHA = 0.3;
+
+	private final ReadPreference readPreference;
+
+	private final String masterName;
+
+	private final Set<HostAndPort> sentinels;
+
+	private final JedisClientConfig sentinelClientConfig;
+
+	private final JedisClientConfig clientConfig;
+
+	private final ConnectionPoolConfig poolConfig;
+
+	private final UnifiedJedis master;
+
+	private volatile Node[] nodes = new Node[0];
+
+	private volatile Node[] available = new Node[0];
+
+	private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+	private volatile boolean closed;
+
+	private volatile long masterLatency = -1;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final static Logger logger = LoggerFactory.getLogger(JedisReplicaRouter.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param readPreference
+	 * 		读取偏好
+	 * @param masterName
+	 * 		主节点名称
+	 * @param sentinels
+	 * 		哨兵节点
+	 * @param sentinelClientConfig
+	 * 		哨兵节点客户端配置
+	 * @param clientConfig
+	 * 		数据节点客户端配置
+	 * @param poolConfig
+	 * 		从节点连接池配置，为 null 时使用默认配置
+	 * @param master
+	 * 		主节点客户端
+	 * @param refreshPeriod
+	 * 		拓扑刷新及健康检查周期（单位：毫秒），小于等于 0 时使用默认值
+	 */
+	public JedisReplicaRouter(final ReadPreference readPreference, final String masterName,
+	                          final Set<HostAndPort> sentinels, final JedisClientConfig sentinelClientConfig,
+	                          final JedisClientConfig clientConfig, final ConnectionPoolConfig poolConfig,
+	                          final UnifiedJedis master, final int refreshPeriod) {
+		Assert.isNull(readPreference, "Read preference cloud not be null.");
+		Assert.isBlank(masterName, "Redis master name cloud not be 'null' or empty.");
+		Assert.isNull(master, "Redis master client cloud not be null.");
+		this.readPreference = readPreference;
+		this.masterName = masterName;
+		this.sentinels = sentinels;
+		this.sentinelClientConfig = sentinelClientConfig;
+		this.clientConfig = clientConfig;
+		this.poolConfig = poolConfig;
+		this.master = master;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(
+				new DefaultThreadFactory("redis-replica-router-", true));
+
+		refresh();
+
+		final int period = refreshPeriod > 0 ? refreshPeriod : DEFAULT_REFRESH_PERIOD;
+		scheduler.scheduleWithFixedDelay(this::refresh, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 返回读取偏好
+	 *
+	 * @return 读取偏好
+	 */
+	public ReadPreference getReadPreference() {
+		return readPreference;
+	}
+
+	/**
+	 * 为一个只读命令选择执行节点
+	 *
+	 * @return 从节点客户端，返回 null 时应在主节点上执行
+	 */
+	public UnifiedJedis select() {
+		final Node[] candidates = available;
+
+		if(candidates.length == 0){
+			return null;
+		}
+
+		switch(readPreference){
+			case REPLICA_PREFERRED:
+				return leastLatency(candidates).client;
+			case NEAREST:
+				final Node nearest = nearest(candidates);
+				return masterLatency >= 0 && masterLatency <= nearest.latency ? null : nearest.client;
+			case ANY:
+				final int i = ThreadLocalRandom.current().nextInt(candidates.length + 1);
+				return i == candidates.length ? null : candidates[i].client;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * 标记从节点不可用，直到下一次健康检查成功
+	 *
+	 * @param client
+	 * 		从节点客户端
+	 */
+	public void markDown(final UnifiedJedis client) {
+		for(Node node : nodes){
+			if(node.client == client){
+				node.healthy = false;
+				updateAvailable();
+				break;
+			}
+		}
+	}
+
+	/**
+	 * 刷新从节点列表并执行健康检查，已有刷新正在进行时直接返回
+	 */
+	public void refresh() {
+		if(closed || refreshing.compareAndSet(false, true) == false){
+			return;
+		}
+
+		try{
+			final List<HostAndPort> replicas = discoverReplicas();
+			final Node[] current = nodes;
+			final List<Node> removed = new ArrayList<>();
+			Node[] next = current;
+
+			if(replicas != null){
+				final Map<HostAndPort, Node> existing = new LinkedHashMap<>(current.length);
+
+				for(Node node : current){
+					existing.put(node.hostAndPort, node);
+				}
+
+				next = new Node[replicas.size()];
+				for(int i = 0; i < next.length; i++){
+					final Node node = existing.remove(replicas.get(i));
+					next[i] = node == null ? createNode(replicas.get(i)) : node;
+				}
+
+				removed.addAll(existing.values());
+			}
+
+			for(Node node : next){
+				node.check();
+			}
+
+			nodes = next;
+			updateAvailable();
+
+			removed.forEach(Node::close);
+
+			// 刷新期间路由器被关闭，释放本次发布的节点
+			if(closed){
+				close();
+				return;
+			}
+
+			masterLatency = ping(master);
+		}finally{
+			refreshing.set(false);
+		}
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		scheduler.shutdownNow();
+
+		final Node[] current = nodes;
+
+		nodes = new Node[0];
+		available = new Node[0];
+
+		for(Node node : current){
+			node.close();
+		}
+	}
+
+	private List<HostAndPort> discoverReplicas() {
+		if(sentinels == null){
+			return null;
+		}
+
+		for(HostAndPort sentinel : sentinels){
+			try(Jedis jedis = new Jedis(sentinel, sentinelClientConfig)){
+				final List<Map<String, String>> replicas = jedis.sentinelReplicas(masterName);
+				final List<HostAndPort> result = new ArrayList<>(replicas.size());
+
+				for(Map<String, String> replica : replicas){
+					if(isUp(replica)){
+						result.add(new HostAndPort(replica.get("ip"), Integer.parseInt(replica.get("port"))));
+					}
+				}
+
+				return result;
+			}catch(Exception e){
+				logger.warn("Discover replicas of '{}' from sentinel {} failure: {}", masterName, sentinel,
+						e.getMessage());
+			}
+		}
+
+		return null;
+	}
+
+	private static boolean isUp(final Map<String, String> replica) {
+		final String flags = replica.get("flags");
+
+		if(flags != null && (flags.contains("s_down") || flags.contains("o_down") ||
+				flags.contains("disconnected"))){
+			return false;
+		}
+
+		final String linkStatus = replica.get("master-link-status");
+		return linkStatus == null || "ok".equalsIgnoreCase(linkStatus);
+	}
+
+	private Node createNode(final HostAndPort hostAndPort) {
+		final StandaloneClientBuilder<RedisClient> builder = RedisClient.builder().hostAndPort(hostAndPort)
+				.clientConfig(clientConfig);
+
+		if(poolConfig != null){
+			builder.poolConfig(poolConfig);
+		}
+
+		return new Node(hostAndPort, builder.build());
+	}
+
+	private void updateAvailable() {
+		available = Arrays.stream(nodes).filter((node)->node.healthy).toArray(Node[]::new);
+	}
+
+	private static Node leastLatency(final Node[] candidates) {
+		if(candidates.length == 1){
+			return candidates[0];
+		}
+
+		// 随机取两个候选节点，选择延迟较低者，避免所有请求集中到同一个最快节点
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final int i = random.nextInt(candidates.length);
+		int j = random.nextInt(candidates.length - 1);
+
+		if(j >= i){
+			j++;
+		}
+
+		return candidates[i].latency <= candidates[j].latency ? candidates[i] : candidates[j];
+	}
+
+	private static Node nearest(final Node[] candidates) {
+		Node result = candidates[0];
+
+		for(int i = 1; i < candidates.length; i++){
+			if(candidates[i].latency < result.latency){
+				result = candidates[i];
+			}
+		}
+
+		return result;
+	}
+
+	private static long ping(final UnifiedJedis client) {
+		try{
+			final long start = System.nanoTime();
+
+			client.ping();
+			return System.nanoTime() - start;
+		}catch(Exception e){
+			return -1;
+		}
+	}
+
+	private final static class Node {
+
+		private final HostAndPort hostAndPort;
+
+		private final UnifiedJedis client;
+
+		private volatile boolean healthy;
+
+		private volatile long latency = Long.MAX_VALUE;
+
+		Node(final HostAndPort hostAndPort, final UnifiedJedis client) {
+			this.hostAndPort = hostAndPort;
+			this.client = client;
+		}
+
+		void check() {
+			final long elapsed = ping(client);
+
+			if(elapsed < 0){
+				if(healthy){
+					logger.warn("Redis replica {} is unhealthy.", hostAndPort);
+				}
+				healthy = false;
+				return;
+			}
+
+			latency = latency == Long.MAX_VALUE ? elapsed :
+					(long) (LATENCY_ALPHA * elapsed + (1 - LATENCY_ALPHA) * latency);
+			healthy = true;
+		}
+
+		void close() {
+			try{
+				client.close();
+			}catch(Exception e){
+				logger.warn("Close redis replica {} failure: {}", hostAndPort, e.getMessage());
+			}
+		}
+
+	}
+
+}
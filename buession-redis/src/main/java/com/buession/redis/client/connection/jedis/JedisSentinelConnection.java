@@ -32,9 +32,11 @@ import com.buession.redis.client.connection.RedisSentinelNode;
 import com.buession.redis.client.connection.datasource.jedis.JedisSentinelDataSource;
 import com.buession.redis.core.Constants;
 import com.buession.redis.core.PoolConfig;
+import com.buession.redis.core.ReadPreference;
 import com.buession.redis.core.RedisNode;
 import com.buession.redis.core.RedisServer;
 import com.buession.redis.core.Role;
+import com.buession.redis.core.command.RedisCommand;
 import com.buession.redis.core.internal.convert.response.OkStatusConverter;
 import com.buession.redis.exception.RedisConnectionFailureException;
 import redis.clients.jedis.CommandArguments;
@@ -43,8 +45,10 @@ import redis.clients.jedis.DefaultJedisClientConfig;
 import redis.clients.jedis.JedisClientConfig;
 import redis.clients.jedis.Protocol;
 import redis.clients.jedis.RedisSentinelClient;
+import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.builders.SentinelClientBuilder;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -71,6 +75,13 @@ public class JedisSentinelConnection extends AbstractJedisRedisConnection<RedisS
 	 */
 	private int sentinelSoTimeout = Constants.DEFAULT_SO_TIMEOUT;
 
+	/**
+	 * 从节点读路由器，读取偏好为 {@link ReadPreference#MASTER} 时为 null
+	 *
+	 * @since 4.0.0
+	 */
+	private JedisReplicaRouter replicaRouter;
+
 	/**
 	 * 构造函数
 	 */
@@ -122,6 +133,26 @@ public class JedisSentinelConnection extends AbstractJedisRedisConnection<RedisS
 		this.sentinelSoTimeout = sentinelSoTimeout;
 	}
 
+	@Override
+	public UnifiedJedis getClient(final RedisCommand command) {
+		if(replicaRouter != null && command != null && command.isRead() && !command.isWrite()){
+			final UnifiedJedis replica = replicaRouter.select();
+
+			if(replica != null){
+				return replica;
+			}
+		}
+
+		return getClient();
+	}
+
+	@Override
+	public void markReplicaDown(final UnifiedJedis client) {
+		if(replicaRouter != null){
+			replicaRouter.markDown(client);
+		}
+	}
+
 	@Override
 	public String myId() {
 		try(Connection connection = getConnectionProvider().getConnection()){
@@ -262,9 +293,10 @@ public class JedisSentinelConnection extends AbstractJedisRedisConnection<RedisS
 				clientConfigBuilder.database(dataSource.getDatabase());
 			}
 
+			final JedisClientConfig clientConfig = clientConfigBuilder.build();
 			final SentinelClientBuilder<RedisSentinelClient> builder = RedisSentinelClient.builder()
 					.sentinels(createNodes(dataSource.getSentinels(), RedisSentinelNode.DEFAULT_SENTINEL_PORT))
-					.clientConfig(clientConfigBuilder.build())
+					.clientConfig(clientConfig)
 					.sentinelClientConfig(createSentinelJedisClientConfig(dataSource));
 
 			Optional.ofNullable(getConnectionPoolConfig()).ifPresent(builder::poolConfig);
@@ -272,6 +304,13 @@ public class JedisSentinelConnection extends AbstractJedisRedisConnection<RedisS
 			propertyMapper.from(dataSource.getMasterName()).to(builder::masterName);
 
 			client = builder.build();
+
+			if(dataSource.getReadPreference() != null && dataSource.getReadPreference() != ReadPreference.MASTER){
+				replicaRouter = new JedisReplicaRouter(dataSource.getReadPreference(), dataSource.getMasterName(),
+						createNodes(dataSource.getSentinels(), RedisSentinelNode.DEFAULT_SENTINEL_PORT),
+						createSentinelJedisClientConfig(dataSource), clientConfig,
+						getConnectionPoolConfig(), client, JedisReplicaRouter.DEFAULT_REFRESH_PERIOD);
+			}
 		}
 	}
 
@@ -284,6 +323,15 @@ public class JedisSentinelConnection extends AbstractJedisRedisConnection<RedisS
 		return client == null ? Status.FAILURE : Status.SUCCESS;
 	}
 
+	@Override
+	protected void doDestroy() throws IOException {
+		if(replicaRouter != null){
+			replicaRouter.close();
+			replicaRouter = null;
+		}
+		super.doDestroy();
+	}
+
 	protected JedisClientConfig createSentinelJedisClientConfig(final JedisSentinelDataSource dataSource) {
 		final DefaultJedisClientConfig.Builder clientConfigBuilder = DefaultJedisClientConfig.builder();
 
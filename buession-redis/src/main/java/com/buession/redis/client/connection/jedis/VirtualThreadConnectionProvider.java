@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.client.connection.jedis;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.core.PoolConfig;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.providers.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * 虚拟线程友好的 Jedis 连接提供者
+ *
+ * <p>以 {@link Semaphore} 限制最大连接数，以无锁队列保存空闲连接；借还连接的路径上没有 {@code synchronized}，
+ * 等待连接时虚拟线程被挂起而不会钉住载体线程，适合大量虚拟线程共享少量 Redis 连接的场景。
+ * 不支持 commons-pool2 的空闲检测与驱逐，空闲连接在借出时校验。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class VirtualThreadConnectionProvider implements ConnectionProvider {
+
+	private final HostAndPort hostAndPort;
+
+	private final JedisClientConfig clientConfig;
+
+	private final int maxTotal;
+
+	private final int maxIdle;
+
+	private final long maxWait;
+
+	private final boolean blockWhenExhausted;
+
+	private final boolean lifo;
+
+	private final boolean testOnBorrow;
+
+	private final Semaphore permits;
+
+	private final Deque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+
+	private final AtomicInteger idleCount = new AtomicInteger();
+
+	private LongConsumer borrowWaitListener;
+
+	private volatile boolean closed;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param hostAndPort
+	 * 		Redis 地址
+	 * @param clientConfig
+	 * 		客户端配置
+	 * @param poolConfig
+	 * 		连接池配置
+	 */
+	public VirtualThreadConnectionProvider(final HostAndPort hostAndPort, final JedisClientConfig clientConfig,
+	                                       final PoolConfig poolConfig) {
+		Assert.isNull(hostAndPort, "Redis host and port cloud not be null.");
+		Assert.isNull(clientConfig, "Jedis client config cloud not be null.");
+		Assert.isNull(poolConfig, "Pool config cloud not be null.");
+		Assert.isFalse(poolConfig.getMaxTotal() > 0, "Max total must be greater than 0");
+
+		final Duration maxWait = poolConfig.getMaxWait();
+
+		this.hostAndPort = hostAndPort;
+		this.clientConfig = clientConfig;
+		this.maxTotal = poolConfig.getMaxTotal();
+		this.maxIdle = poolConfig.getMaxIdle() < 0 ? poolConfig.getMaxTotal() : poolConfig.getMaxIdle();
+		this.maxWait = maxWait == null || maxWait.isNegative() ? -1 : maxWait.toNanos();
+		this.blockWhenExhausted = poolConfig.isBlockWhenExhausted();
+		this.lifo = poolConfig.getLifo();
+		this.testOnBorrow = poolConfig.isTestOnBorrow();
+		this.permits = new Semaphore(maxTotal, poolConfig.getFairness());
+	}
+
+	@Override
+	public Connection getConnection() {
+		if(closed){
+			throw new JedisConnectionException("Connection provider is closed.");
+		}
+
+		if(borrowWaitListener == null){
+			acquire();
+		}else{
+			final long startTime = System.nanoTime();
+
+			acquire();
+			borrowWaitListener.accept(System.nanoTime() - startTime);
+		}
+
+		try{
+			PooledConnection connection;
+
+			while((connection = pollIdle()) != null){
+				if(validate(connection)){
+					connection.borrowed = true;
+					return connection;
+				}
+
+				connection.destroy();
+			}
+
+			connection = new PooledConnection();
+			connection.borrowed = true;
+
+			return connection;
+		}catch(RuntimeException e){
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(final CommandArguments args) {
+		return getConnection();
+	}
+
+	@Override
+	public Map<?, ?> getConnectionMap() {
+		return Collections.singletonMap(hostAndPort, this);
+	}
+
+	/**
+	 * 设置借出连接等待时长监听器，每次取得连接许可后以等待时长（单位：纳秒）回调
+	 *
+	 * @param borrowWaitListener
+	 * 		借出连接等待时长监听器
+	 */
+	public void setBorrowWaitListener(final LongConsumer borrowWaitListener) {
+		this.borrowWaitListener = borrowWaitListener;
+	}
+
+	/**
+	 * 返回当前空闲连接数
+	 *
+	 * @return 空闲连接数
+	 */
+	public int getNumIdle() {
+		return idleCount.get();
+	}
+
+	/**
+	 * 返回当前借出的连接数
+	 *
+	 * @return 借出的连接数
+	 */
+	public int getNumActive() {
+		return maxTotal - permits.availablePermits();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+
+		PooledConnection connection;
+		while((connection = pollIdle()) != null){
+			connection.destroy();
+		}
+	}
+
+	private void acquire() {
+		try{
+			if(blockWhenExhausted == false){
+				if(permits.tryAcquire() == false){
+					throw new JedisConnectionException("Could not get a resource from the pool: pool exhausted.");
+				}
+			}else if(maxWait < 0){
+				permits.acquire();
+			}else if(permits.tryAcquire(maxWait, TimeUnit.NANOSECONDS) == false){
+				throw new JedisConnectionException(
+						"Could not get a resource from the pool: timeout waiting for idle object.");
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new JedisConnectionException("Interrupted while waiting for a resource from the pool.", e);
+		}
+	}
+
+	private PooledConnection pollIdle() {
+		final PooledConnection connection = idle.pollFirst();
+
+		if(connection != null){
+			idleCount.decrementAndGet();
+		}
+
+		return connection;
+	}
+
+	private boolean validate(final PooledConnection connection) {
+		if(connection.isConnected() == false || connection.isBroken()){
+			return false;
+		}
+
+		if(testOnBorrow){
+			try{
+				return connection.ping();
+			}catch(RuntimeException e){
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void release(final PooledConnection connection) {
+		try{
+			if(closed || connection.isBroken() || connection.isConnected() == false){
+				connection.destroy();
+			}else if(idleCount.incrementAndGet() > maxIdle){
+				idleCount.decrementAndGet();
+				connection.destroy();
+			}else if(lifo){
+				idle.offerFirst(connection);
+			}else{
+				idle.offerLast(connection);
+			}
+		}finally{
+			permits.release();
+		}
+	}
+
+	private final class PooledConnection extends Connection {
+
+		private volatile boolean borrowed;
+
+		private PooledConnection() {
+			super(hostAndPort, clientConfig);
+		}
+
+		/**
+		 * Jedis 执行命令后调用 close 归还连接
+		 */
+		@Override
+		public void close() {
+			if(borrowed){
+				borrowed = false;
+				release(this);
+			}
+		}
+
+		private void destroy() {
+			try{
+				disconnect();
+			}catch(RuntimeException e){
+				// ignore
+			}
+		}
+
+	}
+
+}
@@ -30,18 +30,24 @@ import com.buession.redis.client.connection.AbstractRedisConnection;
 import com.buession.redis.client.connection.RedisNode;
 import com.buession.redis.client.connection.datasource.lettuce.LettuceRedisDataSource;
 import com.buession.redis.core.PoolConfig;
+import com.buession.redis.core.ReadPreference;
 import com.buession.redis.exception.LettuceRedisExceptionUtils;
 import com.buession.redis.exception.RedisException;
-import com.buession.redis.pipeline.DefaultPipelineProxy;
 import com.buession.redis.pipeline.Pipeline;
 import com.buession.redis.pipeline.lettuce.LettucePipeline;
+import com.buession.redis.pipeline.lettuce.LettucePipelineProxy;
+import com.buession.redis.pubsub.lettuce.LettucePubSubContainer;
 import com.buession.redis.transaction.DefaultTransactionProxy;
 import com.buession.redis.transaction.Transaction;
 import com.buession.redis.transaction.lettuce.LettuceTransaction;
 import io.lettuce.core.BaseRedisClient;
 import io.lettuce.core.ConnectionPoolConfig;
 import io.lettuce.core.DefaultLettuceClientConfig;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.SslOptions;
+import io.lettuce.core.api.PipeliningFlushPolicy;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.HostAndPort;
 
@@ -50,6 +56,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -68,6 +75,27 @@ public abstract class AbstractLettuceRedisConnection<K, V, C extends BaseRedisCl
 
 	private RedisCodec<K, V> codec;
 
+	/**
+	 * 管道刷新策略
+	 *
+	 * @since 4.0.0
+	 */
+	private PipeliningFlushPolicy pipeliningFlushPolicy;
+
+	/**
+	 * 订阅容器
+	 *
+	 * @since 4.0.0
+	 */
+	private volatile LettucePubSubContainer pubSubContainer;
+
+	/**
+	 * 订阅容器创建锁
+	 *
+	 * @since 4.0.0
+	 */
+	private final ReentrantLock pubSubContainerLock = new ReentrantLock();
+
 	/**
 	 * 构造函数
 	 */
@@ -136,22 +164,72 @@ public abstract class AbstractLettuceRedisConnection<K, V, C extends BaseRedisCl
 		this.codec = codec;
 	}
 
+	@Override
+	public PipeliningFlushPolicy getPipeliningFlushPolicy() {
+		if(pipeliningFlushPolicy == null){
+			final LettuceRedisDataSource dataSource = (LettuceRedisDataSource) getDataSource();
+
+			if(dataSource != null && dataSource.getPipeliningFlushPolicy() != null){
+				return dataSource.getPipeliningFlushPolicy();
+			}
+
+			return PipeliningFlushPolicy.flushEachCommand();
+		}
+
+		return pipeliningFlushPolicy;
+	}
+
+	@Override
+	public void setPipeliningFlushPolicy(PipeliningFlushPolicy pipeliningFlushPolicy) {
+		this.pipeliningFlushPolicy = pipeliningFlushPolicy;
+	}
+
 	@Override
 	public Pipeline openPipeline() {
+		return openPipeline(getPipeliningFlushPolicy());
+	}
+
+	@Override
+	public Pipeline openPipeline(PipeliningFlushPolicy flushPolicy) {
 		if(pipeline == null){
-			pipeline = new DefaultPipelineProxy<>(new LettucePipeline<>(client.pipelined()),
-					client.getRedisAsyncCommands());
+			pipeline = new LettucePipelineProxy<>(new LettucePipeline<>(client.pipelined(flushPolicy)));
 		}
 
 		return pipeline;
 	}
 
+	@SuppressWarnings({"unchecked"})
+	@Override
+	public LettucePubSubContainer getPubSubContainer() {
+		LettucePubSubContainer container = pubSubContainer;
+
+		if(container == null){
+			pubSubContainerLock.lock();
+			try{
+				container = pubSubContainer;
+				if(container == null){
+					final LettuceRedisDataSource dataSource = (LettuceRedisDataSource) getDataSource();
+
+					container = pubSubContainer = new LettucePubSubContainer(
+							(BaseRedisClient<byte[], byte[]>) client,
+							dataSource == null ? null : dataSource.getPubSubOptions());
+				}
+			}finally{
+				pubSubContainerLock.unlock();
+			}
+		}
+
+		return container;
+	}
+
 	@Override
 	public Transaction multi() {
 		if(transaction == null){
-			client.multi();
-			transaction = new DefaultTransactionProxy<>(new LettuceTransaction<>(client.getRedisAsyncCommands()),
-					client.getRedisAsyncCommands());
+			final StatefulConnection<K, V> connection = client.multi();
+			final RedisAsyncCommands<K, V> commands = client.getRedisAsyncCommands(connection);
+
+			transaction = new DefaultTransactionProxy<>(new LettuceTransaction<>(commands,
+					()->client.release(connection)), commands);
 		}
 
 		return transaction;
@@ -257,6 +335,29 @@ public abstract class AbstractLettuceRedisConnection<K, V, C extends BaseRedisCl
 		}
 	}
 
+	/**
+	 * 将读取偏好转换为 Lettuce 的只读命令路由策略；Lettuce 根据自身的只读命令表路由命令，并在拓扑刷新时测量各节点延迟
+	 *
+	 * @param readPreference
+	 * 		读取偏好
+	 *
+	 * @return 只读命令路由策略，只从主节点读取时返回 null
+	 *
+	 * @since 4.0.0
+	 */
+	protected static ReadFrom createReadFrom(final ReadPreference readPreference) {
+		if(readPreference == null){
+			return null;
+		}
+
+		return switch(readPreference){
+			case REPLICA_PREFERRED -> ReadFrom.REPLICA_PREFERRED;
+			case NEAREST -> ReadFrom.LOWEST_LATENCY;
+			case ANY -> ReadFrom.ANY;
+			default -> null;
+		};
+	}
+
 	protected ConnectionPoolConfig<K, V> getConnectionPoolConfig() {
 		if(getPoolConfig() == null){
 			return null;
@@ -265,6 +366,7 @@ public abstract class AbstractLettuceRedisConnection<K, V, C extends BaseRedisCl
 		final ConnectionPoolConfig<K, V> connectionPoolConfig = new ConnectionPoolConfig<>();
 
 		getPoolConfig().toGenericObjectPoolConfig(connectionPoolConfig);
+		connectionPoolConfig.setBorrowWaitListener(this::recordPoolWait);
 
 		return connectionPoolConfig;
 	}
@@ -276,6 +378,12 @@ public abstract class AbstractLettuceRedisConnection<K, V, C extends BaseRedisCl
 
 	@Override
 	protected void doDestroy() throws IOException {
+		final LettucePubSubContainer container = pubSubContainer;
+
+		if(container != null){
+			pubSubContainer = null;
+			container.close();
+		}
 		if(client != null){
 			client.close();
 		}
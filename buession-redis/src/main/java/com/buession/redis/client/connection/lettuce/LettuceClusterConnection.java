@@ -25,22 +25,32 @@
 package com.buession.redis.client.connection.lettuce;
 
 import com.buession.lang.Status;
+import com.buession.redis.client.connection.ClusterMultiKeyExecutor;
 import com.buession.redis.client.connection.RedisClusterConnection;
 import com.buession.redis.client.connection.RedisNode;
 import com.buession.redis.client.connection.datasource.ClusterDataSource;
 import com.buession.redis.client.connection.datasource.lettuce.LettuceClusterDataSource;
 import com.buession.redis.core.PoolConfig;
 import com.buession.redis.core.RedisMode;
+import com.buession.redis.core.ScanResult;
 import com.buession.redis.core.command.RedisCommand;
 import com.buession.redis.exception.NotSupportedCommandException;
 import com.buession.redis.exception.RedisConnectionFailureException;
 import com.buession.redis.transaction.Transaction;
+import com.buession.redis.utils.SafeEncoder;
 import io.lettuce.core.DefaultLettuceClientConfig;
+import io.lettuce.core.KeyScanCursor;
 import io.lettuce.core.RedisClusterClient;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.builders.ClusterClientBuilder;
 import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.providers.ConnectionProvider;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Optional;
 
@@ -75,6 +85,27 @@ public class LettuceClusterConnection<K, V> extends AbstractLettuceRedisConnecti
 	 */
 	private int topologyRefreshPeriod = (int) ClusterTopologyRefreshOptions.DEFAULT_REFRESH_PERIOD;
 
+	/**
+	 * 多 Key 命令按槽位拆分后的最大并行节点数
+	 *
+	 * @since 4.0.0
+	 */
+	private int multiKeyParallelism = ClusterMultiKeyExecutor.DEFAULT_PARALLELISM;
+
+	/**
+	 * 多 Key 命令按槽位拆分后的单节点超时时长（单位：毫秒）
+	 *
+	 * @since 4.0.0
+	 */
+	private int multiKeyNodeTimeout = ClusterMultiKeyExecutor.DEFAULT_NODE_TIMEOUT;
+
+	/**
+	 * 集群多 Key 命令执行器
+	 *
+	 * @since 4.0.0
+	 */
+	private ClusterMultiKeyExecutor multiKeyExecutor;
+
 	/**
 	 * Whether to discover and query all cluster nodes for obtaining the
 	 * cluster topology. When set to false, only the initial seed nodes are
@@ -207,6 +238,31 @@ public class LettuceClusterConnection<K, V> extends AbstractLettuceRedisConnecti
 		this.topologyRefreshPeriod = topologyRefreshPeriod;
 	}
 
+	@Override
+	public int getMultiKeyParallelism() {
+		return multiKeyParallelism;
+	}
+
+	@Override
+	public void setMultiKeyParallelism(int multiKeyParallelism) {
+		this.multiKeyParallelism = multiKeyParallelism;
+	}
+
+	@Override
+	public int getMultiKeyNodeTimeout() {
+		return multiKeyNodeTimeout;
+	}
+
+	@Override
+	public void setMultiKeyNodeTimeout(int multiKeyNodeTimeout) {
+		this.multiKeyNodeTimeout = multiKeyNodeTimeout;
+	}
+
+	@Override
+	public ClusterMultiKeyExecutor getMultiKeyExecutor() {
+		return multiKeyExecutor;
+	}
+
 	public boolean isDynamicRefreshSources() {
 		return getDynamicRefreshSources();
 	}
@@ -231,6 +287,68 @@ public class LettuceClusterConnection<K, V> extends AbstractLettuceRedisConnecti
 		this.adaptive = adaptive;
 	}
 
+	@SuppressWarnings({"unchecked"})
+	@Override
+	public ScanResult<byte[]> scanNode(final String host, final int port, final byte[] cursor, final byte[] pattern,
+	                                   final int count) {
+		final ConnectionProvider<K, V> connectionProvider = client.getConnectionProvider();
+		final StatefulConnection<K, V> connection = connectionProvider.getConnection();
+		final ScanArgs scanArgs = ScanArgs.Builder.limit(count);
+
+		if(pattern != null){
+			scanArgs.match(pattern);
+		}
+
+		try{
+			final StatefulRedisClusterConnection<byte[], byte[]> clusterConnection =
+					(StatefulRedisClusterConnection<byte[], byte[]>) (StatefulConnection<?, ?>) connection;
+			final KeyScanCursor<byte[]> result = clusterConnection.getConnection(host, port).sync()
+					.scan(ScanCursor.of(SafeEncoder.encode(cursor)), scanArgs);
+
+			return new ScanResult<>(result.getCursor(), result.getKeys());
+		}catch(Exception e){
+			throw executeException(e);
+		}finally{
+			connectionProvider.release(connection);
+		}
+	}
+
+	@SuppressWarnings({"unchecked"})
+	@Override
+	public String scriptLoadNode(final String host, final int port, final byte[] script) {
+		final ConnectionProvider<K, V> connectionProvider = client.getConnectionProvider();
+		final StatefulConnection<K, V> connection = connectionProvider.getConnection();
+
+		try{
+			final StatefulRedisClusterConnection<byte[], byte[]> clusterConnection =
+					(StatefulRedisClusterConnection<byte[], byte[]>) (StatefulConnection<?, ?>) connection;
+			return clusterConnection.getConnection(host, port).sync().scriptLoad(script);
+		}catch(Exception e){
+			throw executeException(e);
+		}finally{
+			connectionProvider.release(connection);
+		}
+	}
+
+	@SuppressWarnings({"unchecked"})
+	@Override
+	public String functionLoadNode(final String host, final int port, final byte[] functionCode,
+	                               final boolean replace) {
+		final ConnectionProvider<K, V> connectionProvider = client.getConnectionProvider();
+		final StatefulConnection<K, V> connection = connectionProvider.getConnection();
+
+		try{
+			final StatefulRedisClusterConnection<byte[], byte[]> clusterConnection =
+					(StatefulRedisClusterConnection<byte[], byte[]>) (StatefulConnection<?, ?>) connection;
+			return clusterConnection.getConnection(host, port).sync()
+					.functionLoad(SafeEncoder.encode(functionCode), replace);
+		}catch(Exception e){
+			throw executeException(e);
+		}finally{
+			connectionProvider.release(connection);
+		}
+	}
+
 	@Override
 	public Transaction multi() {
 		throw new NotSupportedCommandException(RedisMode.CLUSTER, RedisCommand.MULTI);
@@ -251,6 +369,8 @@ public class LettuceClusterConnection<K, V> extends AbstractLettuceRedisConnecti
 					.dynamicRefreshSources(getDynamicRefreshSources());
 
 			Optional.ofNullable(getConnectionPoolConfig()).ifPresent(builder::poolConfig);
+			builder.sharedConnections(dataSource.getSharedConnections());
+			builder.readFrom(createReadFrom(dataSource.getReadPreference()));
 			//Optional.ofNullable(getCacheConfig()).ifPresent(builder::cacheConfig);
 			if(getMaxRedirects() > 0){
 				builder.maxRedirects(getMaxRedirects());
@@ -263,7 +383,17 @@ public class LettuceClusterConnection<K, V> extends AbstractLettuceRedisConnecti
 			}
 
 			client = builder.build();
+			multiKeyExecutor = new ClusterMultiKeyExecutor(getMultiKeyParallelism(), getMultiKeyNodeTimeout(),
+					dataSource::getSlot);
+		}
+	}
+
+	@Override
+	protected void doDestroy() throws IOException {
+		if(multiKeyExecutor != null){
+			multiKeyExecutor.close();
 		}
+		super.doDestroy();
 	}
 
 	@Override
@@ -25,10 +25,13 @@
 package com.buession.redis.client.connection.lettuce;
 
 import com.buession.lang.Status;
+import com.buession.redis.cache.NearCacheInvalidator;
+import com.buession.redis.cache.lettuce.LettuceNearCacheInvalidator;
 import com.buession.redis.client.connection.RedisStandaloneConnection;
 import com.buession.redis.client.connection.datasource.lettuce.LettuceDataSource;
 import com.buession.redis.core.PoolConfig;
 import com.buession.redis.exception.RedisConnectionFailureException;
+import io.lettuce.core.BaseRedisClient;
 import io.lettuce.core.DefaultLettuceClientConfig;
 import io.lettuce.core.RedisStandaloneClient;
 import io.lettuce.core.builders.StandaloneClientBuilder;
@@ -123,6 +126,7 @@ public class LettuceConnection<K, V> extends AbstractLettuceRedisConnection<K, V
 					.codec(getCodec());
 
 			Optional.ofNullable(getConnectionPoolConfig()).ifPresent(builder::poolConfig);
+			builder.sharedConnections(dataSource.getSharedConnections());
 			//Optional.ofNullable(getCacheConfig()).ifPresent(builder::cacheConfig);
 
 			client = builder.build();
@@ -138,4 +142,11 @@ public class LettuceConnection<K, V> extends AbstractLettuceRedisConnection<K, V
 		return client == null ? Status.FAILURE : Status.SUCCESS;
 	}
 
+	@SuppressWarnings({"unchecked"})
+	@Override
+	public NearCacheInvalidator createNearCacheInvalidator(final String[] prefixes) {
+		return client == null ? null : new LettuceNearCacheInvalidator((BaseRedisClient<byte[], byte[]>) client,
+				prefixes);
+	}
+
 }
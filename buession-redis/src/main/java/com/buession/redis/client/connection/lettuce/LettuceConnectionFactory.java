@@ -83,6 +83,8 @@ public final class LettuceConnectionFactory extends AbstractConnectionFactory<Le
 		if(dataSource.getTopologyRefreshPeriod() > 0){
 			connection.setTopologyRefreshPeriod(dataSource.getTopologyRefreshPeriod());
 		}
+		connection.setMultiKeyParallelism(dataSource.getMultiKeyParallelism());
+		connection.setMultiKeyNodeTimeout(dataSource.getMultiKeyNodeTimeout());
 
 		return connection;
 	}
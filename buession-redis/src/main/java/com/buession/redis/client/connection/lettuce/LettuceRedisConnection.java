@@ -25,7 +25,10 @@
 package com.buession.redis.client.connection.lettuce;
 
 import com.buession.redis.client.connection.RedisConnection;
+import com.buession.redis.pipeline.Pipeline;
+import com.buession.redis.pubsub.lettuce.LettucePubSubContainer;
 import io.lettuce.core.BaseRedisClient;
+import io.lettuce.core.api.PipeliningFlushPolicy;
 import io.lettuce.core.codec.RedisCodec;
 
 /**
@@ -71,4 +74,44 @@ public interface LettuceRedisConnection<K, V, C extends BaseRedisClient<K, V>> e
 	 */
 	void setCodec(RedisCodec<K, V> codec);
 
+	/**
+	 * 返回管道刷新策略，未设置时使用数据源的管道刷新策略
+	 *
+	 * @return 管道刷新策略
+	 *
+	 * @since 4.0.0
+	 */
+	PipeliningFlushPolicy getPipeliningFlushPolicy();
+
+	/**
+	 * 设置管道刷新策略
+	 *
+	 * @param pipeliningFlushPolicy
+	 * 		管道刷新策略
+	 *
+	 * @since 4.0.0
+	 */
+	void setPipeliningFlushPolicy(PipeliningFlushPolicy pipeliningFlushPolicy);
+
+	/**
+	 * 以指定的刷新策略开启管道
+	 *
+	 * @param flushPolicy
+	 * 		管道刷新策略
+	 *
+	 * @return 管道
+	 *
+	 * @since 4.0.0
+	 */
+	Pipeline openPipeline(PipeliningFlushPolicy flushPolicy);
+
+	/**
+	 * 返回订阅容器，所有订阅共用一个独占的 Pub/Sub 连接，首次调用时创建
+	 *
+	 * @return 订阅容器
+	 *
+	 * @since 4.0.0
+	 */
+	LettucePubSubContainer getPubSubContainer();
+
 }
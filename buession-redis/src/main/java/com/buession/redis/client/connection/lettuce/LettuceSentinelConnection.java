@@ -27,6 +27,8 @@ package com.buession.redis.client.connection.lettuce;
 import com.buession.core.utils.Assert;
 import com.buession.core.validator.Validate;
 import com.buession.lang.Status;
+import com.buession.redis.cache.NearCacheInvalidator;
+import com.buession.redis.cache.lettuce.LettuceNearCacheInvalidator;
 import com.buession.redis.client.connection.RedisSentinelConnection;
 import com.buession.redis.client.connection.RedisSentinelNode;
 import com.buession.redis.client.connection.datasource.lettuce.LettuceSentinelDataSource;
@@ -38,6 +40,7 @@ import com.buession.redis.core.Role;
 import com.buession.redis.exception.RedisConnectionFailureException;
 import com.buession.redis.transaction.Transaction;
 import com.buession.redis.utils.SafeEncoder;
+import io.lettuce.core.BaseRedisClient;
 import io.lettuce.core.DefaultLettuceClientConfig;
 import io.lettuce.core.LettuceClientConfig;
 import io.lettuce.core.RedisSentinelClient;
@@ -245,6 +248,8 @@ public class LettuceSentinelConnection<K, V> extends AbstractLettuceRedisConnect
 					.sentinelClientConfig(createSentinelLettuceClientConfig(dataSource)).codec(getCodec());
 
 			Optional.ofNullable(getConnectionPoolConfig()).ifPresent(builder::poolConfig);
+			builder.sharedConnections(dataSource.getSharedConnections());
+			builder.readFrom(createReadFrom(dataSource.getReadPreference()));
 			//Optional.ofNullable(getCacheConfig()).ifPresent(builder::cacheConfig);
 			if(Validate.hasText(dataSource.getMasterName())){
 				builder.masterName(dataSource.getMasterName());
@@ -310,4 +315,11 @@ public class LettuceSentinelConnection<K, V> extends AbstractLettuceRedisConnect
 		}).collect(Collectors.toList());
 	}
 
+	@SuppressWarnings({"unchecked"})
+	@Override
+	public NearCacheInvalidator createNearCacheInvalidator(final String[] prefixes) {
+		return client == null ? null : new LettuceNearCacheInvalidator((BaseRedisClient<byte[], byte[]>) client,
+				prefixes);
+	}
+
 }
@@ -42,6 +42,7 @@ import com.buession.redis.transaction.TransactionProxy;
 import redis.clients.jedis.Response;
 import redis.clients.jedis.Transaction;
 import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
 
 /**
  * Jedis Redis 命令抽象类
@@ -260,7 +261,22 @@ public abstract class AbstractJedisRedisCommands extends AbstractRedisCommands<J
 
 		@Override
 		protected R doExecute(final RedisConnection conn) throws RedisException {
-			final SR result = executor.execute(((JedisRedisConnection<? extends UnifiedJedis>) conn).getClient());
+			final JedisRedisConnection<? extends UnifiedJedis> connection = (JedisRedisConnection<? extends UnifiedJedis>) conn;
+			final UnifiedJedis readClient = connection.getClient(command);
+			SR result;
+
+			if(readClient == connection.getClient()){
+				result = executor.execute(readClient);
+			}else{
+				try{
+					result = executor.execute(readClient);
+				}catch(JedisConnectionException e){
+					// 从节点不可用时回退到主节点重试一次
+					connection.markReplicaDown(readClient);
+					result = executor.execute(connection.getClient());
+				}
+			}
+
 			return result == null ? null : converter.convert(result);
 		}
 
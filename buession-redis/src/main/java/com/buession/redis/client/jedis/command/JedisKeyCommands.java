@@ -26,6 +26,7 @@ package com.buession.redis.client.jedis.command;
 
 import com.buession.core.converter.BooleanStatusConverter;
 import com.buession.lang.Status;
+import com.buession.redis.client.connection.ClusterMultiKeyExecutor;
 import com.buession.redis.client.jedis.JedisRedisClient;
 import com.buession.redis.core.command.args.ExpireOption;
 import com.buession.redis.core.Keyword;
@@ -124,12 +125,22 @@ public final class JedisKeyCommands extends AbstractJedisRedisCommands implement
 
 	@Override
 	public Long del(final String... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::del);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.DEL, args, (cmd)->cmd.del(keys), (cmd)->cmd.del(keys), (cmd)->cmd.del(keys));
 	}
 
 	@Override
 	public Long del(final byte[]... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::del);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.DEL, args, (cmd)->cmd.del(keys), (cmd)->cmd.del(keys), (cmd)->cmd.del(keys));
 	}
@@ -164,6 +175,11 @@ public final class JedisKeyCommands extends AbstractJedisRedisCommands implement
 
 	@Override
 	public Long exists(final String... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::exists);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.EXISTS, args, (cmd)->cmd.exists(keys), (cmd)->cmd.exists(keys),
 				(cmd)->cmd.exists(keys));
@@ -171,6 +187,11 @@ public final class JedisKeyCommands extends AbstractJedisRedisCommands implement
 
 	@Override
 	public Long exists(final byte[]... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::exists);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.EXISTS, args, (cmd)->cmd.exists(keys), (cmd)->cmd.exists(keys),
 				(cmd)->cmd.exists(keys));
@@ -818,6 +839,11 @@ public final class JedisKeyCommands extends AbstractJedisRedisCommands implement
 
 	@Override
 	public Long unlink(final String... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::unlink);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.UNLINK, args, (cmd)->cmd.unlink(keys), (cmd)->cmd.unlink(keys),
 				(cmd)->cmd.unlink(keys));
@@ -825,6 +851,11 @@ public final class JedisKeyCommands extends AbstractJedisRedisCommands implement
 
 	@Override
 	public Long unlink(final byte[]... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::unlink);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.UNLINK, args, (cmd)->cmd.unlink(keys), (cmd)->cmd.unlink(keys),
 				(cmd)->cmd.unlink(keys));
@@ -27,6 +27,7 @@ package com.buession.redis.client.jedis.command;
 import com.buession.core.converter.BooleanStatusConverter;
 import com.buession.lang.KeyValue;
 import com.buession.lang.Status;
+import com.buession.redis.client.connection.ClusterMultiKeyExecutor;
 import com.buession.redis.client.jedis.JedisRedisClient;
 import com.buession.redis.core.command.args.GetExType;
 import com.buession.redis.core.command.args.NxXx;
@@ -302,6 +303,11 @@ public final class JedisStringCommands extends AbstractJedisRedisCommands implem
 
 	@Override
 	public List<String> mGet(final String... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.mGet(client, keys, this::mGet);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.MGET, args, (cmd)->cmd.mget(keys), (cmd)->cmd.mget(keys),
 				(cmd)->cmd.mget(keys));
@@ -309,6 +315,11 @@ public final class JedisStringCommands extends AbstractJedisRedisCommands implem
 
 	@Override
 	public List<byte[]> mGet(final byte[]... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.mGet(client, keys, this::mGet);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.MGET, args, (cmd)->cmd.mget(keys), (cmd)->cmd.mget(keys),
 				(cmd)->cmd.mget(keys));
@@ -317,6 +328,11 @@ public final class JedisStringCommands extends AbstractJedisRedisCommands implem
 	@SuppressWarnings({"unchecked"})
 	@Override
 	public Status mSet(final KeyValue<String, String>... data) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlotEntries(data)){
+			return multiKeyExecutor.mSet(client, data, this::mSet);
+		}
+
 		final CommandArguments args = CommandArguments.create(data);
 		return executeCommand(RedisCommand.MSET, args, (cmd)->cmd.mset(buildSetValues(data)),
 				(cmd)->cmd.mset(buildSetValues(data)), (cmd)->cmd.mset(buildSetValues(data)),
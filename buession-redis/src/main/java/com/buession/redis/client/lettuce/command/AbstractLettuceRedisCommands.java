@@ -37,12 +37,16 @@ import com.buession.redis.core.internal.lettuce.LettuceResult;
 import com.buession.redis.exception.NotMultiRedisException;
 import com.buession.redis.exception.RedisException;
 import com.buession.redis.pipeline.PipelineProxy;
+import com.buession.redis.pipeline.lettuce.LettucePipelineProxy;
 import com.buession.redis.transaction.TransactionProxy;
 import io.lettuce.core.BaseRedisClient;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Lettuce Redis 命令抽象类
  *
@@ -160,6 +164,37 @@ public abstract class AbstractLettuceRedisCommands extends AbstractRedisCommands
 		}
 	}
 
+	/**
+	 * 执行一个阻塞命令（如 XREAD BLOCK），非事务、管道模式下在独占连接上执行，避免阻塞共享连接
+	 *
+	 * @param command
+	 * 		命令
+	 * @param args
+	 * 		命令参数
+	 * @param executor
+	 * 		同步命令执行器
+	 * @param asyncExecutor
+	 * 		异步命令执行器
+	 * @param converter
+	 * 		结果转换器
+	 * @param <SR>
+	 * 		原始类型
+	 * @param <R>
+	 * 		返回类型
+	 *
+	 * @return 命令执行结果
+	 */
+	protected <SR, R> R executeBlockingCommand(final RedisCommand command, final CommandArguments args,
+	                                           final Command.Executor<RedisCommands<byte[], byte[]>, SR> executor,
+	                                           final Command.Executor<RedisAsyncCommands<byte[], byte[]>, RedisFuture<SR>> asyncExecutor,
+	                                           final Converter<SR, R> converter) {
+		if(isMulti()){
+			return client.execute(new LettuceAsyncCommand<>(client, command, asyncExecutor, converter), args);
+		}else{
+			return client.execute(new LettuceCommand<>(client, command, executor, converter).blocking(), args);
+		}
+	}
+
 	/**
 	 * Lettuce 命令
 	 *
@@ -173,6 +208,19 @@ public abstract class AbstractLettuceRedisCommands extends AbstractRedisCommands
 	protected final static class LettuceCommand<SR, R> extends
 			AbstractCommand<LettuceRedisClient, RedisCommands<byte[], byte[]>, SR, SR, R> {
 
+		/**
+		 * 总是会阻塞连接的命令，在独占连接上执行
+		 */
+		private final static Set<RedisCommand> BLOCKING_COMMANDS = EnumSet.of(RedisCommand.BLMOVE,
+				RedisCommand.BLMPOP, RedisCommand.BLPOP, RedisCommand.BRPOP, RedisCommand.BRPOPLPUSH,
+				RedisCommand.BZMPOP, RedisCommand.BZPOPMAX, RedisCommand.BZPOPMIN, RedisCommand.WAIT,
+				RedisCommand.WAITOF);
+
+		/**
+		 * 是否为阻塞命令
+		 */
+		private boolean blocking;
+
 		public LettuceCommand(final LettuceRedisClient client, final RedisCommand command) {
 			super(client, command);
 		}
@@ -200,10 +248,23 @@ public abstract class AbstractLettuceRedisCommands extends AbstractRedisCommands
 		protected R doExecute(final RedisConnection conn) throws RedisException {
 			final LettuceRedisConnection<byte[], byte[], BaseRedisClient<byte[], byte[]>> lettuceRedisConnection =
 					(LettuceRedisConnection<byte[], byte[], BaseRedisClient<byte[], byte[]>>) conn;
-			final SR result = executor.execute(lettuceRedisConnection.getClient().getRedisCommands());
+			final BaseRedisClient<byte[], byte[]> redisClient = lettuceRedisConnection.getClient();
+			final SR result = blocking || BLOCKING_COMMANDS.contains(getCommand()) ?
+					redisClient.executeDedicated(executor::execute) : executor.execute(redisClient.getRedisCommands());
+
 			return result == null ? null : converter.convert(result);
 		}
 
+		/**
+		 * 将命令标记为阻塞命令，在独占连接上执行
+		 *
+		 * @return 当前命令
+		 */
+		LettuceCommand<SR, R> blocking() {
+			this.blocking = true;
+			return this;
+		}
+
 	}
 
 	/**
@@ -267,6 +328,9 @@ public abstract class AbstractLettuceRedisCommands extends AbstractRedisCommands
 						converter == null ? newLettuceResult(future) : newLettuceResult(future, converter);
 
 				pipelineProxy.getTxResults().add(result);
+				if(pipelineProxy instanceof LettucePipelineProxy<?, ?, ?> lettucePipelineProxy){
+					lettucePipelineProxy.onCommand(result);
+				}
 				return null;
 			}
 
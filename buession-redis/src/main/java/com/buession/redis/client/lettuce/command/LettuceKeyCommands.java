@@ -27,6 +27,7 @@ package com.buession.redis.client.lettuce.command;
 import com.buession.core.converter.BooleanStatusConverter;
 import com.buession.core.converter.ListSetConverter;
 import com.buession.lang.Status;
+import com.buession.redis.client.connection.ClusterMultiKeyExecutor;
 import com.buession.redis.client.lettuce.LettuceRedisClient;
 import com.buession.redis.core.command.args.ExpireOption;
 import com.buession.redis.core.Keyword;
@@ -128,6 +129,11 @@ public final class LettuceKeyCommands extends AbstractLettuceRedisCommands imple
 
 	@Override
 	public Long del(final String... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::del);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.DEL, args, (cmd)->cmd.del(SafeEncoder.encode(keys)),
 				(cmd)->cmd.del(SafeEncoder.encode(keys)));
@@ -135,6 +141,11 @@ public final class LettuceKeyCommands extends AbstractLettuceRedisCommands imple
 
 	@Override
 	public Long del(final byte[]... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::del);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.DEL, args, (cmd)->cmd.del(keys), (cmd)->cmd.del(keys));
 	}
@@ -168,6 +179,11 @@ public final class LettuceKeyCommands extends AbstractLettuceRedisCommands imple
 
 	@Override
 	public Long exists(final String... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::exists);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.EXISTS, args, (cmd)->cmd.exists(SafeEncoder.encode(keys)),
 				(cmd)->cmd.exists(SafeEncoder.encode(keys)));
@@ -175,6 +191,11 @@ public final class LettuceKeyCommands extends AbstractLettuceRedisCommands imple
 
 	@Override
 	public Long exists(final byte[]... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::exists);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.EXISTS, args, (cmd)->cmd.exists(keys),
 				(cmd)->cmd.exists(keys));
@@ -802,6 +823,11 @@ public final class LettuceKeyCommands extends AbstractLettuceRedisCommands imple
 
 	@Override
 	public Long unlink(final String... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::unlink);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.UNLINK, args, (cmd)->cmd.unlink(SafeEncoder.encode(keys)),
 				(cmd)->cmd.unlink(SafeEncoder.encode(keys)));
@@ -809,6 +835,11 @@ public final class LettuceKeyCommands extends AbstractLettuceRedisCommands imple
 
 	@Override
 	public Long unlink(final byte[]... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.count(client, keys, this::unlink);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.UNLINK, args, (cmd)->cmd.unlink(keys),
 				(cmd)->cmd.unlink(keys));
@@ -25,17 +25,23 @@
 package com.buession.redis.client.lettuce.command;
 
 import com.buession.core.converter.MapConverter;
+import com.buession.redis.client.connection.lettuce.LettuceRedisConnection;
 import com.buession.redis.client.lettuce.LettuceRedisClient;
 import com.buession.redis.core.PubSubListener;
 import com.buession.redis.core.command.RedisCommand;
+import com.buession.redis.core.command.Command;
 import com.buession.redis.core.command.CommandArguments;
 import com.buession.redis.core.command.PubSubCommands;
 import com.buession.redis.core.command.RedisSubCommand;
 import com.buession.redis.core.internal.convert.Converters;
+import com.buession.redis.exception.NotSupportedCommandException;
+import com.buession.redis.pubsub.lettuce.LettucePubSubContainer;
 import com.buession.redis.utils.SafeEncoder;
+import io.lettuce.core.api.sync.RedisCommands;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Lettuce Pub/Sub 命令
@@ -52,13 +58,13 @@ public final class LettucePubSubCommands extends AbstractLettuceRedisCommands im
 	@Override
 	public void pSubscribe(final String[] patterns, final PubSubListener<String> pubSubListener) {
 		final CommandArguments args = CommandArguments.create(patterns);
-		executeCommand(RedisCommand.PSUBSCRIBE, args);
+		executeSubscription(RedisCommand.PSUBSCRIBE, args, (container)->container.pSubscribe(patterns, pubSubListener));
 	}
 
 	@Override
 	public void pSubscribe(final byte[][] patterns, final PubSubListener<byte[]> pubSubListener) {
 		final CommandArguments args = CommandArguments.create(patterns);
-		executeCommand(RedisCommand.PSUBSCRIBE, args);
+		executeSubscription(RedisCommand.PSUBSCRIBE, args, (container)->container.pSubscribe(patterns, pubSubListener));
 	}
 
 	@Override
@@ -170,19 +176,20 @@ public final class LettucePubSubCommands extends AbstractLettuceRedisCommands im
 
 	@Override
 	public Object pUnSubscribe() {
-		return executeCommand(RedisCommand.PUNSUBSCRIBE);
+		return executeSubscription(RedisCommand.PUNSUBSCRIBE, null, (container)->container.pUnSubscribe());
 	}
 
 	@Override
 	public Object pUnSubscribe(final String... patterns) {
 		final CommandArguments args = CommandArguments.create(patterns);
-		return executeCommand(RedisCommand.PUNSUBSCRIBE, args);
+		return executeSubscription(RedisCommand.PUNSUBSCRIBE, args,
+				(container)->container.pUnSubscribe(SafeEncoder.encode(patterns)));
 	}
 
 	@Override
 	public Object pUnSubscribe(final byte[]... patterns) {
 		final CommandArguments args = CommandArguments.create(patterns);
-		return executeCommand(RedisCommand.PUNSUBSCRIBE, args);
+		return executeSubscription(RedisCommand.PUNSUBSCRIBE, args, (container)->container.pUnSubscribe(patterns));
 	}
 
 	@Override
@@ -200,59 +207,94 @@ public final class LettucePubSubCommands extends AbstractLettuceRedisCommands im
 	@Override
 	public void sSubscribe(final String[] patterns, final PubSubListener<String> pubSubListener) {
 		final CommandArguments args = CommandArguments.create(patterns);
-		executeCommand(RedisCommand.SSUBSCRIBE, args);
+		executeSubscription(RedisCommand.SSUBSCRIBE, args, (container)->container.sSubscribe(patterns, pubSubListener));
 	}
 
 	@Override
 	public void sSubscribe(final byte[][] patterns, final PubSubListener<byte[]> pubSubListener) {
 		final CommandArguments args = CommandArguments.create(patterns);
-		executeCommand(RedisCommand.SSUBSCRIBE, args);
+		executeSubscription(RedisCommand.SSUBSCRIBE, args, (container)->container.sSubscribe(patterns, pubSubListener));
 	}
 
 	@Override
 	public void subscribe(final String[] channels, final PubSubListener<String> pubSubListener) {
 		final CommandArguments args = CommandArguments.create(channels);
-		executeCommand(RedisCommand.SUBSCRIBE, args);
+		executeSubscription(RedisCommand.SUBSCRIBE, args, (container)->container.subscribe(channels, pubSubListener));
 	}
 
 	@Override
 	public void subscribe(final byte[][] channels, final PubSubListener<byte[]> pubSubListener) {
 		final CommandArguments args = CommandArguments.create(channels);
-		executeCommand(RedisCommand.SUBSCRIBE, args);
+		executeSubscription(RedisCommand.SUBSCRIBE, args, (container)->container.subscribe(channels, pubSubListener));
 	}
 
 	@Override
 	public Object sUnSubscribe() {
-		return executeCommand(RedisCommand.SUNSUBSCRIBE);
+		return executeSubscription(RedisCommand.SUNSUBSCRIBE, null, (container)->container.sUnSubscribe());
 	}
 
 	@Override
 	public Object sUnSubscribe(final String... shardchannel) {
 		final CommandArguments args = CommandArguments.create(shardchannel);
-		return executeCommand(RedisCommand.SUNSUBSCRIBE, args);
+		return executeSubscription(RedisCommand.SUNSUBSCRIBE, args,
+				(container)->container.sUnSubscribe(SafeEncoder.encode(shardchannel)));
 	}
 
 	@Override
 	public Object sUnSubscribe(final byte[]... shardchannel) {
 		final CommandArguments args = CommandArguments.create(shardchannel);
-		return executeCommand(RedisCommand.SUNSUBSCRIBE, args);
+		return executeSubscription(RedisCommand.SUNSUBSCRIBE, args, (container)->container.sUnSubscribe(shardchannel));
 	}
 
 	@Override
 	public Object unSubscribe() {
-		return executeCommand(RedisCommand.UNSUBSCRIBE);
+		return executeSubscription(RedisCommand.UNSUBSCRIBE, null, (container)->container.unSubscribe());
 	}
 
 	@Override
 	public Object unSubscribe(final String... channels) {
 		final CommandArguments args = CommandArguments.create(channels);
-		return executeCommand(RedisCommand.UNSUBSCRIBE, args);
+		return executeSubscription(RedisCommand.UNSUBSCRIBE, args,
+				(container)->container.unSubscribe(SafeEncoder.encode(channels)));
 	}
 
 	@Override
 	public Object unSubscribe(final byte[]... channels) {
 		final CommandArguments args = CommandArguments.create(channels);
-		return executeCommand(RedisCommand.UNSUBSCRIBE, args);
+		return executeSubscription(RedisCommand.UNSUBSCRIBE, args, (container)->container.unSubscribe(channels));
+	}
+
+	/**
+	 * 在 Pub/Sub 专用连接上执行订阅、退订命令；订阅状态不属于管道或事务，在管道、事务中调用时直接拒绝
+	 *
+	 * @param command
+	 * 		命令
+	 * @param args
+	 * 		命令参数，可为 null
+	 * @param operation
+	 * 		Pub/Sub 容器上的操作
+	 *
+	 * @return 总是返回 null
+	 */
+	private Object executeSubscription(final RedisCommand command, final CommandArguments args,
+	                                   final Consumer<LettucePubSubContainer> operation) {
+		if(isPipeline()){
+			throw new NotSupportedCommandException(NotSupportedCommandException.Type.PIPELINE, command);
+		}else if(isTransaction()){
+			throw new NotSupportedCommandException(NotSupportedCommandException.Type.TRANSACTION, command);
+		}
+
+		final Command.Executor<RedisCommands<byte[], byte[]>, Object> executor = (cmd)->{
+			operation.accept(pubSubContainer());
+			return null;
+		};
+
+		return args == null ? client.execute(new LettuceCommand<>(client, command, executor, (v)->v)) :
+				client.execute(new LettuceCommand<>(client, command, executor, (v)->v), args);
+	}
+
+	private LettucePubSubContainer pubSubContainer() {
+		return ((LettuceRedisConnection<?, ?, ?>) client.getConnection()).getPubSubContainer();
 	}
 
 }
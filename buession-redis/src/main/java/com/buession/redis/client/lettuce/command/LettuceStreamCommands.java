@@ -26,6 +26,7 @@ package com.buession.redis.client.lettuce.command;
 
 import com.buession.core.collect.Arrays;
 import com.buession.core.converter.BooleanStatusConverter;
+import com.buession.core.converter.Converter;
 import com.buession.core.converter.ListConverter;
 import com.buession.core.converter.MapConverter;
 import com.buession.lang.Status;
@@ -46,6 +47,7 @@ import com.buession.redis.core.StreamPending;
 import com.buession.redis.core.StreamPendingSummary;
 import com.buession.redis.core.XReadGroupInfo;
 import com.buession.redis.core.XReadInfo;
+import com.buession.redis.core.command.Command;
 import com.buession.redis.core.command.RedisCommand;
 import com.buession.redis.core.command.CommandArguments;
 import com.buession.redis.core.command.StreamCommands;
@@ -82,12 +84,15 @@ import com.buession.redis.utils.SafeEncoder;
 import io.lettuce.core.Consumer;
 import io.lettuce.core.Limit;
 import io.lettuce.core.Range;
+import io.lettuce.core.RedisFuture;
 import io.lettuce.core.XAddArgs;
 import io.lettuce.core.XAutoClaimArgs;
 import io.lettuce.core.XClaimArgs;
 import io.lettuce.core.XPendingArgs;
 import io.lettuce.core.XReadArgs;
 import io.lettuce.core.XTrimArgs;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
 
 import java.util.List;
 import java.util.Map;
@@ -1268,7 +1273,7 @@ public final class LettuceStreamCommands extends AbstractLettuceRedisCommands im
 					entry.getValue().toString());
 		}
 
-		return executeCommand(RedisCommand.XREAD, args, (cmd)->cmd.xread(xReadArgs, streamOffsets),
+		return executeXRead(xReadArgs, RedisCommand.XREAD, args, (cmd)->cmd.xread(xReadArgs, streamOffsets),
 				(cmd)->cmd.xread(xReadArgs, streamOffsets),
 				new ListConverter<>(new StreamMessageXReadInfoConverter<>(SafeEncoder::encode, SafeEncoder::encode)));
 	}
@@ -1323,7 +1328,7 @@ public final class LettuceStreamCommands extends AbstractLettuceRedisCommands im
 					entry.getValue().toString());
 		}
 
-		return executeCommand(RedisCommand.XREADGROUP, args,
+		return executeXRead(xReadArgs, RedisCommand.XREADGROUP, args,
 				(cmd)->cmd.xreadgroup(Consumer.from(SafeEncoder.encode(groupName), SafeEncoder.encode(consumerName)),
 						xReadArgs, streamOffsets),
 				(cmd)->cmd.xreadgroup(Consumer.from(SafeEncoder.encode(groupName), SafeEncoder.encode(consumerName)),
@@ -1343,7 +1348,7 @@ public final class LettuceStreamCommands extends AbstractLettuceRedisCommands im
 			streamOffsets[i++] = XReadArgs.StreamOffset.from(entry.getKey(), entry.getValue().toString());
 		}
 
-		return executeCommand(RedisCommand.XREADGROUP, args,
+		return executeXRead(xReadArgs, RedisCommand.XREADGROUP, args,
 				(cmd)->cmd.xreadgroup(Consumer.from(groupName, consumerName), xReadArgs, streamOffsets),
 				(cmd)->cmd.xreadgroup(Consumer.from(groupName, consumerName), xReadArgs, streamOffsets),
 				new ListConverter<>(new StreamMessageXReadGroupInfoConverter<>((k)->k, (v)->v)));
@@ -1354,4 +1359,17 @@ public final class LettuceStreamCommands extends AbstractLettuceRedisCommands im
 				(cmd)->cmd.xtrim(key, xTrimArgs));
 	}
 
+	private <SR, R> R executeXRead(final XReadArgs xReadArgs, final RedisCommand command,
+	                               final CommandArguments args,
+	                               final Command.Executor<RedisCommands<byte[], byte[]>, SR> executor,
+	                               final Command.Executor<RedisAsyncCommands<byte[], byte[]>, RedisFuture<SR>> asyncExecutor,
+	                               final Converter<SR, R> converter) {
+		final boolean blocking = (xReadArgs instanceof LettuceXReadArgs lettuceXReadArgs &&
+				lettuceXReadArgs.isBlocking()) || (xReadArgs instanceof LettuceXReadGroupArgs lettuceXReadGroupArgs &&
+				lettuceXReadGroupArgs.isBlocking());
+
+		return blocking ? executeBlockingCommand(command, args, executor, asyncExecutor, converter) :
+				executeCommand(command, args, executor, asyncExecutor, converter);
+	}
+
 }
@@ -29,6 +29,7 @@ import com.buession.core.converter.BooleanStatusConverter;
 import com.buession.core.converter.ListConverter;
 import com.buession.lang.KeyValue;
 import com.buession.lang.Status;
+import com.buession.redis.client.connection.ClusterMultiKeyExecutor;
 import com.buession.redis.client.lettuce.LettuceRedisClient;
 import com.buession.redis.core.command.args.GetExType;
 import com.buession.redis.core.command.args.NxXx;
@@ -313,6 +314,11 @@ public final class LettuceStringCommands extends AbstractLettuceRedisCommands im
 
 	@Override
 	public List<String> mGet(final String... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.mGet(client, keys, this::mGet);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.MGET, args, (cmd)->cmd.mget(SafeEncoder.encode(keys)),
 				(cmd)->cmd.mget(SafeEncoder.encode(keys)), new ListConverter<>((v)->SafeEncoder.encode(v.getValue())));
@@ -320,6 +326,11 @@ public final class LettuceStringCommands extends AbstractLettuceRedisCommands im
 
 	@Override
 	public List<byte[]> mGet(final byte[]... keys) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlot(keys)){
+			return multiKeyExecutor.mGet(client, keys, this::mGet);
+		}
+
 		final CommandArguments args = CommandArguments.create(keys);
 		return executeCommand(RedisCommand.MGET, args, (cmd)->cmd.mget(keys), (cmd)->cmd.mget(keys),
 				new ListConverter<>(Value::getValue));
@@ -328,6 +339,11 @@ public final class LettuceStringCommands extends AbstractLettuceRedisCommands im
 	@SuppressWarnings({"unchecked"})
 	@Override
 	public Status mSet(final KeyValue<String, String>... data) {
+		final ClusterMultiKeyExecutor multiKeyExecutor = getClusterMultiKeyExecutor();
+		if(multiKeyExecutor != null && multiKeyExecutor.isCrossSlotEntries(data)){
+			return multiKeyExecutor.mSet(client, data, this::mSet);
+		}
+
 		final CommandArguments args = CommandArguments.create(data);
 		return executeCommand(RedisCommand.MSET, args, (cmd)->cmd.mset(buildSetValues(data)),
 				(cmd)->cmd.mset(buildSetValues(data)), new OkStatusConverter());
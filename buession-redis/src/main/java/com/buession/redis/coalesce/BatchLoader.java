@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.coalesce;
+
+import com.buession.redis.client.RedisClient;
+
+import java.util.List;
+
+/**
+ * 批量加载器，将一批 Key 以尽可能少的往返读取
+ *
+ * @param <K>
+ * 		Key 类型
+ * @param <V>
+ * 		值类型
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+@FunctionalInterface
+public interface BatchLoader<K, V> {
+
+	/**
+	 * 批量读取
+	 *
+	 * @param client
+	 * 		Redis 客户端
+	 * @param keys
+	 * 		Key 列表
+	 *
+	 * @return 与 {@code keys} 一一对应的值列表
+	 */
+	List<V> load(RedisClient client, List<K> keys);
+
+}
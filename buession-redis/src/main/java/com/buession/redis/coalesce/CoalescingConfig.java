@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.coalesce;
+
+import java.time.Duration;
+
+/**
+ * 读命令合并配置，在时间窗口内到达的单 Key GET、HGET 请求合并为一次批量读取
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class CoalescingConfig {
+
+	/**
+	 * 默认单批最大 Key 数量
+	 */
+	public final static int DEFAULT_MAX_BATCH_SIZE = 64;
+
+	/**
+	 * 默认合并窗口
+	 */
+	public final static Duration DEFAULT_MAX_DELAY = Duration.ofNanos(100_000);
+
+	/**
+	 * 默认等待发送者回填结果的超时时长
+	 */
+	public final static Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+	/**
+	 * 单批最大 Key 数量，达到该数量时立即发送
+	 */
+	private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+	/**
+	 * 合并窗口，从批次中第一个请求到达开始计算，到期后发送
+	 */
+	private Duration maxDelay = DEFAULT_MAX_DELAY;
+
+	/**
+	 * 非发送者等待发送者回填结果的超时时长，超时后抛出异常，避免发送者异常退出时永久阻塞
+	 */
+	private Duration timeout = DEFAULT_TIMEOUT;
+
+	/**
+	 * 构造函数
+	 */
+	public CoalescingConfig() {
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param maxBatchSize
+	 * 		单批最大 Key 数量
+	 * @param maxDelay
+	 * 		合并窗口
+	 */
+	public CoalescingConfig(int maxBatchSize, Duration maxDelay) {
+		this.maxBatchSize = maxBatchSize;
+		this.maxDelay = maxDelay;
+	}
+
+	/**
+	 * 返回单批最大 Key 数量
+	 *
+	 * @return 单批最大 Key 数量
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * 设置单批最大 Key 数量
+	 *
+	 * @param maxBatchSize
+	 * 		单批最大 Key 数量
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * 返回合并窗口
+	 *
+	 * @return 合并窗口
+	 */
+	public Duration getMaxDelay() {
+		return maxDelay;
+	}
+
+	/**
+	 * 设置合并窗口
+	 *
+	 * @param maxDelay
+	 * 		合并窗口
+	 */
+	public void setMaxDelay(Duration maxDelay) {
+		this.maxDelay = maxDelay;
+	}
+
+	/**
+	 * 返回等待发送者回填结果的超时时长
+	 *
+	 * @return 等待发送者回填结果的超时时长
+	 */
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * 设置等待发送者回填结果的超时时长
+	 *
+	 * @param timeout
+	 * 		等待发送者回填结果的超时时长
+	 */
+	public void setTimeout(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+}
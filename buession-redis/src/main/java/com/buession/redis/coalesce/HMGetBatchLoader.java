@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.coalesce;
+
+import com.buession.redis.client.RedisClient;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 以 HMGET 批量读取哈希域，同一个 Key 的多个域合并为一次 HMGET
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class HMGetBatchLoader implements BatchLoader<HMGetBatchLoader.HashField, byte[]> {
+
+	@Override
+	public List<byte[]> load(final RedisClient client, final List<HashField> keys) {
+		if(keys.size() == 1){
+			final HashField hashField = keys.get(0);
+			return Arrays.asList(client.hashCommands().hGet(hashField.key(), hashField.field()));
+		}
+
+		final Map<ByteBuffer, List<Integer>> groups = new LinkedHashMap<>();
+
+		for(int i = 0; i < keys.size(); i++){
+			groups.computeIfAbsent(ByteBuffer.wrap(keys.get(i).key()), (key)->new ArrayList<>()).add(i);
+		}
+
+		final byte[][] values = new byte[keys.size()][];
+
+		for(List<Integer> indexes : groups.values()){
+			final byte[] key = keys.get(indexes.get(0)).key();
+			final byte[][] fields = new byte[indexes.size()][];
+
+			for(int i = 0; i < fields.length; i++){
+				fields[i] = keys.get(indexes.get(i)).field();
+			}
+
+			final List<byte[]> fieldValues = client.hashCommands().hMGet(key, fields);
+
+			for(int i = 0; i < fields.length; i++){
+				values[indexes.get(i)] = fieldValues.get(i);
+			}
+		}
+
+		return Arrays.asList(values);
+	}
+
+	/**
+	 * 哈希 Key 及域
+	 *
+	 * @param key
+	 * 		Key
+	 * @param field
+	 * 		域
+	 */
+	public record HashField(byte[] key, byte[] field) {
+
+	}
+
+}
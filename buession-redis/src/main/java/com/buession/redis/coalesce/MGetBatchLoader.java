@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.coalesce;
+
+import com.buession.redis.client.RedisClient;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 以 MGET 批量读取字符串；集群模式下由 {@link com.buession.redis.client.connection.ClusterMultiKeyExecutor}
+ * 按节点分组并发执行
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class MGetBatchLoader implements BatchLoader<byte[], byte[]> {
+
+	@Override
+	public List<byte[]> load(final RedisClient client, final List<byte[]> keys) {
+		if(keys.size() == 1){
+			return Arrays.asList(client.stringCommands().get(keys.get(0)));
+		}
+
+		return client.stringCommands().mGet(keys.toArray(new byte[][]{}));
+	}
+
+}
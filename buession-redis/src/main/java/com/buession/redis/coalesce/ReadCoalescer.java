@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.coalesce;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.client.RedisClient;
+import com.buession.redis.exception.RedisException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 读命令合并器，将并发到达的单 Key 读请求合并为批次，交由 {@link BatchLoader} 一次读取
+ *
+ * <p>批次中第一个到达的线程作为发送者，等待至批次已满或合并窗口到期后，以自身的客户端发送批量命令；
+ * 其余线程阻塞等待发送者回填结果，超过 {@link CoalescingConfig#getTimeout()} 仍未回填时抛出 {@link RedisException}。
+ * 不需要额外的调度线程。</p>
+ *
+ * @param <K>
+ * 		Key 类型
+ * @param <V>
+ * 		值类型
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class ReadCoalescer<K, V> {
+
+	private final int maxBatchSize;
+
+	private final long maxDelay;
+
+	private final long timeout;
+
+	private final BatchLoader<K, V> loader;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private Batch<K, V> current;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param config
+	 * 		合并配置
+	 * @param loader
+	 * 		批量加载器
+	 */
+	public ReadCoalescer(final CoalescingConfig config, final BatchLoader<K, V> loader) {
+		Assert.isNull(config, "CoalescingConfig cloud not be null.");
+		Assert.isNull(loader, "BatchLoader cloud not be null.");
+		Assert.isFalse(config.getMaxBatchSize() > 0, "Max batch size must be greater than 0");
+		Assert.isNull(config.getTimeout(), "Timeout cloud not be null.");
+		Assert.isFalse(config.getTimeout().toNanos() > 0, "Timeout must be greater than 0");
+		this.maxBatchSize = config.getMaxBatchSize();
+		this.maxDelay = config.getMaxDelay() == null ? 0 : config.getMaxDelay().toNanos();
+		this.timeout = config.getTimeout().toNanos();
+		this.loader = loader;
+	}
+
+	/**
+	 * 读取 Key 的值，与同一窗口内的其它请求合并发送
+	 *
+	 * @param client
+	 * 		Redis 客户端，当前线程成为发送者时使用
+	 * @param key
+	 * 		Key
+	 *
+	 * @return 值
+	 */
+	public V get(final RedisClient client, final K key) {
+		final Batch<K, V> batch;
+		final int index;
+		final boolean leader;
+
+		lock.lock();
+		try{
+			leader = current == null;
+			if(leader){
+				current = new Batch<>(Thread.currentThread());
+			}
+
+			batch = current;
+			index = batch.keys.size();
+			batch.keys.add(key);
+
+			if(batch.keys.size() >= maxBatchSize){
+				seal(batch);
+			}
+		}finally{
+			lock.unlock();
+		}
+
+		if(leader){
+			await(batch);
+			dispatch(client, batch);
+		}
+
+		return batch.get(index, timeout);
+	}
+
+	private void await(final Batch<K, V> batch) {
+		final long deadline = System.nanoTime() + maxDelay;
+		long remaining;
+
+		while(batch.sealed == false && (remaining = deadline - System.nanoTime()) > 0){
+			// 中断后 parkNanos 立即返回，不再等待而是立即发送，保留中断状态
+			if(Thread.currentThread().isInterrupted()){
+				break;
+			}
+
+			LockSupport.parkNanos(this, remaining);
+		}
+
+		lock.lock();
+		try{
+			if(batch.sealed == false){
+				seal(batch);
+			}
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	private void seal(final Batch<K, V> batch) {
+		if(current == batch){
+			current = null;
+		}
+
+		batch.sealed = true;
+
+		if(batch.leader != Thread.currentThread()){
+			LockSupport.unpark(batch.leader);
+		}
+	}
+
+	private void dispatch(final RedisClient client, final Batch<K, V> batch) {
+		try{
+			final List<V> values = loader.load(client, batch.keys);
+
+			Assert.isFalse(values != null && values.size() == batch.keys.size(),
+					"Batch result size does not match the number of keys");
+			batch.result.complete(values);
+		}catch(Throwable e){
+			// 包括 Error，保证等待中的线程总能被唤醒
+			batch.result.completeExceptionally(e);
+		}
+	}
+
+	private final static class Batch<K, V> {
+
+		private final Thread leader;
+
+		private final List<K> keys = new ArrayList<>();
+
+		private final CompletableFuture<List<V>> result = new CompletableFuture<>();
+
+		private volatile boolean sealed;
+
+		private Batch(final Thread leader) {
+			this.leader = leader;
+		}
+
+		private V get(final int index, final long timeout) {
+			try{
+				return result.get(timeout, TimeUnit.NANOSECONDS).get(index);
+			}catch(ExecutionException e){
+				final Throwable cause = e.getCause();
+
+				if(cause instanceof RuntimeException runtimeException){
+					throw runtimeException;
+				}else if(cause instanceof Error error){
+					throw error;
+				}
+
+				throw new RedisException(cause.getMessage(), cause);
+			}catch(TimeoutException e){
+				throw new RedisException("Coalesced read timed out after " +
+						TimeUnit.NANOSECONDS.toMillis(timeout) + "ms waiting for the batch leader.", e);
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				throw new RedisException("Coalesced read interrupted.", e);
+			}
+		}
+
+	}
+
+}
@@ -24,6 +24,11 @@
  */
 package com.buession.redis.core;
 
+import com.buession.redis.cache.HotKeyConfig;
+import com.buession.redis.cache.NearCacheConfig;
+import com.buession.redis.coalesce.CoalescingConfig;
+import com.buession.redis.metrics.MetricsConfig;
+import com.buession.redis.script.ScriptRegistry;
 import com.buession.redis.serializer.Serializer;
 import com.buession.redis.serializer.ByteArraySerializer;
 import com.buession.redis.serializer.FastJsonJsonSerializer;
@@ -63,6 +68,48 @@ public class Options {
 	 */
 	private boolean enableTransactionSupport;
 
+	/**
+	 * 本地缓存配置，为 null 时不开启本地缓存
+	 *
+	 * @since 4.0.0
+	 */
+	private NearCacheConfig nearCacheConfig;
+
+	/**
+	 * 热点 Key 本地缓存配置，为 null 时不开启热点 Key 检测
+	 *
+	 * @since 4.0.0
+	 */
+	private HotKeyConfig hotKeyConfig;
+
+	/**
+	 * 读命令合并配置，为 null 时不合并
+	 *
+	 * @since 4.0.0
+	 */
+	private CoalescingConfig coalescingConfig;
+
+	/**
+	 * 命令指标配置，为 null 时不记录指标
+	 *
+	 * @since 4.0.0
+	 */
+	private MetricsConfig metricsConfig;
+
+	/**
+	 * 脚本注册表，登记的脚本和函数库在初始化时预加载
+	 *
+	 * @since 4.0.0
+	 */
+	private ScriptRegistry scriptRegistry;
+
+	/**
+	 * 驻留的热点 Key 数量，小于等于 0 时不驻留
+	 *
+	 * @since 4.0.0
+	 */
+	private int keyInternCapacity;
+
 	/**
 	 * 构造函数
 	 */
@@ -250,6 +297,144 @@ public class Options {
 		this.enableTransactionSupport = enableTransactionSupport;
 	}
 
+	/**
+	 * 返回本地缓存配置
+	 *
+	 * @return 本地缓存配置
+	 *
+	 * @since 4.0.0
+	 */
+	public NearCacheConfig getNearCacheConfig() {
+		return nearCacheConfig;
+	}
+
+	/**
+	 * 设置本地缓存配置
+	 *
+	 * @param nearCacheConfig
+	 * 		本地缓存配置
+	 *
+	 * @since 4.0.0
+	 */
+	public void setNearCacheConfig(NearCacheConfig nearCacheConfig) {
+		this.nearCacheConfig = nearCacheConfig;
+	}
+
+	/**
+	 * 返回热点 Key 本地缓存配置
+	 *
+	 * @return 热点 Key 本地缓存配置
+	 *
+	 * @since 4.0.0
+	 */
+	public HotKeyConfig getHotKeyConfig() {
+		return hotKeyConfig;
+	}
+
+	/**
+	 * 设置热点 Key 本地缓存配置
+	 *
+	 * @param hotKeyConfig
+	 * 		热点 Key 本地缓存配置
+	 *
+	 * @since 4.0.0
+	 */
+	public void setHotKeyConfig(HotKeyConfig hotKeyConfig) {
+		this.hotKeyConfig = hotKeyConfig;
+	}
+
+	/**
+	 * 返回读命令合并配置
+	 *
+	 * @return 读命令合并配置
+	 *
+	 * @since 4.0.0
+	 */
+	public CoalescingConfig getCoalescingConfig() {
+		return coalescingConfig;
+	}
+
+	/**
+	 * 设置读命令合并配置
+	 *
+	 * @param coalescingConfig
+	 * 		读命令合并配置
+	 *
+	 * @since 4.0.0
+	 */
+	public void setCoalescingConfig(CoalescingConfig coalescingConfig) {
+		this.coalescingConfig = coalescingConfig;
+	}
+
+	/**
+	 * 返回命令指标配置
+	 *
+	 * @return 命令指标配置
+	 *
+	 * @since 4.0.0
+	 */
+	public MetricsConfig getMetricsConfig() {
+		return metricsConfig;
+	}
+
+	/**
+	 * 设置命令指标配置
+	 *
+	 * @param metricsConfig
+	 * 		命令指标配置
+	 *
+	 * @since 4.0.0
+	 */
+	public void setMetricsConfig(MetricsConfig metricsConfig) {
+		this.metricsConfig = metricsConfig;
+	}
+
+	/**
+	 * 返回脚本注册表
+	 *
+	 * @return 脚本注册表
+	 *
+	 * @since 4.0.0
+	 */
+	public ScriptRegistry getScriptRegistry() {
+		return scriptRegistry;
+	}
+
+	/**
+	 * 设置脚本注册表
+	 *
+	 * @param scriptRegistry
+	 * 		脚本注册表
+	 *
+	 * @since 4.0.0
+	 */
+	public void setScriptRegistry(ScriptRegistry scriptRegistry) {
+		this.scriptRegistry = scriptRegistry;
+	}
+
+	/**
+	 * 返回驻留的热点 Key 数量
+	 *
+	 * @return 驻留的热点 Key 数量
+	 *
+	 * @since 4.0.0
+	 */
+	public int getKeyInternCapacity() {
+		return keyInternCapacity;
+	}
+
+	/**
+	 * 设置驻留的热点 Key 数量，驻留的 Key 不再重复拼接前缀和编码
+	 *
+	 * @param keyInternCapacity
+	 * 		驻留的热点 Key 数量，小于等于 0 时不驻留
+	 *
+	 * @since 4.0.0
+	 */
+	public void setKeyInternCapacity(int keyInternCapacity) {
+		this.keyInternCapacity = keyInternCapacity;
+	}
+
 	/**
 	 * {@link Builder} 构建器
 	 *
@@ -318,6 +503,96 @@ public class Options {
 			return this;
 		}
 
+		/**
+		 * 设置本地缓存配置
+		 *
+		 * @param nearCacheConfig
+		 * 		本地缓存配置
+		 *
+		 * @return {@link Builder} 实例
+		 *
+		 * @since 4.0.0
+		 */
+		public Builder nearCacheConfig(NearCacheConfig nearCacheConfig) {
+			options.setNearCacheConfig(nearCacheConfig);
+			return this;
+		}
+
+		/**
+		 * 设置热点 Key 本地缓存配置
+		 *
+		 * @param hotKeyConfig
+		 * 		热点 Key 本地缓存配置
+		 *
+		 * @return {@link Builder} 实例
+		 *
+		 * @since 4.0.0
+		 */
+		public Builder hotKeyConfig(HotKeyConfig hotKeyConfig) {
+			options.setHotKeyConfig(hotKeyConfig);
+			return this;
+		}
+
+		/**
+		 * 设置读命令合并配置
+		 *
+		 * @param coalescingConfig
+		 * 		读命令合并配置
+		 *
+		 * @return {@link Builder} 实例
+		 *
+		 * @since 4.0.0
+		 */
+		public Builder coalescingConfig(CoalescingConfig coalescingConfig) {
+			options.setCoalescingConfig(coalescingConfig);
+			return this;
+		}
+
+		/**
+		 * 设置命令指标配置
+		 *
+		 * @param metricsConfig
+		 * 		命令指标配置
+		 *
+		 * @return {@link Builder} 实例
+		 *
+		 * @since 4.0.0
+		 */
+		public Builder metricsConfig(MetricsConfig metricsConfig) {
+			options.setMetricsConfig(metricsConfig);
+			return this;
+		}
+
+		/**
+		 * 设置脚本注册表
+		 *
+		 * @param scriptRegistry
+		 * 		脚本注册表
+		 *
+		 * @return {@link Builder} 实例
+		 *
+		 * @since 4.0.0
+		 */
+		public Builder scriptRegistry(ScriptRegistry scriptRegistry) {
+			options.setScriptRegistry(scriptRegistry);
+			return this;
+		}
+
+		/**
+		 * 设置驻留的热点 Key 数量
+		 *
+		 * @param keyInternCapacity
+		 * 		驻留的热点 Key 数量，小于等于 0 时不驻留
+		 *
+		 * @return {@link Builder} 实例
+		 *
+		 * @since 4.0.0
+		 */
+		public Builder keyInternCapacity(int keyInternCapacity) {
+			options.setKeyInternCapacity(keyInternCapacity);
+			return this;
+		}
+
 		/**
 		 * 构建 {@link Options}
 		 *
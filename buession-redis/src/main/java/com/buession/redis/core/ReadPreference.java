@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.core;
+
+/**
+ * 读取偏好，决定哨兵、集群模式下只读命令的路由目标；写命令、事务及管道始终在主节点上执行
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public enum ReadPreference {
+
+	/**
+	 * 只从主节点读取
+	 */
+	MASTER,
+
+	/**
+	 * 优先从健康的从节点读取，按测得的延迟做负载均衡；无可用从节点时回退到主节点
+	 */
+	REPLICA_PREFERRED,
+
+	/**
+	 * 从测得延迟最低的健康节点读取，包括主节点
+	 */
+	NEAREST,
+
+	/**
+	 * 从任意健康节点读取，包括主节点
+	 */
+	ANY
+
+}
@@ -25,6 +25,8 @@
 package com.buession.redis.core.command;
 
 import com.buession.redis.client.RedisClient;
+import com.buession.redis.client.connection.ClusterMultiKeyExecutor;
+import com.buession.redis.client.connection.RedisClusterConnection;
 
 /**
  * Redis 命令操作
@@ -54,4 +56,20 @@ public abstract class AbstractRedisCommands<C extends RedisClient> implements Re
 		return isPipeline() || isTransaction();
 	}
 
+	/**
+	 * 返回集群多 Key 命令执行器，非集群模式或处于管道、事务中时返回 null，命令按单连接方式执行
+	 *
+	 * @return 集群多 Key 命令执行器
+	 *
+	 * @since 4.0.0
+	 */
+	protected ClusterMultiKeyExecutor getClusterMultiKeyExecutor() {
+		if(isMulti()){
+			return null;
+		}
+
+		return client.getConnection() instanceof RedisClusterConnection clusterConnection ?
+				clusterConnection.getMultiKeyExecutor() : null;
+	}
+
 }
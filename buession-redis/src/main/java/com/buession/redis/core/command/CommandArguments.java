@@ -19,7 +19,7 @@
  * +-------------------------------------------------------------------------------------------------------+
  * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
  * | Author: Yong.Teng <webmaster@buession.com> 													       |
- * | Copyright @ 2013-2025 Buession.com Inc.														       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
  * +-------------------------------------------------------------------------------------------------------+
  */
 package com.buession.redis.core.command;
@@ -33,573 +33,574 @@ import com.buession.redis.core.Keyword;
 import com.buession.redis.core.StreamEntryId;
 import com.buession.redis.core.Tuple;
 import com.buession.redis.core.command.args.Argument;
+import com.buession.redis.metrics.PayloadSizes;
 import com.buession.redis.utils.SafeEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
+ * Redis 命令参数，仅用于日志输出
+ *
+ * <p>参数在添加时只保存原始引用，编码、展开等格式化操作推迟到 {@link #getParameters()} 或 {@link #toString()} 时才进行；
+ * 当 {@code com.buession.redis.client} 日志未开启 DEBUG 级别，且未通过 {@link #setCaptureOnError(boolean)} 开启错误时记录参数
+ * （默认关闭）时，所有 create 方法返回共享的空实例，不再产生任何对象。</p>
+ *
+ * <p>有使用方通过 {@link #retainTracking()} 要求统计请求字节数（如开启了字节数指标）时，即使不记录参数，
+ * 每条命令也会创建一个轻量实例，在添加参数时累加其估算字节数，不保存参数本身；
+ * 同时保留前几个参数及最后一个参数的引用，用于通过 {@link #forEachKey(RedisCommand, Consumer)} 取出写命令涉及的 Key。</p>
+ *
  * @author Yong.Teng
  */
 public final class CommandArguments {
 
-	private final List<Object> parameters = new ArrayList<>();
+	private final static Logger logger = LoggerFactory.getLogger("com.buession.redis.client");
 
-	private CommandArguments() {
-	}
+	private final static CommandArguments NONE = new CommandArguments(false, false);
 
-	private CommandArguments(final Number value) {
-		add(value);
-	}
+	private final static int DEFAULT_CAPACITY = 4;
 
-	private CommandArguments(final boolean value) {
-		add(value);
-	}
+	/**
+	 * 命令执行失败时，是否在错误日志中输出命令参数；开启后成功执行的命令也需保存参数，默认关闭
+	 */
+	private static volatile boolean captureOnError = false;
 
-	private CommandArguments(final byte[] value) {
-		add(value);
-	}
+	/**
+	 * 要求统计请求字节数的使用方数量
+	 */
+	private final static AtomicInteger trackers = new AtomicInteger();
 
-	private CommandArguments(final char value) {
-		add(value);
-	}
+	private final boolean enabled;
 
-	private CommandArguments(final String value) {
-		add(value);
-	}
+	private final boolean tracked;
 
-	private CommandArguments(final Enum<?> value) {
-		add(value);
-	}
+	private long bytes;
 
-	private CommandArguments(final StreamEntryId value) {
-		add(value);
-	}
+	/**
+	 * 已添加的参数个数，统计请求字节数时记录
+	 */
+	private int position;
 
-	private CommandArguments(final KeyValue<?, ?> value) {
-		add(value);
-	}
+	private Object first;
 
-	private CommandArguments(final Range<?> value) {
-		add(value);
-	}
+	private Object second;
 
-	private CommandArguments(final Tuple value) {
-		add(value);
-	}
+	private Object third;
 
-	private CommandArguments(final Collection<?> value) {
-		add(value);
-	}
+	private Object last;
 
-	private CommandArguments(final Map<?, ?> value) {
-		add(value);
-	}
+	private Object[] values;
 
-	private CommandArguments(final Argument value) {
-		add(value);
-	}
-
-	private CommandArguments(final float... values) {
-		add(values);
-	}
-
-	private CommandArguments(final double... values) {
-		add(values);
-	}
-
-	private CommandArguments(final short... values) {
-		add(values);
-	}
-
-	private CommandArguments(final int... values) {
-		add(values);
-	}
-
-	private CommandArguments(final long... values) {
-		add(values);
-	}
-
-	private CommandArguments(final Number... values) {
-		add(values);
-	}
-
-	private CommandArguments(final boolean... values) {
-		add(values);
-	}
+	private int size;
 
-	private CommandArguments(final byte[]... values) {
-		add(values);
-	}
+	private Supplier<CommandArguments> supplier;
 
-	private CommandArguments(final char... values) {
-		add(values);
-	}
+	private List<Object> parameters;
 
-	private CommandArguments(final String... values) {
-		add(values);
+	private CommandArguments(final boolean enabled, final boolean tracked) {
+		this.enabled = enabled;
+		this.tracked = tracked;
 	}
 
-	private CommandArguments(final Enum<?>... values) {
-		add(values);
+	/**
+	 * 返回命令执行失败时，是否在错误日志中输出命令参数
+	 *
+	 * @return 命令执行失败时，是否在错误日志中输出命令参数
+	 *
+	 * @since 4.0.0
+	 */
+	public static boolean isCaptureOnError() {
+		return captureOnError;
 	}
 
-	private CommandArguments(final StreamEntryId... values) {
-		add(values);
+	/**
+	 * 设置命令执行失败时，是否在错误日志中输出命令参数，默认关闭；
+	 * 关闭时仅在 DEBUG 日志开启时记录命令参数，其余情况下命令参数不产生任何开销；
+	 * 开启后每条命令都会保存参数引用，以便失败时输出
+	 *
+	 * @param captureOnError
+	 * 		命令执行失败时，是否在错误日志中输出命令参数
+	 *
+	 * @since 4.0.0
+	 */
+	public static void setCaptureOnError(final boolean captureOnError) {
+		CommandArguments.captureOnError = captureOnError;
 	}
 
-	private CommandArguments(final KeyValue<?, ?>... values) {
-		add(values);
+	/**
+	 * 返回当前是否记录命令参数
+	 *
+	 * @return 当前是否记录命令参数
+	 *
+	 * @since 4.0.0
+	 */
+	public static boolean isCaptureEnabled() {
+		return captureOnError || logger.isDebugEnabled();
 	}
 
-	private CommandArguments(final Range<?>... values) {
-		add(values);
+	/**
+	 * 登记一个需要统计请求字节数的使用方，登记期间每条命令都会累加参数的估算字节数
+	 *
+	 * @since 4.0.0
+	 */
+	public static void retainTracking() {
+		trackers.incrementAndGet();
 	}
 
-	private CommandArguments(final Tuple... values) {
-		add(values);
+	/**
+	 * 注销一个通过 {@link #retainTracking()} 登记的使用方
+	 *
+	 * @since 4.0.0
+	 */
+	public static void releaseTracking() {
+		trackers.updateAndGet((count)->Math.max(0, count - 1));
 	}
 
-	private CommandArguments(final Collection<?>... values) {
-		add(values);
+	/**
+	 * 返回当前是否统计请求字节数
+	 *
+	 * @return 当前是否统计请求字节数
+	 *
+	 * @since 4.0.0
+	 */
+	public static boolean isTrackingEnabled() {
+		return trackers.get() > 0;
 	}
 
-	private CommandArguments(final Map<?, ?>... values) {
-		add(values);
+	public static CommandArguments create() {
+		return newInstance();
 	}
 
-	private CommandArguments(final Argument... values) {
-		add(values);
+	public static CommandArguments create(final long value) {
+		return newInstance().add(value);
 	}
 
-	public static CommandArguments create() {
-		return new CommandArguments();
+	public static CommandArguments create(final double value) {
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final Number value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final boolean value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final byte[] value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final char value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final String value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final Enum<?> value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final StreamEntryId value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final KeyValue<?, ?> value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final Range<?> value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final Tuple value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final Collection<?> value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final Map<?, ?> value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final Argument value) {
-		return new CommandArguments(value);
+		return newInstance().add(value);
 	}
 
 	public static CommandArguments create(final float... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final double... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final short... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final int... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final long... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final Number... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final boolean... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final byte[]... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final char... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final String... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final StreamEntryId... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final Enum<?>... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final KeyValue<?, ?>... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final Range<?>... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final Tuple... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final Collection<?>... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final Map<?, ?>... values) {
-		return new CommandArguments(values);
+		return newInstance().add(values);
 	}
 
 	public static CommandArguments create(final Argument... values) {
-		return new CommandArguments(values);
-	}
+		return newInstance().add(values);
+	}
+
+	/**
+	 * 延迟创建命令参数，{@code supplier} 仅在需要输出命令参数（DEBUG 日志或命令执行失败）或统计请求字节数时才会被调用
+	 *
+	 * @param supplier
+	 * 		命令参数提供者
+	 *
+	 * @return 命令参数
+	 *
+	 * @since 4.0.0
+	 */
+	public static CommandArguments create(final Supplier<CommandArguments> supplier) {
+		if(supplier == null){
+			return NONE;
+		}
 
-	public CommandArguments add(final Number value) {
-		parameters.add(value);
-		return this;
+		final CommandArguments arguments = newInstance();
+
+		if(arguments == NONE){
+			return NONE;
+		}
+
+		arguments.supplier = supplier;
+
+		return arguments;
 	}
 
-	public CommandArguments add(final boolean value) {
-		parameters.add(value ? "1" : "0");
+	/**
+	 * 添加整数参数，未记录命令参数时不装箱
+	 *
+	 * @param value
+	 * 		参数值
+	 *
+	 * @return 命令参数
+	 *
+	 * @since 4.0.0
+	 */
+	public CommandArguments add(final long value) {
+		if(enabled){
+			return append(value);
+		}
+
+		if(tracked){
+			bytes += PayloadSizes.estimate(value);
+			record(null);
+		}
+
 		return this;
 	}
 
-	public CommandArguments add(final byte[] value) {
-		if(value != null){
-			parameters.add(SafeEncoder.encode(value));
+	/**
+	 * 添加浮点数参数，未记录命令参数时不装箱
+	 *
+	 * @param value
+	 * 		参数值
+	 *
+	 * @return 命令参数
+	 *
+	 * @since 4.0.0
+	 */
+	public CommandArguments add(final double value) {
+		if(enabled){
+			return append(value);
+		}
+
+		if(tracked){
+			bytes += PayloadSizes.estimate(value);
+			record(null);
 		}
 
 		return this;
 	}
 
-	public CommandArguments add(final char value) {
-		parameters.add(value);
-		return this;
+	public CommandArguments add(final Number value) {
+		return append(value);
 	}
 
-	public CommandArguments add(final String value) {
-		if(value != null){
-			parameters.add(value);
-		}
+	public CommandArguments add(final boolean value) {
+		return append(value ? "1" : "0");
+	}
 
-		return this;
+	public CommandArguments add(final byte[] value) {
+		return value == null ? this : append(value);
 	}
 
-	public CommandArguments add(final Enum<?> value) {
-		if(value != null){
-			if(value instanceof Keyword){
-				parameters.add(((Keyword) value).getValue());
-			}else{
-				parameters.add(value.name());
-			}
+	public CommandArguments add(final char value) {
+		if(enabled){
+			return append(value);
+		}
+
+		if(tracked){
+			bytes += 1;
+			record(null);
 		}
 
 		return this;
 	}
 
-	public CommandArguments add(final StreamEntryId value) {
-		if(value != null){
-			parameters.add(value);
-		}
+	public CommandArguments add(final String value) {
+		return value == null ? this : append(value);
+	}
 
-		return this;
+	public CommandArguments add(final Enum<?> value) {
+		return value == null ? this : append(value);
 	}
 
-	public CommandArguments add(final KeyValue<?, ?> value) {
-		if(value != null){
-			if(value.getKey() != null && value.getValue() != null){
-				parameters.add(value.getKey());
-				parameters.add(value.getValue());
-			}
-		}
+	public CommandArguments add(final StreamEntryId value) {
+		return value == null ? this : append(value);
+	}
 
-		return this;
+	public CommandArguments add(final KeyValue<?, ?> value) {
+		return value == null ? this : append(value);
 	}
 
 	public CommandArguments add(final Range<?> value) {
-		if(value != null){
-			if(value.getStart() != null && value.getEnd() != null){
-				parameters.add(value.getStart());
-				parameters.add(value.getEnd());
-			}
-		}
-
-		return this;
+		return value == null ? this : append(value);
 	}
 
 	public CommandArguments add(final Tuple value) {
-		if(value != null){
-			if(value.getElement() != null){
-				parameters.add(value.getElement());
-				parameters.add(value.getScore());
-			}
-		}
-
-		return this;
+		return value == null ? this : append(value);
 	}
 
 	public CommandArguments add(final Collection<?> value) {
-		if(Validate.isNotEmpty(value)){
-			for(Object v : value){
-				if(v != null){
-					parameters.add(v);
-				}
-			}
-		}
-
-		return this;
+		return Validate.isNotEmpty(value) ? append(value) : this;
 	}
 
 	public CommandArguments add(final Map<?, ?> value) {
-		if(value != null){
-			for(Map.Entry<?, ?> e : value.entrySet()){
-				if(e.getValue() != null){
-					parameters.add(e.getKey());
-					parameters.add(e.getValue());
-				}
-			}
-		}
-
-		return this;
+		return value == null ? this : append(value);
 	}
 
 	public CommandArguments add(final Argument value) {
-		if(value != null){
-			parameters.add(value.toString());
-		}
-
-		return this;
+		return value == null ? this : append(value);
 	}
 
 	public CommandArguments add(final float... values) {
-		if(Validate.isNotEmpty(values)){
-			for(float value : values){
-				add(value);
-			}
-		}
-
-		return this;
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
 	public CommandArguments add(final double... values) {
-		if(Validate.isNotEmpty(values)){
-			for(double value : values){
-				add(value);
-			}
-		}
-
-		return this;
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
 	public CommandArguments add(final short... values) {
-		if(Validate.isNotEmpty(values)){
-			for(short value : values){
-				add(value);
-			}
-		}
-
-		return this;
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
 	public CommandArguments add(final int... values) {
-		if(Validate.isNotEmpty(values)){
-			for(int value : values){
-				add(value);
-			}
-		}
-
-		return this;
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
 	public CommandArguments add(final long... values) {
-		if(Validate.isNotEmpty(values)){
-			for(long value : values){
-				add(value);
-			}
-		}
-
-		return this;
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
 	public CommandArguments add(final Number... values) {
-		if(Validate.isNotEmpty(values)){
-			for(Number value : values){
-				add(value);
-			}
-		}
-
-		return this;
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
 	public CommandArguments add(final boolean... values) {
-		if(Validate.isNotEmpty(values)){
-			for(boolean value : values){
-				add(value);
-			}
-		}
-
-		return this;
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
 	public CommandArguments add(final byte[]... values) {
-		if(Validate.isNotEmpty(values)){
-			for(byte[] value : values){
-				add(value);
-			}
-		}
-
-		return this;
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
 	public CommandArguments add(final char... values) {
-		if(Validate.isNotEmpty(values)){
-			for(char value : values){
-				add(value);
-			}
-		}
-
-		return this;
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
 	public CommandArguments add(final String... values) {
-		if(Validate.isNotEmpty(values)){
-			for(String value : values){
-				add(value);
-			}
-		}
+		return Validate.isNotEmpty(values) ? append(values) : this;
+	}
 
-		return this;
+	public CommandArguments add(final StreamEntryId... values) {
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
 	public CommandArguments add(final Enum<?>... values) {
-		if(Validate.isNotEmpty(values)){
-			for(Enum<?> value : values){
-				add(value);
-			}
-		}
+		return Validate.isNotEmpty(values) ? append(values) : this;
+	}
 
-		return this;
+	public CommandArguments add(final KeyValue<?, ?>... values) {
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
-	public CommandArguments add(final StreamEntryId... values) {
-		if(Validate.isNotEmpty(values)){
-			for(StreamEntryId value : values){
-				add(value);
-			}
-		}
+	public CommandArguments add(final Range<?>... values) {
+		return Validate.isNotEmpty(values) ? append(values) : this;
+	}
 
-		return this;
+	public CommandArguments add(final Tuple... values) {
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
-	public CommandArguments add(final KeyValue<?, ?>... values) {
-		if(Validate.isNotEmpty(values)){
-			for(KeyValue<?, ?> value : values){
-				add(value);
-			}
-		}
+	public CommandArguments add(final Collection<?>... values) {
+		return Validate.isNotEmpty(values) ? append(values) : this;
+	}
 
-		return this;
+	public CommandArguments add(final Map<?, ?>... values) {
+		return Validate.isNotEmpty(values) ? append(values) : this;
 	}
 
-	public CommandArguments add(final Range<?>... values) {
-		if(Validate.isNotEmpty(values)){
-			for(Range<?> value : values){
-				add(value);
-			}
+	public CommandArguments add(final Argument... values) {
+		return Validate.isNotEmpty(values) ? append(values) : this;
+	}
+
+	/**
+	 * 返回是否未记录任何命令参数
+	 *
+	 * @return 是否未记录任何命令参数
+	 *
+	 * @since 4.0.0
+	 */
+	public boolean isEmpty() {
+		return Validate.isEmpty(getParameters());
+	}
+
+	/**
+	 * 返回命令参数的估算字节数
+	 *
+	 * @return 估算字节数，未统计请求字节数时返回 -1
+	 *
+	 * @since 4.0.0
+	 */
+	public long estimateSize() {
+		if(tracked == false){
+			return -1L;
 		}
 
-		return this;
-	}
+		long result = bytes;
 
-	public CommandArguments add(final Tuple... values) {
-		if(Validate.isNotEmpty(values)){
-			for(Tuple value : values){
-				add(value);
+		if(supplier != null){
+			final CommandArguments arguments = supplier.get();
+
+			if(arguments != null){
+				result += Math.max(arguments.estimateSize(), 0L);
 			}
 		}
 
-		return this;
-	}
-
-	public CommandArguments add(final Collection<?>... values) {
-		if(Validate.isNotEmpty(values)){
-			for(Collection<?> value : values){
-				add(value);
-			}
+		return result;
+	}
+
+	/**
+	 * 依次回调命令涉及的 Key，用于写命令执行后清除本地缓存；未统计请求字节数时不回调。
+	 * 命令参数中除 Key 外的字符串参数也可能被当作 Key 回调，调用方应能容忍多余的 Key
+	 *
+	 * @param command
+	 * 		Redis 命令
+	 * @param action
+	 * 		Key 回调
+	 *
+	 * @since 4.0.0
+	 */
+	public void forEachKey(final RedisCommand command, final Consumer<byte[]> action) {
+		if(tracked == false){
+			return;
 		}
 
-		return this;
-	}
+		if(supplier != null){
+			final CommandArguments arguments = supplier.get();
 
-	public CommandArguments add(final Map<?, ?>... values) {
-		if(Validate.isNotEmpty(values)){
-			for(Map<?, ?> value : values){
-				add(value);
+			if(arguments != null){
+				arguments.forEachKey(command, action);
 			}
 		}
 
-		return this;
-	}
-
-	public CommandArguments add(final Argument... values) {
-		if(Validate.isNotEmpty(values)){
-			for(Argument value : values){
-				add(value);
+		switch(command){
+			// 第一个参数为 numkeys
+			case BITOP, LMPOP, ZMPOP -> forEachKey(second, action);
+			// 前两个参数为 timeout / script、numkeys
+			case BLMPOP, BZMPOP, EVAL, EVALSHA, FCALL -> forEachKey(third, action);
+			// 源 Key 与目标 Key
+			case COPY, RENAME, RENAMENX, SMOVE, LMOVE, BLMOVE, RPOPLPUSH, BRPOPLPUSH -> {
+				forEachKey(first, action);
+				forEachKey(second, action);
+			}
+			// STORE destination 位于最后
+			case SORT -> {
+				forEachKey(first, action);
+				forEachKey(last, action);
 			}
+			default -> forEachKey(first, action);
 		}
-
-		return this;
 	}
 
 	public List<Object> getParameters() {
+		if(parameters == null){
+			parameters = format();
+		}
+
 		return parameters;
 	}
 
@@ -620,4 +621,176 @@ public final class CommandArguments {
 		return asString();
 	}
 
+	private static CommandArguments newInstance() {
+		if(isCaptureEnabled()){
+			return new CommandArguments(true, true);
+		}
+
+		return trackers.get() > 0 ? new CommandArguments(false, true) : NONE;
+	}
+
+	private CommandArguments append(final Object value) {
+		if(tracked){
+			bytes += PayloadSizes.estimate(value);
+			record(value);
+		}
+
+		if(enabled == false){
+			return this;
+		}
+
+		if(values == null){
+			values = new Object[DEFAULT_CAPACITY];
+		}else if(size == values.length){
+			values = Arrays.copyOf(values, size << 1);
+		}
+
+		values[size++] = value;
+		parameters = null;
+
+		return this;
+	}
+
+	private void record(final Object value) {
+		switch(position++){
+			case 0 -> first = value;
+			case 1 -> second = value;
+			case 2 -> third = value;
+			default -> {
+			}
+		}
+
+		last = value;
+	}
+
+	private static void forEachKey(final Object value, final Consumer<byte[]> action) {
+		if(value instanceof byte[] key){
+			action.accept(key);
+		}else if(value instanceof String key){
+			action.accept(SafeEncoder.encode(key));
+		}else if(value instanceof Object[] array){
+			for(Object v : array){
+				forEachKey(v, action);
+			}
+		}else if(value instanceof KeyValue<?, ?> keyValue){
+			forEachKey(keyValue.getKey(), action);
+		}else if(value instanceof Map<?, ?> map){
+			for(Object k : map.keySet()){
+				forEachKey(k, action);
+			}
+		}else if(value instanceof Collection<?> collection){
+			for(Object v : collection){
+				forEachKey(v, action);
+			}
+		}
+	}
+
+	private List<Object> format() {
+		if(enabled == false){
+			return Collections.emptyList();
+		}
+
+		final List<Object> result = new ArrayList<>(size);
+
+		if(supplier != null){
+			final CommandArguments arguments = supplier.get();
+
+			if(arguments != null){
+				result.addAll(arguments.getParameters());
+			}
+		}
+
+		for(int i = 0; i < size; i++){
+			format(values[i], result);
+		}
+
+		return result;
+	}
+
+	private static void format(final Object value, final List<Object> result) {
+		if(value == null){
+			result.add(null);
+		}else if(value instanceof byte[] bytes){
+			result.add(SafeEncoder.encode(bytes));
+		}else if(value instanceof Object[] array){
+			for(Object v : array){
+				if(v != null){
+					format(v, result);
+				}
+			}
+		}else if(value instanceof Keyword keyword){
+			result.add(keyword.getValue());
+		}else if(value instanceof Enum<?> e){
+			result.add(e.name());
+		}else if(value instanceof KeyValue<?, ?> keyValue){
+			if(keyValue.getKey() != null && keyValue.getValue() != null){
+				result.add(keyValue.getKey());
+				result.add(keyValue.getValue());
+			}
+		}else if(value instanceof Range<?> range){
+			if(range.getStart() != null && range.getEnd() != null){
+				result.add(range.getStart());
+				result.add(range.getEnd());
+			}
+		}else if(value instanceof Tuple tuple){
+			if(tuple.getElement() != null){
+				result.add(tuple.getElement());
+				result.add(tuple.getScore());
+			}
+		}else if(value instanceof Collection<?> collection){
+			for(Object v : collection){
+				if(v != null){
+					result.add(v);
+				}
+			}
+		}else if(value instanceof Map<?, ?> map){
+			for(Map.Entry<?, ?> e : map.entrySet()){
+				if(e.getValue() != null){
+					result.add(e.getKey());
+					result.add(e.getValue());
+				}
+			}
+		}else if(value instanceof Argument){
+			result.add(value.toString());
+		}else if(value.getClass().isArray()){
+			formatPrimitiveArray(value, result);
+		}else{
+			result.add(value);
+		}
+	}
+
+	private static void formatPrimitiveArray(final Object value, final List<Object> result) {
+		if(value instanceof int[] array){
+			for(int v : array){
+				result.add(v);
+			}
+		}else if(value instanceof long[] array){
+			for(long v : array){
+				result.add(v);
+			}
+		}else if(value instanceof double[] array){
+			for(double v : array){
+				result.add(v);
+			}
+		}else if(value instanceof float[] array){
+			for(float v : array){
+				result.add(v);
+			}
+		}else if(value instanceof short[] array){
+			for(short v : array){
+				result.add(v);
+			}
+		}else if(value instanceof char[] array){
+			for(char v : array){
+				result.add(v);
+			}
+		}else if(value instanceof boolean[] array){
+			for(boolean v : array){
+				result.add(v ? "1" : "0");
+			}
+		}else{
+			result.add(value);
+		}
+	}
+
 }
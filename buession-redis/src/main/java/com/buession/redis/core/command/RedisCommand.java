@@ -84,7 +84,7 @@ public enum RedisCommand implements ProtocolCommand {
 
 	BITFIELD_RO(RedisCommandGroup.BITMAP, "r"),
 
-	BITOP(RedisCommandGroup.BITMAP, "r"),
+	BITOP(RedisCommandGroup.BITMAP, "w"),
 
 	BITPOS(RedisCommandGroup.BITMAP, "r"),
 
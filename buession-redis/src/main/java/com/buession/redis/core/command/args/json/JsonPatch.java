@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.core.command.args.json;
+
+import com.buession.core.utils.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JSON 文档局部更新，按添加顺序记录一组 JSON.SET、JSON.MERGE、JSON.NUMINCRBY、JSON.ARRAPPEND、JSON.DEL 操作，
+ * 由 {@link com.buession.redis.core.operations.JsonOperations#jsonPatch(String, JsonPatch)} 以一次脚本调用在服务端执行，
+ * 只传输变更的字段而不是整个文档；某个操作失败时后续操作不再执行，已执行的操作不会回滚。
+ * 值不能为 null，删除字段请使用 {@link #del(String)}
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class JsonPatch {
+
+	private final List<Operation> operations = new ArrayList<>();
+
+	/**
+	 * 构造函数
+	 */
+	public JsonPatch() {
+	}
+
+	/**
+	 * 创建 {@link JsonPatch} 实例
+	 *
+	 * @return {@link JsonPatch} 实例
+	 */
+	public static JsonPatch create() {
+		return new JsonPatch();
+	}
+
+	/**
+	 * 设置字段值，值经 RedisTemplate 的序列化器序列化为 JSON
+	 *
+	 * @param path
+	 * 		JSONPath 表达式
+	 * @param value
+	 * 		值
+	 * @param <V>
+	 * 		值类型
+	 *
+	 * @return {@link JsonPatch} 实例
+	 */
+	public <V> JsonPatch set(final String path, final V value) {
+		return add(Type.SET, path, value);
+	}
+
+	/**
+	 * 以 RFC 7396 语义合并字段值，值经 RedisTemplate 的序列化器序列化为 JSON
+	 *
+	 * @param path
+	 * 		JSONPath 表达式
+	 * @param value
+	 * 		值
+	 * @param <V>
+	 * 		值类型
+	 *
+	 * @return {@link JsonPatch} 实例
+	 */
+	public <V> JsonPatch merge(final String path, final V value) {
+		return add(Type.MERGE, path, value);
+	}
+
+	/**
+	 * 对数值字段执行递增
+	 *
+	 * @param path
+	 * 		JSONPath 表达式
+	 * @param value
+	 * 		增量
+	 *
+	 * @return {@link JsonPatch} 实例
+	 */
+	public JsonPatch numIncrBy(final String path, final Number value) {
+		Assert.isNull(value, "Increment value cloud not be null.");
+		return add(Type.NUMINCRBY, path, value);
+	}
+
+	/**
+	 * 向数组字段追加元素，元素经 RedisTemplate 的序列化器序列化为 JSON
+	 *
+	 * @param path
+	 * 		JSONPath 表达式
+	 * @param values
+	 * 		元素
+	 * @param <V>
+	 * 		元素类型
+	 *
+	 * @return {@link JsonPatch} 实例
+	 */
+	@SafeVarargs
+	public final <V> JsonPatch arrAppend(final String path, final V... values) {
+		Assert.isEmpty(values, "Append values cloud not be empty or null.");
+		return add(Type.ARRAPPEND, path, (Object[]) values);
+	}
+
+	/**
+	 * 删除字段
+	 *
+	 * @param path
+	 * 		JSONPath 表达式
+	 *
+	 * @return {@link JsonPatch} 实例
+	 */
+	public JsonPatch del(final String path) {
+		return add(Type.DEL, path);
+	}
+
+	/**
+	 * 返回按添加顺序排列的操作
+	 *
+	 * @return 操作
+	 */
+	public List<Operation> getOperations() {
+		return Collections.unmodifiableList(operations);
+	}
+
+	/**
+	 * 返回是否没有任何操作
+	 *
+	 * @return 没有任何操作返回 true，否则返回 false
+	 */
+	public boolean isEmpty() {
+		return operations.isEmpty();
+	}
+
+	private JsonPatch add(final Type type, final String path, final Object... values) {
+		Assert.isBlank(path, "JSONPath cloud not be empty or null.");
+
+		for(Object value : values){
+			Assert.isNull(value, "JSON value cloud not be null.");
+		}
+
+		operations.add(new Operation(type, path, values));
+		return this;
+	}
+
+	/**
+	 * 操作类型
+	 */
+	public enum Type {
+
+		SET("JSON.SET"),
+
+		MERGE("JSON.MERGE"),
+
+		NUMINCRBY("JSON.NUMINCRBY"),
+
+		ARRAPPEND("JSON.ARRAPPEND"),
+
+		DEL("JSON.DEL");
+
+		private final String command;
+
+		Type(final String command) {
+			this.command = command;
+		}
+
+		/**
+		 * 返回对应的命令
+		 *
+		 * @return 命令
+		 */
+		public String getCommand() {
+			return command;
+		}
+
+	}
+
+	/**
+	 * 局部更新操作
+	 *
+	 * @param type
+	 * 		操作类型
+	 * @param path
+	 * 		JSONPath 表达式
+	 * @param values
+	 * 		值，{@link Type#DEL} 时为空
+	 */
+	public record Operation(Type type, String path, Object[] values) {
+
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.core.command.args.json;
+
+import com.buession.core.utils.Assert;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JSON 文档投影，指定字段名及其取值的 JSONPath；
+ * 由 {@link com.buession.redis.core.operations.JsonOperations#jsonProject(String, JsonProjection, Class)}
+ * 在服务端只读取这些 JSONPath，组装为以字段名为 Key 的 JSON 对象后直接反序列化为目标类型。
+ * JSONPath 只匹配一个值时字段为该值，没有匹配时为 null，匹配多个值时为所有匹配值组成的数组
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class JsonProjection {
+
+	private final Map<String, String> fields = new LinkedHashMap<>();
+
+	/**
+	 * 构造函数
+	 */
+	public JsonProjection() {
+	}
+
+	/**
+	 * 创建 {@link JsonProjection} 实例
+	 *
+	 * @return {@link JsonProjection} 实例
+	 */
+	public static JsonProjection create() {
+		return new JsonProjection();
+	}
+
+	/**
+	 * 添加字段
+	 *
+	 * @param name
+	 * 		目标类型中的字段名
+	 * @param path
+	 * 		以 $ 开头的 JSONPath 表达式
+	 *
+	 * @return {@link JsonProjection} 实例
+	 */
+	public JsonProjection field(final String name, final String path) {
+		Assert.isBlank(name, "Field name cloud not be empty or null.");
+		Assert.isBlank(path, "JSONPath cloud not be empty or null.");
+		Assert.isFalse(path.charAt(0) == '$', "JSONPath must start with '$'.");
+		fields.put(name, path);
+		return this;
+	}
+
+	/**
+	 * 添加字段，字段名取简单 JSONPath（如 $.profile.name）的最后一段
+	 *
+	 * @param path
+	 * 		以 $ 开头的 JSONPath 表达式
+	 *
+	 * @return {@link JsonProjection} 实例
+	 */
+	public JsonProjection field(final String path) {
+		Assert.isBlank(path, "JSONPath cloud not be empty or null.");
+
+		final String name = path.substring(path.lastIndexOf('.') + 1);
+		Assert.isFalse(name.isEmpty() == false && name.charAt(0) != '$' && name.indexOf('[') < 0 &&
+				name.indexOf('*') < 0, "Cloud not derive field name from JSONPath '" + path + "'.");
+
+		return field(name, path);
+	}
+
+	/**
+	 * 返回字段名及其 JSONPath
+	 *
+	 * @return 字段名及其 JSONPath
+	 */
+	public Map<String, String> getFields() {
+		return Collections.unmodifiableMap(fields);
+	}
+
+	/**
+	 * 返回是否没有任何字段
+	 *
+	 * @return 没有任何字段返回 true，否则返回 false
+	 */
+	public boolean isEmpty() {
+		return fields.isEmpty();
+	}
+
+}
@@ -26,6 +26,8 @@ package com.buession.redis.core.internal.lettuce.args;
 
 import io.lettuce.core.XReadArgs;
 
+import java.time.Duration;
+
 /**
  * Lettuce {@link XReadArgs} 扩展
  *
@@ -34,6 +36,13 @@ import io.lettuce.core.XReadArgs;
  */
 public final class LettuceXReadArgs extends XReadArgs {
 
+	/**
+	 * 是否为阻塞读取
+	 *
+	 * @since 4.0.0
+	 */
+	private boolean blocking = false;
+
 	/**
 	 * 构造函数
 	 */
@@ -66,4 +75,27 @@ public final class LettuceXReadArgs extends XReadArgs {
 		count(count);
 	}
 
+	/**
+	 * 返回是否为阻塞读取，即是否设置了 BLOCK 参数
+	 *
+	 * @return 是否为阻塞读取
+	 *
+	 * @since 4.0.0
+	 */
+	public boolean isBlocking() {
+		return blocking;
+	}
+
+	@Override
+	public XReadArgs block(long timeout) {
+		blocking = true;
+		return super.block(timeout);
+	}
+
+	@Override
+	public XReadArgs block(Duration timeout) {
+		blocking = true;
+		return super.block(timeout);
+	}
+
 }
@@ -27,6 +27,7 @@ package com.buession.redis.core.internal.lettuce.args;
 import com.buession.redis.core.command.args.stream.XReadGroupArgument;
 import io.lettuce.core.XReadArgs;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
@@ -37,6 +38,13 @@ import java.util.Optional;
  */
 public final class LettuceXReadGroupArgs extends XReadArgs {
 
+	/**
+	 * 是否为阻塞读取
+	 *
+	 * @since 4.0.0
+	 */
+	private boolean blocking = false;
+
 	/**
 	 * 构造函数
 	 */
@@ -97,4 +105,27 @@ public final class LettuceXReadGroupArgs extends XReadArgs {
 		count(count);
 	}
 
+	/**
+	 * 返回是否为阻塞读取，即是否设置了 BLOCK 参数
+	 *
+	 * @return 是否为阻塞读取
+	 *
+	 * @since 4.0.0
+	 */
+	public boolean isBlocking() {
+		return blocking;
+	}
+
+	@Override
+	public XReadArgs block(long timeout) {
+		blocking = true;
+		return super.block(timeout);
+	}
+
+	@Override
+	public XReadArgs block(Duration timeout) {
+		blocking = true;
+		return super.block(timeout);
+	}
+
 }
@@ -24,7 +24,6 @@
  */
 package com.buession.redis.core.operations;
 
-import com.buession.core.collect.Arrays;
 import com.buession.lang.KeyValue;
 import com.buession.lang.Status;
 import com.buession.redis.core.CmsInfo;
@@ -91,18 +90,14 @@ public interface CountMinSketchOperations extends CountMinSketchCommands, RedisO
 	@SuppressWarnings({"unchecked"})
 	@Override
 	default Status cmsMerge(final String destKey, final KeyValue<String, Long>... keysAndWeights) {
-		final KeyValue<String, Long>[] newKeysAndWeights = Arrays.map(keysAndWeights,
-				(item)->new KeyValue<>(KeyUtils.rawKey(this, item.getKey()),
-						item.getValue()));
+		final KeyValue<String, Long>[] newKeysAndWeights = KeyUtils.rawKeyValues(this, keysAndWeights);
 		return doExecute((cmd)->cmd.cmsMerge(KeyUtils.rawKey(this, destKey), newKeysAndWeights));
 	}
 
 	@SuppressWarnings({"unchecked"})
 	@Override
 	default Status cmsMerge(final byte[] destKey, final KeyValue<byte[], Long>... keysAndWeights) {
-		final KeyValue<byte[], Long>[] newKeysAndWeights = Arrays.map(keysAndWeights,
-				(item)->new KeyValue<>(KeyUtils.rawKey(this, item.getKey()),
-						item.getValue()));
+		final KeyValue<byte[], Long>[] newKeysAndWeights = KeyUtils.rawKeyValues(this, keysAndWeights);
 		return doExecute((cmd)->cmd.cmsMerge(KeyUtils.rawKey(this, destKey), newKeysAndWeights));
 	}
 
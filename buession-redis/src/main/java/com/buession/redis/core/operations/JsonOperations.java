@@ -32,6 +32,8 @@ import com.buession.redis.core.command.Command;
 import com.buession.redis.core.command.args.NxXx;
 import com.buession.redis.core.command.JsonCommands;
 import com.buession.redis.core.command.args.json.JsonGetArgument;
+import com.buession.redis.core.command.args.json.JsonPatch;
+import com.buession.redis.core.command.args.json.JsonProjection;
 import com.buession.redis.core.command.args.json.KeyPathValue;
 import com.buession.redis.utils.KeyUtils;
 
@@ -841,6 +843,98 @@ public interface JsonOperations extends JsonCommands, RedisOperations {
 		return doExecute((cmd)->cmd.jsonObjLen(KeyUtils.rawKey(this, key), path));
 	}
 
+	/**
+	 * 在服务端以一次脚本调用按顺序执行局部更新中的全部操作，只传输变更的字段；
+	 * 全部操作成功时其它客户端不会看到中间状态。某个操作失败（如对非数值字段递增、对非数组字段追加）时
+	 * 停止执行后续操作并抛出异常，此前已执行的操作不会回滚，文档保留部分更新，异常信息中包含已执行的操作数
+	 *
+	 * @param key
+	 * 		Key
+	 * @param patch
+	 * 		局部更新
+	 *
+	 * @return 操作结果
+	 */
+	Status jsonPatch(final String key, final JsonPatch patch);
+
+	/**
+	 * 在服务端以一次脚本调用按顺序执行局部更新中的全部操作，只传输变更的字段；
+	 * 全部操作成功时其它客户端不会看到中间状态。某个操作失败（如对非数值字段递增、对非数组字段追加）时
+	 * 停止执行后续操作并抛出异常，此前已执行的操作不会回滚，文档保留部分更新，异常信息中包含已执行的操作数
+	 *
+	 * @param key
+	 * 		Key
+	 * @param patch
+	 * 		局部更新
+	 *
+	 * @return 操作结果
+	 */
+	Status jsonPatch(final byte[] key, final JsonPatch patch);
+
+	/**
+	 * 只读取投影中的 JSONPath，组装为以字段名为 Key 的 JSON 对象后反序列化为对象
+	 *
+	 * @param key
+	 * 		Key
+	 * @param projection
+	 * 		投影
+	 * @param clazz
+	 * 		值对象类
+	 * @param <V>
+	 * 		值类型
+	 *
+	 * @return 投影对象，Key 不存在时返回 null
+	 */
+	<V> V jsonProject(final String key, final JsonProjection projection, final Class<V> clazz);
+
+	/**
+	 * 只读取投影中的 JSONPath，组装为以字段名为 Key 的 JSON 对象后反序列化为对象
+	 *
+	 * @param key
+	 * 		Key
+	 * @param projection
+	 * 		投影
+	 * @param clazz
+	 * 		值对象类
+	 * @param <V>
+	 * 		值类型
+	 *
+	 * @return 投影对象，Key 不存在时返回 null
+	 */
+	<V> V jsonProject(final byte[] key, final JsonProjection projection, final Class<V> clazz);
+
+	/**
+	 * 只读取投影中的 JSONPath，组装为以字段名为 Key 的 JSON 对象后反序列化为对象
+	 *
+	 * @param key
+	 * 		Key
+	 * @param projection
+	 * 		投影
+	 * @param type
+	 * 		值类型引用
+	 * @param <V>
+	 * 		值类型
+	 *
+	 * @return 投影对象，Key 不存在时返回 null
+	 */
+	<V> V jsonProject(final String key, final JsonProjection projection, final TypeReference<V> type);
+
+	/**
+	 * 只读取投影中的 JSONPath，组装为以字段名为 Key 的 JSON 对象后反序列化为对象
+	 *
+	 * @param key
+	 * 		Key
+	 * @param projection
+	 * 		投影
+	 * @param type
+	 * 		值类型引用
+	 * @param <V>
+	 * 		值类型
+	 *
+	 * @return 投影对象，Key 不存在时返回 null
+	 */
+	<V> V jsonProject(final byte[] key, final JsonProjection projection, final TypeReference<V> type);
+
 	@Override
 	default List<Object> jsonResp(final String key) {
 		return doExecute((cmd)->cmd.jsonResp(KeyUtils.rawKey(this, key)));
@@ -190,17 +190,17 @@ public interface PubSubOperations extends PubSubCommands, RedisOperations {
 
 	@Override
 	default Object sUnSubscribe() {
-		return doExecute((cmd)->cmd.unSubscribe());
+		return doExecute((cmd)->cmd.sUnSubscribe());
 	}
 
 	@Override
 	default Object sUnSubscribe(final String... shardchannel) {
-		return doExecute((cmd)->cmd.unSubscribe(shardchannel));
+		return doExecute((cmd)->cmd.sUnSubscribe(shardchannel));
 	}
 
 	@Override
 	default Object sUnSubscribe(final byte[]... shardchannel) {
-		return doExecute((cmd)->cmd.unSubscribe(shardchannel));
+		return doExecute((cmd)->cmd.sUnSubscribe(shardchannel));
 	}
 
 	@Override
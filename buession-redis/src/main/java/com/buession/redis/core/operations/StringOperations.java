@@ -24,7 +24,6 @@
  */
 package com.buession.redis.core.operations;
 
-import com.buession.core.collect.Arrays;
 import com.buession.core.type.TypeReference;
 import com.buession.lang.KeyValue;
 import com.buession.lang.Status;
@@ -654,24 +653,21 @@ public interface StringOperations extends StringCommands, RedisOperations {
 	@SuppressWarnings({"unchecked"})
 	@Override
 	default Status mSet(final KeyValue<String, String>... data) {
-		final KeyValue<String, String>[] newData = Arrays.map(data, (item)->new KeyValue<>(KeyUtils.rawKey(this,
-				item.getKey()), item.getValue()));
+		final KeyValue<String, String>[] newData = KeyUtils.rawKeyValues(this, data);
 		return doExecute((cmd)->cmd.mSet(newData));
 	}
 
 	@SuppressWarnings({"unchecked"})
 	@Override
 	default Status mSetEx(final KeyValue<String, String>... data) {
-		final KeyValue<String, String>[] newData = Arrays.map(data, (item)->new KeyValue<>(KeyUtils.rawKey(this,
-				item.getKey()), item.getValue()));
+		final KeyValue<String, String>[] newData = KeyUtils.rawKeyValues(this, data);
 		return doExecute((cmd)->cmd.mSetEx(newData));
 	}
 
 	@SuppressWarnings({"unchecked"})
 	@Override
 	default Status mSetEx(final NxXx nxXx, final KeyValue<String, String>... data) {
-		final KeyValue<String, String>[] newData = Arrays.map(data, (item)->new KeyValue<>(KeyUtils.rawKey(this,
-				item.getKey()), item.getValue()));
+		final KeyValue<String, String>[] newData = KeyUtils.rawKeyValues(this, data);
 		return doExecute((cmd)->cmd.mSetEx(nxXx, newData));
 	}
 
@@ -679,24 +675,21 @@ public interface StringOperations extends StringCommands, RedisOperations {
 	@Override
 	default Status mSetEx(final NxXx nxXx, final PxExType exType, final long expires,
 	                      final KeyValue<String, String>... data) {
-		final KeyValue<String, String>[] newData = Arrays.map(data, (item)->new KeyValue<>(KeyUtils.rawKey(this,
-				item.getKey()), item.getValue()));
+		final KeyValue<String, String>[] newData = KeyUtils.rawKeyValues(this, data);
 		return doExecute((cmd)->cmd.mSetEx(nxXx, exType, expires, newData));
 	}
 
 	@SuppressWarnings({"unchecked"})
 	@Override
 	default Status mSetEx(final PxExType exType, final long expires, final KeyValue<String, String>... data) {
-		final KeyValue<String, String>[] newData = Arrays.map(data, (item)->new KeyValue<>(KeyUtils.rawKey(this,
-				item.getKey()), item.getValue()));
+		final KeyValue<String, String>[] newData = KeyUtils.rawKeyValues(this, data);
 		return doExecute((cmd)->cmd.mSetEx(exType, expires, newData));
 	}
 
 	@SuppressWarnings({"unchecked"})
 	@Override
 	default Status mSetNx(final KeyValue<String, String>... data) {
-		final KeyValue<String, String>[] newData = Arrays.map(data, (item)->new KeyValue<>(KeyUtils.rawKey(this,
-				item.getKey()), item.getValue()));
+		final KeyValue<String, String>[] newData = KeyUtils.rawKeyValues(this, data);
 		return doExecute((cmd)->cmd.mSetNx(newData));
 	}
 
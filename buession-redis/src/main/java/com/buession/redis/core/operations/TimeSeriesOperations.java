@@ -813,7 +813,14 @@ public interface TimeSeriesOperations extends TimeSeriesCommands, RedisOperation
 
 	@Override
 	default List<Long> tsMAdd(final TSElement... values) {
-		return doExecute((cmd)->cmd.tsMAdd(values));
+		final TSElement[] rawValues = new TSElement[values.length];
+
+		for(int i = 0; i < values.length; i++){
+			rawValues[i] = new TSElement(KeyUtils.rawKey(this, values[i].key()), values[i].timestamp(),
+					values[i].value());
+		}
+
+		return doExecute((cmd)->cmd.tsMAdd(rawValues));
 	}
 
 	@Override
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.geo;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import com.buession.core.utils.Assert;
+import com.buession.lang.Geo;
+import com.buession.lang.KeyValue;
+import com.buession.redis.RedisTemplate;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 地理位置批量导入器，流式读取成员，按 {@link GeoBulkLoaderOptions#getChunkSize()} 分批以一条多成员 GEOADD 写入，
+ * 最多 {@link GeoBulkLoaderOptions#getMaxInFlight()} 批同时在途，使网络往返相互重叠：
+ *
+ * <ul>
+ *     <li>坐标超出 Redis 允许范围的成员在发送前剔除，计为失败，每累积一批即通过 {@link GeoLoadListener#onError}
+ *     通知，避免整批 GEOADD 被服务端拒绝，也不会在内存中积压</li>
+ *     <li>写入失败的批次计为失败并通知，不会重试，其它批次继续写入</li>
+ *     <li>不同批次并行写入，同一成员出现在多个批次时最终坐标不确定</li>
+ * </ul>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class GeoBulkLoader implements Closeable {
+
+	/**
+	 * Redis 允许的最大纬度（EPSG:900913）
+	 */
+	private final static double MAX_LATITUDE = 85.05112878;
+
+	private final RedisTemplate redisTemplate;
+
+	private final GeoBulkLoaderOptions options;
+
+	private final ExecutorService executor;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 */
+	public GeoBulkLoader(final RedisTemplate redisTemplate) {
+		this(redisTemplate, new GeoBulkLoaderOptions());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param options
+	 * 		导入配置
+	 */
+	public GeoBulkLoader(final RedisTemplate redisTemplate, final GeoBulkLoaderOptions options) {
+		Assert.isNull(redisTemplate, "RedisTemplate cloud not be null.");
+		Assert.isNull(options, "GeoBulkLoaderOptions cloud not be null.");
+		Assert.isFalse(options.getChunkSize() > 0, "Chunk size must be greater than 0");
+		Assert.isFalse(options.getMaxInFlight() > 0, "Max in flight must be greater than 0");
+		this.redisTemplate = redisTemplate;
+		this.options = options;
+		this.executor = Executors.newFixedThreadPool(options.getMaxInFlight(),
+				new DefaultThreadFactory("redis-geo-loader-", true));
+	}
+
+	/**
+	 * 导入成员，阻塞直到全部批次完成
+	 *
+	 * @param key
+	 * 		Key
+	 * @param members
+	 * 		成员及其坐标
+	 *
+	 * @return 导入结果
+	 *
+	 * @throws InterruptedException
+	 * 		等待期间线程被中断
+	 */
+	public GeoLoadResult load(final String key, final Stream<KeyValue<String, Geo>> members)
+			throws InterruptedException {
+		Assert.isNull(members, "Members cloud not be null.");
+		return load(key, members.iterator());
+	}
+
+	/**
+	 * 导入成员，阻塞直到全部批次完成
+	 *
+	 * @param key
+	 * 		Key
+	 * @param members
+	 * 		成员及其坐标
+	 *
+	 * @return 导入结果
+	 *
+	 * @throws InterruptedException
+	 * 		等待期间线程被中断
+	 */
+	public GeoLoadResult load(final String key, final Iterable<KeyValue<String, Geo>> members)
+			throws InterruptedException {
+		Assert.isNull(members, "Members cloud not be null.");
+		return load(key, members.iterator());
+	}
+
+	/**
+	 * 导入成员，阻塞直到全部批次完成
+	 *
+	 * @param key
+	 * 		Key
+	 * @param members
+	 * 		成员及其坐标
+	 *
+	 * @return 导入结果
+	 *
+	 * @throws InterruptedException
+	 * 		等待期间线程被中断
+	 */
+	public GeoLoadResult load(final String key, final Iterator<KeyValue<String, Geo>> members)
+			throws InterruptedException {
+		Assert.isBlank(key, "Key cloud not be empty or null.");
+		Assert.isNull(members, "Members cloud not be null.");
+
+		final long startAt = System.currentTimeMillis();
+		final Progress progress = new Progress(key);
+		final Semaphore inFlight = new Semaphore(options.getMaxInFlight());
+		List<KeyValue<String, Geo>> chunk = new ArrayList<>(options.getChunkSize());
+		List<KeyValue<String, Geo>> invalid = new ArrayList<>();
+
+		try{
+			while(members.hasNext()){
+				final KeyValue<String, Geo> member = members.next();
+
+				if(isValid(member)){
+					chunk.add(member);
+				}else{
+					invalid.add(member);
+
+					if(invalid.size() >= options.getChunkSize()){
+						reportInvalid(invalid, progress);
+						invalid = new ArrayList<>();
+					}
+				}
+
+				if(chunk.size() >= options.getChunkSize()){
+					submit(chunk, inFlight, progress);
+					chunk = new ArrayList<>(options.getChunkSize());
+				}
+			}
+
+			if(chunk.isEmpty() == false){
+				submit(chunk, inFlight, progress);
+			}
+
+			if(invalid.isEmpty() == false){
+				reportInvalid(invalid, progress);
+			}
+		}finally{
+			// 等待在途批次全部完成
+			inFlight.acquireUninterruptibly(options.getMaxInFlight());
+			inFlight.release(options.getMaxInFlight());
+		}
+
+		return new GeoLoadResult(progress.loaded.sum(), progress.added.sum(), progress.failed.sum(),
+				System.currentTimeMillis() - startAt);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	@SuppressWarnings({"unchecked"})
+	private void submit(final List<KeyValue<String, Geo>> chunk, final Semaphore inFlight, final Progress progress)
+			throws InterruptedException {
+		inFlight.acquire();
+
+		try{
+			executor.execute(()->{
+				try{
+					final Long added;
+
+					try{
+						added = redisTemplate.geoAdd(progress.key, chunk.toArray(new KeyValue[0]));
+					}catch(Exception e){
+						progress.failed(chunk, e);
+						return;
+					}
+
+					progress.loaded(chunk.size(), added == null ? 0 : added);
+				}finally{
+					inFlight.release();
+				}
+			});
+		}catch(RuntimeException e){
+			inFlight.release();
+			throw e;
+		}
+	}
+
+	private static void reportInvalid(final List<KeyValue<String, Geo>> members, final Progress progress) {
+		progress.failed(members, new IllegalArgumentException("Invalid coordinates of " + members.size() +
+				" members."));
+	}
+
+	private static boolean isValid(final KeyValue<String, Geo> member) {
+		if(member == null || member.getKey() == null || member.getValue() == null){
+			return false;
+		}
+
+		final double longitude = member.getValue().getLongitude();
+		final double latitude = member.getValue().getLatitude();
+
+		return longitude >= -180 && longitude <= 180 && latitude >= -MAX_LATITUDE && latitude <= MAX_LATITUDE;
+	}
+
+	private final class Progress {
+
+		private final String key;
+
+		private final LongAdder loaded = new LongAdder();
+
+		private final LongAdder added = new LongAdder();
+
+		private final LongAdder failed = new LongAdder();
+
+		Progress(final String key) {
+			this.key = key;
+		}
+
+		void loaded(final int count, final long addedCount) {
+			loaded.add(count);
+			added.add(addedCount);
+			notifyProgress();
+		}
+
+		void failed(final List<KeyValue<String, Geo>> members, final Throwable throwable) {
+			failed.add(members.size());
+
+			final GeoLoadListener listener = options.getListener();
+			if(listener != null){
+				listener.onError(key, members, throwable);
+			}
+
+			notifyProgress();
+		}
+
+		private void notifyProgress() {
+			final GeoLoadListener listener = options.getListener();
+			if(listener != null){
+				listener.onProgress(key, loaded.sum(), failed.sum());
+			}
+		}
+
+	}
+
+}
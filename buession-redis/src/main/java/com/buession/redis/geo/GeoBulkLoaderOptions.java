@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.geo;
+
+/**
+ * 地理位置批量导入配置
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class GeoBulkLoaderOptions {
+
+	/**
+	 * 默认每批成员数
+	 */
+	public final static int DEFAULT_CHUNK_SIZE = 1000;
+
+	/**
+	 * 默认最大并行批次数
+	 */
+	public final static int DEFAULT_MAX_IN_FLIGHT = 4;
+
+	/**
+	 * 每批成员数，即每条 GEOADD 命令包含的成员数
+	 */
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	/**
+	 * 最大并行批次数，达到该值时读取数据源的线程等待，直到有批次写入完成
+	 */
+	private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+	/**
+	 * 进度及错误监听器
+	 */
+	private GeoLoadListener listener;
+
+	/**
+	 * 构造函数
+	 */
+	public GeoBulkLoaderOptions() {
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param chunkSize
+	 * 		每批成员数
+	 * @param maxInFlight
+	 * 		最大并行批次数
+	 */
+	public GeoBulkLoaderOptions(int chunkSize, int maxInFlight) {
+		this.chunkSize = chunkSize;
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * 返回每批成员数
+	 *
+	 * @return 每批成员数
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * 设置每批成员数
+	 *
+	 * @param chunkSize
+	 * 		每批成员数
+	 */
+	public void setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 返回最大并行批次数
+	 *
+	 * @return 最大并行批次数
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * 设置最大并行批次数
+	 *
+	 * @param maxInFlight
+	 * 		最大并行批次数
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * 返回进度及错误监听器
+	 *
+	 * @return 进度及错误监听器
+	 */
+	public GeoLoadListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * 设置进度及错误监听器
+	 *
+	 * @param listener
+	 * 		进度及错误监听器
+	 */
+	public void setListener(GeoLoadListener listener) {
+		this.listener = listener;
+	}
+
+}
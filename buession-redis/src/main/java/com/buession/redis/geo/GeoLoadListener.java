@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.geo;
+
+import com.buession.lang.Geo;
+import com.buession.lang.KeyValue;
+
+import java.util.List;
+
+/**
+ * 地理位置批量导入监听器
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public interface GeoLoadListener {
+
+	/**
+	 * 每完成一批时回调，在写入线程或调用导入的线程中执行，不应阻塞
+	 *
+	 * @param key
+	 * 		Key
+	 * @param loaded
+	 * 		已写入成功的成员数
+	 * @param failed
+	 * 		写入失败或坐标无效的成员数
+	 */
+	default void onProgress(String key, long loaded, long failed) {
+	}
+
+	/**
+	 * 一批成员写入失败，或累积一批坐标无效的成员时回调；前者在写入线程中执行，后者在调用导入的线程中执行
+	 *
+	 * @param key
+	 * 		Key
+	 * @param members
+	 * 		失败的成员
+	 * @param throwable
+	 * 		异常
+	 */
+	default void onError(String key, List<KeyValue<String, Geo>> members, Throwable throwable) {
+	}
+
+}
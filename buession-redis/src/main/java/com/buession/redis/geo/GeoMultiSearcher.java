@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.geo;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import com.buession.core.utils.Assert;
+import com.buession.lang.Order;
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.core.GeoRadius;
+import com.buession.redis.core.command.args.geo.GeoSearchArgument;
+import com.buession.redis.core.command.args.geo.GeoUnit;
+import com.buession.redis.exception.RedisException;
+import com.buession.redis.utils.SafeEncoder;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 多中心地理位置搜索，将多个 GEOSEARCH 并发执行（集群模式下不同 Key 通常位于不同节点），
+ * 每个搜索只取按距离升序的前 K 个成员，再以大小为 K 的堆按距离合并为全局前 K 个成员；
+ * 同一 Key 中的同一成员被多个中心命中时只保留距离最近的一次
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class GeoMultiSearcher implements Closeable {
+
+	/**
+	 * 默认最大并行搜索数
+	 */
+	public final static int DEFAULT_PARALLELISM = 8;
+
+	/**
+	 * 默认超时时长
+	 */
+	public final static Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+	private final static Comparator<GeoHit> DISTANCE_COMPARATOR = Comparator.comparingDouble(GeoHit::distance);
+
+	private final RedisTemplate redisTemplate;
+
+	private final Duration timeout;
+
+	private final ExecutorService executor;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 */
+	public GeoMultiSearcher(final RedisTemplate redisTemplate) {
+		this(redisTemplate, DEFAULT_PARALLELISM, DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param parallelism
+	 * 		最大并行搜索数
+	 * @param timeout
+	 * 		一次多中心搜索的超时时长
+	 */
+	public GeoMultiSearcher(final RedisTemplate redisTemplate, final int parallelism, final Duration timeout) {
+		Assert.isNull(redisTemplate, "RedisTemplate cloud not be null.");
+		Assert.isNull(timeout, "Timeout cloud not be null.");
+		Assert.isFalse(parallelism > 0, "Parallelism must be greater than 0");
+		this.redisTemplate = redisTemplate;
+		this.timeout = timeout;
+		this.executor = Executors.newFixedThreadPool(parallelism, new DefaultThreadFactory("redis-geo-search-", true));
+	}
+
+	/**
+	 * 多中心搜索，返回所有中心范围内距离最近的前 K 个成员
+	 *
+	 * @param queries
+	 * 		搜索条件
+	 * @param topK
+	 * 		返回的最大成员数
+	 * @param unit
+	 * 		结果距离单位
+	 *
+	 * @return 按距离升序排列的成员
+	 */
+	public List<GeoHit> search(final Collection<GeoQuery> queries, final int topK, final GeoUnit unit) {
+		Assert.isNull(queries, "Queries cloud not be null.");
+		Assert.isNull(unit, "GeoUnit cloud not be null.");
+		Assert.isFalse(topK > 0, "Top K must be greater than 0");
+
+		final List<List<GeoHit>> results = queries.size() == 1 ?
+				List.of(search(queries.iterator().next(), topK, unit)) : searchParallel(queries, topK, unit);
+		final Map<String, GeoHit> nearest = new HashMap<>();
+
+		for(List<GeoHit> hits : results){
+			for(GeoHit hit : hits){
+				nearest.merge(hit.query().key() + '\0' + hit.member(), hit,
+						(a, b)->a.distance() <= b.distance() ? a : b);
+			}
+		}
+
+		// 大顶堆只保留距离最近的 K 个成员
+		final PriorityQueue<GeoHit> heap = new PriorityQueue<>(topK + 1, DISTANCE_COMPARATOR.reversed());
+
+		for(GeoHit hit : nearest.values()){
+			if(heap.size() < topK){
+				heap.add(hit);
+			}else if(hit.distance() < heap.peek().distance()){
+				heap.poll();
+				heap.add(hit);
+			}
+		}
+
+		final List<GeoHit> result = new ArrayList<>(heap);
+
+		result.sort(DISTANCE_COMPARATOR);
+		return result;
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	private List<List<GeoHit>> searchParallel(final Collection<GeoQuery> queries, final int topK,
+	                                          final GeoUnit unit) {
+		final List<Future<List<GeoHit>>> futures = new ArrayList<>(queries.size());
+		final long deadline = System.nanoTime() + timeout.toNanos();
+
+		for(GeoQuery query : queries){
+			futures.add(executor.submit(()->search(query, topK, unit)));
+		}
+
+		final List<List<GeoHit>> results = new ArrayList<>(futures.size());
+
+		try{
+			for(Future<List<GeoHit>> future : futures){
+				results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+			}
+		}catch(TimeoutException e){
+			cancel(futures);
+			throw new RedisException("Geo multi-center search timed out after " + timeout.toMillis() + "ms.", e);
+		}catch(ExecutionException e){
+			cancel(futures);
+			final Throwable cause = e.getCause();
+			throw cause instanceof RuntimeException ? (RuntimeException) cause :
+					new RedisException(cause.getMessage(), cause);
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			cancel(futures);
+			throw new RedisException("Geo multi-center search interrupted.", e);
+		}
+
+		return results;
+	}
+
+	private List<GeoHit> search(final GeoQuery query, final int topK, final GeoUnit unit) {
+		final List<GeoRadius> radii = redisTemplate.geoSearch(query.key(), query.longitude(), query.latitude(),
+				query.radius(), query.unit(), new GeoSearchArgument(true, true, false, Order.ASC), topK);
+
+		if(radii == null){
+			return List.of();
+		}
+
+		final double factor = meters(query.unit()) / meters(unit);
+		final List<GeoHit> hits = new ArrayList<>(radii.size());
+
+		for(GeoRadius radius : radii){
+			hits.add(new GeoHit(query, SafeEncoder.encode(radius.member()),
+					radius.distance() == null ? 0 : radius.distance() * factor, radius.geo()));
+		}
+
+		return hits;
+	}
+
+	private static double meters(final GeoUnit unit) {
+		// 与 Redis 服务端的单位换算一致
+		return switch(unit){
+			case M -> 1;
+			case KM -> 1000;
+			case MI -> 1609.34;
+			case FT -> 0.3048;
+		};
+	}
+
+	private static void cancel(final List<? extends Future<?>> futures) {
+		for(Future<?> future : futures){
+			future.cancel(true);
+		}
+	}
+
+}
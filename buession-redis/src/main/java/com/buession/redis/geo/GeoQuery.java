@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.geo;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.core.command.args.geo.GeoUnit;
+
+/**
+ * 多中心搜索中的单个搜索条件：在 Key 中搜索以中心点为圆心、指定半径内的成员
+ *
+ * @param key
+ * 		Key
+ * @param longitude
+ * 		中心点经度
+ * @param latitude
+ * 		中心点纬度
+ * @param radius
+ * 		半径
+ * @param unit
+ * 		半径单位
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public record GeoQuery(String key, double longitude, double latitude, double radius, GeoUnit unit) {
+
+	public GeoQuery {
+		Assert.isBlank(key, "Key cloud not be empty or null.");
+		Assert.isNull(unit, "GeoUnit cloud not be null.");
+		Assert.isFalse(radius > 0, "Radius must be greater than 0");
+	}
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.lock;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 租约续期器，所有锁和信号量许可的续期共享一个时间轮（Hashed Timing Wheel），登记和取消都是 O(1) 的本地操作；
+ * 时间轮线程只负责推进刻度，到期的续期交由续期线程池并发访问服务端，单个慢续期不会推迟其它租约
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+final class LeaseRenewer implements Closeable {
+
+	private final static int WHEEL_SIZE = 512;
+
+	private final static int MASK = WHEEL_SIZE - 1;
+
+	private final long tickDuration;
+
+	private final Queue<Renewal>[] wheel;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final ThreadPoolExecutor workers;
+
+	/**
+	 * 当前刻度，仅由后台线程修改
+	 */
+	private volatile long currentTick = 0;
+
+	private final static Logger logger = LoggerFactory.getLogger(LeaseRenewer.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param tickDuration
+	 * 		时间轮刻度（单位：毫秒）
+	 * @param parallelism
+	 * 		续期线程数
+	 */
+	@SuppressWarnings({"unchecked"})
+	LeaseRenewer(final long tickDuration, final int parallelism) {
+		this.tickDuration = tickDuration;
+		this.wheel = new Queue[WHEEL_SIZE];
+
+		for(int i = 0; i < WHEEL_SIZE; i++){
+			wheel[i] = new ConcurrentLinkedQueue<>();
+		}
+
+		this.workers = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), new DefaultThreadFactory("redis-lease-renew-worker-", true));
+		workers.allowCoreThreadTimeOut(true);
+
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(
+				new DefaultThreadFactory("redis-lease-renewer-", true));
+		scheduler.scheduleAtFixedRate(this::advance, tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 登记续期任务
+	 *
+	 * @param name
+	 * 		租约名称，用于日志
+	 * @param renewer
+	 * 		续期操作，返回 false 时表示租约已丢失，不再续期
+	 * @param period
+	 * 		续期周期（单位：毫秒）
+	 *
+	 * @return 续期任务
+	 */
+	Renewal schedule(final String name, final BooleanSupplier renewer, final long period) {
+		final Renewal renewal = new Renewal(name, renewer, Math.max(1, period / tickDuration));
+
+		reschedule(renewal);
+		return renewal;
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+		workers.shutdownNow();
+
+		for(Queue<Renewal> bucket : wheel){
+			bucket.clear();
+		}
+	}
+
+	private void reschedule(final Renewal renewal) {
+		// 多加一个刻度，避免读到旧刻度时落入正在处理的槽位而被推迟一整轮
+		final long deadline = currentTick + renewal.ticks + 1;
+
+		renewal.deadline = deadline;
+		wheel[(int) (deadline & MASK)].add(renewal);
+	}
+
+	private void advance() {
+		final long tick = currentTick + 1;
+		final Queue<Renewal> bucket = wheel[(int) (tick & MASK)];
+		final List<Renewal> due = new ArrayList<>();
+		final List<Renewal> later = new ArrayList<>();
+		Renewal renewal;
+
+		currentTick = tick;
+
+		while((renewal = bucket.poll()) != null){
+			if(renewal.cancelled == false){
+				(renewal.deadline <= tick ? due : later).add(renewal);
+			}
+		}
+
+		// 未到期的任务属于后续轮次，放回原槽位
+		bucket.addAll(later);
+
+		for(Renewal r : due){
+			try{
+				workers.execute(()->renew(r));
+			}catch(RejectedExecutionException e){
+				// 已关闭
+				return;
+			}
+		}
+	}
+
+	private void renew(final Renewal renewal) {
+		if(renewal.cancelled){
+			return;
+		}
+
+		try{
+			if(renewal.renewer.getAsBoolean() == false){
+				renewal.lost = true;
+				logger.warn("Lease '{}' lost, stop renewal.", renewal.name);
+				return;
+			}
+		}catch(Exception e){
+			// 续期周期为租约时长的 1/3，失败后仍有重试机会
+			logger.warn("Renew lease '{}' failure: {}", renewal.name, e.getMessage());
+		}
+
+		// 续期完成后才重新登记，同一租约不会有两个续期同时进行
+		if(renewal.cancelled == false){
+			reschedule(renewal);
+		}
+	}
+
+	/**
+	 * 续期任务
+	 */
+	final static class Renewal {
+
+		private final String name;
+
+		private final BooleanSupplier renewer;
+
+		private final long ticks;
+
+		private volatile long deadline;
+
+		private volatile boolean cancelled = false;
+
+		private volatile boolean lost = false;
+
+		Renewal(final String name, final BooleanSupplier renewer, final long ticks) {
+			this.name = name;
+			this.renewer = renewer;
+			this.ticks = ticks;
+		}
+
+		/**
+		 * 取消续期
+		 */
+		void cancel() {
+			cancelled = true;
+		}
+
+		/**
+		 * 返回租约是否已丢失
+		 *
+		 * @return 租约是否已丢失
+		 */
+		boolean isLost() {
+			return lost;
+		}
+
+	}
+
+}
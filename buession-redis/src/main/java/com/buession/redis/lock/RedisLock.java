@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.lock;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.script.RedisScript;
+import com.buession.redis.utils.SafeEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 分布式锁，可同时锁定多个 Key；获取、释放、续期都是一次原子的 EVALSHA，持有期间由
+ * {@link RedisLockFactory} 的本地租约续期器自动续期。
+ *
+ * <p>锁对象代表一个持有者，不可重入；持有状态以原子引用保存，等待获取期间不持有任何监视器，
+ * 同一锁对象上的并发获取会抛出 {@link IllegalStateException}。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class RedisLock {
+
+	/**
+	 * 任意一个 Key 被占用时返回其剩余时长，否则全部写入持有者标识并返回 0
+	 */
+	private final static RedisScript ACQUIRE_SCRIPT = new RedisScript("""
+			for i = 1, #KEYS do
+				local ttl = redis.call('PTTL', KEYS[i])
+				if ttl ~= -2 then
+					if ttl < 0 then
+						ttl = tonumber(ARGV[2])
+					end
+					return math.max(ttl, 1)
+				end
+			end
+			for i = 1, #KEYS do
+				redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2])
+			end
+			return 0
+			""");
+
+	private final static RedisScript RELEASE_SCRIPT = new RedisScript("""
+			local count = 0
+			for i = 1, #KEYS do
+				if redis.call('GET', KEYS[i]) == ARGV[1] then
+					redis.call('DEL', KEYS[i])
+					count = count + 1
+				end
+			end
+			return count
+			""");
+
+	private final static RedisScript RENEW_SCRIPT = new RedisScript("""
+			local count = 0
+			for i = 1, #KEYS do
+				if redis.call('GET', KEYS[i]) == ARGV[1] then
+					redis.call('PEXPIRE', KEYS[i], ARGV[2])
+					count = count + 1
+				end
+			end
+			return count
+			""");
+
+	private final RedisLockFactory factory;
+
+	private final String name;
+
+	private final byte[][] keys;
+
+	/**
+	 * 当前持有者标识及其续期任务，未持有时为 null
+	 */
+	private final AtomicReference<Holder> holder = new AtomicReference<>();
+
+	/**
+	 * 是否有线程正在获取
+	 */
+	private final AtomicBoolean acquiring = new AtomicBoolean(false);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param factory
+	 * 		分布式锁工厂
+	 * @param name
+	 * 		锁名称
+	 * @param keys
+	 * 		经前缀处理的 Key
+	 */
+	RedisLock(final RedisLockFactory factory, final String name, final byte[][] keys) {
+		this.factory = factory;
+		this.name = name;
+		this.keys = keys;
+	}
+
+	/**
+	 * 返回锁名称，多个 Key 时以逗号分隔
+	 *
+	 * @return 锁名称
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 尝试获取锁，不等待
+	 *
+	 * @return 是否获取成功
+	 */
+	public boolean tryLock() {
+		final byte[] token = beginAcquire();
+
+		try{
+			if(acquire(token) == 0){
+				onAcquired(token);
+				return true;
+			}
+
+			return false;
+		}finally{
+			acquiring.set(false);
+		}
+	}
+
+	/**
+	 * 尝试获取锁，在等待时长内按锁的剩余时长和重试间隔轮询
+	 *
+	 * @param waitTime
+	 * 		最长等待时长
+	 *
+	 * @return 是否获取成功
+	 *
+	 * @throws InterruptedException
+	 * 		等待期间线程被中断
+	 */
+	public boolean tryLock(final Duration waitTime) throws InterruptedException {
+		Assert.isNull(waitTime, "Wait time cloud not be null.");
+
+		final byte[] token = beginAcquire();
+		final long deadline = System.nanoTime() + waitTime.toNanos();
+
+		try{
+			for(; ; ){
+				final long ttl = acquire(token);
+
+				if(ttl == 0){
+					onAcquired(token);
+					return true;
+				}
+
+				final long sleepTime = factory.sleepTime(ttl, deadline);
+
+				if(sleepTime <= 0){
+					return false;
+				}
+
+				Thread.sleep(sleepTime);
+			}
+		}finally{
+			acquiring.set(false);
+		}
+	}
+
+	/**
+	 * 释放锁
+	 *
+	 * @return 所有 Key 是否仍由当前持有者持有并释放成功；租约已过期被其它持有者获取时返回 false
+	 */
+	public boolean unlock() {
+		final Holder current = holder.getAndSet(null);
+
+		if(current == null){
+			return false;
+		}
+
+		current.renewal().cancel();
+
+		final Object result = factory.getRedisTemplate().eval(RELEASE_SCRIPT, keys, new byte[][]{current.token()});
+		return RedisLockFactory.toLong(result) == keys.length;
+	}
+
+	/**
+	 * 返回当前锁对象是否持有锁，续期发现租约丢失后返回 false
+	 *
+	 * @return 是否持有锁
+	 */
+	public boolean isLocked() {
+		final Holder current = holder.get();
+		return current != null && current.renewal().isLost() == false;
+	}
+
+	private byte[] beginAcquire() {
+		if(acquiring.compareAndSet(false, true) == false){
+			throw new IllegalStateException("Lock '" + name + "' is being acquired by another thread.");
+		}
+
+		if(isLocked()){
+			acquiring.set(false);
+			throw new IllegalStateException("Lock '" + name + "' is already held by this object.");
+		}
+
+		return SafeEncoder.encode(factory.nextToken());
+	}
+
+	private long acquire(final byte[] token) {
+		return RedisLockFactory.toLong(factory.getRedisTemplate().eval(ACQUIRE_SCRIPT, keys,
+				new byte[][]{token, factory.leaseTimeRaw()}));
+	}
+
+	private void onAcquired(final byte[] token) {
+		final LeaseRenewer.Renewal renewal = factory.getRenewer().schedule(name, ()->renew(token),
+				factory.leaseTime() / 3);
+		final Holder previous = holder.getAndSet(new Holder(token, renewal));
+
+		// 租约已丢失的旧持有者不再续期
+		if(previous != null){
+			previous.renewal().cancel();
+		}
+	}
+
+	private boolean renew(final byte[] token) {
+		return RedisLockFactory.toLong(factory.getRedisTemplate().eval(RENEW_SCRIPT, keys,
+				new byte[][]{token, factory.leaseTimeRaw()})) == keys.length;
+	}
+
+	private record Holder(byte[] token, LeaseRenewer.Renewal renewal) {
+
+	}
+
+}
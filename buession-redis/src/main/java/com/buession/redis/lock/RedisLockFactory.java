@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.lock;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.client.connection.datasource.ClusterDataSource;
+import com.buession.redis.utils.KeyUtils;
+import com.buession.redis.utils.SafeEncoder;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 分布式锁、信号量工厂，同一工厂创建的锁和信号量共享一个本地租约续期器；
+ * 所有 Key 经 {@link RedisTemplate} 的 Key 前缀处理，每次获取、释放、续期都是一次原子的 EVALSHA
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class RedisLockFactory implements Closeable {
+
+	/**
+	 * 默认租约时长
+	 */
+	public final static Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(30);
+
+	/**
+	 * 默认等待获取时的最大重试间隔
+	 */
+	public final static Duration DEFAULT_RETRY_INTERVAL = Duration.ofMillis(100);
+
+	/**
+	 * 续期线程数，续期是一次网络往返，按处理器数量取值并至少为 4
+	 */
+	private final static int RENEW_PARALLELISM = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+	private final RedisTemplate redisTemplate;
+
+	private final long leaseTime;
+
+	private final byte[] leaseTimeRaw;
+
+	private final long retryInterval;
+
+	/**
+	 * 集群模式数据源，非集群模式时为 null
+	 */
+	private final ClusterDataSource clusterDataSource;
+
+	private final LeaseRenewer renewer;
+
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 */
+	public RedisLockFactory(final RedisTemplate redisTemplate) {
+		this(redisTemplate, DEFAULT_LEASE_TIME);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param leaseTime
+	 * 		租约时长，持有期间每 1/3 租约时长续期一次，进程异常退出后最长经过该时长自动释放
+	 */
+	public RedisLockFactory(final RedisTemplate redisTemplate, final Duration leaseTime) {
+		this(redisTemplate, leaseTime, DEFAULT_RETRY_INTERVAL);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param leaseTime
+	 * 		租约时长，持有期间每 1/3 租约时长续期一次，进程异常退出后最长经过该时长自动释放
+	 * @param retryInterval
+	 * 		等待获取时的最大重试间隔
+	 */
+	public RedisLockFactory(final RedisTemplate redisTemplate, final Duration leaseTime,
+	                        final Duration retryInterval) {
+		Assert.isNull(redisTemplate, "RedisTemplate cloud not be null.");
+		Assert.isNull(leaseTime, "Lease time cloud not be null.");
+		Assert.isNull(retryInterval, "Retry interval cloud not be null.");
+		Assert.isFalse(leaseTime.toMillis() >= 30, "Lease time must be greater than or equal to 30 milliseconds");
+		Assert.isFalse(retryInterval.toMillis() > 0, "Retry interval must be greater than 0");
+		this.redisTemplate = redisTemplate;
+		this.leaseTime = leaseTime.toMillis();
+		this.leaseTimeRaw = SafeEncoder.encode(Long.toString(this.leaseTime));
+		this.retryInterval = retryInterval.toMillis();
+		this.clusterDataSource = redisTemplate.getDataSource() instanceof ClusterDataSource dataSource ?
+				dataSource : null;
+		// 每个续期周期至少 10 个刻度，刻度最长 100 毫秒
+		this.renewer = new LeaseRenewer(Math.max(1, Math.min(100, this.leaseTime / 30)), RENEW_PARALLELISM);
+	}
+
+	/**
+	 * 返回租约时长
+	 *
+	 * @return 租约时长
+	 */
+	public Duration getLeaseTime() {
+		return Duration.ofMillis(leaseTime);
+	}
+
+	/**
+	 * 返回分布式锁
+	 *
+	 * @param name
+	 * 		锁名称
+	 *
+	 * @return 分布式锁
+	 */
+	public RedisLock getLock(final String name) {
+		return getMultiLock(name);
+	}
+
+	/**
+	 * 返回同时锁定多个 Key 的分布式锁，所有 Key 在一次往返中全部获取或全部不获取；
+	 * 集群模式下所有 Key 须位于同一槽位，如使用相同的 Hash Tag
+	 *
+	 * @param names
+	 * 		锁名称
+	 *
+	 * @return 分布式锁
+	 */
+	public RedisLock getMultiLock(final String... names) {
+		Assert.isEmpty(names, "Lock names cloud not be empty or null.");
+
+		final byte[][] keys = new byte[names.length][];
+
+		for(int i = 0; i < names.length; i++){
+			Assert.isBlank(names[i], "Lock name cloud not be empty or null.");
+			keys[i] = KeyUtils.rawKeyAsBytes(redisTemplate, names[i]);
+		}
+
+		if(clusterDataSource != null && keys.length > 1){
+			final int slot = clusterDataSource.getSlot(keys[0]);
+
+			for(int i = 1; i < keys.length; i++){
+				Assert.isFalse(clusterDataSource.getSlot(keys[i]) == slot,
+						"Lock names must hash to the same slot in cluster mode, use a hash tag such as '{order}'.");
+			}
+		}
+
+		return new RedisLock(this, String.join(",", names), keys);
+	}
+
+	/**
+	 * 返回分布式信号量
+	 *
+	 * @param name
+	 * 		信号量名称
+	 * @param permits
+	 * 		许可总数
+	 *
+	 * @return 分布式信号量
+	 */
+	public RedisSemaphore getSemaphore(final String name, final int permits) {
+		Assert.isBlank(name, "Semaphore name cloud not be empty or null.");
+		Assert.isFalse(permits > 0, "Permits must be greater than 0");
+		return new RedisSemaphore(this, name, KeyUtils.rawKeyAsBytes(redisTemplate, name), permits);
+	}
+
+	@Override
+	public void close() {
+		renewer.close();
+	}
+
+	RedisTemplate getRedisTemplate() {
+		return redisTemplate;
+	}
+
+	long leaseTime() {
+		return leaseTime;
+	}
+
+	byte[] leaseTimeRaw() {
+		return leaseTimeRaw;
+	}
+
+	long retryInterval() {
+		return retryInterval;
+	}
+
+	LeaseRenewer getRenewer() {
+		return renewer;
+	}
+
+	/**
+	 * 生成全局唯一的持有者标识
+	 *
+	 * @return 持有者标识
+	 */
+	String nextToken() {
+		return instanceId + ':' + sequence.incrementAndGet();
+	}
+
+	static long toLong(final Object value) {
+		if(value instanceof Number number){
+			return number.longValue();
+		}else if(value instanceof byte[] bytes){
+			return Long.parseLong(SafeEncoder.encode(bytes));
+		}else{
+			return Long.parseLong(value.toString());
+		}
+	}
+
+	/**
+	 * 计算等待获取时下一次重试前的休眠时长
+	 *
+	 * @param hint
+	 * 		服务端返回的预计可获取时长（单位：毫秒）
+	 * @param deadline
+	 * 		等待截止时间（{@link System#nanoTime()}）
+	 *
+	 * @return 休眠时长（单位：毫秒），小于等于 0 时表示已超时
+	 */
+	long sleepTime(final long hint, final long deadline) {
+		final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+		if(remaining <= 0){
+			return 0;
+		}
+
+		return Math.max(1, Math.min(Math.min(hint, retryInterval), remaining));
+	}
+
+}
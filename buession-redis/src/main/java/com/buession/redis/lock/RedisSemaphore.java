@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.lock;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.script.RedisScript;
+import com.buession.redis.utils.SafeEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 分布式信号量，以有序集合保存许可及其租约到期时间（服务端 TIME），租约过期的许可自动回收；
+ * 获取、释放、续期都是一次原子的 EVALSHA，持有期间由 {@link RedisLockFactory} 的本地租约续期器自动续期
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class RedisSemaphore {
+
+	private final static String NOW = """
+			local time = redis.call('TIME')
+			local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+			""";
+
+	/**
+	 * 许可已满时返回最早到期许可的剩余时长，否则登记许可并返回 0
+	 */
+	private final static RedisScript ACQUIRE_SCRIPT = new RedisScript(NOW + """
+			redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+			if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[1]) then
+				local earliest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+				return math.max(1, tonumber(earliest[2]) - now)
+			end
+			redis.call('ZADD', KEYS[1], now + tonumber(ARGV[2]), ARGV[3])
+			redis.call('PEXPIRE', KEYS[1], ARGV[2])
+			return 0
+			""");
+
+	private final static RedisScript RENEW_SCRIPT = new RedisScript(NOW + """
+			local score = redis.call('ZSCORE', KEYS[1], ARGV[2])
+			if not score or tonumber(score) <= now then
+				redis.call('ZREM', KEYS[1], ARGV[2])
+				return 0
+			end
+			redis.call('ZADD', KEYS[1], now + tonumber(ARGV[1]), ARGV[2])
+			redis.call('PEXPIRE', KEYS[1], ARGV[1])
+			return 1
+			""");
+
+	private final static RedisScript RELEASE_SCRIPT = new RedisScript("""
+			return redis.call('ZREM', KEYS[1], ARGV[1])
+			""");
+
+	private final static RedisScript AVAILABLE_SCRIPT = new RedisScript(NOW + """
+			return math.max(0, tonumber(ARGV[1]) - redis.call('ZCOUNT', KEYS[1], '(' .. now, '+inf'))
+			""", true);
+
+	private final RedisLockFactory factory;
+
+	private final String name;
+
+	private final byte[][] keys;
+
+	private final int permits;
+
+	private final byte[] permitsRaw;
+
+	private final Map<String, LeaseRenewer.Renewal> renewals = new ConcurrentHashMap<>();
+
+	/**
+	 * 构造函数
+	 *
+	 * @param factory
+	 * 		分布式锁工厂
+	 * @param name
+	 * 		信号量名称
+	 * @param key
+	 * 		经前缀处理的 Key
+	 * @param permits
+	 * 		许可总数
+	 */
+	RedisSemaphore(final RedisLockFactory factory, final String name, final byte[] key, final int permits) {
+		this.factory = factory;
+		this.name = name;
+		this.keys = new byte[][]{key};
+		this.permits = permits;
+		this.permitsRaw = SafeEncoder.encode(Integer.toString(permits));
+	}
+
+	/**
+	 * 返回信号量名称
+	 *
+	 * @return 信号量名称
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 返回许可总数
+	 *
+	 * @return 许可总数
+	 */
+	public int getPermits() {
+		return permits;
+	}
+
+	/**
+	 * 尝试获取一个许可，不等待
+	 *
+	 * @return 许可标识，获取失败时返回 null
+	 */
+	public String tryAcquire() {
+		final String permitId = factory.nextToken();
+		return acquire(permitId) == 0 ? onAcquired(permitId) : null;
+	}
+
+	/**
+	 * 尝试获取一个许可，在等待时长内按最早到期许可的剩余时长和重试间隔轮询
+	 *
+	 * @param waitTime
+	 * 		最长等待时长
+	 *
+	 * @return 许可标识，获取失败时返回 null
+	 *
+	 * @throws InterruptedException
+	 * 		等待期间线程被中断
+	 */
+	public String tryAcquire(final Duration waitTime) throws InterruptedException {
+		Assert.isNull(waitTime, "Wait time cloud not be null.");
+
+		final String permitId = factory.nextToken();
+		final long deadline = System.nanoTime() + waitTime.toNanos();
+
+		for(; ; ){
+			final long ttl = acquire(permitId);
+
+			if(ttl == 0){
+				return onAcquired(permitId);
+			}
+
+			final long sleepTime = factory.sleepTime(ttl, deadline);
+
+			if(sleepTime <= 0){
+				return null;
+			}
+
+			Thread.sleep(sleepTime);
+		}
+	}
+
+	/**
+	 * 释放许可
+	 *
+	 * @param permitId
+	 * 		许可标识
+	 *
+	 * @return 许可是否仍有效并释放成功；租约已过期时返回 false
+	 */
+	public boolean release(final String permitId) {
+		Assert.isNull(permitId, "Permit id cloud not be null.");
+
+		final LeaseRenewer.Renewal renewal = renewals.remove(permitId);
+
+		if(renewal != null){
+			renewal.cancel();
+		}
+
+		return RedisLockFactory.toLong(factory.getRedisTemplate().eval(RELEASE_SCRIPT, keys,
+				new byte[][]{SafeEncoder.encode(permitId)})) == 1;
+	}
+
+	/**
+	 * 返回当前可用许可数
+	 *
+	 * @return 可用许可数
+	 */
+	public int availablePermits() {
+		return (int) RedisLockFactory.toLong(factory.getRedisTemplate().eval(AVAILABLE_SCRIPT, keys,
+				new byte[][]{permitsRaw}));
+	}
+
+	private long acquire(final String permitId) {
+		return RedisLockFactory.toLong(factory.getRedisTemplate().eval(ACQUIRE_SCRIPT, keys,
+				new byte[][]{permitsRaw, factory.leaseTimeRaw(), SafeEncoder.encode(permitId)}));
+	}
+
+	private String onAcquired(final String permitId) {
+		final byte[] member = SafeEncoder.encode(permitId);
+
+		renewals.put(permitId, factory.getRenewer().schedule(name, ()->{
+			final boolean renewed = RedisLockFactory.toLong(factory.getRedisTemplate().eval(RENEW_SCRIPT, keys,
+					new byte[][]{factory.leaseTimeRaw(), member})) == 1;
+
+			if(renewed == false){
+				renewals.remove(permitId);
+			}
+
+			return renewed;
+		}, factory.leaseTime() / 3));
+
+		return permitId;
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.metrics;
+
+import com.buession.redis.core.command.RedisCommand;
+
+/**
+ * 命令指标收集器，在命令执行的热路径上调用，实现类需保证线程安全且不阻塞
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public interface CommandMetrics {
+
+	/**
+	 * 记录一次命令执行
+	 *
+	 * @param command
+	 * 		命令
+	 * @param elapsed
+	 * 		执行耗时（单位：纳秒）
+	 * @param success
+	 * 		是否执行成功
+	 */
+	void recordCommand(RedisCommand command, long elapsed, boolean success);
+
+	/**
+	 * 返回是否记录命令的请求、响应字节数；估算字节数需要遍历命令参数和返回值，默认不记录
+	 *
+	 * @return 是否记录命令的请求、响应字节数
+	 */
+	default boolean isRecordBytes() {
+		return false;
+	}
+
+	/**
+	 * 记录一次命令的请求、响应字节数
+	 *
+	 * @param command
+	 * 		命令
+	 * @param bytesOut
+	 * 		请求字节数，未知时为 -1
+	 * @param bytesIn
+	 * 		响应字节数，未知时为 -1
+	 */
+	void recordBytes(RedisCommand command, long bytesOut, long bytesIn);
+
+	/**
+	 * 记录一次从连接池借出连接的等待时长
+	 *
+	 * @param elapsed
+	 * 		等待时长（单位：纳秒）
+	 */
+	void recordPoolWait(long elapsed);
+
+	/**
+	 * 记录一次管道、事务提交的命令数量
+	 *
+	 * @param type
+	 * 		批量执行类型
+	 * @param size
+	 * 		命令数量
+	 */
+	void recordBatch(BatchType type, int size);
+
+	/**
+	 * 记录一次值压缩，默认不记录
+	 *
+	 * @param codec
+	 * 		压缩编解码器名称
+	 * @param originalBytes
+	 * 		压缩前字节数
+	 * @param storedBytes
+	 * 		实际存储字节数，压缩后体积未减小时等于压缩前字节数
+	 */
+	default void recordCompression(String codec, long originalBytes, long storedBytes) {
+	}
+
+	/**
+	 * 记录一次热点 Key 晋升或降级，默认不记录
+	 *
+	 * @param promoted
+	 * 		true 为晋升，false 为降级
+	 */
+	default void recordHotKeyPromotion(boolean promoted) {
+	}
+
+	/**
+	 * 记录一次热点 Key 本地缓存访问，默认不记录
+	 *
+	 * @param hit
+	 * 		是否命中本地缓存
+	 */
+	default void recordHotKeyCacheAccess(boolean hit) {
+	}
+
+}
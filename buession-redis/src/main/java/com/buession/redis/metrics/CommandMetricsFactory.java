@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.metrics;
+
+import com.buession.core.utils.ClassUtils;
+import com.buession.core.validator.Validate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * 命令指标收集器工厂，Micrometer 存在时导出到 Micrometer，否则使用 {@link InMemoryCommandMetrics}
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class CommandMetricsFactory {
+
+	private final static boolean MICROMETER_PRESENT = ClassUtils.isPresent(
+			"io.micrometer.core.instrument.MeterRegistry", CommandMetricsFactory.class.getClassLoader());
+
+	private CommandMetricsFactory() {
+
+	}
+
+	/**
+	 * 根据配置创建命令指标收集器
+	 *
+	 * @param config
+	 * 		命令指标配置
+	 *
+	 * @return 命令指标收集器，配置为 null 时返回 {@link NoopCommandMetrics}
+	 */
+	public static CommandMetrics create(final MetricsConfig config) {
+		if(config == null){
+			return NoopCommandMetrics.INSTANCE;
+		}
+
+		if(config.getCommandMetrics() != null){
+			return config.getCommandMetrics();
+		}
+
+		if(MICROMETER_PRESENT){
+			return MicrometerSupport.create(config);
+		}
+
+		return new InMemoryCommandMetrics(config.isRecordBytes());
+	}
+
+	/**
+	 * 隔离 Micrometer 类型的引用，Micrometer 不存在时不会加载
+	 */
+	private final static class MicrometerSupport {
+
+		private static CommandMetrics create(final MetricsConfig config) {
+			final MeterRegistry registry = config.getMeterRegistry() == null ? Metrics.globalRegistry :
+					(MeterRegistry) config.getMeterRegistry();
+			final String prefix = Validate.hasText(config.getPrefix()) ? config.getPrefix() :
+					MetricsConfig.DEFAULT_PREFIX;
+
+			return new MicrometerCommandMetrics(registry, prefix, config.isRecordBytes());
+		}
+
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.metrics;
+
+import com.buession.redis.utils.ObjectStringBuilder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个命令的统计信息
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class CommandStats {
+
+	private final ConcurrentHistogram latency = new ConcurrentHistogram();
+
+	private final LongAdder errors = new LongAdder();
+
+	private final LongAdder bytesOut = new LongAdder();
+
+	private final LongAdder bytesIn = new LongAdder();
+
+	CommandStats() {
+	}
+
+	/**
+	 * 返回执行耗时（单位：纳秒）直方图快照
+	 *
+	 * @return 执行耗时直方图快照
+	 */
+	public HistogramSnapshot getLatency() {
+		return latency.snapshot();
+	}
+
+	/**
+	 * 返回执行失败次数
+	 *
+	 * @return 执行失败次数
+	 */
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	/**
+	 * 返回请求字节数（估算值）
+	 *
+	 * @return 请求字节数
+	 */
+	public long getBytesOut() {
+		return bytesOut.sum();
+	}
+
+	/**
+	 * 返回响应字节数（估算值）
+	 *
+	 * @return 响应字节数
+	 */
+	public long getBytesIn() {
+		return bytesIn.sum();
+	}
+
+	void record(final long elapsed, final boolean success) {
+		latency.record(elapsed);
+
+		if(success == false){
+			errors.increment();
+		}
+	}
+
+	void recordBytes(final long out, final long in) {
+		if(out > 0){
+			bytesOut.add(out);
+		}
+		if(in > 0){
+			bytesIn.add(in);
+		}
+	}
+
+	void reset() {
+		latency.reset();
+		errors.reset();
+		bytesOut.reset();
+		bytesIn.reset();
+	}
+
+	@Override
+	public String toString() {
+		return ObjectStringBuilder.create()
+				.add("latency", getLatency())
+				.add("errors", getErrors())
+				.add("bytesOut", getBytesOut())
+				.add("bytesIn", getBytesIn())
+				.build();
+	}
+
+}
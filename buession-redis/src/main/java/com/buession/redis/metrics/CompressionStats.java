@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.metrics;
+
+import com.buession.redis.utils.ObjectStringBuilder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个压缩编解码器的统计信息
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class CompressionStats {
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder skipped = new LongAdder();
+
+	private final LongAdder originalBytes = new LongAdder();
+
+	private final LongAdder storedBytes = new LongAdder();
+
+	CompressionStats() {
+	}
+
+	/**
+	 * 返回尝试压缩的次数
+	 *
+	 * @return 尝试压缩的次数
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * 返回压缩后体积未减小而按原值存储的次数
+	 *
+	 * @return 按原值存储的次数
+	 */
+	public long getSkipped() {
+		return skipped.sum();
+	}
+
+	/**
+	 * 返回压缩前的总字节数
+	 *
+	 * @return 压缩前的总字节数
+	 */
+	public long getOriginalBytes() {
+		return originalBytes.sum();
+	}
+
+	/**
+	 * 返回实际存储的总字节数
+	 *
+	 * @return 实际存储的总字节数
+	 */
+	public long getStoredBytes() {
+		return storedBytes.sum();
+	}
+
+	/**
+	 * 返回压缩率，即实际存储字节数与压缩前字节数之比，越小越好
+	 *
+	 * @return 压缩率，未压缩过时返回 1
+	 */
+	public double getRatio() {
+		final long original = getOriginalBytes();
+		return original == 0 ? 1D : (double) getStoredBytes() / original;
+	}
+
+	void record(final long original, final long stored) {
+		count.increment();
+		if(stored >= original){
+			skipped.increment();
+		}
+		originalBytes.add(original);
+		storedBytes.add(stored);
+	}
+
+	void reset() {
+		count.reset();
+		skipped.reset();
+		originalBytes.reset();
+		storedBytes.reset();
+	}
+
+	@Override
+	public String toString() {
+		return ObjectStringBuilder.create()
+				.add("count", getCount())
+				.add("skipped", getSkipped())
+				.add("originalBytes", getOriginalBytes())
+				.add("storedBytes", getStoredBytes())
+				.add("ratio", getRatio())
+				.build();
+	}
+
+}
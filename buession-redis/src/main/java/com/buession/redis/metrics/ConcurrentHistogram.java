@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁直方图，采用与 HdrHistogram 相同的对数线性分桶：
+ * 每个 2 的幂区间再线性划分为 32 个子桶，相对误差不超过 1/32，记录操作只有一次数组原子自增。
+ *
+ * <p>直方图大小固定，可记录的取值范围为 [0, {@link Long#MAX_VALUE}]，负数按 0 记录。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class ConcurrentHistogram {
+
+	private final static int SUB_BUCKET_BITS = 5;
+
+	private final static int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	private final static int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+
+	private final static int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) << SUB_BUCKET_BITS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+	private final LongAdder total = new LongAdder();
+
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * 记录一个值
+	 *
+	 * @param value
+	 * 		值
+	 */
+	public void record(final long value) {
+		final long v = Math.max(value, 0L);
+
+		counts.incrementAndGet(bucketIndex(v));
+		total.add(v);
+
+		if(v > max.get()){
+			max.accumulateAndGet(v, Math::max);
+		}
+	}
+
+	/**
+	 * 返回直方图快照，快照期间的并发记录可能只有部分计入
+	 *
+	 * @return 直方图快照
+	 */
+	public HistogramSnapshot snapshot() {
+		final long[] snapshotCounts = new long[BUCKET_COUNT];
+		long count = 0;
+
+		for(int i = 0; i < BUCKET_COUNT; i++){
+			snapshotCounts[i] = counts.get(i);
+			count += snapshotCounts[i];
+		}
+
+		return new HistogramSnapshot(snapshotCounts, count, total.sum(), max.get());
+	}
+
+	/**
+	 * 清空直方图
+	 */
+	public void reset() {
+		for(int i = 0; i < BUCKET_COUNT; i++){
+			counts.set(i, 0L);
+		}
+
+		total.reset();
+		max.set(0L);
+	}
+
+	static int bucketIndex(final long value) {
+		if(value < SUB_BUCKET_COUNT){
+			return (int) value;
+		}
+
+		final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & SUB_BUCKET_MASK);
+	}
+
+	static long highestEquivalentValue(final int index) {
+		if(index < SUB_BUCKET_COUNT){
+			return index;
+		}
+
+		final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+		final long lowest = (long) (SUB_BUCKET_COUNT + (index & SUB_BUCKET_MASK)) << shift;
+
+		return lowest + ((1L << shift) - 1);
+	}
+
+}
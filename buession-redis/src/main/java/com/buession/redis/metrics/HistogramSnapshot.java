@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.metrics;
+
+import com.buession.redis.utils.ObjectStringBuilder;
+
+/**
+ * 直方图快照
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class HistogramSnapshot {
+
+	private final long[] counts;
+
+	private final long count;
+
+	private final long total;
+
+	private final long max;
+
+	HistogramSnapshot(final long[] counts, final long count, final long total, final long max) {
+		this.counts = counts;
+		this.count = count;
+		this.total = total;
+		this.max = max;
+	}
+
+	/**
+	 * 返回记录次数
+	 *
+	 * @return 记录次数
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * 返回记录值总和
+	 *
+	 * @return 记录值总和
+	 */
+	public long getTotal() {
+		return total;
+	}
+
+	/**
+	 * 返回最大值
+	 *
+	 * @return 最大值
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * 返回平均值
+	 *
+	 * @return 平均值，无记录时返回 0
+	 */
+	public double getMean() {
+		return count == 0 ? 0D : (double) total / count;
+	}
+
+	/**
+	 * 返回指定百分位的值，结果为所在桶的上界，相对误差不超过 1/32
+	 *
+	 * @param percentile
+	 * 		百分位，取值范围 [0, 100]
+	 *
+	 * @return 百分位的值，无记录时返回 0
+	 */
+	public long getValueAtPercentile(final double percentile) {
+		if(count == 0){
+			return 0L;
+		}
+
+		final double p = Math.min(Math.max(percentile, 0D), 100D);
+		final long target = Math.max(1L, (long) Math.ceil(p / 100D * count));
+		long accumulated = 0;
+
+		for(int i = 0; i < counts.length; i++){
+			accumulated += counts[i];
+
+			if(accumulated >= target){
+				return Math.min(ConcurrentHistogram.highestEquivalentValue(i), max);
+			}
+		}
+
+		return max;
+	}
+
+	@Override
+	public String toString() {
+		return ObjectStringBuilder.create()
+				.add("count", count)
+				.add("mean", getMean())
+				.add("p50", getValueAtPercentile(50D))
+				.add("p99", getValueAtPercentile(99D))
+				.add("max", max)
+				.build();
+	}
+
+}
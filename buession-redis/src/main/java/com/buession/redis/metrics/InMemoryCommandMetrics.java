@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.metrics;
+
+import com.buession.redis.core.command.RedisCommand;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 内存命令指标收集器，未引入 Micrometer 时使用；
+ * 按命令分别记录耗时直方图、失败次数和字节数，命令统计在首次执行时创建
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class InMemoryCommandMetrics implements CommandMetrics {
+
+	private final static RedisCommand[] COMMANDS = RedisCommand.values();
+
+	private final boolean recordBytes;
+
+	private final AtomicReferenceArray<CommandStats> commands = new AtomicReferenceArray<>(COMMANDS.length);
+
+	private final ConcurrentHistogram poolWait = new ConcurrentHistogram();
+
+	private final ConcurrentHistogram[] batchSizes = new ConcurrentHistogram[BatchType.values().length];
+
+	private final Map<String, CompressionStats> compressions = new ConcurrentHashMap<>();
+
+	private final LongAdder hotKeyPromotions = new LongAdder();
+
+	private final LongAdder hotKeyDemotions = new LongAdder();
+
+	private final LongAdder hotKeyCacheHits = new LongAdder();
+
+	private final LongAdder hotKeyCacheMisses = new LongAdder();
+
+	/**
+	 * 构造函数
+	 */
+	public InMemoryCommandMetrics() {
+		this(false);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param recordBytes
+	 * 		是否记录命令的请求、响应字节数
+	 */
+	public InMemoryCommandMetrics(final boolean recordBytes) {
+		this.recordBytes = recordBytes;
+
+		for(int i = 0; i < batchSizes.length; i++){
+			batchSizes[i] = new ConcurrentHistogram();
+		}
+	}
+
+	@Override
+	public void recordCommand(final RedisCommand command, final long elapsed, final boolean success) {
+		getOrCreate(command).record(elapsed, success);
+	}
+
+	@Override
+	public boolean isRecordBytes() {
+		return recordBytes;
+	}
+
+	@Override
+	public void recordBytes(final RedisCommand command, final long bytesOut, final long bytesIn) {
+		getOrCreate(command).recordBytes(bytesOut, bytesIn);
+	}
+
+	@Override
+	public void recordPoolWait(final long elapsed) {
+		poolWait.record(elapsed);
+	}
+
+	@Override
+	public void recordBatch(final BatchType type, final int size) {
+		batchSizes[type.ordinal()].record(size);
+	}
+
+	@Override
+	public void recordCompression(final String codec, final long originalBytes, final long storedBytes) {
+		compressions.computeIfAbsent(codec, (k)->new CompressionStats()).record(originalBytes, storedBytes);
+	}
+
+	@Override
+	public void recordHotKeyPromotion(final boolean promoted) {
+		(promoted ? hotKeyPromotions : hotKeyDemotions).increment();
+	}
+
+	@Override
+	public void recordHotKeyCacheAccess(final boolean hit) {
+		(hit ? hotKeyCacheHits : hotKeyCacheMisses).increment();
+	}
+
+	/**
+	 * 返回指定命令的统计信息
+	 *
+	 * @param command
+	 * 		命令
+	 *
+	 * @return 命令统计信息，命令从未执行时返回 null
+	 */
+	public CommandStats getCommandStats(final RedisCommand command) {
+		return commands.get(command.ordinal());
+	}
+
+	/**
+	 * 返回所有已执行命令的统计信息
+	 *
+	 * @return 命令统计信息
+	 */
+	public Map<RedisCommand, CommandStats> getCommandStats() {
+		final Map<RedisCommand, CommandStats> result = new EnumMap<>(RedisCommand.class);
+
+		for(int i = 0; i < COMMANDS.length; i++){
+			final CommandStats stats = commands.get(i);
+
+			if(stats != null){
+				result.put(COMMANDS[i], stats);
+			}
+		}
+
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * 返回连接池借出等待时长（单位：纳秒）直方图快照
+	 *
+	 * @return 连接池借出等待时长直方图快照
+	 */
+	public HistogramSnapshot getPoolWait() {
+		return poolWait.snapshot();
+	}
+
+	/**
+	 * 返回管道、事务提交的命令数量直方图快照
+	 *
+	 * @param type
+	 * 		批量执行类型
+	 *
+	 * @return 命令数量直方图快照
+	 */
+	public HistogramSnapshot getBatchSize(final BatchType type) {
+		return batchSizes[type.ordinal()].snapshot();
+	}
+
+	/**
+	 * 返回指定压缩编解码器的统计信息
+	 *
+	 * @param codec
+	 * 		压缩编解码器名称
+	 *
+	 * @return 压缩统计信息，从未压缩时返回 null
+	 */
+	public CompressionStats getCompressionStats(final String codec) {
+		return compressions.get(codec);
+	}
+
+	/**
+	 * 返回所有压缩编解码器的统计信息
+	 *
+	 * @return 压缩统计信息
+	 */
+	public Map<String, CompressionStats> getCompressionStats() {
+		return Collections.unmodifiableMap(compressions);
+	}
+
+	/**
+	 * 返回热点 Key 晋升次数
+	 *
+	 * @return 热点 Key 晋升次数
+	 */
+	public long getHotKeyPromotions() {
+		return hotKeyPromotions.sum();
+	}
+
+	/**
+	 * 返回热点 Key 降级次数
+	 *
+	 * @return 热点 Key 降级次数
+	 */
+	public long getHotKeyDemotions() {
+		return hotKeyDemotions.sum();
+	}
+
+	/**
+	 * 返回热点 Key 本地缓存命中次数
+	 *
+	 * @return 热点 Key 本地缓存命中次数
+	 */
+	public long getHotKeyCacheHits() {
+		return hotKeyCacheHits.sum();
+	}
+
+	/**
+	 * 返回热点 Key 本地缓存未命中次数
+	 *
+	 * @return 热点 Key 本地缓存未命中次数
+	 */
+	public long getHotKeyCacheMisses() {
+		return hotKeyCacheMisses.sum();
+	}
+
+	/**
+	 * 清空所有指标
+	 */
+	public void reset() {
+		for(int i = 0; i < COMMANDS.length; i++){
+			final CommandStats stats = commands.get(i);
+
+			if(stats != null){
+				stats.reset();
+			}
+		}
+
+		poolWait.reset();
+		for(ConcurrentHistogram histogram : batchSizes){
+			histogram.reset();
+		}
+		compressions.values().forEach(CompressionStats::reset);
+		hotKeyPromotions.reset();
+		hotKeyDemotions.reset();
+		hotKeyCacheHits.reset();
+		hotKeyCacheMisses.reset();
+	}
+
+	private CommandStats getOrCreate(final RedisCommand command) {
+		final int index = command.ordinal();
+		final CommandStats stats = commands.get(index);
+
+		if(stats != null){
+			return stats;
+		}
+
+		commands.compareAndSet(index, null, new CommandStats());
+		return commands.get(index);
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.metrics;
+
+/**
+ * 命令指标配置
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class MetricsConfig {
+
+	/**
+	 * 默认指标名称前缀
+	 */
+	public final static String DEFAULT_PREFIX = "redis";
+
+	/**
+	 * 是否记录命令的请求、响应字节数
+	 */
+	private boolean recordBytes = false;
+
+	/**
+	 * 指标名称前缀，仅对 Micrometer 有效
+	 */
+	private String prefix = DEFAULT_PREFIX;
+
+	/**
+	 * Micrometer 注册表（{@code io.micrometer.core.instrument.MeterRegistry}），
+	 * 为 null 且 Micrometer 存在时使用全局注册表
+	 */
+	private Object meterRegistry;
+
+	/**
+	 * 自定义命令指标收集器，不为 null 时忽略其它配置
+	 */
+	private CommandMetrics commandMetrics;
+
+	/**
+	 * 构造函数
+	 */
+	public MetricsConfig() {
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param commandMetrics
+	 * 		自定义命令指标收集器
+	 */
+	public MetricsConfig(CommandMetrics commandMetrics) {
+		this.commandMetrics = commandMetrics;
+	}
+
+	/**
+	 * 返回是否记录命令的请求、响应字节数
+	 *
+	 * @return 是否记录命令的请求、响应字节数
+	 */
+	public boolean isRecordBytes() {
+		return recordBytes;
+	}
+
+	/**
+	 * 设置是否记录命令的请求、响应字节数；字节数为命令参数和返回值的估算值，
+	 * 开启后每条命令会创建一个轻量的命令参数实例累加请求字节数，与是否记录命令参数无关
+	 *
+	 * @param recordBytes
+	 * 		是否记录命令的请求、响应字节数
+	 */
+	public void setRecordBytes(boolean recordBytes) {
+		this.recordBytes = recordBytes;
+	}
+
+	/**
+	 * 返回指标名称前缀
+	 *
+	 * @return 指标名称前缀
+	 */
+	public String getPrefix() {
+		return prefix;
+	}
+
+	/**
+	 * 设置指标名称前缀
+	 *
+	 * @param prefix
+	 * 		指标名称前缀
+	 */
+	public void setPrefix(String prefix) {
+		this.prefix = prefix;
+	}
+
+	/**
+	 * 返回 Micrometer 注册表
+	 *
+	 * @return Micrometer 注册表
+	 */
+	public Object getMeterRegistry() {
+		return meterRegistry;
+	}
+
+	/**
+	 * 设置 Micrometer 注册表
+	 *
+	 * @param meterRegistry
+	 * 		Micrometer 注册表，必须为 {@code io.micrometer.core.instrument.MeterRegistry} 实例
+	 */
+	public void setMeterRegistry(Object meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 返回自定义命令指标收集器
+	 *
+	 * @return 自定义命令指标收集器
+	 */
+	public CommandMetrics getCommandMetrics() {
+		return commandMetrics;
+	}
+
+	/**
+	 * 设置自定义命令指标收集器
+	 *
+	 * @param commandMetrics
+	 * 		自定义命令指标收集器
+	 */
+	public void setCommandMetrics(CommandMetrics commandMetrics) {
+		this.commandMetrics = commandMetrics;
+	}
+
+}
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.metrics;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.core.command.RedisCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 基于 Micrometer 的命令指标收集器，指标如下（名称前缀默认为 {@code redis}）：
+ *
+ * <ul>
+ *     <li>{@code redis.command}：命令执行耗时，标签 {@code command}</li>
+ *     <li>{@code redis.command.errors}：命令执行失败次数，标签 {@code command}</li>
+ *     <li>{@code redis.command.bytes}：命令请求、响应字节数，标签 {@code command}、{@code direction}</li>
+ *     <li>{@code redis.pool.wait}：连接池借出等待时长</li>
+ *     <li>{@code redis.batch.size}：管道、事务提交的命令数量，标签 {@code type}</li>
+ *     <li>{@code redis.compression.ratio}：值压缩率（实际存储字节数 / 压缩前字节数），标签 {@code codec}</li>
+ *     <li>{@code redis.compression.bytes}：值压缩前、实际存储的字节数，标签 {@code codec}、{@code stage}</li>
+ *     <li>{@code redis.hotkey.promotions}：热点 Key 晋升、降级次数，标签 {@code action}</li>
+ *     <li>{@code redis.hotkey.cache}：热点 Key 本地缓存访问次数，标签 {@code result}</li>
+ * </ul>
+ *
+ * <p>Meter 在命令首次执行时注册并缓存，记录时不再查找注册表。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class MicrometerCommandMetrics implements CommandMetrics {
+
+	private final static RedisCommand[] COMMANDS = RedisCommand.values();
+
+	private final MeterRegistry registry;
+
+	private final String prefix;
+
+	private final boolean recordBytes;
+
+	private final AtomicReferenceArray<CommandMeters> commands = new AtomicReferenceArray<>(COMMANDS.length);
+
+	private final Timer poolWait;
+
+	private final DistributionSummary[] batchSizes = new DistributionSummary[BatchType.values().length];
+
+	private final Map<String, CompressionMeters> compressions = new ConcurrentHashMap<>();
+
+	private final Counter hotKeyPromotions;
+
+	private final Counter hotKeyDemotions;
+
+	private final Counter hotKeyCacheHits;
+
+	private final Counter hotKeyCacheMisses;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param registry
+	 * 		Micrometer 注册表
+	 */
+	public MicrometerCommandMetrics(final MeterRegistry registry) {
+		this(registry, MetricsConfig.DEFAULT_PREFIX, false);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param registry
+	 * 		Micrometer 注册表
+	 * @param prefix
+	 * 		指标名称前缀
+	 * @param recordBytes
+	 * 		是否记录命令的请求、响应字节数
+	 */
+	public MicrometerCommandMetrics(final MeterRegistry registry, final String prefix, final boolean recordBytes) {
+		Assert.isNull(registry, "MeterRegistry cloud not be null.");
+		Assert.isBlank(prefix, "Metrics prefix cloud not be empty or null.");
+
+		this.registry = registry;
+		this.prefix = prefix;
+		this.recordBytes = recordBytes;
+		this.poolWait = Timer.builder(prefix + ".pool.wait")
+				.description("Time spent waiting for a pooled connection")
+				.publishPercentileHistogram()
+				.register(registry);
+
+		for(BatchType type : BatchType.values()){
+			batchSizes[type.ordinal()] = DistributionSummary.builder(prefix + ".batch.size")
+					.description("Number of commands per pipeline or transaction")
+					.tag("type", type.name().toLowerCase())
+					.register(registry);
+		}
+
+		this.hotKeyPromotions = hotKeyCounter(".hotkey.promotions", "Redis hot key promotions and demotions",
+				"action", "promote");
+		this.hotKeyDemotions = hotKeyCounter(".hotkey.promotions", "Redis hot key promotions and demotions",
+				"action", "demote");
+		this.hotKeyCacheHits = hotKeyCounter(".hotkey.cache", "Redis hot key local cache accesses", "result", "hit");
+		this.hotKeyCacheMisses = hotKeyCounter(".hotkey.cache", "Redis hot key local cache accesses", "result",
+				"miss");
+	}
+
+	@Override
+	public void recordCommand(final RedisCommand command, final long elapsed, final boolean success) {
+		final CommandMeters meters = getOrCreate(command);
+
+		meters.latency.record(elapsed, TimeUnit.NANOSECONDS);
+		if(success == false){
+			meters.errors.increment();
+		}
+	}
+
+	@Override
+	public boolean isRecordBytes() {
+		return recordBytes;
+	}
+
+	@Override
+	public void recordBytes(final RedisCommand command, final long bytesOut, final long bytesIn) {
+		final CommandMeters meters = getOrCreate(command);
+
+		if(bytesOut > 0){
+			meters.bytesOut.record(bytesOut);
+		}
+		if(bytesIn > 0){
+			meters.bytesIn.record(bytesIn);
+		}
+	}
+
+	@Override
+	public void recordPoolWait(final long elapsed) {
+		poolWait.record(elapsed, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordBatch(final BatchType type, final int size) {
+		batchSizes[type.ordinal()].record(size);
+	}
+
+	@Override
+	public void recordCompression(final String codec, final long originalBytes, final long storedBytes) {
+		final CompressionMeters meters = compressions.computeIfAbsent(codec, CompressionMeters::new);
+
+		if(originalBytes > 0){
+			meters.ratio.record((double) storedBytes / originalBytes);
+		}
+		meters.originalBytes.increment(originalBytes);
+		meters.storedBytes.increment(storedBytes);
+	}
+
+	@Override
+	public void recordHotKeyPromotion(final boolean promoted) {
+		(promoted ? hotKeyPromotions : hotKeyDemotions).increment();
+	}
+
+	@Override
+	public void recordHotKeyCacheAccess(final boolean hit) {
+		(hit ? hotKeyCacheHits : hotKeyCacheMisses).increment();
+	}
+
+	private Counter hotKeyCounter(final String name, final String description, final String tag,
+	                              final String value) {
+		return Counter.builder(prefix + name)
+				.description(description)
+				.tag(tag, value)
+				.register(registry);
+	}
+
+	private CommandMeters getOrCreate(final RedisCommand command) {
+		final int index = command.ordinal();
+		final CommandMeters meters = commands.get(index);
+
+		if(meters != null){
+			return meters;
+		}
+
+		commands.compareAndSet(index, null, new CommandMeters(command.name()));
+		return commands.get(index);
+	}
+
+	private final class CommandMeters {
+
+		private final Timer latency;
+
+		private final Counter errors;
+
+		private final DistributionSummary bytesOut;
+
+		private final DistributionSummary bytesIn;
+
+		CommandMeters(final String command) {
+			// Micrometer 注册表对同名同标签的 Meter 返回同一实例，并发创建是安全的
+			latency = Timer.builder(prefix + ".command")
+					.description("Redis command execution time")
+					.tag("command", command)
+					.publishPercentileHistogram()
+					.register(registry);
+			errors = Counter.builder(prefix + ".command.errors")
+					.description("Redis command failures")
+					.tag("command", command)
+					.register(registry);
+			bytesOut = bytesSummary(command, "out");
+			bytesIn = bytesSummary(command, "in");
+		}
+
+		private DistributionSummary bytesSummary(final String command, final String direction) {
+			return DistributionSummary.builder(prefix + ".command.bytes")
+					.description("Estimated Redis command payload size")
+					.baseUnit("bytes")
+					.tag("command", command)
+					.tag("direction", direction)
+					.register(registry);
+		}
+
+	}
+
+	private final class CompressionMeters {
+
+		private final DistributionSummary ratio;
+
+		private final Counter originalBytes;
+
+		private final Counter storedBytes;
+
+		CompressionMeters(final String codec) {
+			ratio = DistributionSummary.builder(prefix + ".compression.ratio")
+					.description("Stored bytes divided by uncompressed bytes of Redis values")
+					.tag("codec", codec)
+					.register(registry);
+			originalBytes = bytesCounter(codec, "original");
+			storedBytes = bytesCounter(codec, "stored");
+		}
+
+		private Counter bytesCounter(final String codec, final String stage) {
+			return Counter.builder(prefix + ".compression.bytes")
+					.description("Redis value bytes before and after compression")
+					.baseUnit("bytes")
+					.tag("codec", codec)
+					.tag("stage", stage)
+					.register(registry);
+		}
+
+	}
+
+}
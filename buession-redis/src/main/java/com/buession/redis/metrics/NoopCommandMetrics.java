@@ -22,36 +22,37 @@
  * | Copyright @ 2013-2026 Buession.com Inc.														       |
  * +-------------------------------------------------------------------------------------------------------+
  */
-package io.lettuce.core;
+package com.buession.redis.metrics;
 
-import io.lettuce.core.api.StatefulRedisConnection;
-
-import java.lang.reflect.Method;
+import com.buession.redis.core.command.RedisCommand;
 
 /**
- * {@link io.lettuce.core.api.sync.RedisCommands} 代理类
+ * 不记录任何指标的命令指标收集器
  *
  * @author Yong.Teng
  * @since 4.0.0
  */
-public final class StatefulRedisCommandsHandler<K, V> implements RedisCommandsInvocationHandler<K, V> {
+public final class NoopCommandMetrics implements CommandMetrics {
 
-	private final StatefulRedisConnection<K, V> conn;
+	public final static NoopCommandMetrics INSTANCE = new NoopCommandMetrics();
 
-	private final boolean async;
+	private NoopCommandMetrics() {
+	}
 
-	public StatefulRedisCommandsHandler(final StatefulRedisConnection<K, V> conn) {
-		this(conn, false);
+	@Override
+	public void recordCommand(final RedisCommand command, final long elapsed, final boolean success) {
 	}
 
-	public StatefulRedisCommandsHandler(final StatefulRedisConnection<K, V> conn, final boolean async) {
-		this.conn = conn;
-		this.async = async;
+	@Override
+	public void recordBytes(final RedisCommand command, final long bytesOut, final long bytesIn) {
+	}
+
+	@Override
+	public void recordPoolWait(final long elapsed) {
 	}
 
 	@Override
-	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-		return async ? method.invoke(conn.async(), args) : method.invoke(conn.sync(), args);
+	public void recordBatch(final BatchType type, final int size) {
 	}
 
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.metrics;
+
+import com.buession.core.Range;
+import com.buession.lang.KeyValue;
+import com.buession.redis.core.Keyword;
+import com.buession.redis.core.ScanResult;
+import com.buession.redis.core.Tuple;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 命令参数、返回值字节数估算；只统计数据本身，不含 RESP 协议开销，
+ * 字符串按字符数计算，数值按 8 字节计算，无法识别的对象不计入
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class PayloadSizes {
+
+	private final static int NUMBER_SIZE = Long.BYTES;
+
+	private PayloadSizes() {
+
+	}
+
+	/**
+	 * 估算整数的字节数
+	 *
+	 * @param value
+	 * 		整数
+	 *
+	 * @return 估算字节数
+	 */
+	public static long estimate(final long value) {
+		return NUMBER_SIZE;
+	}
+
+	/**
+	 * 估算浮点数的字节数
+	 *
+	 * @param value
+	 * 		浮点数
+	 *
+	 * @return 估算字节数
+	 */
+	public static long estimate(final double value) {
+		return NUMBER_SIZE;
+	}
+
+	/**
+	 * 估算对象的字节数
+	 *
+	 * @param value
+	 * 		对象
+	 *
+	 * @return 估算字节数
+	 */
+	public static long estimate(final Object value) {
+		if(value == null){
+			return 0L;
+		}else if(value instanceof byte[] bytes){
+			return bytes.length;
+		}else if(value instanceof CharSequence charSequence){
+			return charSequence.length();
+		}else if(value instanceof Number){
+			return NUMBER_SIZE;
+		}else if(value instanceof Boolean){
+			return 1L;
+		}else if(value instanceof Keyword keyword){
+			return estimate(keyword.getValue());
+		}else if(value instanceof Enum<?> e){
+			return e.name().length();
+		}else if(value instanceof Object[] array){
+			long size = 0;
+
+			for(Object v : array){
+				size += estimate(v);
+			}
+
+			return size;
+		}else if(value instanceof Collection<?> collection){
+			long size = 0;
+
+			for(Object v : collection){
+				size += estimate(v);
+			}
+
+			return size;
+		}else if(value instanceof Map<?, ?> map){
+			long size = 0;
+
+			for(Map.Entry<?, ?> e : map.entrySet()){
+				size += estimate(e.getKey()) + estimate(e.getValue());
+			}
+
+			return size;
+		}else if(value instanceof KeyValue<?, ?> keyValue){
+			return estimate(keyValue.getKey()) + estimate(keyValue.getValue());
+		}else if(value instanceof Tuple tuple){
+			return estimate(tuple.getBinaryElement()) + NUMBER_SIZE;
+		}else if(value instanceof Range<?> range){
+			return estimate(range.getStart()) + estimate(range.getEnd());
+		}else if(value instanceof ScanResult<?> scanResult){
+			return estimate(scanResult.getCursor()) + estimate(scanResult.getResults());
+		}else if(value.getClass().isArray()){
+			return estimatePrimitiveArray(value);
+		}else{
+			return 0L;
+		}
+	}
+
+	private static long estimatePrimitiveArray(final Object value) {
+		if(value instanceof int[] array){
+			return (long) array.length * NUMBER_SIZE;
+		}else if(value instanceof long[] array){
+			return (long) array.length * NUMBER_SIZE;
+		}else if(value instanceof double[] array){
+			return (long) array.length * NUMBER_SIZE;
+		}else if(value instanceof float[] array){
+			return (long) array.length * NUMBER_SIZE;
+		}else if(value instanceof short[] array){
+			return (long) array.length * NUMBER_SIZE;
+		}else if(value instanceof char[] array){
+			return array.length;
+		}else if(value instanceof boolean[] array){
+			return array.length;
+		}else{
+			return 0L;
+		}
+	}
+
+}
@@ -25,7 +25,9 @@
 package com.buession.redis.pipeline.lettuce;
 
 import com.buession.core.utils.Assert;
+import com.buession.redis.core.internal.lettuce.LettuceResult;
 import com.buession.redis.pipeline.Pipeline;
+import io.lettuce.core.api.async.RedisAsyncCommands;
 
 import java.util.List;
 
@@ -49,6 +51,29 @@ public final class LettucePipeline<K, V> implements Pipeline {
 		this.delegate = pipeline;
 	}
 
+	/**
+	 * 返回管道连接上的异步命令
+	 *
+	 * @return 管道连接上的异步命令
+	 *
+	 * @since 4.0.0
+	 */
+	public RedisAsyncCommands<K, V> getAsyncCommands() {
+		return delegate.getAsyncCommands();
+	}
+
+	/**
+	 * 登记一条已发出的管道命令，并按刷新策略决定是否刷新
+	 *
+	 * @param result
+	 * 		命令异步结果
+	 *
+	 * @since 4.0.0
+	 */
+	public void addCommand(final LettuceResult<?, ?> result) {
+		delegate.addCommand(result);
+	}
+
 	@Override
 	public void sync() {
 		delegate.sync();
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.pipeline.lettuce;
+
+import com.buession.redis.core.FutureResult;
+import com.buession.redis.core.internal.lettuce.LettuceResult;
+import com.buession.redis.pipeline.AbstractPipelineProxy;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+
+/**
+ * Lettuce 管道代理，命令在管道独占的连接上发出，并由管道的刷新策略控制何时写出
+ *
+ * @param <K>
+ * 		Key 类型
+ * @param <V>
+ * 		值类型
+ * @param <FR>
+ * 		管道异步结果
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class LettucePipelineProxy<K, V, FR extends FutureResult<Object, ?>>
+		extends AbstractPipelineProxy<RedisAsyncCommands<K, V>, FR> {
+
+	private final LettucePipeline<K, V> pipeline;
+
+	public LettucePipelineProxy(final LettucePipeline<K, V> pipeline) {
+		super(pipeline, pipeline.getAsyncCommands());
+		this.pipeline = pipeline;
+	}
+
+	/**
+	 * 命令发出后回调，登记命令异步结果并通知刷新策略
+	 *
+	 * @param result
+	 * 		命令异步结果
+	 */
+	public void onCommand(final LettuceResult<?, ?> result) {
+		pipeline.addCommand(result);
+	}
+
+}
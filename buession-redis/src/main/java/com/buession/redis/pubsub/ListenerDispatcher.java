@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.pubsub;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.core.PubSubListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 订阅监听器分发器，在 I/O 线程上将原始消息放入监听器独占的有界队列，再由执行器串行回调监听器；
+ * 同一监听器的消息保持顺序，慢监听器不会阻塞其它监听器
+ *
+ * @param <V>
+ * 		监听器消息类型
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class ListenerDispatcher<V> implements PubSubListener<byte[]> {
+
+	/**
+	 * 单次调度最多处理的消息数，避免单个监听器长期占用执行线程
+	 */
+	private final static int DRAIN_BATCH_SIZE = 64;
+
+	private final PubSubListener<V> delegate;
+
+	private final Function<byte[], V> decoder;
+
+	private final Executor executor;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final BlockingQueue<Runnable> queue;
+
+	private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+	private final LongAdder dropped = new LongAdder();
+
+	private final static Logger logger = LoggerFactory.getLogger(ListenerDispatcher.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		订阅监听器
+	 * @param decoder
+	 * 		原始消息解码器
+	 * @param executor
+	 * 		消息分发执行器
+	 * @param queueCapacity
+	 * 		消息队列容量
+	 * @param overflowPolicy
+	 * 		消息队列已满时的处理策略
+	 */
+	public ListenerDispatcher(final PubSubListener<V> delegate, final Function<byte[], V> decoder,
+	                          final Executor executor, final int queueCapacity, final OverflowPolicy overflowPolicy) {
+		Assert.isNull(delegate, "Pubsub listener cloud not be null.");
+		Assert.isNull(decoder, "Decoder cloud not be null.");
+		Assert.isNull(executor, "Executor cloud not be null.");
+		Assert.isFalse(queueCapacity > 0, "Queue capacity must be greater than 0.");
+		this.delegate = delegate;
+		this.decoder = decoder;
+		this.executor = executor;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.overflowPolicy = overflowPolicy == null ? OverflowPolicy.DROP_LATEST : overflowPolicy;
+	}
+
+	/**
+	 * 返回订阅监听器
+	 *
+	 * @return 订阅监听器
+	 */
+	public PubSubListener<V> getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * 返回当前排队的消息数
+	 *
+	 * @return 当前排队的消息数
+	 */
+	public int getQueued() {
+		return queue.size();
+	}
+
+	/**
+	 * 返回因队列已满而丢弃的消息数
+	 *
+	 * @return 丢弃的消息数
+	 */
+	public long getDropped() {
+		return dropped.sum();
+	}
+
+	@Override
+	public void onMessage(final byte[] channel, final byte[] message) {
+		enqueue(()->delegate.onMessage(decoder.apply(channel), decoder.apply(message)));
+	}
+
+	@Override
+	public void onPMessage(final byte[] pattern, final byte[] channel, final byte[] message) {
+		enqueue(()->delegate.onPMessage(decoder.apply(pattern), decoder.apply(channel), decoder.apply(message)));
+	}
+
+	@Override
+	public void onSubscribe(final byte[] channel, final int subscribedChannels) {
+		enqueue(()->delegate.onSubscribe(decoder.apply(channel), subscribedChannels));
+	}
+
+	@Override
+	public void onUnsubscribe(final byte[] channel, final int subscribedChannels) {
+		enqueue(()->delegate.onUnsubscribe(decoder.apply(channel), subscribedChannels));
+	}
+
+	@Override
+	public void onPUnsubscribe(final byte[] pattern, final int subscribedChannels) {
+		enqueue(()->delegate.onPUnsubscribe(decoder.apply(pattern), subscribedChannels));
+	}
+
+	@Override
+	public void onPSubscribe(final byte[] pattern, final int subscribedChannels) {
+		enqueue(()->delegate.onPSubscribe(decoder.apply(pattern), subscribedChannels));
+	}
+
+	@Override
+	public void onPong(final byte[] pattern) {
+		enqueue(()->delegate.onPong(decoder.apply(pattern)));
+	}
+
+	private void enqueue(final Runnable event) {
+		if(queue.offer(event) == false){
+			switch(overflowPolicy){
+				case DROP_OLDEST:
+					while(queue.offer(event) == false){
+						if(queue.poll() != null){
+							dropped.increment();
+						}
+					}
+					break;
+				case BLOCK:
+					try{
+						queue.put(event);
+					}catch(InterruptedException e){
+						Thread.currentThread().interrupt();
+						dropped.increment();
+						return;
+					}
+					break;
+				default:
+					dropped.increment();
+					return;
+			}
+		}
+
+		schedule();
+	}
+
+	private void schedule() {
+		if(scheduled.compareAndSet(false, true)){
+			try{
+				executor.execute(this::drain);
+			}catch(RejectedExecutionException e){
+				scheduled.set(false);
+				logger.warn("Dispatch pubsub message rejected, {} message(s) queued.", queue.size());
+			}
+		}
+	}
+
+	private void drain() {
+		Runnable event;
+		int count = 0;
+
+		while(count < DRAIN_BATCH_SIZE && (event = queue.poll()) != null){
+			try{
+				event.run();
+			}catch(Exception e){
+				logger.error("Pubsub listener {} error: {}", delegate.getClass().getName(), e.getMessage(), e);
+			}
+			count++;
+		}
+
+		scheduled.set(false);
+
+		// 释放调度标记后，若仍有消息（批次未处理完或期间有新消息到达）则重新调度
+		if(queue.isEmpty() == false){
+			schedule();
+		}
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.pubsub;
+
+/**
+ * 监听器消息队列已满时的处理策略
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * 丢弃新到达的消息
+	 */
+	DROP_LATEST,
+
+	/**
+	 * 丢弃队列中最早的消息，为新消息腾出空间
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * 阻塞 I/O 线程直至队列有空位；慢监听器会拖慢同一连接上的所有频道。
+	 * 仅适用于在独立线程上接收消息的场景，Lettuce 订阅容器在 Netty 事件循环线程上接收消息，不支持该策略
+	 */
+	BLOCK
+
+}
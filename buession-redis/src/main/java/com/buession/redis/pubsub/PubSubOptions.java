@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.pubsub;
+
+import com.buession.redis.utils.ObjectStringBuilder;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 订阅消息分发配置
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class PubSubOptions {
+
+	/**
+	 * 默认监听器队列容量
+	 */
+	public final static int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	/**
+	 * 默认分发线程池大小
+	 */
+	public final static int DEFAULT_DISPATCH_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * 消息分发执行器，为 null 时使用内置的固定大小线程池
+	 */
+	private Executor executor;
+
+	/**
+	 * 内置分发线程池大小
+	 */
+	private int dispatchPoolSize = DEFAULT_DISPATCH_POOL_SIZE;
+
+	/**
+	 * 每个监听器的消息队列容量
+	 */
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	/**
+	 * 监听器消息队列已满时的处理策略
+	 */
+	private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_LATEST;
+
+	/**
+	 * 返回消息分发执行器
+	 *
+	 * @return 消息分发执行器
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * 设置消息分发执行器；同一监听器的消息始终串行执行，不同监听器之间并行
+	 *
+	 * @param executor
+	 * 		消息分发执行器
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * 返回内置分发线程池大小
+	 *
+	 * @return 内置分发线程池大小
+	 */
+	public int getDispatchPoolSize() {
+		return dispatchPoolSize;
+	}
+
+	/**
+	 * 设置内置分发线程池大小，仅在未设置 {@link #setExecutor(Executor)} 时生效
+	 *
+	 * @param dispatchPoolSize
+	 * 		内置分发线程池大小
+	 */
+	public void setDispatchPoolSize(int dispatchPoolSize) {
+		this.dispatchPoolSize = dispatchPoolSize;
+	}
+
+	/**
+	 * 返回每个监听器的消息队列容量
+	 *
+	 * @return 每个监听器的消息队列容量
+	 */
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	/**
+	 * 设置每个监听器的消息队列容量
+	 *
+	 * @param queueCapacity
+	 * 		每个监听器的消息队列容量
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * 返回监听器消息队列已满时的处理策略
+	 *
+	 * @return 监听器消息队列已满时的处理策略
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	/**
+	 * 设置监听器消息队列已满时的处理策略
+	 *
+	 * @param overflowPolicy
+	 * 		监听器消息队列已满时的处理策略
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	@Override
+	public String toString() {
+		return ObjectStringBuilder.create()
+				.add("executor", executor)
+				.add("dispatchPoolSize", dispatchPoolSize)
+				.add("queueCapacity", queueCapacity)
+				.add("overflowPolicy", overflowPolicy)
+				.build();
+	}
+
+}
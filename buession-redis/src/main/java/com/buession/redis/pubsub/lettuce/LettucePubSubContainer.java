@@ -0,0 +1,603 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.pubsub.lettuce;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import com.buession.core.utils.Assert;
+import com.buession.redis.core.PubSubListener;
+import com.buession.redis.pubsub.ListenerDispatcher;
+import com.buession.redis.pubsub.OverflowPolicy;
+import com.buession.redis.pubsub.PubSubOptions;
+import com.buession.redis.utils.SafeEncoder;
+import io.lettuce.core.BaseRedisClient;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.cluster.pubsub.StatefulRedisClusterPubSubConnection;
+import io.lettuce.core.pubsub.RedisPubSubListener;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Lettuce 订阅容器，所有频道、模式和分片频道共用一个独占的 {@link StatefulRedisPubSubConnection}，
+ * 集群模式下由 {@link StatefulRedisClusterPubSubConnection} 为每个节点维护一个连接
+ *
+ * <p>I/O 线程只负责将消息放入各监听器的有界队列，监听器在 {@link PubSubOptions#getExecutor()} 上串行回调，
+ * 队列已满时按 {@link PubSubOptions#getOverflowPolicy()} 处理，不支持 {@link OverflowPolicy#BLOCK}。</p>
+ *
+ * <p>断线重连后由 Lettuce 在原连接上重新订阅；集群拓扑变化或槽位迁移导致服务端主动退订分片频道时，
+ * 按最新的槽位分布将分片频道重新订阅到对应的主节点。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class LettucePubSubContainer implements Closeable {
+
+	/**
+	 * 分片频道重新订阅延迟时长（单位：毫秒），等待拓扑刷新
+	 */
+	private final static long RESUBSCRIBE_DELAY = 1000L;
+
+	private final BaseRedisClient<byte[], byte[]> client;
+
+	private final PubSubOptions options;
+
+	private final Executor executor;
+
+	private final ExecutorService defaultExecutor;
+
+	private final Map<ByteBuffer, List<ListenerDispatcher<?>>> channels = new ConcurrentHashMap<>();
+
+	private final Map<ByteBuffer, List<ListenerDispatcher<?>>> patterns = new ConcurrentHashMap<>();
+
+	private final Map<ByteBuffer, List<ListenerDispatcher<?>>> shardChannels = new ConcurrentHashMap<>();
+
+	private final Map<PubSubListener<?>, ListenerDispatcher<?>> dispatchers = new ConcurrentHashMap<>();
+
+	private final RedisPubSubListener<byte[], byte[]> dispatchingListener = new DispatchingListener();
+
+	private volatile StatefulRedisPubSubConnection<byte[], byte[]> connection;
+
+	private Disposable eventSubscription;
+
+	/**
+	 * 建立、关闭订阅连接的锁
+	 */
+	private final ReentrantLock connectionLock = new ReentrantLock();
+
+	/**
+	 * 登记、注销订阅及监听器分发器的锁，仅保护内存中的登记信息，不包含任何 I/O
+	 */
+	private final ReentrantLock registryLock = new ReentrantLock();
+
+	private volatile boolean closed;
+
+	private final static Logger logger = LoggerFactory.getLogger(LettucePubSubContainer.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param client
+	 * 		Lettuce 客户端
+	 */
+	public LettucePubSubContainer(final BaseRedisClient<byte[], byte[]> client) {
+		this(client, new PubSubOptions());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param client
+	 * 		Lettuce 客户端
+	 * @param options
+	 * 		订阅消息分发配置
+	 */
+	public LettucePubSubContainer(final BaseRedisClient<byte[], byte[]> client, final PubSubOptions options) {
+		Assert.isNull(client, "Lettuce client cloud not be null.");
+		this.client = client;
+		this.options = options == null ? new PubSubOptions() : options;
+		// 消息在 Netty 事件循环线程上入队，阻塞会挂起该线程上所有连接的读写
+		Assert.isFalse(this.options.getOverflowPolicy() != OverflowPolicy.BLOCK,
+				"Overflow policy BLOCK is not supported by lettuce pubsub container, it blocks the netty event loop.");
+
+		if(this.options.getExecutor() == null){
+			this.defaultExecutor = Executors.newFixedThreadPool(Math.max(1, this.options.getDispatchPoolSize()),
+					new DefaultThreadFactory("redis-pubsub-dispatch-", true));
+			this.executor = defaultExecutor;
+		}else{
+			this.defaultExecutor = null;
+			this.executor = this.options.getExecutor();
+		}
+	}
+
+	/**
+	 * 订阅频道
+	 *
+	 * @param channels
+	 * 		频道
+	 * @param pubSubListener
+	 * 		订阅监听器
+	 */
+	public void subscribe(final String[] channels, final PubSubListener<String> pubSubListener) {
+		subscribe(SafeEncoder.encode(channels), pubSubListener, (v)->SafeEncoder.encode(v));
+	}
+
+	/**
+	 * 订阅频道
+	 *
+	 * @param channels
+	 * 		频道
+	 * @param pubSubListener
+	 * 		订阅监听器
+	 */
+	public void subscribe(final byte[][] channels, final PubSubListener<byte[]> pubSubListener) {
+		subscribe(channels, pubSubListener, Function.identity());
+	}
+
+	/**
+	 * 订阅模式
+	 *
+	 * @param patterns
+	 * 		模式
+	 * @param pubSubListener
+	 * 		订阅监听器
+	 */
+	public void pSubscribe(final String[] patterns, final PubSubListener<String> pubSubListener) {
+		pSubscribe(SafeEncoder.encode(patterns), pubSubListener, (v)->SafeEncoder.encode(v));
+	}
+
+	/**
+	 * 订阅模式
+	 *
+	 * @param patterns
+	 * 		模式
+	 * @param pubSubListener
+	 * 		订阅监听器
+	 */
+	public void pSubscribe(final byte[][] patterns, final PubSubListener<byte[]> pubSubListener) {
+		pSubscribe(patterns, pubSubListener, Function.identity());
+	}
+
+	/**
+	 * 订阅分片频道，集群模式下按槽位订阅到对应的主节点
+	 *
+	 * @param shardChannels
+	 * 		分片频道
+	 * @param pubSubListener
+	 * 		订阅监听器
+	 */
+	public void sSubscribe(final String[] shardChannels, final PubSubListener<String> pubSubListener) {
+		sSubscribe(SafeEncoder.encode(shardChannels), pubSubListener, (v)->SafeEncoder.encode(v));
+	}
+
+	/**
+	 * 订阅分片频道，集群模式下按槽位订阅到对应的主节点
+	 *
+	 * @param shardChannels
+	 * 		分片频道
+	 * @param pubSubListener
+	 * 		订阅监听器
+	 */
+	public void sSubscribe(final byte[][] shardChannels, final PubSubListener<byte[]> pubSubListener) {
+		sSubscribe(shardChannels, pubSubListener, Function.identity());
+	}
+
+	/**
+	 * 退订频道，退订后不再回调该频道的任何事件
+	 *
+	 * @param channels
+	 * 		频道，为空时退订所有频道
+	 */
+	public void unSubscribe(final byte[]... channels) {
+		final byte[][] keys = unregister(this.channels, channels);
+
+		if(keys.length > 0 && connection != null){
+			connection.async().unsubscribe(keys);
+		}
+	}
+
+	/**
+	 * 退订模式，退订后不再回调该模式的任何事件
+	 *
+	 * @param patterns
+	 * 		模式，为空时退订所有模式
+	 */
+	public void pUnSubscribe(final byte[]... patterns) {
+		final byte[][] keys = unregister(this.patterns, patterns);
+
+		if(keys.length > 0 && connection != null){
+			connection.async().punsubscribe(keys);
+		}
+	}
+
+	/**
+	 * 退订分片频道，退订后不再回调该分片频道的任何事件
+	 *
+	 * @param shardChannels
+	 * 		分片频道，为空时退订所有分片频道
+	 */
+	public void sUnSubscribe(final byte[]... shardChannels) {
+		final byte[][] keys = unregister(this.shardChannels, shardChannels);
+
+		if(keys.length > 0 && connection != null){
+			for(Map.Entry<StatefulRedisPubSubConnection<byte[], byte[]>, List<byte[]>> e : routeBySlot(
+					keys).entrySet()){
+				e.getKey().async().sunsubscribe(e.getValue().toArray(new byte[0][]));
+			}
+		}
+	}
+
+	/**
+	 * 返回所有监听器因队列已满而丢弃的消息总数
+	 *
+	 * @return 丢弃的消息总数
+	 */
+	public long getDropped() {
+		long dropped = 0;
+
+		for(ListenerDispatcher<?> dispatcher : dispatchers.values()){
+			dropped += dispatcher.getDropped();
+		}
+
+		return dropped;
+	}
+
+	/**
+	 * 返回是否已订阅任意频道、模式或分片频道
+	 *
+	 * @return 是否已订阅
+	 */
+	public boolean isSubscribed() {
+		return channels.isEmpty() == false || patterns.isEmpty() == false || shardChannels.isEmpty() == false;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+
+		connectionLock.lock();
+		try{
+			if(eventSubscription != null){
+				eventSubscription.dispose();
+				eventSubscription = null;
+			}
+
+			if(connection != null){
+				connection.removeListener(dispatchingListener);
+				connection.closeAsync();
+				connection = null;
+			}
+		}finally{
+			connectionLock.unlock();
+		}
+
+		registryLock.lock();
+		try{
+			channels.clear();
+			patterns.clear();
+			shardChannels.clear();
+			dispatchers.clear();
+		}finally{
+			registryLock.unlock();
+		}
+
+		if(defaultExecutor != null){
+			defaultExecutor.shutdown();
+		}
+	}
+
+	private <V> void subscribe(final byte[][] channels, final PubSubListener<V> pubSubListener,
+	                           final Function<byte[], V> decoder) {
+		Assert.isNull(pubSubListener, "Pubsub listener cloud not be null.");
+
+		final StatefulRedisPubSubConnection<byte[], byte[]> connection = connection();
+
+		register(this.channels, channels, pubSubListener, decoder);
+		connection.async().subscribe(channels);
+	}
+
+	private <V> void pSubscribe(final byte[][] patterns, final PubSubListener<V> pubSubListener,
+	                            final Function<byte[], V> decoder) {
+		Assert.isNull(pubSubListener, "Pubsub listener cloud not be null.");
+
+		final StatefulRedisPubSubConnection<byte[], byte[]> connection = connection();
+
+		register(this.patterns, patterns, pubSubListener, decoder);
+		connection.async().psubscribe(patterns);
+	}
+
+	private <V> void sSubscribe(final byte[][] shardChannels, final PubSubListener<V> pubSubListener,
+	                            final Function<byte[], V> decoder) {
+		Assert.isNull(pubSubListener, "Pubsub listener cloud not be null.");
+
+		// 先建立连接，避免新建连接恢复订阅时重复订阅本次登记的分片频道
+		connection();
+		register(this.shardChannels, shardChannels, pubSubListener, decoder);
+		doSSubscribe(shardChannels);
+	}
+
+	private void doSSubscribe(final byte[][] shardChannels) {
+		for(Map.Entry<StatefulRedisPubSubConnection<byte[], byte[]>, List<byte[]>> e : routeBySlot(
+				shardChannels).entrySet()){
+			e.getKey().async().ssubscribe(e.getValue().toArray(new byte[0][])).whenComplete((v, throwable)->{
+				if(throwable != null){
+					logger.error("SSUBSCRIBE error: {}", throwable.getMessage());
+				}
+			});
+		}
+	}
+
+	private Map<StatefulRedisPubSubConnection<byte[], byte[]>, List<byte[]>> routeBySlot(final byte[][] keys) {
+		final StatefulRedisPubSubConnection<byte[], byte[]> connection = connection();
+		final Map<StatefulRedisPubSubConnection<byte[], byte[]>, List<byte[]>> result = new LinkedHashMap<>();
+
+		for(byte[] key : keys){
+			StatefulRedisPubSubConnection<byte[], byte[]> target = connection;
+
+			if(connection instanceof StatefulRedisClusterPubSubConnection<byte[], byte[]> clusterConnection){
+				final RedisClusterNode node = clusterConnection.getPartitions()
+						.getPartitionBySlot(SlotHash.getSlot(key));
+
+				if(node != null){
+					target = clusterConnection.getConnection(node.getNodeId());
+				}
+			}
+
+			result.computeIfAbsent(target, (k)->new ArrayList<>()).add(key);
+		}
+
+		return result;
+	}
+
+	private StatefulRedisPubSubConnection<byte[], byte[]> connection() {
+		StatefulRedisPubSubConnection<byte[], byte[]> connection = this.connection;
+
+		if(connection != null && connection.isOpen()){
+			return connection;
+		}
+
+		connectionLock.lock();
+		try{
+			Assert.isFalse(closed == false, "Pubsub container has been closed.");
+
+			if(this.connection != null && this.connection.isOpen()){
+				return this.connection;
+			}
+
+			if(this.connection != null){
+				this.connection.removeListener(dispatchingListener);
+				this.connection.closeAsync();
+			}
+			if(eventSubscription != null){
+				eventSubscription.dispose();
+			}
+
+			connection = client.connectPubSub();
+			connection.addListener(dispatchingListener);
+
+			if(connection instanceof StatefulRedisClusterPubSubConnection<byte[], byte[]> clusterConnection){
+				// 分片频道订阅在各节点连接上，需要将节点消息传播到集群连接的监听器
+				clusterConnection.setNodeMessagePropagation(true);
+				eventSubscription = connection.getResources().eventBus().get().subscribe((event)->{
+					if(event instanceof ClusterTopologyChangedEvent){
+						scheduleResubscribe(null);
+					}
+				});
+			}
+
+			this.connection = connection;
+
+			// 连接被关闭后重建，恢复已登记的订阅
+			if(channels.isEmpty() == false){
+				connection.async().subscribe(keys(channels));
+			}
+			if(patterns.isEmpty() == false){
+				connection.async().psubscribe(keys(patterns));
+			}
+			if(shardChannels.isEmpty() == false){
+				doSSubscribe(keys(shardChannels));
+			}
+
+			return connection;
+		}finally{
+			connectionLock.unlock();
+		}
+	}
+
+	private void scheduleResubscribe(final byte[] shardChannel) {
+		final StatefulRedisPubSubConnection<byte[], byte[]> connection = this.connection;
+
+		if(closed || connection == null){
+			return;
+		}
+
+		connection.getResources().eventExecutorGroup().schedule(()->{
+			if(closed){
+				return;
+			}
+
+			final byte[][] keys = shardChannel == null ? keys(shardChannels) :
+					(shardChannels.containsKey(ByteBuffer.wrap(shardChannel)) ? new byte[][]{shardChannel} :
+							new byte[0][]);
+
+			if(keys.length > 0){
+				try{
+					doSSubscribe(keys);
+				}catch(Exception e){
+					logger.error("Resubscribe shard channels error: {}", e.getMessage());
+				}
+			}
+		}, RESUBSCRIBE_DELAY, TimeUnit.MILLISECONDS);
+	}
+
+	private <V> void register(final Map<ByteBuffer, List<ListenerDispatcher<?>>> registry, final byte[][] keys,
+	                          final PubSubListener<V> pubSubListener, final Function<byte[], V> decoder) {
+		Assert.isFalse(keys != null && keys.length > 0, "Channels cloud not be empty.");
+
+		registryLock.lock();
+		try{
+			final ListenerDispatcher<?> dispatcher = dispatchers.computeIfAbsent(pubSubListener,
+					(k)->new ListenerDispatcher<>(pubSubListener, decoder, executor, options.getQueueCapacity(),
+							options.getOverflowPolicy()));
+
+			for(byte[] key : keys){
+				final List<ListenerDispatcher<?>> registered = registry.computeIfAbsent(ByteBuffer.wrap(key),
+						(k)->new CopyOnWriteArrayList<>());
+
+				if(registered.contains(dispatcher) == false){
+					registered.add(dispatcher);
+				}
+			}
+		}finally{
+			registryLock.unlock();
+		}
+	}
+
+	private byte[][] unregister(final Map<ByteBuffer, List<ListenerDispatcher<?>>> registry, final byte[][] keys) {
+		registryLock.lock();
+		try{
+			final byte[][] result;
+
+			if(keys == null || keys.length == 0){
+				result = keys(registry);
+				registry.clear();
+			}else{
+				for(byte[] key : keys){
+					registry.remove(ByteBuffer.wrap(key));
+				}
+				result = keys;
+			}
+
+			// 移除不再订阅任何频道、模式或分片频道的监听器分发器
+			dispatchers.values().removeIf((dispatcher)->isRegistered(channels, dispatcher) == false &&
+					isRegistered(patterns, dispatcher) == false && isRegistered(shardChannels, dispatcher) == false);
+
+			return result;
+		}finally{
+			registryLock.unlock();
+		}
+	}
+
+	private static boolean isRegistered(final Map<ByteBuffer, List<ListenerDispatcher<?>>> registry,
+	                                    final ListenerDispatcher<?> dispatcher) {
+		for(List<ListenerDispatcher<?>> dispatchers : registry.values()){
+			if(dispatchers.contains(dispatcher)){
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static byte[][] keys(final Map<ByteBuffer, List<ListenerDispatcher<?>>> registry) {
+		final List<byte[]> result = new ArrayList<>(registry.size());
+
+		for(ByteBuffer key : registry.keySet()){
+			result.add(key.array());
+		}
+
+		return result.toArray(new byte[0][]);
+	}
+
+	private static void dispatch(final Map<ByteBuffer, List<ListenerDispatcher<?>>> registry, final byte[] key,
+	                             final Consumer<ListenerDispatcher<?>> action) {
+		final List<ListenerDispatcher<?>> dispatchers = registry.get(ByteBuffer.wrap(key));
+
+		if(dispatchers != null){
+			dispatchers.forEach(action);
+		}
+	}
+
+	private final class DispatchingListener implements RedisPubSubListener<byte[], byte[]> {
+
+		@Override
+		public void message(final byte[] channel, final byte[] message) {
+			dispatch(channels, channel, (dispatcher)->dispatcher.onMessage(channel, message));
+		}
+
+		@Override
+		public void message(final byte[] pattern, final byte[] channel, final byte[] message) {
+			dispatch(patterns, pattern, (dispatcher)->dispatcher.onPMessage(pattern, channel, message));
+		}
+
+		@Override
+		public void subscribed(final byte[] channel, final long count) {
+			dispatch(channels, channel, (dispatcher)->dispatcher.onSubscribe(channel, (int) count));
+		}
+
+		@Override
+		public void psubscribed(final byte[] pattern, final long count) {
+			dispatch(patterns, pattern, (dispatcher)->dispatcher.onPSubscribe(pattern, (int) count));
+		}
+
+		@Override
+		public void unsubscribed(final byte[] channel, final long count) {
+			dispatch(channels, channel, (dispatcher)->dispatcher.onUnsubscribe(channel, (int) count));
+		}
+
+		@Override
+		public void punsubscribed(final byte[] pattern, final long count) {
+			dispatch(patterns, pattern, (dispatcher)->dispatcher.onPUnsubscribe(pattern, (int) count));
+		}
+
+		@Override
+		public void smessage(final byte[] shardChannel, final byte[] message) {
+			dispatch(shardChannels, shardChannel, (dispatcher)->dispatcher.onMessage(shardChannel, message));
+		}
+
+		@Override
+		public void ssubscribed(final byte[] shardChannel, final long count) {
+			dispatch(shardChannels, shardChannel, (dispatcher)->dispatcher.onSubscribe(shardChannel, (int) count));
+		}
+
+		@Override
+		public void sunsubscribed(final byte[] shardChannel, final long count) {
+			if(shardChannels.containsKey(ByteBuffer.wrap(shardChannel))){
+				// 仍在登记中说明是服务端主动退订（槽位迁移），按新的槽位分布重新订阅
+				scheduleResubscribe(shardChannel);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.ratelimit;
+
+/**
+ * 限流算法
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public enum RateLimitAlgorithm {
+
+	/**
+	 * 令牌桶，桶容量为突发量，按限流速率匀速补充令牌；每个 Key 以 Hash 保存剩余令牌数和上次补充时间
+	 */
+	TOKEN_BUCKET,
+
+	/**
+	 * 通用信元速率算法（Generic Cell Rate Algorithm），与令牌桶等价，每个 Key 只保存一个理论到达时间
+	 */
+	GCRA,
+
+	/**
+	 * 滑动日志，以有序集合记录时间窗口内每一次许可，精确但内存占用与限流数量成正比
+	 */
+	SLIDING_LOG
+
+}
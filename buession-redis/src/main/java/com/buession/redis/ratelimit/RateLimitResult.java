@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.ratelimit;
+
+import com.buession.redis.utils.ObjectStringBuilder;
+
+/**
+ * 限流判定结果
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class RateLimitResult {
+
+	private final boolean allowed;
+
+	private final long remaining;
+
+	private final long retryAfter;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param allowed
+	 * 		是否允许
+	 * @param remaining
+	 * 		剩余许可数
+	 * @param retryAfter
+	 * 		被拒绝时距可重试的时长（单位：毫秒）
+	 */
+	public RateLimitResult(final boolean allowed, final long remaining, final long retryAfter) {
+		this.allowed = allowed;
+		this.remaining = remaining;
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * 返回是否允许
+	 *
+	 * @return 是否允许
+	 */
+	public boolean isAllowed() {
+		return allowed;
+	}
+
+	/**
+	 * 返回剩余许可数
+	 *
+	 * @return 剩余许可数
+	 */
+	public long getRemaining() {
+		return remaining;
+	}
+
+	/**
+	 * 返回被拒绝时距可重试的时长（单位：毫秒），允许时为 0
+	 *
+	 * @return 距可重试的时长
+	 */
+	public long getRetryAfter() {
+		return retryAfter;
+	}
+
+	@Override
+	public String toString() {
+		return ObjectStringBuilder.create()
+				.add("allowed", allowed)
+				.add("remaining", remaining)
+				.add("retryAfter", retryAfter)
+				.build();
+	}
+
+}
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.ratelimit;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.script.RedisScript;
+import com.buession.redis.utils.KeyUtils;
+import com.buession.redis.utils.SafeEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 分布式限流器，每次判定以一次 EVALSHA 在服务端原子完成，时间取自服务端 TIME，不受客户端时钟偏差影响；
+ * Key 经 {@link RedisTemplate} 的 Key 前缀处理
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class RedisRateLimiter {
+
+	private final static String NOW = """
+			local time = redis.call('TIME')
+			local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+			""";
+
+	private final static RedisScript TOKEN_BUCKET_SCRIPT = new RedisScript(NOW + """
+			local capacity = tonumber(ARGV[1])
+			local rate = tonumber(ARGV[2]) / tonumber(ARGV[3])
+			local permits = tonumber(ARGV[4])
+			local state = redis.call('HMGET', KEYS[1], 'tokens', 'timestamp')
+			local tokens = tonumber(state[1])
+			local timestamp = tonumber(state[2])
+			if tokens == nil or timestamp == nil then
+				tokens = capacity
+				timestamp = now
+			end
+			tokens = math.min(capacity, tokens + math.max(0, now - timestamp) * rate)
+			local allowed = 0
+			local retryAfter = 0
+			if tokens >= permits then
+				tokens = tokens - permits
+				allowed = 1
+			else
+				retryAfter = math.ceil((permits - tokens) / rate)
+			end
+			redis.call('HSET', KEYS[1], 'tokens', tokens, 'timestamp', now)
+			redis.call('PEXPIRE', KEYS[1], math.max(1, math.ceil(capacity / rate)))
+			return {allowed, math.floor(tokens), retryAfter}
+			""");
+
+	private final static RedisScript GCRA_SCRIPT = new RedisScript(NOW + """
+			local interval = tonumber(ARGV[3]) / tonumber(ARGV[2])
+			local tolerance = interval * tonumber(ARGV[1])
+			local permits = tonumber(ARGV[4])
+			local tat = tonumber(redis.call('GET', KEYS[1]))
+			if tat == nil or tat < now then
+				tat = now
+			end
+			local newTat = tat + interval * permits
+			local allowAt = newTat - tolerance
+			if allowAt > now then
+				return {0, math.max(0, math.floor((now - (tat - tolerance)) / interval)), math.ceil(allowAt - now)}
+			end
+			redis.call('SET', KEYS[1], newTat, 'PX', math.max(1, math.ceil(newTat - now)))
+			return {1, math.floor((now - allowAt) / interval), 0}
+			""");
+
+	private final static RedisScript SLIDING_LOG_SCRIPT = new RedisScript(NOW + """
+			local limit = tonumber(ARGV[2])
+			local window = tonumber(ARGV[3])
+			local permits = tonumber(ARGV[4])
+			redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+			local count = redis.call('ZCARD', KEYS[1])
+			if count + permits > limit then
+				local index = count + permits - limit - 1
+				local oldest = redis.call('ZRANGE', KEYS[1], index, index, 'WITHSCORES')
+				local retryAfter = 1
+				if oldest[2] then
+					retryAfter = math.max(1, tonumber(oldest[2]) + window - now)
+				end
+				return {0, math.max(0, limit - count), retryAfter}
+			end
+			for i = 1, permits do
+				redis.call('ZADD', KEYS[1], now, ARGV[5] .. ':' .. i)
+			end
+			redis.call('PEXPIRE', KEYS[1], window)
+			return {1, limit - count - permits, 0}
+			""");
+
+	private final RedisTemplate redisTemplate;
+
+	private final RateLimitAlgorithm algorithm;
+
+	private final long limit;
+
+	private final Duration period;
+
+	private final long burst;
+
+	private final RedisScript script;
+
+	/**
+	 * 突发量、限流数量、周期（单位：毫秒）参数，每次判定复用
+	 */
+	private final byte[] burstRaw;
+
+	private final byte[] limitRaw;
+
+	private final byte[] periodRaw;
+
+	/**
+	 * 滑动日志成员前缀，保证不同实例、不同次许可的成员唯一
+	 */
+	private final String memberPrefix = UUID.randomUUID().toString();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * 构造函数，突发量等于限流数量
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param algorithm
+	 * 		限流算法
+	 * @param limit
+	 * 		每周期允许的许可数
+	 * @param period
+	 * 		周期
+	 */
+	public RedisRateLimiter(final RedisTemplate redisTemplate, final RateLimitAlgorithm algorithm, final long limit,
+	                        final Duration period) {
+		this(redisTemplate, algorithm, limit, period, limit);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param algorithm
+	 * 		限流算法
+	 * @param limit
+	 * 		每周期允许的许可数
+	 * @param period
+	 * 		周期
+	 * @param burst
+	 * 		突发量，即空闲后可一次性获取的最大许可数；{@link RateLimitAlgorithm#SLIDING_LOG} 忽略该参数
+	 */
+	public RedisRateLimiter(final RedisTemplate redisTemplate, final RateLimitAlgorithm algorithm, final long limit,
+	                        final Duration period, final long burst) {
+		Assert.isNull(redisTemplate, "RedisTemplate cloud not be null.");
+		Assert.isNull(algorithm, "RateLimitAlgorithm cloud not be null.");
+		Assert.isNull(period, "Period cloud not be null.");
+		Assert.isFalse(limit > 0, "Limit must be greater than 0");
+		Assert.isFalse(period.toMillis() > 0, "Period must be greater than or equal to 1 millisecond");
+		Assert.isFalse(burst > 0, "Burst must be greater than 0");
+		this.redisTemplate = redisTemplate;
+		this.algorithm = algorithm;
+		this.limit = limit;
+		this.period = period;
+		this.burst = algorithm == RateLimitAlgorithm.SLIDING_LOG ? limit : burst;
+		this.script = switch(algorithm){
+			case TOKEN_BUCKET -> TOKEN_BUCKET_SCRIPT;
+			case GCRA -> GCRA_SCRIPT;
+			case SLIDING_LOG -> SLIDING_LOG_SCRIPT;
+		};
+		this.burstRaw = SafeEncoder.encode(Long.toString(this.burst));
+		this.limitRaw = SafeEncoder.encode(Long.toString(limit));
+		this.periodRaw = SafeEncoder.encode(Long.toString(period.toMillis()));
+	}
+
+	/**
+	 * 返回限流算法
+	 *
+	 * @return 限流算法
+	 */
+	public RateLimitAlgorithm getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * 返回每周期允许的许可数
+	 *
+	 * @return 每周期允许的许可数
+	 */
+	public long getLimit() {
+		return limit;
+	}
+
+	/**
+	 * 返回周期
+	 *
+	 * @return 周期
+	 */
+	public Duration getPeriod() {
+		return period;
+	}
+
+	/**
+	 * 返回突发量
+	 *
+	 * @return 突发量
+	 */
+	public long getBurst() {
+		return burst;
+	}
+
+	/**
+	 * 尝试获取一个许可
+	 *
+	 * @param key
+	 * 		限流 Key
+	 *
+	 * @return 判定结果
+	 */
+	public RateLimitResult tryAcquire(final String key) {
+		return tryAcquire(key, 1);
+	}
+
+	/**
+	 * 尝试获取多个许可，许可数不能超过突发量
+	 *
+	 * @param key
+	 * 		限流 Key
+	 * @param permits
+	 * 		许可数
+	 *
+	 * @return 判定结果
+	 */
+	public RateLimitResult tryAcquire(final String key, final int permits) {
+		Assert.isBlank(key, "Rate limit key cloud not be empty or null.");
+		Assert.isFalse(permits > 0 && permits <= burst, "Permits must be between 1 and " + burst);
+
+		final byte[][] keys = new byte[][]{KeyUtils.rawKeyAsBytes(redisTemplate, key)};
+		final byte[][] arguments = algorithm == RateLimitAlgorithm.SLIDING_LOG ?
+				new byte[][]{burstRaw, limitRaw, periodRaw, SafeEncoder.encode(Integer.toString(permits)),
+						SafeEncoder.encode(memberPrefix + ':' + sequence.incrementAndGet())} :
+				new byte[][]{burstRaw, limitRaw, periodRaw, SafeEncoder.encode(Integer.toString(permits))};
+		final List<?> result = (List<?>) redisTemplate.eval(script, keys, arguments);
+
+		return new RateLimitResult(toLong(result.get(0)) == 1, toLong(result.get(1)), toLong(result.get(2)));
+	}
+
+	private static long toLong(final Object value) {
+		if(value instanceof Number number){
+			return number.longValue();
+		}else if(value instanceof byte[] bytes){
+			return Long.parseLong(SafeEncoder.encode(bytes));
+		}else{
+			return Long.parseLong(value.toString());
+		}
+	}
+
+}
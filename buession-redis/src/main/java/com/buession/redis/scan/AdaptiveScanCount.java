@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.scan;
+
+/**
+ * 自适应 COUNT 提示，单页耗时低于目标耗时一半时翻倍，高于目标耗时时减半
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class AdaptiveScanCount {
+
+	private final int minCount;
+
+	private final int maxCount;
+
+	private final long targetLatency;
+
+	private volatile int count;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param options
+	 * 		迭代配置
+	 */
+	public AdaptiveScanCount(final ScanOptions options) {
+		this.minCount = Math.max(1, options.getMinCount());
+		this.maxCount = Math.max(minCount, options.getMaxCount());
+		this.targetLatency = options.getTargetLatency() == null ? 0 : options.getTargetLatency().toNanos();
+		this.count = Math.min(maxCount, Math.max(minCount, options.getCount()));
+	}
+
+	/**
+	 * 返回当前 COUNT 提示
+	 *
+	 * @return 当前 COUNT 提示
+	 */
+	public int get() {
+		return count;
+	}
+
+	/**
+	 * 记录一页的耗时并调整 COUNT 提示
+	 *
+	 * @param elapsed
+	 * 		耗时（单位：纳秒）
+	 */
+	public void record(final long elapsed) {
+		if(targetLatency <= 0){
+			return;
+		}
+
+		if(elapsed < targetLatency / 2){
+			count = Math.min(maxCount, count * 2);
+		}else if(elapsed > targetLatency){
+			count = Math.max(minCount, count / 2);
+		}
+	}
+
+}
@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.scan;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.core.Constants;
+import com.buession.redis.core.ScanResult;
+import com.buession.redis.exception.RedisException;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 流式 SCAN 迭代器，调用方消费当前页时在后台预取后续页
+ *
+ * <p>每个数据源（单机模式下为一个，集群模式下为每个主节点一个）独立维护游标，最多预取
+ * {@link ScanOptions#getPrefetch()} 页，所有数据源同时进行的请求不超过 {@link ScanOptions#getParallelism()}，
+ * 内存占用因此有上界；不同数据源的页按到达顺序交错返回。迭代器不再使用时应调用 {@link #close()}。</p>
+ *
+ * @param <T>
+ * 		元素类型
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class ScanIterator<T> implements Iterator<T>, Closeable {
+
+	private final List<Source<T>> sources;
+
+	private final Executor executor;
+
+	private final int prefetch;
+
+	private final int parallelism;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition available = lock.newCondition();
+
+	private final Deque<Page<T>> pages = new ArrayDeque<>();
+
+	private Iterator<T> current = Collections.emptyIterator();
+
+	private int inFlight;
+
+	private Throwable error;
+
+	private boolean closed;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param loader
+	 * 		页加载器
+	 * @param options
+	 * 		迭代配置
+	 * @param executor
+	 * 		执行预取的线程池
+	 */
+	public ScanIterator(final ScanPageLoader<T> loader, final ScanOptions options, final Executor executor) {
+		this(Collections.singletonList(loader), options, executor);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param loaders
+	 * 		页加载器，每个加载器对应一个独立游标
+	 * @param options
+	 * 		迭代配置
+	 * @param executor
+	 * 		执行预取的线程池
+	 */
+	public ScanIterator(final List<ScanPageLoader<T>> loaders, final ScanOptions options, final Executor executor) {
+		Assert.isEmpty(loaders, "ScanPageLoader cloud not be empty.");
+		Assert.isNull(options, "ScanOptions cloud not be null.");
+		Assert.isNull(executor, "Executor cloud not be null.");
+
+		this.sources = new ArrayList<>(loaders.size());
+		for(ScanPageLoader<T> loader : loaders){
+			sources.add(new Source<>(loader, new AdaptiveScanCount(options)));
+		}
+
+		this.executor = executor;
+		this.prefetch = Math.max(1, options.getPrefetch());
+		this.parallelism = Math.max(1, options.getParallelism());
+
+		lock.lock();
+		try{
+			schedule();
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		while(current.hasNext() == false){
+			final List<T> results = take();
+
+			if(results == null){
+				return false;
+			}
+
+			current = results.iterator();
+		}
+
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if(hasNext() == false){
+			throw new NoSuchElementException();
+		}
+
+		return current.next();
+	}
+
+	/**
+	 * 以 {@link Stream} 形式返回剩余元素，关闭流时关闭迭代器
+	 *
+	 * @return 剩余元素
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.NONNULL), false)
+				.onClose(this::close);
+	}
+
+	@Override
+	public void close() {
+		lock.lock();
+		try{
+			closed = true;
+			pages.clear();
+			current = Collections.emptyIterator();
+			available.signalAll();
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	private List<T> take() {
+		lock.lock();
+		try{
+			while(true){
+				if(error != null){
+					throw error instanceof RuntimeException ? (RuntimeException) error :
+							new RedisException(error.getMessage(), error);
+				}
+
+				final Page<T> page = pages.poll();
+
+				if(page != null){
+					page.source.buffered--;
+					schedule();
+					return page.results;
+				}
+
+				if(closed || (inFlight == 0 && isFinished())){
+					return null;
+				}
+
+				try{
+					available.await();
+				}catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+					throw new RedisException(e.getMessage(), e);
+				}
+			}
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	private void schedule() {
+		for(Source<T> source : sources){
+			if(closed || error != null || inFlight >= parallelism){
+				return;
+			}
+
+			if(source.finished == false && source.loading == false && source.buffered < prefetch){
+				source.loading = true;
+				inFlight++;
+
+				try{
+					executor.execute(()->load(source));
+				}catch(RejectedExecutionException e){
+					source.loading = false;
+					inFlight--;
+					error = e;
+					available.signalAll();
+					return;
+				}
+			}
+		}
+	}
+
+	private void load(final Source<T> source) {
+		ScanResult<T> result = null;
+		Throwable failure = null;
+		final long start = System.nanoTime();
+
+		try{
+			result = source.loader.load(source.cursor, source.count.get());
+			source.count.record(System.nanoTime() - start);
+		}catch(Throwable e){
+			failure = e;
+		}
+
+		lock.lock();
+		try{
+			source.loading = false;
+			inFlight--;
+
+			if(failure != null){
+				error = failure;
+			}else if(closed == false){
+				source.cursor = result.getCursorAsString();
+				source.finished = result.isCompleteIteration();
+
+				if(result.getResults() != null && result.getResults().isEmpty() == false){
+					pages.add(new Page<>(source, result.getResults()));
+					source.buffered++;
+				}
+
+				schedule();
+			}
+
+			available.signalAll();
+		}finally{
+			lock.unlock();
+		}
+	}
+
+	private boolean isFinished() {
+		for(Source<T> source : sources){
+			if(source.finished == false){
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private final static class Source<T> {
+
+		private final ScanPageLoader<T> loader;
+
+		private final AdaptiveScanCount count;
+
+		private String cursor = Constants.SCAN_POINTER_START;
+
+		private boolean loading;
+
+		private boolean finished;
+
+		private int buffered;
+
+		Source(final ScanPageLoader<T> loader, final AdaptiveScanCount count) {
+			this.loader = loader;
+			this.count = count;
+		}
+
+	}
+
+	private final static class Page<T> {
+
+		private final Source<T> source;
+
+		private final List<T> results;
+
+		Page(final Source<T> source, final List<T> results) {
+			this.source = source;
+			this.results = results;
+		}
+
+	}
+
+}
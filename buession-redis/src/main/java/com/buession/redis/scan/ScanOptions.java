@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.scan;
+
+import java.time.Duration;
+
+/**
+ * 流式 SCAN 迭代配置
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class ScanOptions {
+
+	/**
+	 * 默认初始 COUNT 提示
+	 */
+	public final static int DEFAULT_COUNT = 100;
+
+	/**
+	 * 默认最小 COUNT 提示
+	 */
+	public final static int DEFAULT_MIN_COUNT = 10;
+
+	/**
+	 * 默认最大 COUNT 提示
+	 */
+	public final static int DEFAULT_MAX_COUNT = 5000;
+
+	/**
+	 * 默认单页目标耗时
+	 */
+	public final static Duration DEFAULT_TARGET_LATENCY = Duration.ofMillis(5);
+
+	/**
+	 * 默认每个数据源预取页数
+	 */
+	public final static int DEFAULT_PREFETCH = 1;
+
+	/**
+	 * 默认最大并行请求数
+	 */
+	public final static int DEFAULT_PARALLELISM = 4;
+
+	/**
+	 * 初始 COUNT 提示
+	 */
+	private int count = DEFAULT_COUNT;
+
+	/**
+	 * 最小 COUNT 提示
+	 */
+	private int minCount = DEFAULT_MIN_COUNT;
+
+	/**
+	 * 最大 COUNT 提示
+	 */
+	private int maxCount = DEFAULT_MAX_COUNT;
+
+	/**
+	 * 单页目标耗时，COUNT 提示根据实际耗时在最小值与最大值之间调整；为 null 时固定使用初始 COUNT 提示
+	 */
+	private Duration targetLatency = DEFAULT_TARGET_LATENCY;
+
+	/**
+	 * 每个数据源（集群模式下为每个主节点）在调用方消费之前最多预取的页数
+	 */
+	private int prefetch = DEFAULT_PREFETCH;
+
+	/**
+	 * 最大并行请求数，集群模式下多个主节点同时迭代时生效
+	 */
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	/**
+	 * 构造函数
+	 */
+	public ScanOptions() {
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param count
+	 * 		初始 COUNT 提示
+	 * @param targetLatency
+	 * 		单页目标耗时，为 null 时固定使用初始 COUNT 提示
+	 */
+	public ScanOptions(int count, Duration targetLatency) {
+		this.count = count;
+		this.targetLatency = targetLatency;
+	}
+
+	/**
+	 * 返回初始 COUNT 提示
+	 *
+	 * @return 初始 COUNT 提示
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * 设置初始 COUNT 提示
+	 *
+	 * @param count
+	 * 		初始 COUNT 提示
+	 */
+	public void setCount(int count) {
+		this.count = count;
+	}
+
+	/**
+	 * 返回最小 COUNT 提示
+	 *
+	 * @return 最小 COUNT 提示
+	 */
+	public int getMinCount() {
+		return minCount;
+	}
+
+	/**
+	 * 设置最小 COUNT 提示
+	 *
+	 * @param minCount
+	 * 		最小 COUNT 提示
+	 */
+	public void setMinCount(int minCount) {
+		this.minCount = minCount;
+	}
+
+	/**
+	 * 返回最大 COUNT 提示
+	 *
+	 * @return 最大 COUNT 提示
+	 */
+	public int getMaxCount() {
+		return maxCount;
+	}
+
+	/**
+	 * 设置最大 COUNT 提示
+	 *
+	 * @param maxCount
+	 * 		最大 COUNT 提示
+	 */
+	public void setMaxCount(int maxCount) {
+		this.maxCount = maxCount;
+	}
+
+	/**
+	 * 返回单页目标耗时
+	 *
+	 * @return 单页目标耗时
+	 */
+	public Duration getTargetLatency() {
+		return targetLatency;
+	}
+
+	/**
+	 * 设置单页目标耗时
+	 *
+	 * @param targetLatency
+	 * 		单页目标耗时，为 null 时固定使用初始 COUNT 提示
+	 */
+	public void setTargetLatency(Duration targetLatency) {
+		this.targetLatency = targetLatency;
+	}
+
+	/**
+	 * 返回每个数据源最多预取的页数
+	 *
+	 * @return 每个数据源最多预取的页数
+	 */
+	public int getPrefetch() {
+		return prefetch;
+	}
+
+	/**
+	 * 设置每个数据源最多预取的页数
+	 *
+	 * @param prefetch
+	 * 		每个数据源最多预取的页数
+	 */
+	public void setPrefetch(int prefetch) {
+		this.prefetch = prefetch;
+	}
+
+	/**
+	 * 返回最大并行请求数
+	 *
+	 * @return 最大并行请求数
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * 设置最大并行请求数
+	 *
+	 * @param parallelism
+	 * 		最大并行请求数
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.script;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.utils.ObjectStringBuilder;
+import com.buession.redis.utils.SafeEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Redis 函数库，库名称从代码首行 {@code #!<engine> name=<library>} 中解析
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class RedisFunctionLibrary {
+
+	private final static Pattern SHEBANG = Pattern.compile("^#![ \\t]*\\w+[ \\t]+(?:[^\\n]*[ \\t])?name=(\\S+)");
+
+	private final String name;
+
+	private final String code;
+
+	private final byte[] codeRaw;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param code
+	 * 		函数库代码，首行须声明引擎和库名称，如：{@code #!lua name=mylib}
+	 */
+	public RedisFunctionLibrary(final String code) {
+		Assert.isBlank(code, "Function library code cloud not be empty or null.");
+
+		final Matcher matcher = SHEBANG.matcher(code.stripLeading());
+
+		Assert.isFalse(matcher.find(), "Function library code must start with '#!<engine> name=<library>'.");
+		this.name = matcher.group(1);
+		this.code = code;
+		this.codeRaw = SafeEncoder.encode(code);
+	}
+
+	/**
+	 * 返回函数库名称
+	 *
+	 * @return 函数库名称
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 返回函数库代码
+	 *
+	 * @return 函数库代码
+	 */
+	public String getCode() {
+		return code;
+	}
+
+	/**
+	 * 返回函数库代码字节
+	 *
+	 * @return 函数库代码字节
+	 */
+	public byte[] getCodeRaw() {
+		return codeRaw;
+	}
+
+	@Override
+	public int hashCode() {
+		return name.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(this == obj){
+			return true;
+		}
+
+		if(obj instanceof RedisFunctionLibrary that){
+			return name.equals(that.name) && code.equals(that.code);
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return ObjectStringBuilder.create()
+				.add("name", name)
+				.build();
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.script;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.utils.ObjectStringBuilder;
+import com.buession.redis.utils.SafeEncoder;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Lua 脚本，创建时计算一次 SHA1 摘要，执行时以 EVALSHA / EVALSHA_RO 发送摘要而非脚本全文
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class RedisScript {
+
+	private final String script;
+
+	private final byte[] scriptRaw;
+
+	private final String sha1;
+
+	private final byte[] sha1Raw;
+
+	private final boolean readOnly;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param script
+	 * 		Lua 脚本
+	 */
+	public RedisScript(final String script) {
+		this(script, false);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param script
+	 * 		Lua 脚本
+	 * @param readOnly
+	 * 		是否为只读脚本，只读脚本以 EVALSHA_RO 执行，可路由到从节点
+	 */
+	public RedisScript(final String script, final boolean readOnly) {
+		Assert.isBlank(script, "Script cloud not be empty or null.");
+		this.script = script;
+		this.scriptRaw = SafeEncoder.encode(script);
+		this.sha1 = sha1(scriptRaw);
+		this.sha1Raw = SafeEncoder.encode(sha1);
+		this.readOnly = readOnly;
+	}
+
+	/**
+	 * 返回 Lua 脚本
+	 *
+	 * @return Lua 脚本
+	 */
+	public String getScript() {
+		return script;
+	}
+
+	/**
+	 * 返回 Lua 脚本字节
+	 *
+	 * @return Lua 脚本字节
+	 */
+	public byte[] getScriptRaw() {
+		return scriptRaw;
+	}
+
+	/**
+	 * 返回脚本 SHA1 摘要（小写十六进制），与 SCRIPT LOAD 的返回值一致
+	 *
+	 * @return 脚本 SHA1 摘要
+	 */
+	public String getSha1() {
+		return sha1;
+	}
+
+	/**
+	 * 返回脚本 SHA1 摘要字节
+	 *
+	 * @return 脚本 SHA1 摘要字节
+	 */
+	public byte[] getSha1Raw() {
+		return sha1Raw;
+	}
+
+	/**
+	 * 返回是否为只读脚本
+	 *
+	 * @return 是否为只读脚本
+	 */
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	@Override
+	public int hashCode() {
+		return sha1.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(this == obj){
+			return true;
+		}
+
+		if(obj instanceof RedisScript that){
+			return sha1.equals(that.sha1) && readOnly == that.readOnly;
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return ObjectStringBuilder.create()
+				.add("sha1", sha1)
+				.add("readOnly", readOnly)
+				.build();
+	}
+
+	private static String sha1(final byte[] data) {
+		try{
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(data));
+		}catch(NoSuchAlgorithmException e){
+			throw new IllegalStateException(e.getMessage(), e);
+		}
+	}
+
+}
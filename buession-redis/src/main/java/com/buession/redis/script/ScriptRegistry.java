@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.script;
+
+import com.buession.core.utils.Assert;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 脚本注册表，登记的脚本和函数库在 {@link com.buession.redis.RedisTemplate} 初始化时预加载到所有主节点
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class ScriptRegistry {
+
+	private final Map<String, RedisScript> scripts = new ConcurrentHashMap<>();
+
+	private final Map<String, RedisFunctionLibrary> functionLibraries = new ConcurrentHashMap<>();
+
+	/**
+	 * 登记 Lua 脚本
+	 *
+	 * @param script
+	 * 		Lua 脚本
+	 *
+	 * @return 登记的 {@link RedisScript}
+	 */
+	public RedisScript register(final String script) {
+		return register(new RedisScript(script));
+	}
+
+	/**
+	 * 登记 Lua 脚本
+	 *
+	 * @param script
+	 * 		Lua 脚本
+	 *
+	 * @return 登记的 {@link RedisScript}，SHA1 摘要相同时返回先登记的实例
+	 */
+	public RedisScript register(final RedisScript script) {
+		Assert.isNull(script, "Script cloud not be null.");
+
+		final RedisScript exists = scripts.putIfAbsent(script.getSha1(), script);
+		return exists == null ? script : exists;
+	}
+
+	/**
+	 * 登记函数库
+	 *
+	 * @param functionLibrary
+	 * 		函数库
+	 *
+	 * @return 登记的 {@link RedisFunctionLibrary}
+	 */
+	public RedisFunctionLibrary register(final RedisFunctionLibrary functionLibrary) {
+		Assert.isNull(functionLibrary, "Function library cloud not be null.");
+		functionLibraries.put(functionLibrary.getName(), functionLibrary);
+		return functionLibrary;
+	}
+
+	/**
+	 * 返回已登记的 Lua 脚本
+	 *
+	 * @return 已登记的 Lua 脚本
+	 */
+	public Collection<RedisScript> getScripts() {
+		return Collections.unmodifiableCollection(scripts.values());
+	}
+
+	/**
+	 * 返回已登记的函数库
+	 *
+	 * @return 已登记的函数库
+	 */
+	public Collection<RedisFunctionLibrary> getFunctionLibraries() {
+		return Collections.unmodifiableCollection(functionLibraries.values());
+	}
+
+}
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.serializer;
+
+import com.buession.core.collect.Arrays;
+import com.buession.core.deserializer.DeserializerException;
+import com.buession.core.serializer.SerializerException;
+import com.buession.core.type.TypeReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 二进制序列化和反序列化抽象类，子类只需实现字节数组和 {@link ByteBuffer} 的读写
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public abstract class AbstractBinarySerializer implements BinarySerializer {
+
+	protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@Override
+	public <V> String serialize(final V object) {
+		final byte[] bytes = serializeAsBytes(object);
+		return bytes == null ? null : Base64.getEncoder().encodeToString(bytes);
+	}
+
+	@Override
+	public final <V> String[] serialize(final V[] objects) {
+		return Arrays.map(objects, String.class, this::serialize);
+	}
+
+	@Override
+	public <V> byte[] serializeAsBytes(final V object) {
+		if(object != null){
+			try{
+				return doSerialize(object);
+			}catch(SerializerException e){
+				if(logger.isErrorEnabled()){
+					logger.error("{} serializer error.", object, e);
+				}
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public <V> byte[][] serializeAsBytes(final V[] objects) {
+		return Arrays.map(objects, byte[].class, this::serializeAsBytes);
+	}
+
+	@Override
+	public <V> int serialize(final V object, final ByteBuffer buffer) {
+		if(object != null && buffer != null){
+			final int position = buffer.position();
+
+			try{
+				return doSerialize(object, buffer);
+			}catch(SerializerException e){
+				buffer.position(position);
+				if(logger.isErrorEnabled()){
+					logger.error("{} serializer error.", object, e);
+				}
+			}
+		}
+
+		return -1;
+	}
+
+	@Override
+	public <V> V deserialize(final String str) {
+		return deserializeBytes(decode(str));
+	}
+
+	@Override
+	public <V> V deserialize(final String str, final Class<V> clazz) {
+		return deserializeBytes(decode(str), clazz);
+	}
+
+	@Override
+	public <V> V deserialize(final String str, final TypeReference<V> type) {
+		return deserializeBytes(decode(str), type);
+	}
+
+	@Override
+	public <V> V deserializeBytes(final byte[] bytes) {
+		return deserializeBytes(bytes, (Class<V>) null);
+	}
+
+	@Override
+	public <V> V deserializeBytes(final byte[] bytes, final Class<V> clazz) {
+		if(bytes != null){
+			try{
+				return doDeserialize(bytes, clazz);
+			}catch(DeserializerException e){
+				if(logger.isErrorEnabled()){
+					logger.error("{} deserialize to: [{}] error.", bytes, clazz == null ? "null" : clazz.getName(), e);
+				}
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public <V> V deserializeBytes(final byte[] bytes, final TypeReference<V> type) {
+		return deserializeBytes(bytes, rawClass(type));
+	}
+
+	@Override
+	public <V> V deserialize(final ByteBuffer buffer, final Class<V> clazz) {
+		if(buffer != null){
+			try{
+				return doDeserialize(buffer, clazz);
+			}catch(DeserializerException e){
+				if(logger.isErrorEnabled()){
+					logger.error("{} deserialize to: [{}] error.", buffer, clazz == null ? "null" : clazz.getName(),
+							e);
+				}
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public <V> V deserialize(final ByteBuffer buffer, final TypeReference<V> type) {
+		return deserialize(buffer, rawClass(type));
+	}
+
+	/**
+	 * 将对象序列化为字节数组
+	 *
+	 * @param object
+	 * 		待序列化对象，不为 null
+	 *
+	 * @return 序列化后的字节
+	 *
+	 * @throws SerializerException
+	 * 		序列化异常
+	 */
+	protected abstract byte[] doSerialize(final Object object) throws SerializerException;
+
+	/**
+	 * 将对象序列化并写入到 buffer 当前位置
+	 *
+	 * @param object
+	 * 		待序列化对象，不为 null
+	 * @param buffer
+	 * 		目标缓冲区
+	 *
+	 * @return 写入的字节数
+	 *
+	 * @throws SerializerException
+	 * 		序列化异常或 buffer 剩余空间不足
+	 */
+	protected abstract int doSerialize(final Object object, final ByteBuffer buffer) throws SerializerException;
+
+	/**
+	 * 将字节数组反序列化为对象
+	 *
+	 * @param bytes
+	 * 		待反序列化的字节
+	 * @param clazz
+	 * 		对象类，可能为 null
+	 * @param <V>
+	 * 		对象类型
+	 *
+	 * @return 反序列化后的对象
+	 *
+	 * @throws DeserializerException
+	 * 		反序列化异常
+	 */
+	protected abstract <V> V doDeserialize(final byte[] bytes, final Class<V> clazz) throws DeserializerException;
+
+	/**
+	 * 从 buffer 当前位置反序列化为对象
+	 *
+	 * @param buffer
+	 * 		待反序列化的缓冲区
+	 * @param clazz
+	 * 		对象类，可能为 null
+	 * @param <V>
+	 * 		对象类型
+	 *
+	 * @return 反序列化后的对象
+	 *
+	 * @throws DeserializerException
+	 * 		反序列化异常
+	 */
+	protected abstract <V> V doDeserialize(final ByteBuffer buffer, final Class<V> clazz)
+			throws DeserializerException;
+
+	@SuppressWarnings({"unchecked"})
+	protected static <V> V cast(final Object value, final Class<V> clazz) throws DeserializerException {
+		if(value == null || clazz == null || clazz.isInstance(value)){
+			return (V) value;
+		}
+
+		throw new DeserializerException(
+				"Deserialized value of type [" + value.getClass().getName() + "] is not an instance of [" +
+						clazz.getName() + "].");
+	}
+
+	@SuppressWarnings({"unchecked"})
+	protected static <V> Class<V> rawClass(final TypeReference<V> type) {
+		return type == null ? null : (Class<V>) rawClass(type.getType());
+	}
+
+	private static Class<?> rawClass(final Type type) {
+		if(type instanceof Class){
+			return (Class<?>) type;
+		}else if(type instanceof ParameterizedType){
+			return rawClass(((ParameterizedType) type).getRawType());
+		}else if(type instanceof GenericArrayType){
+			final Class<?> componentType = rawClass(((GenericArrayType) type).getGenericComponentType());
+			return componentType == null ? null : componentType.arrayType();
+		}else{
+			return null;
+		}
+	}
+
+	private byte[] decode(final String str) {
+		if(str != null){
+			try{
+				return Base64.getDecoder().decode(str);
+			}catch(IllegalArgumentException e){
+				if(logger.isErrorEnabled()){
+					logger.error("{} is not a valid base64 encoded binary value.", str, e);
+				}
+			}
+		}
+
+		return null;
+	}
+
+}
@@ -28,6 +28,7 @@ package com.buession.redis.serializer;
 
 import com.buession.core.collect.Arrays;
 import com.buession.core.deserializer.DeserializerException;
+import com.buession.core.deserializer.JsonDeserializer;
 import com.buession.core.serializer.SerializerException;
 import com.buession.core.type.TypeReference;
 import org.slf4j.Logger;
@@ -181,7 +182,8 @@ public abstract class AbstractSerializer<S extends com.buession.core.serializer.
 	public <V> V deserializeBytes(final byte[] bytes, final Class<V> clazz) {
 		if(bytes != null){
 			try{
-				return deserializer.deserialize(bytes);
+				return deserializer instanceof JsonDeserializer<?> jsonDeserializer ?
+						jsonDeserializer.deserialize(bytes, clazz) : deserializer.deserialize(bytes);
 			}catch(DeserializerException e){
 				if(logger.isErrorEnabled()){
 					logger.error("{} deserialize to: [{}] error.", bytes, clazz.getName(), e);
@@ -196,7 +198,8 @@ public abstract class AbstractSerializer<S extends com.buession.core.serializer.
 	public <V> V deserializeBytes(final byte[] bytes, final TypeReference<V> type) {
 		if(bytes != null){
 			try{
-				return deserializer.deserialize(bytes);
+				return deserializer instanceof JsonDeserializer<?> jsonDeserializer ?
+						jsonDeserializer.deserialize(bytes, type) : deserializer.deserialize(bytes);
 			}catch(DeserializerException e){
 				if(logger.isErrorEnabled()){
 					logger.error("{} deserialize to: [{}] error.", bytes, type.getType().getTypeName(), e);
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.serializer;
+
+import com.buession.core.type.TypeReference;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 二进制序列化和反序列化，直接读写字节数组或 {@link ByteBuffer}，不经过中间字符串；
+ * 字符串形式的方法仅用于兼容以 String 为 Key 的命令，其值为二进制内容的 Base64 编码
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public interface BinarySerializer extends Serializer {
+
+	/**
+	 * 将任意对象序列化并写入到 buffer 当前位置，写入完成后 buffer 的位置前移写入的字节数
+	 *
+	 * @param object
+	 * 		待序列化对象
+	 * @param buffer
+	 * 		目标缓冲区
+	 * @param <V>
+	 * 		对象类型
+	 *
+	 * @return 写入的字节数，序列化失败或 buffer 剩余空间不足时返回 -1
+	 */
+	<V> int serialize(final V object, final ByteBuffer buffer);
+
+	/**
+	 * 从 buffer 当前位置反序列化为 clazz 指定的对象，读取完成后 buffer 的位置前移读取的字节数
+	 *
+	 * @param buffer
+	 * 		待反序列化的缓冲区
+	 * @param clazz
+	 * 		对象类
+	 * @param <V>
+	 * 		对象类型
+	 *
+	 * @return 反序列化后的对象
+	 */
+	<V> V deserialize(final ByteBuffer buffer, final Class<V> clazz);
+
+	/**
+	 * 从 buffer 当前位置反序列化为 type 指定的对象，读取完成后 buffer 的位置前移读取的字节数
+	 *
+	 * @param buffer
+	 * 		待反序列化的缓冲区
+	 * @param type
+	 * 		对象引用
+	 * @param <V>
+	 * 		对象类型
+	 *
+	 * @return 反序列化后的对象
+	 */
+	<V> V deserialize(final ByteBuffer buffer, final TypeReference<V> type);
+
+}
@@ -0,0 +1,358 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.serializer;
+
+import com.buession.core.collect.Arrays;
+import com.buession.core.type.TypeReference;
+import com.buession.core.utils.Assert;
+import com.buession.redis.metrics.CommandMetrics;
+import com.buession.redis.metrics.NoopCommandMetrics;
+import com.buession.redis.serializer.compress.CompressionCodec;
+import com.buession.redis.serializer.compress.CompressionException;
+import com.buession.redis.utils.ByteUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 压缩序列化，包装其它序列化器，对序列化后不小于阈值的值进行压缩。
+ *
+ * <p>压缩后的字节以 8 字节头部开头：3 字节魔数、1 字节编解码器 ID、4 字节原始长度；
+ * 读取时不带头部的值按未压缩处理，因此开启压缩前写入的值仍可正常读取。
+ * 字符串形式的值以 {@link #STRING_MAGIC} 开头，后接压缩字节的 Base64 编码。
+ * 压缩后体积未减小的值按原值存储。</p>
+ *
+ * <p>两种形式不完全互通：{@code deserializeBytes} 可以读取以 {@link #STRING_MAGIC} 开头的字符串形式；
+ * 而 {@link #serializeAsBytes(Object)} 写入的二进制形式经字符串命令读出时已按 UTF-8 解码，无法还原，
+ * {@code deserialize(String)} 会将其交由被包装的序列化器按未压缩值处理，因此同一个 Key 的写入与读取应使用相同的形式。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class CompressingSerializer implements Serializer {
+
+	/**
+	 * 默认压缩阈值（单位：字节）
+	 */
+	public final static int DEFAULT_THRESHOLD = 1024;
+
+	/**
+	 * 字符串形式压缩值的前缀
+	 */
+	public final static String STRING_MAGIC = "\u001FZC:";
+
+	private final static byte[] MAGIC = new byte[]{0x1F, 'Z', 'C'};
+
+	private final static int HEADER_LENGTH = MAGIC.length + 1 + 4;
+
+	/**
+	 * Redis 字符串值的最大长度，头部中的原始长度超过该值时视为未压缩的值
+	 */
+	private final static int MAX_VALUE_LENGTH = 512 * 1024 * 1024;
+
+	private final Serializer serializer;
+
+	private final CompressionCodec codec;
+
+	private final int threshold;
+
+	private final CompressionCodec[] codecs = new CompressionCodec[128];
+
+	private volatile CommandMetrics commandMetrics = NoopCommandMetrics.INSTANCE;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	/**
+	 * 构造函数
+	 *
+	 * @param serializer
+	 * 		被包装的序列化器
+	 * @param codec
+	 * 		压缩编解码器
+	 */
+	public CompressingSerializer(final Serializer serializer, final CompressionCodec codec) {
+		this(serializer, codec, DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param serializer
+	 * 		被包装的序列化器
+	 * @param codec
+	 * 		压缩编解码器
+	 * @param threshold
+	 * 		压缩阈值（单位：字节），序列化后不小于该值时压缩
+	 */
+	public CompressingSerializer(final Serializer serializer, final CompressionCodec codec, final int threshold) {
+		Assert.isNull(serializer, "Serializer cloud not be null.");
+		Assert.isNull(codec, "Compression codec cloud not be null.");
+		Assert.isFalse(threshold >= 0, "Threshold must be greater than or equal to 0.");
+
+		this.serializer = serializer;
+		this.codec = codec;
+		this.threshold = threshold;
+		addCodec(codec);
+	}
+
+	/**
+	 * 返回被包装的序列化器
+	 *
+	 * @return 被包装的序列化器
+	 */
+	public Serializer getSerializer() {
+		return serializer;
+	}
+
+	/**
+	 * 返回压缩编解码器
+	 *
+	 * @return 压缩编解码器
+	 */
+	public CompressionCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 返回压缩阈值
+	 *
+	 * @return 压缩阈值（单位：字节）
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * 添加仅用于解压的编解码器，用于读取切换编解码器前写入的值
+	 *
+	 * @param codec
+	 * 		压缩编解码器
+	 */
+	public void addCodec(final CompressionCodec codec) {
+		Assert.isNull(codec, "Compression codec cloud not be null.");
+		Assert.isFalse(codec.getId() > 0, "Compression codec id must be between 1 and 127.");
+		codecs[codec.getId()] = codec;
+	}
+
+	/**
+	 * 设置指标收集器，用于记录压缩率
+	 *
+	 * @param commandMetrics
+	 * 		指标收集器
+	 */
+	public void setCommandMetrics(final CommandMetrics commandMetrics) {
+		this.commandMetrics = commandMetrics == null ? NoopCommandMetrics.INSTANCE : commandMetrics;
+	}
+
+	@Override
+	public <V> String serialize(final V object) {
+		final String str = serializer.serialize(object);
+
+		if(str == null || str.length() * 3 < threshold){
+			return str;
+		}
+
+		final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		final byte[] compressed = compress(bytes);
+
+		if(compressed == bytes){
+			return str;
+		}
+
+		final String result = STRING_MAGIC + Base64.getEncoder().encodeToString(compressed);
+		return result.length() < bytes.length ? result : str;
+	}
+
+	@Override
+	public <V> String[] serialize(final V[] objects) {
+		return Arrays.map(objects, String.class, this::serialize);
+	}
+
+	@Override
+	public <V> byte[] serializeAsBytes(final V object) {
+		final byte[] bytes = serializer.serializeAsBytes(object);
+		return bytes == null ? null : compress(bytes);
+	}
+
+	@Override
+	public <V> byte[][] serializeAsBytes(final V[] objects) {
+		return Arrays.map(objects, byte[].class, this::serializeAsBytes);
+	}
+
+	@Override
+	public <V> V deserialize(final String str) {
+		return serializer.deserialize(decompress(str));
+	}
+
+	@Override
+	public <V> V deserialize(final String str, final Class<V> clazz) {
+		return serializer.deserialize(decompress(str), clazz);
+	}
+
+	@Override
+	public <V> V deserialize(final String str, final TypeReference<V> type) {
+		return serializer.deserialize(decompress(str), type);
+	}
+
+	@Override
+	public <V> V deserializeBytes(final byte[] bytes) {
+		return serializer.deserializeBytes(decompress(bytes));
+	}
+
+	@Override
+	public <V> V deserializeBytes(final byte[] bytes, final Class<V> clazz) {
+		return serializer.deserializeBytes(decompress(bytes), clazz);
+	}
+
+	@Override
+	public <V> V deserializeBytes(final byte[] bytes, final TypeReference<V> type) {
+		return serializer.deserializeBytes(decompress(bytes), type);
+	}
+
+	/**
+	 * 压缩字节，长度小于阈值、压缩失败或压缩后体积未减小时返回原字节
+	 *
+	 * @param bytes
+	 * 		待压缩的字节
+	 *
+	 * @return 带头部的压缩字节或原字节
+	 */
+	public byte[] compress(final byte[] bytes) {
+		if(bytes == null || bytes.length < threshold){
+			return bytes;
+		}
+
+		final byte[] dest = new byte[HEADER_LENGTH + codec.maxCompressedLength(bytes.length)];
+
+		try{
+			final int length = HEADER_LENGTH + codec.compress(bytes, 0, bytes.length, dest, HEADER_LENGTH);
+
+			if(length >= bytes.length){
+				commandMetrics.recordCompression(codec.getName(), bytes.length, bytes.length);
+				return bytes;
+			}
+
+			System.arraycopy(MAGIC, 0, dest, 0, MAGIC.length);
+			dest[MAGIC.length] = codec.getId();
+			ByteUtils.writeInt(dest, MAGIC.length + 1, bytes.length);
+
+			commandMetrics.recordCompression(codec.getName(), bytes.length, length);
+
+			return java.util.Arrays.copyOf(dest, length);
+		}catch(CompressionException e){
+			if(logger.isWarnEnabled()){
+				logger.warn("Compress {} bytes with {} failure, store uncompressed.", bytes.length, codec.getName(),
+						e);
+			}
+			return bytes;
+		}
+	}
+
+	/**
+	 * 解压字节，不带压缩头部的字节原样返回
+	 *
+	 * @param bytes
+	 * 		待解压的字节
+	 *
+	 * @return 解压后的字节
+	 */
+	public byte[] decompress(final byte[] bytes) {
+		if(isCompressed(bytes) == false){
+			return bytes;
+		}
+
+		final CompressionCodec codec = codecs[bytes[MAGIC.length]];
+
+		if(codec == null && bytes[MAGIC.length] == STRING_MAGIC.charAt(MAGIC.length)){
+			return decompressBase64(bytes);
+		}
+
+		final int length = ByteUtils.readInt(bytes, MAGIC.length + 1);
+
+		if(codec == null || length < 0 || length > MAX_VALUE_LENGTH){
+			return bytes;
+		}
+
+		final byte[] dest = new byte[length];
+
+		try{
+			codec.decompress(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, dest, 0, length);
+			return dest;
+		}catch(CompressionException e){
+			// 魔数恰好相同的未压缩值，交由被包装的序列化器处理
+			if(logger.isDebugEnabled()){
+				logger.debug("Decompress {} bytes with {} failure, read as uncompressed.", bytes.length,
+						codec.getName(), e);
+			}
+			return bytes;
+		}
+	}
+
+	private String decompress(final String str) {
+		if(str == null || str.startsWith(STRING_MAGIC) == false){
+			return str;
+		}
+
+		final byte[] bytes;
+		try{
+			bytes = Base64.getDecoder().decode(str.substring(STRING_MAGIC.length()));
+		}catch(IllegalArgumentException e){
+			return str;
+		}
+
+		final byte[] decompressed = decompress(bytes);
+		return decompressed == bytes ? str : new String(decompressed, StandardCharsets.UTF_8);
+	}
+
+	private byte[] decompressBase64(final byte[] bytes) {
+		final byte[] compressed;
+		try{
+			compressed = Base64.getDecoder()
+					.decode(java.util.Arrays.copyOfRange(bytes, STRING_MAGIC.length(), bytes.length));
+		}catch(IllegalArgumentException e){
+			return bytes;
+		}
+
+		final byte[] decompressed = decompress(compressed);
+		return decompressed == compressed ? bytes : decompressed;
+	}
+
+	private static boolean isCompressed(final byte[] bytes) {
+		if(bytes == null || bytes.length <= HEADER_LENGTH){
+			return false;
+		}
+
+		for(int i = 0; i < MAGIC.length; i++){
+			if(bytes[i] != MAGIC[i]){
+				return false;
+			}
+		}
+
+		return bytes[MAGIC.length] > 0;
+	}
+
+}
@@ -0,0 +1,434 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.serializer;
+
+import com.buession.core.deserializer.DeserializerException;
+import com.buession.core.serializer.SerializerException;
+import com.buession.core.utils.Assert;
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.ByteBufferInput;
+import com.esotericsoftware.kryo.io.ByteBufferOutput;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.serializers.CompatibleFieldSerializer;
+import com.esotericsoftware.kryo.util.DefaultInstantiatorStrategy;
+import com.esotericsoftware.kryo.util.Pool;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Kryo 二进制序列化和反序列化；{@link Kryo} 和输出缓冲区均池化复用，类型注册信息随 {@link Kryo} 实例缓存，
+ * 默认使用 {@link CompatibleFieldSerializer}，新增或删除字段后仍可读取旧数据。
+ * 配置应在首次使用前完成，修改配置会丢弃已池化的 {@link Kryo} 实例。
+ *
+ * <p>默认要求类型必须预先注册，未注册的类型无法序列化和反序列化。关闭 {@link #setRegistrationRequired(boolean)}
+ * 后，数据中携带的任意类名都会被加载，并通过 {@link StdInstantiatorStrategy} 绕过构造函数实例化，
+ * 若数据可能被不可信方写入，将导致反序列化漏洞，仅应在数据完全可信时关闭。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class KryoSerializer extends AbstractBinarySerializer {
+
+	/**
+	 * 默认输出缓冲区初始大小
+	 */
+	public final static int DEFAULT_BUFFER_SIZE = 4096;
+
+	/**
+	 * 默认池大小
+	 */
+	public final static int DEFAULT_POOL_SIZE = 64;
+
+	/**
+	 * 归还到池中的输出缓冲区最大保留大小，超过时重置为初始大小，避免个别大对象长期占用内存
+	 */
+	private final static int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
+	/**
+	 * 注册的类型及 ID，ID 为 null 时由 Kryo 自动分配
+	 */
+	private final AtomicReference<Map<Class<?>, Integer>> registrations =
+			new AtomicReference<>(Collections.emptyMap());
+
+	/**
+	 * 是否要求类型必须预先注册
+	 */
+	private boolean registrationRequired = true;
+
+	/**
+	 * 是否支持对象引用（循环引用）
+	 */
+	private boolean references = false;
+
+	/**
+	 * 是否使用兼容字段序列化，支持字段增删的模式演进
+	 */
+	private boolean compatibleFields = true;
+
+	/**
+	 * 输出缓冲区初始大小
+	 */
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	/**
+	 * 输出缓冲区最大大小，-1 为不限制
+	 */
+	private int maxBufferSize = -1;
+
+	/**
+	 * 池大小
+	 */
+	private int poolSize = DEFAULT_POOL_SIZE;
+
+	private volatile Pool<Kryo> kryoPool;
+
+	private volatile Pool<Output> outputPool;
+
+	/**
+	 * 构造函数
+	 */
+	public KryoSerializer() {
+		super();
+		reset();
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param types
+	 * 		需注册的类型，按顺序自动分配 ID
+	 */
+	public KryoSerializer(final Class<?>... types) {
+		super();
+		for(Class<?> type : types){
+			addRegistration(type, null);
+		}
+		reset();
+	}
+
+	/**
+	 * 注册类型，由 Kryo 自动分配 ID；注册后序列化结果只写入类型 ID 而非类名，
+	 * 读写双方必须以相同顺序注册相同的类型
+	 *
+	 * @param type
+	 * 		类型
+	 *
+	 * @return KryoSerializer
+	 */
+	public KryoSerializer register(final Class<?> type) {
+		Assert.isNull(type, "Type cloud not be null.");
+		addRegistration(type, null);
+		reset();
+		return this;
+	}
+
+	/**
+	 * 注册类型并指定 ID，指定 ID 的注册与注册顺序无关，更适合多个服务共享数据的场景
+	 *
+	 * @param type
+	 * 		类型
+	 * @param id
+	 * 		类型 ID
+	 *
+	 * @return KryoSerializer
+	 */
+	public KryoSerializer register(final Class<?> type, final int id) {
+		Assert.isNull(type, "Type cloud not be null.");
+		addRegistration(type, id);
+		reset();
+		return this;
+	}
+
+	/**
+	 * 返回是否要求类型必须预先注册
+	 *
+	 * @return 是否要求类型必须预先注册
+	 */
+	public boolean isRegistrationRequired() {
+		return registrationRequired;
+	}
+
+	/**
+	 * 设置是否要求类型必须预先注册；关闭后可反序列化数据中携带的任意类型，仅应在数据完全可信时关闭
+	 *
+	 * @param registrationRequired
+	 * 		是否要求类型必须预先注册
+	 */
+	public void setRegistrationRequired(boolean registrationRequired) {
+		this.registrationRequired = registrationRequired;
+		reset();
+	}
+
+	/**
+	 * 返回是否支持对象引用（循环引用）
+	 *
+	 * @return 是否支持对象引用
+	 */
+	public boolean isReferences() {
+		return references;
+	}
+
+	/**
+	 * 设置是否支持对象引用（循环引用）
+	 *
+	 * @param references
+	 * 		是否支持对象引用
+	 */
+	public void setReferences(boolean references) {
+		this.references = references;
+		reset();
+	}
+
+	/**
+	 * 返回是否使用兼容字段序列化
+	 *
+	 * @return 是否使用兼容字段序列化
+	 */
+	public boolean isCompatibleFields() {
+		return compatibleFields;
+	}
+
+	/**
+	 * 设置是否使用兼容字段序列化；为 true 时支持字段增删的模式演进，为 false 时体积更小，但类结构变化后无法读取旧数据
+	 *
+	 * @param compatibleFields
+	 * 		是否使用兼容字段序列化
+	 */
+	public void setCompatibleFields(boolean compatibleFields) {
+		this.compatibleFields = compatibleFields;
+		reset();
+	}
+
+	/**
+	 * 返回输出缓冲区初始大小
+	 *
+	 * @return 输出缓冲区初始大小
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * 设置输出缓冲区初始大小
+	 *
+	 * @param bufferSize
+	 * 		输出缓冲区初始大小
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isFalse(bufferSize > 0, "Buffer size must be greater than 0.");
+		this.bufferSize = bufferSize;
+		reset();
+	}
+
+	/**
+	 * 返回输出缓冲区最大大小
+	 *
+	 * @return 输出缓冲区最大大小，-1 为不限制
+	 */
+	public int getMaxBufferSize() {
+		return maxBufferSize;
+	}
+
+	/**
+	 * 设置输出缓冲区最大大小
+	 *
+	 * @param maxBufferSize
+	 * 		输出缓冲区最大大小，-1 为不限制
+	 */
+	public void setMaxBufferSize(int maxBufferSize) {
+		this.maxBufferSize = maxBufferSize;
+		reset();
+	}
+
+	/**
+	 * 返回池大小
+	 *
+	 * @return 池大小
+	 */
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	/**
+	 * 设置池大小
+	 *
+	 * @param poolSize
+	 * 		池大小
+	 */
+	public void setPoolSize(int poolSize) {
+		Assert.isFalse(poolSize > 0, "Pool size must be greater than 0.");
+		this.poolSize = poolSize;
+		reset();
+	}
+
+	@Override
+	protected byte[] doSerialize(final Object object) throws SerializerException {
+		final Pool<Kryo> kryos = kryoPool;
+		final Pool<Output> outputs = outputPool;
+		final Kryo kryo = kryos.obtain();
+		final Output output = outputs.obtain();
+
+		try{
+			output.reset();
+			kryo.writeClassAndObject(output, object);
+			return output.toBytes();
+		}catch(KryoException e){
+			throw new SerializerException("serializer the instance of " + object.getClass().getName() + " failure",
+					e);
+		}finally{
+			if(output.getBuffer().length > MAX_POOLED_BUFFER_SIZE){
+				output.setBuffer(new byte[bufferSize], maxBufferSize);
+			}
+			outputs.free(output);
+			kryos.free(kryo);
+		}
+	}
+
+	@Override
+	protected int doSerialize(final Object object, final ByteBuffer buffer) throws SerializerException {
+		final Pool<Kryo> kryos = kryoPool;
+		final Kryo kryo = kryos.obtain();
+		final int position = buffer.position();
+		final ByteBufferOutput output = new ByteBufferOutput(buffer.slice());
+
+		try{
+			kryo.writeClassAndObject(output, object);
+
+			final int written = output.position();
+
+			buffer.position(position + written);
+			return written;
+		}catch(KryoException e){
+			throw new SerializerException("serializer the instance of " + object.getClass().getName() + " failure",
+					e);
+		}finally{
+			kryos.free(kryo);
+		}
+	}
+
+	@Override
+	protected <V> V doDeserialize(final byte[] bytes, final Class<V> clazz) throws DeserializerException {
+		final Pool<Kryo> kryos = kryoPool;
+		final Kryo kryo = kryos.obtain();
+
+		try{
+			return cast(kryo.readClassAndObject(new Input(bytes)), clazz);
+		}catch(KryoException e){
+			throw new DeserializerException("deserialize the bytes failure.", e);
+		}finally{
+			kryos.free(kryo);
+		}
+	}
+
+	@Override
+	protected <V> V doDeserialize(final ByteBuffer buffer, final Class<V> clazz) throws DeserializerException {
+		final Pool<Kryo> kryos = kryoPool;
+		final Kryo kryo = kryos.obtain();
+		final int position = buffer.position();
+		final ByteBufferInput input = new ByteBufferInput(buffer.slice());
+
+		try{
+			final Object value = kryo.readClassAndObject(input);
+
+			buffer.position(position + input.position());
+			return cast(value, clazz);
+		}catch(KryoException e){
+			throw new DeserializerException("deserialize the buffer failure.", e);
+		}finally{
+			kryos.free(kryo);
+		}
+	}
+
+	/**
+	 * 创建 {@link Kryo} 实例后的扩展点，子类可注册自定义序列化器
+	 *
+	 * @param kryo
+	 * 		{@link Kryo} 实例
+	 */
+	protected void configure(final Kryo kryo) {
+	}
+
+	protected Kryo createKryo() {
+		final Kryo kryo = new Kryo();
+
+		kryo.setRegistrationRequired(registrationRequired);
+		kryo.setReferences(references);
+		kryo.setInstantiatorStrategy(new DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+		if(compatibleFields){
+			kryo.setDefaultSerializer(CompatibleFieldSerializer.class);
+		}
+
+		registrations.get().forEach((type, id)->{
+			if(id == null){
+				kryo.register(type);
+			}else{
+				kryo.register(type, id);
+			}
+		});
+
+		configure(kryo);
+
+		return kryo;
+	}
+
+	private void addRegistration(final Class<?> type, final Integer id) {
+		registrations.updateAndGet((current)->{
+			final Map<Class<?>, Integer> result = new LinkedHashMap<>(current);
+
+			result.put(type, id);
+			return Collections.unmodifiableMap(result);
+		});
+	}
+
+	private void reset() {
+		final int bufferSize = this.bufferSize;
+		final int maxBufferSize = this.maxBufferSize;
+
+		kryoPool = new Pool<Kryo>(true, false, poolSize) {
+
+			@Override
+			protected Kryo create() {
+				return createKryo();
+			}
+
+		};
+		outputPool = new Pool<Output>(true, false, poolSize) {
+
+			@Override
+			protected Output create() {
+				return new Output(bufferSize, maxBufferSize);
+			}
+
+		};
+	}
+
+}
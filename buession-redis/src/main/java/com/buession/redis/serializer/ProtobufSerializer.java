@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.serializer;
+
+import com.buession.core.deserializer.DeserializerException;
+import com.buession.core.serializer.SerializerException;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+
+/**
+ * Protocol Buffers 二进制序列化和反序列化，仅支持 {@link MessageLite} 类型的对象；
+ * 各消息类型的 {@link Parser} 按类型缓存。Protocol Buffers 自身支持字段增删的模式演进，未知字段会被保留。
+ * 序列化结果不包含类型信息，反序列化时需指定目标类型，未指定时使用构造函数传入的默认类型
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class ProtobufSerializer extends AbstractBinarySerializer {
+
+	private final static ClassValue<Parser<?>> PARSERS = new ClassValue<>() {
+
+		@Override
+		protected Parser<?> computeValue(final Class<?> type) {
+			if(MessageLite.class.isAssignableFrom(type) == false){
+				return null;
+			}
+
+			try{
+				final MessageLite defaultInstance = (MessageLite) type.getMethod("getDefaultInstance").invoke(null);
+				return defaultInstance.getParserForType();
+			}catch(NoSuchMethodException | IllegalAccessException | InvocationTargetException e){
+				return null;
+			}
+		}
+
+	};
+
+	/**
+	 * 未指定目标类型时使用的默认消息类型
+	 */
+	private final Class<? extends MessageLite> defaultType;
+
+	/**
+	 * 构造函数
+	 */
+	public ProtobufSerializer() {
+		this(null);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param defaultType
+	 * 		未指定目标类型时使用的默认消息类型
+	 */
+	public ProtobufSerializer(final Class<? extends MessageLite> defaultType) {
+		super();
+		this.defaultType = defaultType;
+	}
+
+	@Override
+	protected byte[] doSerialize(final Object object) throws SerializerException {
+		return message(object).toByteArray();
+	}
+
+	@Override
+	protected int doSerialize(final Object object, final ByteBuffer buffer) throws SerializerException {
+		final MessageLite message = message(object);
+		final int size = message.getSerializedSize();
+
+		if(size > buffer.remaining()){
+			throw new SerializerException(
+					"Buffer remaining " + buffer.remaining() + " bytes, but " + size + " bytes required.");
+		}
+
+		try{
+			final CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+
+			message.writeTo(output);
+			output.flush();
+			return size;
+		}catch(IOException e){
+			throw new SerializerException("serializer the instance of " + object.getClass().getName() + " failure",
+					e);
+		}
+	}
+
+	@Override
+	protected <V> V doDeserialize(final byte[] bytes, final Class<V> clazz) throws DeserializerException {
+		final Parser<?> parser = parser(clazz);
+
+		try{
+			return cast(parser.parseFrom(bytes), clazz);
+		}catch(InvalidProtocolBufferException e){
+			throw new DeserializerException("deserialize the bytes failure.", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 消息不包含长度信息，将读取 buffer 中剩余的全部字节
+	 */
+	@Override
+	protected <V> V doDeserialize(final ByteBuffer buffer, final Class<V> clazz) throws DeserializerException {
+		final Parser<?> parser = parser(clazz);
+
+		try{
+			final Object value = parser.parseFrom(buffer.slice());
+
+			buffer.position(buffer.limit());
+			return cast(value, clazz);
+		}catch(InvalidProtocolBufferException e){
+			throw new DeserializerException("deserialize the buffer failure.", e);
+		}
+	}
+
+	private static MessageLite message(final Object object) throws SerializerException {
+		if(object instanceof MessageLite){
+			return (MessageLite) object;
+		}
+
+		throw new SerializerException(
+				"Required a MessageLite payload but received an object of type [" + object.getClass().getName() +
+						"]");
+	}
+
+	private Parser<?> parser(final Class<?> clazz) throws DeserializerException {
+		final Class<?> type = clazz == null ? defaultType : clazz;
+
+		if(type == null){
+			throw new DeserializerException("Protobuf deserialize requires a target message type.");
+		}
+
+		final Parser<?> parser = PARSERS.get(type);
+		if(parser == null){
+			throw new DeserializerException("Cloud not resolve protobuf parser for type [" + type.getName() + "].");
+		}
+
+		return parser;
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.serializer.compress;
+
+/**
+ * 压缩编解码器，压缩结果写入调用方提供的字节数组，不额外复制
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public interface CompressionCodec {
+
+	/**
+	 * 返回编解码器 ID，写入压缩值的头部，用于读取时选择编解码器，取值 1 ~ 127
+	 *
+	 * @return 编解码器 ID
+	 */
+	byte getId();
+
+	/**
+	 * 返回编解码器名称，用于指标标签
+	 *
+	 * @return 编解码器名称
+	 */
+	String getName();
+
+	/**
+	 * 返回 length 字节的数据压缩后可能的最大长度
+	 *
+	 * @param length
+	 * 		原始数据长度
+	 *
+	 * @return 压缩后的最大长度
+	 */
+	int maxCompressedLength(int length);
+
+	/**
+	 * 压缩数据
+	 *
+	 * @param src
+	 * 		原始数据
+	 * @param srcOffset
+	 * 		原始数据起始位置
+	 * @param srcLength
+	 * 		原始数据长度
+	 * @param dest
+	 * 		目标数组，剩余空间不小于 {@link #maxCompressedLength(int)}
+	 * @param destOffset
+	 * 		目标数组起始位置
+	 *
+	 * @return 写入的字节数
+	 *
+	 * @throws CompressionException
+	 * 		压缩失败
+	 */
+	int compress(byte[] src, int srcOffset, int srcLength, byte[] dest, int destOffset)
+			throws CompressionException;
+
+	/**
+	 * 解压数据
+	 *
+	 * @param src
+	 * 		压缩数据
+	 * @param srcOffset
+	 * 		压缩数据起始位置
+	 * @param srcLength
+	 * 		压缩数据长度
+	 * @param dest
+	 * 		目标数组
+	 * @param destOffset
+	 * 		目标数组起始位置
+	 * @param destLength
+	 * 		原始数据长度
+	 *
+	 * @throws CompressionException
+	 * 		解压失败
+	 */
+	void decompress(byte[] src, int srcOffset, int srcLength, byte[] dest, int destOffset, int destLength)
+			throws CompressionException;
+
+}
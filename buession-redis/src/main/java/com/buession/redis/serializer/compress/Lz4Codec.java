@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.serializer.compress;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+/**
+ * LZ4 压缩编解码器，压缩、解压速度快，压缩率低于 Zstd
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class Lz4Codec implements CompressionCodec {
+
+	public final static byte ID = 1;
+
+	private final LZ4Compressor compressor;
+
+	private final LZ4SafeDecompressor decompressor;
+
+	/**
+	 * 构造函数，使用快速压缩
+	 */
+	public Lz4Codec() {
+		this(0);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param level
+	 * 		压缩级别，小于等于 0 时使用快速压缩，1 ~ 17 使用高压缩率模式
+	 */
+	public Lz4Codec(final int level) {
+		final LZ4Factory factory = LZ4Factory.fastestInstance();
+
+		this.compressor = level <= 0 ? factory.fastCompressor() : factory.highCompressor(level);
+		this.decompressor = factory.safeDecompressor();
+	}
+
+	@Override
+	public byte getId() {
+		return ID;
+	}
+
+	@Override
+	public String getName() {
+		return "lz4";
+	}
+
+	@Override
+	public int maxCompressedLength(final int length) {
+		return compressor.maxCompressedLength(length);
+	}
+
+	@Override
+	public int compress(final byte[] src, final int srcOffset, final int srcLength, final byte[] dest,
+	                    final int destOffset) throws CompressionException {
+		try{
+			return compressor.compress(src, srcOffset, srcLength, dest, destOffset, dest.length - destOffset);
+		}catch(LZ4Exception e){
+			throw new CompressionException("LZ4 compress failure.", e);
+		}
+	}
+
+	@Override
+	public void decompress(final byte[] src, final int srcOffset, final int srcLength, final byte[] dest,
+	                       final int destOffset, final int destLength) throws CompressionException {
+		try{
+			final int length = decompressor.decompress(src, srcOffset, srcLength, dest, destOffset, destLength);
+
+			if(length != destLength){
+				throw new CompressionException(
+						"LZ4 decompressed " + length + " bytes, but " + destLength + " bytes expected.");
+			}
+		}catch(LZ4Exception e){
+			throw new CompressionException("LZ4 decompress failure.", e);
+		}
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.serializer.compress;
+
+import com.buession.core.utils.Assert;
+import com.buession.redis.utils.ByteUtils;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Zstd 压缩编解码器，支持预训练字典；对体积小、结构相似的值，使用字典可显著提高压缩率。
+ * 压缩数据以 4 字节字典 ID 开头（0 表示未使用字典），更换字典后，使用旧字典压缩的值需通过
+ * {@link #addDictionary(byte[])} 保留旧字典才能读取
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class ZstdCodec implements CompressionCodec {
+
+	public final static byte ID = 2;
+
+	/**
+	 * 默认压缩级别
+	 */
+	public final static int DEFAULT_LEVEL = 3;
+
+	private final static int DICTIONARY_ID_LENGTH = 4;
+
+	private final int level;
+
+	private final Map<Integer, ZstdDictDecompress> decompressDictionaries = new ConcurrentHashMap<>();
+
+	private volatile CompressDictionary compressDictionary;
+
+	/**
+	 * 构造函数
+	 */
+	public ZstdCodec() {
+		this(DEFAULT_LEVEL);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param level
+	 * 		压缩级别
+	 */
+	public ZstdCodec(final int level) {
+		this.level = level;
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param level
+	 * 		压缩级别
+	 * @param dictionary
+	 * 		压缩字典，通过 {@link #trainDictionary(Collection, int)} 训练得到
+	 */
+	public ZstdCodec(final int level, final byte[] dictionary) {
+		this(level);
+		setDictionary(dictionary);
+	}
+
+	/**
+	 * 设置压缩字典，此后压缩均使用该字典，同时保留该字典用于解压
+	 *
+	 * @param dictionary
+	 * 		压缩字典，通过 {@link #trainDictionary(Collection, int)} 训练得到
+	 */
+	public void setDictionary(final byte[] dictionary) {
+		final int dictionaryId = addDictionary(dictionary);
+		compressDictionary = new CompressDictionary(dictionaryId, new ZstdDictCompress(dictionary, level));
+	}
+
+	/**
+	 * 添加仅用于解压的字典，用于读取使用旧字典压缩的值
+	 *
+	 * @param dictionary
+	 * 		压缩字典
+	 *
+	 * @return 字典 ID
+	 */
+	public int addDictionary(final byte[] dictionary) {
+		Assert.isNull(dictionary, "Dictionary cloud not be null.");
+
+		final int dictionaryId = (int) Zstd.getDictIdFromDict(dictionary);
+		Assert.isFalse(dictionaryId != 0, "Dictionary has no id, it must be trained by zstd.");
+
+		decompressDictionaries.put(dictionaryId, new ZstdDictDecompress(dictionary));
+		return dictionaryId;
+	}
+
+	@Override
+	public byte getId() {
+		return ID;
+	}
+
+	@Override
+	public String getName() {
+		return "zstd";
+	}
+
+	@Override
+	public int maxCompressedLength(final int length) {
+		return DICTIONARY_ID_LENGTH + (int) Zstd.compressBound(length);
+	}
+
+	@Override
+	public int compress(final byte[] src, final int srcOffset, final int srcLength, final byte[] dest,
+	                    final int destOffset) throws CompressionException {
+		final CompressDictionary dictionary = compressDictionary;
+		final int frameOffset = destOffset + DICTIONARY_ID_LENGTH;
+		final long result;
+
+		if(dictionary == null){
+			ByteUtils.writeInt(dest, destOffset, 0);
+			result = Zstd.compressByteArray(dest, frameOffset, dest.length - frameOffset, src, srcOffset, srcLength,
+					level);
+		}else{
+			ByteUtils.writeInt(dest, destOffset, dictionary.id);
+			result = Zstd.compressFastDict(dest, frameOffset, src, srcOffset, srcLength, dictionary.dictionary);
+		}
+
+		if(Zstd.isError(result)){
+			throw new CompressionException("Zstd compress failure: " + Zstd.getErrorName(result) + '.');
+		}
+
+		return DICTIONARY_ID_LENGTH + (int) result;
+	}
+
+	@Override
+	public void decompress(final byte[] src, final int srcOffset, final int srcLength, final byte[] dest,
+	                       final int destOffset, final int destLength) throws CompressionException {
+		if(srcLength < DICTIONARY_ID_LENGTH){
+			throw new CompressionException("Zstd compressed data too short.");
+		}
+
+		final int dictionaryId = ByteUtils.readInt(src, srcOffset);
+		final int frameOffset = srcOffset + DICTIONARY_ID_LENGTH;
+		final int frameLength = srcLength - DICTIONARY_ID_LENGTH;
+		final long result;
+
+		if(dictionaryId == 0){
+			result = Zstd.decompressByteArray(dest, destOffset, destLength, src, frameOffset, frameLength);
+		}else{
+			final ZstdDictDecompress dictionary = decompressDictionaries.get(dictionaryId);
+
+			if(dictionary == null){
+				throw new CompressionException("Zstd dictionary " + dictionaryId + " not found.");
+			}
+
+			result = Zstd.decompressFastDict(dest, destOffset, src, frameOffset, frameLength, dictionary);
+		}
+
+		if(Zstd.isError(result)){
+			throw new CompressionException("Zstd decompress failure: " + Zstd.getErrorName(result) + '.');
+		}else if(result != destLength){
+			throw new CompressionException(
+					"Zstd decompressed " + result + " bytes, but " + destLength + " bytes expected.");
+		}
+	}
+
+	/**
+	 * 使用样本训练 Zstd 字典，样本应为有代表性的序列化后的值
+	 *
+	 * @param samples
+	 * 		样本
+	 * @param dictionarySize
+	 * 		字典大小（单位：字节），通常为 16 KB ~ 112 KB
+	 *
+	 * @return 字典
+	 */
+	public static byte[] trainDictionary(final Collection<byte[]> samples, final int dictionarySize) {
+		Assert.isEmpty(samples, "Samples cloud not be empty or null.");
+		Assert.isFalse(dictionarySize > 0, "Dictionary size must be greater than 0.");
+
+		long sampleSize = 0;
+		for(byte[] sample : samples){
+			sampleSize += sample.length;
+		}
+
+		final ZstdDictTrainer trainer = new ZstdDictTrainer((int) Math.min(sampleSize, Integer.MAX_VALUE),
+				dictionarySize);
+		for(byte[] sample : samples){
+			if(trainer.addSample(sample) == false){
+				break;
+			}
+		}
+
+		return trainer.trainSamples();
+	}
+
+	private final static class CompressDictionary {
+
+		private final int id;
+
+		private final ZstdDictCompress dictionary;
+
+		CompressDictionary(final int id, final ZstdDictCompress dictionary) {
+			this.id = id;
+			this.dictionary = dictionary;
+		}
+
+	}
+
+}
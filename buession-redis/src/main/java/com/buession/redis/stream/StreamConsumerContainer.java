@@ -0,0 +1,620 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.stream;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import com.buession.core.utils.Assert;
+import com.buession.core.validator.Validate;
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.client.connection.datasource.ClusterDataSource;
+import com.buession.redis.core.AutoClaimInfo;
+import com.buession.redis.core.StreamEntry;
+import com.buession.redis.core.StreamEntryId;
+import com.buession.redis.core.StreamGroup;
+import com.buession.redis.core.XReadGroupInfo;
+import com.buession.redis.core.command.args.stream.XReadGroupArgument;
+import com.buession.redis.exception.RedisException;
+import com.buession.redis.utils.KeyUtils;
+import com.buession.redis.utils.SafeEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stream 消费者容器，以少量阻塞 XREADGROUP 连接复用读取多个 Stream、多个消费者组，消息分发到有界的处理线程池：
+ *
+ * <ul>
+ *     <li>订阅按消费者组（集群模式下再按槽位）分配到固定数量的读取线程，同一消费者组的多个 Stream 合并为一次 XREADGROUP</li>
+ *     <li>每个订阅的在途消息数达到 {@link StreamConsumerOptions#getMaxInFlight()} 时暂停读取，处理线程池队列满时由读取线程直接处理，形成背压</li>
+ *     <li>处理成功的消息按批 XACK；处理失败或确认失败的消息留在 Pending 列表中，由后台 XAUTOCLAIM 回收后重新投递，即至少一次语义</li>
+ *     <li>后台定期通过 XINFO GROUPS 刷新每个消费者组的 lag 和 pending，见 {@link #getMetrics()}</li>
+ * </ul>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class StreamConsumerContainer implements Closeable {
+
+	/**
+	 * 读取失败后的重试间隔（单位：毫秒）
+	 */
+	private final static long ERROR_BACKOFF = 1000L;
+
+	/**
+	 * 单批最小阻塞时长（单位：毫秒）
+	 */
+	private final static long MIN_BLOCK = 10L;
+
+	private final static StreamEntryId CLAIM_START = new StreamEntryId(0L, 0L);
+
+	private final RedisTemplate redisTemplate;
+
+	private final StreamConsumerOptions options;
+
+	private final String consumerName;
+
+	/**
+	 * 集群模式数据源，非集群模式时为 null
+	 */
+	private final ClusterDataSource clusterDataSource;
+
+	private final List<StreamSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+	private final ReentrantLock capacityLock = new ReentrantLock();
+
+	private final Condition capacityAvailable = capacityLock.newCondition();
+
+	private final ReentrantLock lifecycleLock = new ReentrantLock();
+
+	private Executor workerExecutor;
+
+	private ThreadPoolExecutor defaultWorkerExecutor;
+
+	private ScheduledExecutorService scheduler;
+
+	private final List<Thread> readers = new ArrayList<>();
+
+	private volatile boolean running = false;
+
+	private final static Logger logger = LoggerFactory.getLogger(StreamConsumerContainer.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 */
+	public StreamConsumerContainer(final RedisTemplate redisTemplate) {
+		this(redisTemplate, new StreamConsumerOptions());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param options
+	 * 		容器配置
+	 */
+	public StreamConsumerContainer(final RedisTemplate redisTemplate, final StreamConsumerOptions options) {
+		Assert.isNull(redisTemplate, "RedisTemplate cloud not be null.");
+		Assert.isNull(options, "StreamConsumerOptions cloud not be null.");
+		Assert.isFalse(options.getReaders() > 0, "Readers must be greater than 0");
+		Assert.isFalse(options.getBatchSize() > 0, "Batch size must be greater than 0");
+		Assert.isFalse(options.getMaxInFlight() > 0, "Max in flight must be greater than 0");
+		Assert.isFalse(options.getAckBatchSize() > 0, "Ack batch size must be greater than 0");
+		Assert.isFalse(isPositive(options.getBlock()), "Block must be greater than 0");
+		Assert.isFalse(isPositive(options.getAckInterval()), "Ack interval must be greater than 0");
+
+		this.redisTemplate = redisTemplate;
+		this.options = options;
+		this.consumerName = Validate.hasText(options.getConsumerName()) ? options.getConsumerName() :
+				ManagementFactory.getRuntimeMXBean().getName();
+		this.clusterDataSource = redisTemplate.getDataSource() instanceof ClusterDataSource dataSource ?
+				dataSource : null;
+	}
+
+	/**
+	 * 返回消费者名称
+	 *
+	 * @return 消费者名称
+	 */
+	public String getConsumerName() {
+		return consumerName;
+	}
+
+	/**
+	 * 订阅 Stream，容器运行中时立即开始读取
+	 *
+	 * @param key
+	 * 		Stream Key
+	 * @param groupName
+	 * 		消费者组名称
+	 * @param listener
+	 * 		消息监听器
+	 *
+	 * @return 订阅
+	 */
+	public StreamSubscription subscribe(final String key, final String groupName, final StreamListener listener) {
+		Assert.isBlank(key, "Stream key cloud not be empty or null.");
+		Assert.isBlank(groupName, "Group name cloud not be empty or null.");
+		Assert.isNull(listener, "StreamListener cloud not be null.");
+
+		if(options.isCreateGroup()){
+			createGroup(key, groupName);
+		}
+
+		final String rawKey = KeyUtils.rawKey(redisTemplate, key);
+		final StreamSubscription subscription = new StreamSubscription(this, key, rawKey, groupName, listener,
+				clusterDataSource != null ? clusterDataSource.getSlot(SafeEncoder.encode(rawKey)) : -1);
+
+		subscriptions.add(subscription);
+		signalCapacity();
+
+		return subscription;
+	}
+
+	/**
+	 * 返回所有订阅
+	 *
+	 * @return 订阅列表
+	 */
+	public List<StreamSubscription> getSubscriptions() {
+		return subscriptions.stream().filter(StreamSubscription::isActive).toList();
+	}
+
+	/**
+	 * 返回所有订阅的消费者组指标
+	 *
+	 * @return 消费者组指标
+	 */
+	public List<StreamGroupMetrics> getMetrics() {
+		return subscriptions.stream().map(StreamSubscription::getMetrics).toList();
+	}
+
+	/**
+	 * 返回容器是否运行中
+	 *
+	 * @return 容器是否运行中
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * 启动容器
+	 */
+	public void start() {
+		lifecycleLock.lock();
+		try{
+			if(running){
+				return;
+			}
+
+			running = true;
+
+			workerExecutor = options.getWorkerExecutor();
+			if(workerExecutor == null){
+				final int poolSize = Math.max(options.getWorkerPoolSize(), 1);
+
+				defaultWorkerExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+						new ArrayBlockingQueue<>(Math.max(options.getWorkerQueueCapacity(), 1)),
+						new DefaultThreadFactory("redis-stream-worker-", true),
+						new ThreadPoolExecutor.CallerRunsPolicy());
+				defaultWorkerExecutor.allowCoreThreadTimeOut(true);
+				workerExecutor = defaultWorkerExecutor;
+			}
+
+			scheduler = Executors.newSingleThreadScheduledExecutor(
+					new DefaultThreadFactory("redis-stream-scheduler-", true));
+			schedule(this::flushAcks, options.getAckInterval());
+			if(isPositive(options.getClaimInterval()) && isPositive(options.getClaimMinIdle())){
+				schedule(this::reclaim, options.getClaimInterval());
+			}
+			if(isPositive(options.getMetricsInterval())){
+				schedule(this::refreshMetrics, options.getMetricsInterval());
+			}
+
+			final ThreadFactory readerThreadFactory = new DefaultThreadFactory("redis-stream-reader-", true);
+			for(int i = 0; i < options.getReaders(); i++){
+				final int index = i;
+				final Thread reader = readerThreadFactory.newThread(()->read(index));
+
+				readers.add(reader);
+				reader.start();
+			}
+		}finally{
+			lifecycleLock.unlock();
+		}
+	}
+
+	/**
+	 * 停止容器，等待在途消息处理完成并确认
+	 */
+	public void stop() {
+		lifecycleLock.lock();
+		try{
+			if(running == false){
+				return;
+			}
+
+			running = false;
+			signalCapacity();
+
+			final long deadline = System.nanoTime() + options.getShutdownTimeout().toNanos();
+
+			for(Thread reader : readers){
+				joinUntil(reader, deadline);
+			}
+			readers.clear();
+
+			awaitInFlight(deadline);
+
+			scheduler.shutdown();
+			awaitTermination(scheduler, deadline);
+			scheduler = null;
+			flushAcks();
+
+			if(defaultWorkerExecutor != null){
+				defaultWorkerExecutor.shutdown();
+				defaultWorkerExecutor = null;
+			}
+			workerExecutor = null;
+		}finally{
+			lifecycleLock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		stop();
+	}
+
+	void unsubscribe(final StreamSubscription subscription) {
+		subscription.deactivate();
+
+		if(running == false){
+			flushAcks(subscription);
+			subscriptions.remove(subscription);
+		}
+	}
+
+	private void createGroup(final String key, final String groupName) {
+		try{
+			redisTemplate.xGroupCreate(key, groupName, StreamEntryId.LAST, true);
+		}catch(RedisException e){
+			if(e.getMessage() == null || e.getMessage().contains("BUSYGROUP") == false){
+				throw e;
+			}
+		}
+	}
+
+	private void read(final int index) {
+		while(running && Thread.currentThread().isInterrupted() == false){
+			try{
+				final Map<ReadBatch, List<StreamSubscription>> batches = collectBatches(index);
+
+				if(batches.isEmpty()){
+					awaitCapacity();
+					continue;
+				}
+
+				final long block = Math.max(options.getBlock().toMillis() / batches.size(), MIN_BLOCK);
+
+				for(Map.Entry<ReadBatch, List<StreamSubscription>> e : batches.entrySet()){
+					if(running == false){
+						break;
+					}
+
+					read(e.getKey().groupName(), e.getValue(), block);
+				}
+			}catch(Exception e){
+				logger.error("Read stream failure: {}", e.getMessage(), e);
+				sleep(ERROR_BACKOFF);
+			}
+		}
+	}
+
+	private Map<ReadBatch, List<StreamSubscription>> collectBatches(final int index) {
+		final Map<ReadBatch, List<StreamSubscription>> batches = new LinkedHashMap<>();
+
+		for(StreamSubscription subscription : subscriptions){
+			if(subscription.available(options.getMaxInFlight()) <= 0){
+				continue;
+			}
+
+			final ReadBatch batch = new ReadBatch(subscription.getGroupName(), subscription.getSlot());
+
+			if(Math.floorMod(batch.hashCode(), options.getReaders()) == index){
+				batches.computeIfAbsent(batch, (k)->new ArrayList<>()).add(subscription);
+			}
+		}
+
+		return batches;
+	}
+
+	private void read(final String groupName, final List<StreamSubscription> batch, final long block) {
+		final Map<String, StreamEntryId> streams = new LinkedHashMap<>(batch.size());
+		final Map<String, StreamSubscription> subscriptionsByKey = new HashMap<>(batch.size());
+		int count = options.getBatchSize();
+
+		for(StreamSubscription subscription : batch){
+			streams.put(subscription.getRawKey(), StreamEntryId.UNDELIVERED);
+			subscriptionsByKey.put(subscription.getRawKey(), subscription);
+			count = Math.min(count, subscription.available(options.getMaxInFlight()));
+		}
+
+		if(count <= 0){
+			return;
+		}
+
+		final List<XReadGroupInfo<String, String>> result = redisTemplate.xReadGroup(groupName, consumerName,
+				new XReadGroupArgument(block), streams, count);
+
+		if(result == null){
+			return;
+		}
+
+		for(XReadGroupInfo<String, String> info : result){
+			final StreamSubscription subscription = subscriptionsByKey.get(info.getKey());
+
+			if(subscription != null && info.getValue() != null){
+				dispatch(subscription, info.getValue());
+			}
+		}
+	}
+
+	private void dispatch(final StreamSubscription subscription, final List<StreamEntry<String, String>> entries) {
+		for(StreamEntry<String, String> entry : entries){
+			if(entry == null || entry.id() == null){
+				continue;
+			}
+
+			subscription.inFlight.incrementAndGet();
+
+			try{
+				workerExecutor.execute(()->process(subscription, entry));
+			}catch(RejectedExecutionException e){
+				process(subscription, entry);
+			}
+		}
+	}
+
+	private void process(final StreamSubscription subscription, final StreamEntry<String, String> entry) {
+		try{
+			subscription.getListener().onMessage(subscription.getKey(), entry);
+			subscription.processed.increment();
+
+			if(subscription.addAck(entry.id()) >= options.getAckBatchSize()){
+				flushAcks(subscription);
+			}
+		}catch(Exception e){
+			subscription.failed.increment();
+			logger.error("Process stream {} group {} entry {} failure: {}", subscription.getKey(),
+					subscription.getGroupName(), entry.id(), e.getMessage(), e);
+		}finally{
+			// 只在在途消息数从上限回落时唤醒读取线程，读取线程的等待本身也有超时
+			if(subscription.inFlight.decrementAndGet() == options.getMaxInFlight() - 1){
+				signalCapacity();
+			}
+		}
+	}
+
+	private void flushAcks() {
+		for(StreamSubscription subscription : subscriptions){
+			flushAcks(subscription);
+
+			if(subscription.isActive() == false && subscription.inFlight.get() == 0 &&
+					subscription.getAckCount() == 0){
+				subscriptions.remove(subscription);
+			}
+		}
+	}
+
+	private void flushAcks(final StreamSubscription subscription) {
+		if(subscription.getAckCount() == 0 || subscription.ackLock.tryLock() == false){
+			return;
+		}
+
+		try{
+			List<StreamEntryId> ids;
+
+			while((ids = subscription.drainAcks(options.getAckBatchSize())).isEmpty() == false){
+				redisTemplate.xAck(subscription.getKey(), subscription.getGroupName(),
+						ids.toArray(new StreamEntryId[0]));
+			}
+		}catch(Exception e){
+			logger.error("Ack stream {} group {} failure: {}", subscription.getKey(), subscription.getGroupName(),
+					e.getMessage(), e);
+		}finally{
+			subscription.ackLock.unlock();
+		}
+	}
+
+	private void reclaim() {
+		final int minIdleTime = (int) Math.min(options.getClaimMinIdle().toMillis(), Integer.MAX_VALUE);
+
+		for(StreamSubscription subscription : subscriptions){
+			if(running == false){
+				return;
+			}
+
+			try{
+				reclaim(subscription, minIdleTime);
+			}catch(Exception e){
+				logger.error("Reclaim stream {} group {} failure: {}", subscription.getKey(),
+						subscription.getGroupName(), e.getMessage(), e);
+			}
+		}
+	}
+
+	private void reclaim(final StreamSubscription subscription, final int minIdleTime) {
+		StreamEntryId start = CLAIM_START;
+
+		while(running){
+			final int count = Math.min(options.getClaimBatchSize(), subscription.available(options.getMaxInFlight()));
+
+			if(count <= 0){
+				return;
+			}
+
+			final AutoClaimInfo<String, String> info = redisTemplate.xAutoClaim(subscription.getKey(),
+					subscription.getGroupName(), consumerName, minIdleTime, start, count);
+
+			if(info == null){
+				return;
+			}
+
+			if(Validate.isNotEmpty(info.getValue())){
+				subscription.reclaimed.add(info.getValue().size());
+				dispatch(subscription, info.getValue());
+			}
+
+			start = info.getKey();
+			if(start == null || CLAIM_START.equals(start)){
+				return;
+			}
+		}
+	}
+
+	private void refreshMetrics() {
+		for(StreamSubscription subscription : subscriptions){
+			try{
+				final List<StreamGroup> groups = redisTemplate.xInfoGroups(subscription.getKey());
+
+				if(groups == null){
+					continue;
+				}
+
+				for(StreamGroup group : groups){
+					if(subscription.getGroupName().equals(group.name())){
+						subscription.lag = group.lag() == null ? -1 : group.lag();
+						subscription.pending = group.pending() == null ? -1 : group.pending();
+						break;
+					}
+				}
+			}catch(Exception e){
+				logger.warn("Refresh stream {} group {} metrics failure: {}", subscription.getKey(),
+						subscription.getGroupName(), e.getMessage());
+			}
+		}
+	}
+
+	private void schedule(final Runnable task, final Duration interval) {
+		final long period = Math.max(interval.toMillis(), 1L);
+
+		scheduler.scheduleWithFixedDelay(()->{
+			try{
+				task.run();
+			}catch(Exception e){
+				logger.error("Stream consumer container task failure: {}", e.getMessage(), e);
+			}
+		}, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	private void signalCapacity() {
+		capacityLock.lock();
+		try{
+			capacityAvailable.signalAll();
+		}finally{
+			capacityLock.unlock();
+		}
+	}
+
+	private void awaitCapacity() {
+		capacityLock.lock();
+		try{
+			if(running){
+				capacityAvailable.await(options.getBlock().toMillis(), TimeUnit.MILLISECONDS);
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}finally{
+			capacityLock.unlock();
+		}
+	}
+
+	private void awaitInFlight(final long deadline) {
+		while(System.nanoTime() < deadline && subscriptions.stream().anyMatch((s)->s.inFlight.get() > 0)){
+			sleep(10L);
+		}
+	}
+
+	private static void joinUntil(final Thread thread, final long deadline) {
+		try{
+			thread.join(Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 1L));
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void awaitTermination(final ExecutorService executor, final long deadline) {
+		try{
+			if(executor.awaitTermination(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS) == false){
+				executor.shutdownNow();
+			}
+		}catch(InterruptedException e){
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleep(final long millis) {
+		try{
+			Thread.sleep(millis);
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static boolean isPositive(final Duration duration) {
+		return duration != null && duration.isNegative() == false && duration.isZero() == false;
+	}
+
+	private record ReadBatch(String groupName, int slot) {
+
+	}
+
+}
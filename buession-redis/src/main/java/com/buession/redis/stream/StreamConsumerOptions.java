@@ -0,0 +1,493 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.stream;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Stream 消费者容器配置
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class StreamConsumerOptions {
+
+	/**
+	 * 默认阻塞读取线程数
+	 */
+	public final static int DEFAULT_READERS = 2;
+
+	/**
+	 * 默认单次读取消息数
+	 */
+	public final static int DEFAULT_BATCH_SIZE = 100;
+
+	/**
+	 * 默认阻塞读取时长
+	 */
+	public final static Duration DEFAULT_BLOCK = Duration.ofSeconds(2);
+
+	/**
+	 * 默认最大在途消息数
+	 */
+	public final static int DEFAULT_MAX_IN_FLIGHT = 1000;
+
+	/**
+	 * 默认消息处理线程池大小
+	 */
+	public final static int DEFAULT_WORKER_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+	/**
+	 * 默认消息处理线程池队列容量
+	 */
+	public final static int DEFAULT_WORKER_QUEUE_CAPACITY = 1024;
+
+	/**
+	 * 默认单次确认消息数
+	 */
+	public final static int DEFAULT_ACK_BATCH_SIZE = 100;
+
+	/**
+	 * 默认确认间隔
+	 */
+	public final static Duration DEFAULT_ACK_INTERVAL = Duration.ofMillis(100);
+
+	/**
+	 * 默认回收间隔
+	 */
+	public final static Duration DEFAULT_CLAIM_INTERVAL = Duration.ofSeconds(30);
+
+	/**
+	 * 默认回收最小空闲时长
+	 */
+	public final static Duration DEFAULT_CLAIM_MIN_IDLE = Duration.ofMinutes(1);
+
+	/**
+	 * 默认单次回收消息数
+	 */
+	public final static int DEFAULT_CLAIM_BATCH_SIZE = 100;
+
+	/**
+	 * 默认指标刷新间隔
+	 */
+	public final static Duration DEFAULT_METRICS_INTERVAL = Duration.ofSeconds(10);
+
+	/**
+	 * 默认停止等待时长
+	 */
+	public final static Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+	/**
+	 * 消费者名称，为 null 时使用 {@code 进程号@主机名}
+	 */
+	private String consumerName;
+
+	/**
+	 * 阻塞读取线程数，即同时占用的阻塞 XREADGROUP 连接数；所有订阅按消费者组分配到各读取线程
+	 */
+	private int readers = DEFAULT_READERS;
+
+	/**
+	 * 单次 XREADGROUP 每个 Stream 最多读取的消息数
+	 */
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * 单个读取线程一轮阻塞读取的总时长，由该线程上的各批次均分
+	 */
+	private Duration block = DEFAULT_BLOCK;
+
+	/**
+	 * 每个订阅已读取但未处理完成的最大消息数，达到后暂停读取该订阅，即背压阈值
+	 */
+	private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+	/**
+	 * 默认消息处理线程池大小
+	 */
+	private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
+
+	/**
+	 * 默认消息处理线程池队列容量，队列满时由读取线程直接处理消息
+	 */
+	private int workerQueueCapacity = DEFAULT_WORKER_QUEUE_CAPACITY;
+
+	/**
+	 * 消息处理线程池，为 null 时使用有界的默认线程池；可传入虚拟线程执行器
+	 */
+	private Executor workerExecutor;
+
+	/**
+	 * 单次 XACK 最多确认的消息数，待确认消息达到该数量时立即确认
+	 */
+	private int ackBatchSize = DEFAULT_ACK_BATCH_SIZE;
+
+	/**
+	 * 待确认消息的最长攒批时长
+	 */
+	private Duration ackInterval = DEFAULT_ACK_INTERVAL;
+
+	/**
+	 * 后台 XAUTOCLAIM 回收超时 Pending 消息的间隔，为 null 时不回收
+	 */
+	private Duration claimInterval = DEFAULT_CLAIM_INTERVAL;
+
+	/**
+	 * Pending 消息空闲超过该时长才会被回收，应大于消息处理的最长耗时
+	 */
+	private Duration claimMinIdle = DEFAULT_CLAIM_MIN_IDLE;
+
+	/**
+	 * 单次 XAUTOCLAIM 最多回收的消息数
+	 */
+	private int claimBatchSize = DEFAULT_CLAIM_BATCH_SIZE;
+
+	/**
+	 * 通过 XINFO GROUPS 刷新消费者组 lag、pending 指标的间隔，为 null 时不刷新
+	 */
+	private Duration metricsInterval = DEFAULT_METRICS_INTERVAL;
+
+	/**
+	 * 订阅时是否自动创建消费者组（及不存在的 Stream）
+	 */
+	private boolean createGroup = true;
+
+	/**
+	 * 停止时等待在途消息处理完成的最长时长
+	 */
+	private Duration shutdownTimeout = DEFAULT_SHUTDOWN_TIMEOUT;
+
+	/**
+	 * 构造函数
+	 */
+	public StreamConsumerOptions() {
+	}
+
+	/**
+	 * 返回消费者名称
+	 *
+	 * @return 消费者名称
+	 */
+	public String getConsumerName() {
+		return consumerName;
+	}
+
+	/**
+	 * 设置消费者名称
+	 *
+	 * @param consumerName
+	 * 		消费者名称，为 null 时使用 {@code 进程号@主机名}
+	 */
+	public void setConsumerName(String consumerName) {
+		this.consumerName = consumerName;
+	}
+
+	/**
+	 * 返回阻塞读取线程数
+	 *
+	 * @return 阻塞读取线程数
+	 */
+	public int getReaders() {
+		return readers;
+	}
+
+	/**
+	 * 设置阻塞读取线程数
+	 *
+	 * @param readers
+	 * 		阻塞读取线程数，即同时占用的阻塞 XREADGROUP 连接数；所有订阅按消费者组分配到各读取线程
+	 */
+	public void setReaders(int readers) {
+		this.readers = readers;
+	}
+
+	/**
+	 * 返回单次读取消息数
+	 *
+	 * @return 单次读取消息数
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * 设置单次读取消息数
+	 *
+	 * @param batchSize
+	 * 		单次 XREADGROUP 每个 Stream 最多读取的消息数
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 返回阻塞读取时长
+	 *
+	 * @return 阻塞读取时长
+	 */
+	public Duration getBlock() {
+		return block;
+	}
+
+	/**
+	 * 设置阻塞读取时长
+	 *
+	 * @param block
+	 * 		单个读取线程一轮阻塞读取的总时长，由该线程上的各批次均分
+	 */
+	public void setBlock(Duration block) {
+		this.block = block;
+	}
+
+	/**
+	 * 返回最大在途消息数
+	 *
+	 * @return 最大在途消息数
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * 设置最大在途消息数
+	 *
+	 * @param maxInFlight
+	 * 		每个订阅已读取但未处理完成的最大消息数，达到后暂停读取该订阅，即背压阈值
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * 返回消息处理线程池大小
+	 *
+	 * @return 消息处理线程池大小
+	 */
+	public int getWorkerPoolSize() {
+		return workerPoolSize;
+	}
+
+	/**
+	 * 设置消息处理线程池大小
+	 *
+	 * @param workerPoolSize
+	 * 		默认消息处理线程池大小
+	 */
+	public void setWorkerPoolSize(int workerPoolSize) {
+		this.workerPoolSize = workerPoolSize;
+	}
+
+	/**
+	 * 返回消息处理线程池队列容量
+	 *
+	 * @return 消息处理线程池队列容量
+	 */
+	public int getWorkerQueueCapacity() {
+		return workerQueueCapacity;
+	}
+
+	/**
+	 * 设置消息处理线程池队列容量
+	 *
+	 * @param workerQueueCapacity
+	 * 		默认消息处理线程池队列容量，队列满时由读取线程直接处理消息
+	 */
+	public void setWorkerQueueCapacity(int workerQueueCapacity) {
+		this.workerQueueCapacity = workerQueueCapacity;
+	}
+
+	/**
+	 * 返回消息处理线程池
+	 *
+	 * @return 消息处理线程池
+	 */
+	public Executor getWorkerExecutor() {
+		return workerExecutor;
+	}
+
+	/**
+	 * 设置消息处理线程池
+	 *
+	 * @param workerExecutor
+	 * 		消息处理线程池，为 null 时使用有界的默认线程池；可传入虚拟线程执行器
+	 */
+	public void setWorkerExecutor(Executor workerExecutor) {
+		this.workerExecutor = workerExecutor;
+	}
+
+	/**
+	 * 返回单次确认消息数
+	 *
+	 * @return 单次确认消息数
+	 */
+	public int getAckBatchSize() {
+		return ackBatchSize;
+	}
+
+	/**
+	 * 设置单次确认消息数
+	 *
+	 * @param ackBatchSize
+	 * 		单次 XACK 最多确认的消息数，待确认消息达到该数量时立即确认
+	 */
+	public void setAckBatchSize(int ackBatchSize) {
+		this.ackBatchSize = ackBatchSize;
+	}
+
+	/**
+	 * 返回确认间隔
+	 *
+	 * @return 确认间隔
+	 */
+	public Duration getAckInterval() {
+		return ackInterval;
+	}
+
+	/**
+	 * 设置确认间隔
+	 *
+	 * @param ackInterval
+	 * 		待确认消息的最长攒批时长
+	 */
+	public void setAckInterval(Duration ackInterval) {
+		this.ackInterval = ackInterval;
+	}
+
+	/**
+	 * 返回回收间隔
+	 *
+	 * @return 回收间隔
+	 */
+	public Duration getClaimInterval() {
+		return claimInterval;
+	}
+
+	/**
+	 * 设置回收间隔
+	 *
+	 * @param claimInterval
+	 * 		后台 XAUTOCLAIM 回收超时 Pending 消息的间隔，为 null 时不回收
+	 */
+	public void setClaimInterval(Duration claimInterval) {
+		this.claimInterval = claimInterval;
+	}
+
+	/**
+	 * 返回回收最小空闲时长
+	 *
+	 * @return 回收最小空闲时长
+	 */
+	public Duration getClaimMinIdle() {
+		return claimMinIdle;
+	}
+
+	/**
+	 * 设置回收最小空闲时长
+	 *
+	 * @param claimMinIdle
+	 * 		Pending 消息空闲超过该时长才会被回收，应大于消息处理的最长耗时
+	 */
+	public void setClaimMinIdle(Duration claimMinIdle) {
+		this.claimMinIdle = claimMinIdle;
+	}
+
+	/**
+	 * 返回单次回收消息数
+	 *
+	 * @return 单次回收消息数
+	 */
+	public int getClaimBatchSize() {
+		return claimBatchSize;
+	}
+
+	/**
+	 * 设置单次回收消息数
+	 *
+	 * @param claimBatchSize
+	 * 		单次 XAUTOCLAIM 最多回收的消息数
+	 */
+	public void setClaimBatchSize(int claimBatchSize) {
+		this.claimBatchSize = claimBatchSize;
+	}
+
+	/**
+	 * 返回指标刷新间隔
+	 *
+	 * @return 指标刷新间隔
+	 */
+	public Duration getMetricsInterval() {
+		return metricsInterval;
+	}
+
+	/**
+	 * 设置指标刷新间隔
+	 *
+	 * @param metricsInterval
+	 * 		通过 XINFO GROUPS 刷新消费者组 lag、pending 指标的间隔，为 null 时不刷新
+	 */
+	public void setMetricsInterval(Duration metricsInterval) {
+		this.metricsInterval = metricsInterval;
+	}
+
+	/**
+	 * 返回是否自动创建消费者组
+	 *
+	 * @return 是否自动创建消费者组
+	 */
+	public boolean isCreateGroup() {
+		return createGroup;
+	}
+
+	/**
+	 * 设置是否自动创建消费者组
+	 *
+	 * @param createGroup
+	 * 		订阅时是否自动创建消费者组（及不存在的 Stream）
+	 */
+	public void setCreateGroup(boolean createGroup) {
+		this.createGroup = createGroup;
+	}
+
+	/**
+	 * 返回停止等待时长
+	 *
+	 * @return 停止等待时长
+	 */
+	public Duration getShutdownTimeout() {
+		return shutdownTimeout;
+	}
+
+	/**
+	 * 设置停止等待时长
+	 *
+	 * @param shutdownTimeout
+	 * 		停止时等待在途消息处理完成的最长时长
+	 */
+	public void setShutdownTimeout(Duration shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+}
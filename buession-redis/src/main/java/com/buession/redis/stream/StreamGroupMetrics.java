@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.stream;
+
+import com.buession.redis.utils.ObjectStringBuilder;
+
+/**
+ * 订阅的消费者组指标
+ *
+ * @param key
+ * 		Stream Key
+ * @param groupName
+ * 		消费者组名称
+ * @param lag
+ * 		消费者组尚未读取的消息数，来自 XINFO GROUPS，未知时为 -1
+ * @param pending
+ * 		消费者组已读取未确认的消息数，来自 XINFO GROUPS，未知时为 -1
+ * @param inFlight
+ * 		本容器已读取但未处理完成的消息数
+ * @param processed
+ * 		处理成功的消息数
+ * @param failed
+ * 		处理失败的消息数
+ * @param reclaimed
+ * 		通过 XAUTOCLAIM 回收的消息数
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public record StreamGroupMetrics(String key, String groupName, long lag, long pending, int inFlight, long processed,
+                                 long failed, long reclaimed) {
+
+	@Override
+	public String toString() {
+		return ObjectStringBuilder.create()
+				.add("key", key)
+				.add("groupName", groupName)
+				.add("lag", lag)
+				.add("pending", pending)
+				.add("inFlight", inFlight)
+				.add("processed", processed)
+				.add("failed", failed)
+				.add("reclaimed", reclaimed)
+				.build();
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.stream;
+
+import com.buession.redis.core.StreamEntry;
+
+/**
+ * Stream 消息监听器，正常返回后消息被确认；抛出异常时消息保留在 Pending 列表中，超时后由容器回收并重新投递
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+@FunctionalInterface
+public interface StreamListener {
+
+	/**
+	 * 处理消息
+	 *
+	 * @param key
+	 * 		Stream Key
+	 * @param entry
+	 * 		消息
+	 *
+	 * @throws Exception
+	 * 		处理失败
+	 */
+	void onMessage(String key, StreamEntry<String, String> entry) throws Exception;
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.stream;
+
+import com.buession.redis.core.StreamEntryId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stream 订阅，一个 Stream 与一个消费者组的组合
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class StreamSubscription {
+
+	private final StreamConsumerContainer container;
+
+	private final String key;
+
+	private final String rawKey;
+
+	private final String groupName;
+
+	private final StreamListener listener;
+
+	private final int slot;
+
+	final AtomicInteger inFlight = new AtomicInteger();
+
+	final LongAdder processed = new LongAdder();
+
+	final LongAdder failed = new LongAdder();
+
+	final LongAdder reclaimed = new LongAdder();
+
+	private final Queue<StreamEntryId> acks = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger ackCount = new AtomicInteger();
+
+	final ReentrantLock ackLock = new ReentrantLock();
+
+	volatile long lag = -1;
+
+	volatile long pending = -1;
+
+	private volatile boolean active = true;
+
+	StreamSubscription(final StreamConsumerContainer container, final String key, final String rawKey,
+	                   final String groupName, final StreamListener listener, final int slot) {
+		this.container = container;
+		this.key = key;
+		this.rawKey = rawKey;
+		this.groupName = groupName;
+		this.listener = listener;
+		this.slot = slot;
+	}
+
+	/**
+	 * 返回 Stream Key
+	 *
+	 * @return Stream Key
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * 返回消费者组名称
+	 *
+	 * @return 消费者组名称
+	 */
+	public String getGroupName() {
+		return groupName;
+	}
+
+	/**
+	 * 返回订阅是否有效
+	 *
+	 * @return 订阅是否有效
+	 */
+	public boolean isActive() {
+		return active;
+	}
+
+	/**
+	 * 取消订阅，已读取的消息继续处理并确认
+	 */
+	public void cancel() {
+		if(active){
+			active = false;
+			container.unsubscribe(this);
+		}
+	}
+
+	/**
+	 * 返回订阅指标
+	 *
+	 * @return 订阅指标
+	 */
+	public StreamGroupMetrics getMetrics() {
+		return new StreamGroupMetrics(key, groupName, lag, pending, inFlight.get(), processed.sum(), failed.sum(),
+				reclaimed.sum());
+	}
+
+	String getRawKey() {
+		return rawKey;
+	}
+
+	StreamListener getListener() {
+		return listener;
+	}
+
+	int getSlot() {
+		return slot;
+	}
+
+	/**
+	 * 返回还可以读取的消息数
+	 *
+	 * @param maxInFlight
+	 * 		最大在途消息数
+	 *
+	 * @return 还可以读取的消息数
+	 */
+	int available(final int maxInFlight) {
+		return active ? maxInFlight - inFlight.get() : 0;
+	}
+
+	int addAck(final StreamEntryId id) {
+		acks.add(id);
+		return ackCount.incrementAndGet();
+	}
+
+	int getAckCount() {
+		return ackCount.get();
+	}
+
+	List<StreamEntryId> drainAcks(final int max) {
+		final List<StreamEntryId> ids = new ArrayList<>(Math.min(max, Math.max(ackCount.get(), 1)));
+		StreamEntryId id;
+
+		while(ids.size() < max && (id = acks.poll()) != null){
+			ids.add(id);
+		}
+
+		ackCount.addAndGet(-ids.size());
+
+		return ids;
+	}
+
+	void deactivate() {
+		active = false;
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.timeseries;
+
+/**
+ * 写入缓冲区已满时的背压策略
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public enum BackpressurePolicy {
+
+	/**
+	 * 阻塞调用线程，直到缓冲区有空闲或等待超时；超时后抛出异常
+	 */
+	BLOCK,
+
+	/**
+	 * 丢弃新数据点，并通知 {@link TimeSeriesWriteListener#onDropped(com.buession.redis.core.command.args.timeseries.TSElement)}
+	 */
+	DROP,
+
+	/**
+	 * 立即抛出异常
+	 */
+	FAIL
+
+}
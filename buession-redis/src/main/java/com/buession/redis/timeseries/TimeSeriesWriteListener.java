@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.timeseries;
+
+import com.buession.redis.core.command.args.timeseries.TSElement;
+
+import java.util.List;
+
+/**
+ * 时间序列批量写入监听器，在刷新线程上回调，实现类不应阻塞
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public interface TimeSeriesWriteListener {
+
+	/**
+	 * 一批数据点写入成功
+	 *
+	 * @param samples
+	 * 		数据点
+	 */
+	default void onSuccess(List<TSElement> samples) {
+	}
+
+	/**
+	 * 一批数据点写入失败，失败的数据点不会重试
+	 *
+	 * @param samples
+	 * 		数据点
+	 * @param e
+	 * 		异常
+	 */
+	void onError(List<TSElement> samples, Throwable e);
+
+	/**
+	 * 缓冲区已满，数据点按 {@link BackpressurePolicy#DROP} 被丢弃
+	 *
+	 * @param sample
+	 * 		数据点
+	 */
+	default void onDropped(TSElement sample) {
+	}
+
+}
@@ -0,0 +1,563 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.timeseries;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import com.buession.core.utils.Assert;
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.client.connection.datasource.ClusterDataSource;
+import com.buession.redis.core.command.args.timeseries.AddArgument;
+import com.buession.redis.core.command.args.timeseries.TSElement;
+import com.buession.redis.exception.RedisException;
+import com.buession.redis.utils.KeyUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 时间序列批量写入器，按 Key 缓冲数据点，按数量或时间以 TS.MADD 批量写入，减少网络往返：
+ *
+ * <ul>
+ *     <li>集群模式下数据点按 Key 所在槽位分组，每次 TS.MADD 只包含同一槽位的 Key；单机、哨兵模式下只有一个分组</li>
+ *     <li>同一分组同一时刻最多只有一个刷新，保证同一 Key 的写入顺序；不同分组最多
+ *     {@link TimeSeriesWriterOptions#getMaxInFlight()} 个刷新并行执行</li>
+ *     <li>已缓冲和正在写入的数据点总数达到 {@link TimeSeriesWriterOptions#getBufferCapacity()} 时按
+ *     {@link BackpressurePolicy} 处理</li>
+ *     <li>写入失败的一批数据点通过 {@link TimeSeriesWriteListener#onError(List, Throwable)} 通知，不会重试</li>
+ * </ul>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class TimeSeriesWriter implements Closeable {
+
+	private final static int SINGLE_GROUP = -1;
+
+	/**
+	 * 关闭时等待缓冲区写入完成的最长时长
+	 */
+	private final static Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+	private final RedisTemplate redisTemplate;
+
+	private final TimeSeriesWriterOptions options;
+
+	/**
+	 * 集群模式数据源，非集群模式时为 null
+	 */
+	private final ClusterDataSource clusterDataSource;
+
+	private final Map<Integer, Group> groups = new ConcurrentHashMap<>();
+
+	/**
+	 * 已通过 TS.ADD 携带创建参数写入过的 Key
+	 */
+	private final Set<String> createdKeys = ConcurrentHashMap.newKeySet();
+
+	private final Semaphore capacity;
+
+	private final ExecutorService flushExecutor;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final ReentrantLock progressLock = new ReentrantLock();
+
+	private final Condition progress = progressLock.newCondition();
+
+	private final LongAdder written = new LongAdder();
+
+	private final LongAdder failed = new LongAdder();
+
+	private final LongAdder dropped = new LongAdder();
+
+	private volatile boolean closed = false;
+
+	private final static Logger logger = LoggerFactory.getLogger(TimeSeriesWriter.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 */
+	public TimeSeriesWriter(final RedisTemplate redisTemplate) {
+		this(redisTemplate, new TimeSeriesWriterOptions());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param options
+	 * 		写入配置
+	 */
+	public TimeSeriesWriter(final RedisTemplate redisTemplate, final TimeSeriesWriterOptions options) {
+		Assert.isNull(redisTemplate, "RedisTemplate cloud not be null.");
+		Assert.isNull(options, "TimeSeriesWriterOptions cloud not be null.");
+		Assert.isFalse(options.getBatchSize() > 0, "Batch size must be greater than 0");
+		Assert.isFalse(options.getMaxInFlight() > 0, "Max in flight must be greater than 0");
+		Assert.isFalse(options.getBufferCapacity() >= options.getBatchSize(),
+				"Buffer capacity must be greater than or equal to batch size");
+		Assert.isFalse(isPositive(options.getFlushInterval()), "Flush interval must be greater than 0");
+		Assert.isNull(options.getBackpressurePolicy(), "BackpressurePolicy cloud not be null.");
+		Assert.isFalse(options.getBackpressurePolicy() != BackpressurePolicy.BLOCK ||
+				isPositive(options.getBlockTimeout()), "Block timeout must be greater than 0");
+
+		this.redisTemplate = redisTemplate;
+		this.options = options;
+		this.clusterDataSource = redisTemplate.getDataSource() instanceof ClusterDataSource dataSource ?
+				dataSource : null;
+		this.capacity = new Semaphore(options.getBufferCapacity());
+		this.flushExecutor = Executors.newFixedThreadPool(options.getMaxInFlight(),
+				new DefaultThreadFactory("redis-ts-writer-", true));
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(
+				new DefaultThreadFactory("redis-ts-writer-scheduler-", true));
+
+		final long interval = options.getFlushInterval().toMillis();
+		scheduler.scheduleWithFixedDelay(()->groups.values().forEach(this::submit), interval, interval,
+				TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 写入一个数据点
+	 *
+	 * @param key
+	 * 		Key
+	 * @param timestamp
+	 * 		时间戳（单位：毫秒）
+	 * @param value
+	 * 		值
+	 *
+	 * @return 数据点是否已进入缓冲区；背压策略为 {@link BackpressurePolicy#DROP} 且缓冲区已满时返回 false
+	 *
+	 * @throws RedisException
+	 * 		写入器已关闭，或缓冲区已满且背压策略为 {@link BackpressurePolicy#BLOCK}（等待超时）、{@link BackpressurePolicy#FAIL}
+	 */
+	public boolean add(final String key, final long timestamp, final double value) throws RedisException {
+		return add(new TSElement(key, timestamp, value));
+	}
+
+	/**
+	 * 写入一个数据点
+	 *
+	 * @param sample
+	 * 		数据点
+	 *
+	 * @return 数据点是否已进入缓冲区；背压策略为 {@link BackpressurePolicy#DROP} 且缓冲区已满时返回 false
+	 *
+	 * @throws RedisException
+	 * 		写入器已关闭，或缓冲区已满且背压策略为 {@link BackpressurePolicy#BLOCK}（等待超时）、{@link BackpressurePolicy#FAIL}
+	 */
+	public boolean add(final TSElement sample) throws RedisException {
+		Assert.isNull(sample, "Sample cloud not be null.");
+		Assert.isBlank(sample.key(), "Sample key cloud not be empty or null.");
+
+		if(closed){
+			throw new RedisException("TimeSeriesWriter has been closed.");
+		}
+
+		if(acquire(sample) == false){
+			return false;
+		}
+
+		final boolean create = options.getAddArgument() != null && createdKeys.add(sample.key());
+		final Group group = groups.computeIfAbsent(
+				clusterDataSource != null ?
+						clusterDataSource.getSlot(KeyUtils.rawKeyAsBytes(redisTemplate, sample.key())) : SINGLE_GROUP,
+				(slot)->new Group());
+		boolean full;
+
+		group.lock.lock();
+		try{
+			group.pending.add(new Sample(sample, create));
+			group.appended++;
+			full = group.pending.size() >= options.getBatchSize();
+		}finally{
+			group.lock.unlock();
+		}
+
+		if(full){
+			submit(group);
+		}
+
+		return true;
+	}
+
+	/**
+	 * 写入多个数据点
+	 *
+	 * @param samples
+	 * 		数据点
+	 *
+	 * @return 进入缓冲区的数据点数
+	 *
+	 * @throws RedisException
+	 * 		写入器已关闭，或缓冲区已满且背压策略为 {@link BackpressurePolicy#BLOCK}（等待超时）、{@link BackpressurePolicy#FAIL}
+	 */
+	public int addAll(final Iterable<TSElement> samples) throws RedisException {
+		int result = 0;
+
+		for(TSElement sample : samples){
+			if(add(sample)){
+				result++;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * 刷新所有分组，并等待调用前已缓冲的数据点写入完成（成功或失败）
+	 *
+	 * @param timeout
+	 * 		最长等待时长
+	 *
+	 * @return 是否在超时前写入完成
+	 *
+	 * @throws InterruptedException
+	 * 		等待时被中断
+	 */
+	public boolean flush(final Duration timeout) throws InterruptedException {
+		final Map<Group, Long> targets = new HashMap<>(groups.size());
+
+		for(Group group : groups.values()){
+			group.lock.lock();
+			try{
+				targets.put(group, group.appended);
+			}finally{
+				group.lock.unlock();
+			}
+
+			submit(group);
+		}
+
+		long nanos = timeout.toNanos();
+
+		progressLock.lock();
+		try{
+			while(isDone(targets) == false){
+				if(nanos <= 0){
+					return false;
+				}
+
+				nanos = progress.awaitNanos(nanos);
+			}
+
+			return true;
+		}finally{
+			progressLock.unlock();
+		}
+	}
+
+	/**
+	 * 返回写入成功的数据点数
+	 *
+	 * @return 写入成功的数据点数
+	 */
+	public long getWritten() {
+		return written.sum();
+	}
+
+	/**
+	 * 返回写入失败的数据点数
+	 *
+	 * @return 写入失败的数据点数
+	 */
+	public long getFailed() {
+		return failed.sum();
+	}
+
+	/**
+	 * 返回因背压被丢弃的数据点数
+	 *
+	 * @return 被丢弃的数据点数
+	 */
+	public long getDropped() {
+		return dropped.sum();
+	}
+
+	/**
+	 * 返回已缓冲和正在写入的数据点数
+	 *
+	 * @return 已缓冲和正在写入的数据点数
+	 */
+	public int getBuffered() {
+		return options.getBufferCapacity() - capacity.availablePermits();
+	}
+
+	/**
+	 * 停止接收数据点，刷新缓冲区并等待写入完成
+	 */
+	@Override
+	public void close() {
+		if(closed){
+			return;
+		}
+
+		closed = true;
+		scheduler.shutdown();
+
+		try{
+			if(flush(CLOSE_TIMEOUT) == false){
+				logger.warn("Time series writer closed with {} samples not written.", getBuffered());
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}finally{
+			flushExecutor.shutdown();
+		}
+	}
+
+	private boolean acquire(final TSElement sample) {
+		if(capacity.tryAcquire()){
+			return true;
+		}
+
+		switch(options.getBackpressurePolicy()){
+			case DROP:
+				dropped.increment();
+				notifyDropped(sample);
+				return false;
+			case FAIL:
+				throw new RedisException("TimeSeriesWriter buffer is full.");
+			default:
+				try{
+					if(capacity.tryAcquire(options.getBlockTimeout().toNanos(), TimeUnit.NANOSECONDS)){
+						return true;
+					}
+				}catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+					throw new RedisException("Interrupted while waiting for TimeSeriesWriter buffer.", e);
+				}
+
+				throw new RedisException("TimeSeriesWriter buffer is full, waited " +
+						options.getBlockTimeout().toMillis() + "ms.");
+		}
+	}
+
+	private void submit(final Group group) {
+		final List<Sample> batch;
+
+		group.lock.lock();
+		try{
+			if(group.flushing || group.pending.isEmpty()){
+				return;
+			}
+
+			group.flushing = true;
+			batch = group.pending;
+			group.pending = new ArrayList<>(Math.min(batch.size(), options.getBatchSize()));
+		}finally{
+			group.lock.unlock();
+		}
+
+		try{
+			flushExecutor.execute(()->flush(group, batch));
+		}catch(RejectedExecutionException e){
+			// 刷新线程池已关闭，在当前线程写入
+			flush(group, batch);
+		}
+	}
+
+	private void flush(final Group group, final List<Sample> batch) {
+		try{
+			final List<TSElement> chunk = new ArrayList<>(Math.min(batch.size(), options.getBatchSize()));
+
+			for(Sample sample : batch){
+				if(sample.create){
+					write(chunk);
+					create(sample.element);
+				}else{
+					chunk.add(sample.element);
+					if(chunk.size() >= options.getBatchSize()){
+						write(chunk);
+					}
+				}
+			}
+
+			write(chunk);
+		}finally{
+			capacity.release(batch.size());
+
+			boolean more;
+
+			group.lock.lock();
+			try{
+				group.completed += batch.size();
+				group.flushing = false;
+				more = group.pending.size() >= options.getBatchSize() || (closed && group.pending.isEmpty() == false);
+			}finally{
+				group.lock.unlock();
+			}
+
+			progressLock.lock();
+			try{
+				progress.signalAll();
+			}finally{
+				progressLock.unlock();
+			}
+
+			if(more){
+				submit(group);
+			}
+		}
+	}
+
+	private void write(final List<TSElement> chunk) {
+		if(chunk.isEmpty()){
+			return;
+		}
+
+		final List<TSElement> samples = List.copyOf(chunk);
+		chunk.clear();
+
+		try{
+			redisTemplate.tsMAdd(samples.toArray(new TSElement[0]));
+			written.add(samples.size());
+			notifySuccess(samples);
+		}catch(Exception e){
+			failed.add(samples.size());
+			logger.error("Write {} time series samples failure: {}", samples.size(), e.getMessage());
+			notifyError(samples, e);
+		}
+	}
+
+	private void create(final TSElement sample) {
+		final AddArgument addArgument = options.getAddArgument();
+		final List<TSElement> samples = List.of(sample);
+
+		try{
+			// 经由 TS.ADD 携带标签、保留时长等参数创建时间序列
+			redisTemplate.tsAdd(sample.key(), sample.timestamp(), sample.value(), addArgument);
+			written.increment();
+			notifySuccess(samples);
+		}catch(Exception e){
+			createdKeys.remove(sample.key());
+			failed.increment();
+			logger.error("Create time series '{}' failure: {}", sample.key(), e.getMessage());
+			notifyError(samples, e);
+		}
+	}
+
+	private boolean isDone(final Map<Group, Long> targets) {
+		for(Map.Entry<Group, Long> e : targets.entrySet()){
+			final Group group = e.getKey();
+
+			group.lock.lock();
+			try{
+				if(group.completed < e.getValue()){
+					return false;
+				}
+			}finally{
+				group.lock.unlock();
+			}
+		}
+
+		return true;
+	}
+
+	private void notifySuccess(final List<TSElement> samples) {
+		final TimeSeriesWriteListener listener = options.getListener();
+
+		if(listener != null){
+			try{
+				listener.onSuccess(samples);
+			}catch(Exception e){
+				logger.warn("Time series write listener onSuccess error: {}", e.getMessage());
+			}
+		}
+	}
+
+	private void notifyError(final List<TSElement> samples, final Throwable throwable) {
+		final TimeSeriesWriteListener listener = options.getListener();
+
+		if(listener != null){
+			try{
+				listener.onError(samples, throwable);
+			}catch(Exception e){
+				logger.warn("Time series write listener onError error: {}", e.getMessage());
+			}
+		}
+	}
+
+	private void notifyDropped(final TSElement sample) {
+		final TimeSeriesWriteListener listener = options.getListener();
+
+		if(listener != null){
+			try{
+				listener.onDropped(sample);
+			}catch(Exception e){
+				logger.warn("Time series write listener onDropped error: {}", e.getMessage());
+			}
+		}
+	}
+
+	private static boolean isPositive(final Duration duration) {
+		return duration != null && duration.isNegative() == false && duration.isZero() == false;
+	}
+
+	private final static class Group {
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private List<Sample> pending = new ArrayList<>();
+
+		private boolean flushing;
+
+		/**
+		 * 累计进入缓冲区的数据点数
+		 */
+		private long appended;
+
+		/**
+		 * 累计写入完成（成功或失败）的数据点数
+		 */
+		private long completed;
+
+	}
+
+	private record Sample(TSElement element, boolean create) {
+
+	}
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.timeseries;
+
+import com.buession.redis.core.command.args.timeseries.AddArgument;
+
+import java.time.Duration;
+
+/**
+ * 时间序列批量写入配置
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class TimeSeriesWriterOptions {
+
+	/**
+	 * 默认单次 TS.MADD 数据点数
+	 */
+	public final static int DEFAULT_BATCH_SIZE = 1000;
+
+	/**
+	 * 默认刷新间隔
+	 */
+	public final static Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(100);
+
+	/**
+	 * 默认最大并行刷新数
+	 */
+	public final static int DEFAULT_MAX_IN_FLIGHT = 4;
+
+	/**
+	 * 默认缓冲区容量（数据点数）
+	 */
+	public final static int DEFAULT_BUFFER_CAPACITY = 100000;
+
+	/**
+	 * 默认背压阻塞等待时长
+	 */
+	public final static Duration DEFAULT_BLOCK_TIMEOUT = Duration.ofSeconds(1);
+
+	/**
+	 * 单次 TS.MADD 最多写入的数据点数，某个分组缓冲的数据点数达到该值时立即刷新
+	 */
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * 刷新间隔，未达到 batchSize 的分组按该间隔定期刷新
+	 */
+	private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+	/**
+	 * 最大并行刷新数，即刷新线程数；同一分组（集群模式下为同一槽位）同一时刻最多只有一个刷新，以保证同一 Key 的写入顺序
+	 */
+	private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+	/**
+	 * 缓冲区容量，已缓冲和正在写入的数据点总数达到该值时触发背压
+	 */
+	private int bufferCapacity = DEFAULT_BUFFER_CAPACITY;
+
+	/**
+	 * 背压策略
+	 */
+	private BackpressurePolicy backpressurePolicy = BackpressurePolicy.BLOCK;
+
+	/**
+	 * 背压策略为 {@link BackpressurePolicy#BLOCK} 时的最长等待时长
+	 */
+	private Duration blockTimeout = DEFAULT_BLOCK_TIMEOUT;
+
+	/**
+	 * 新时间序列的创建参数（标签、保留时长等）；不为 null 时，每个 Key 的第一个数据点以 TS.ADD 携带该参数写入，
+	 * 之后的数据点以 TS.MADD 批量写入；为 null 时全部以 TS.MADD 写入，不存在的 Key 按服务端默认配置创建
+	 */
+	private AddArgument addArgument;
+
+	/**
+	 * 写入监听器
+	 */
+	private TimeSeriesWriteListener listener;
+
+	/**
+	 * 返回单次 TS.MADD 最多写入的数据点数
+	 *
+	 * @return 单次 TS.MADD 最多写入的数据点数
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * 设置单次 TS.MADD 最多写入的数据点数
+	 *
+	 * @param batchSize
+	 * 		单次 TS.MADD 最多写入的数据点数
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 返回刷新间隔
+	 *
+	 * @return 刷新间隔
+	 */
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * 设置刷新间隔
+	 *
+	 * @param flushInterval
+	 * 		刷新间隔
+	 */
+	public void setFlushInterval(Duration flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * 返回最大并行刷新数
+	 *
+	 * @return 最大并行刷新数
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * 设置最大并行刷新数
+	 *
+	 * @param maxInFlight
+	 * 		最大并行刷新数
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * 返回缓冲区容量
+	 *
+	 * @return 缓冲区容量
+	 */
+	public int getBufferCapacity() {
+		return bufferCapacity;
+	}
+
+	/**
+	 * 设置缓冲区容量
+	 *
+	 * @param bufferCapacity
+	 * 		缓冲区容量
+	 */
+	public void setBufferCapacity(int bufferCapacity) {
+		this.bufferCapacity = bufferCapacity;
+	}
+
+	/**
+	 * 返回背压策略
+	 *
+	 * @return 背压策略
+	 */
+	public BackpressurePolicy getBackpressurePolicy() {
+		return backpressurePolicy;
+	}
+
+	/**
+	 * 设置背压策略
+	 *
+	 * @param backpressurePolicy
+	 * 		背压策略
+	 */
+	public void setBackpressurePolicy(BackpressurePolicy backpressurePolicy) {
+		this.backpressurePolicy = backpressurePolicy;
+	}
+
+	/**
+	 * 返回背压阻塞等待时长
+	 *
+	 * @return 背压阻塞等待时长
+	 */
+	public Duration getBlockTimeout() {
+		return blockTimeout;
+	}
+
+	/**
+	 * 设置背压阻塞等待时长
+	 *
+	 * @param blockTimeout
+	 * 		背压阻塞等待时长
+	 */
+	public void setBlockTimeout(Duration blockTimeout) {
+		this.blockTimeout = blockTimeout;
+	}
+
+	/**
+	 * 返回新时间序列的创建参数
+	 *
+	 * @return 新时间序列的创建参数
+	 */
+	public AddArgument getAddArgument() {
+		return addArgument;
+	}
+
+	/**
+	 * 设置新时间序列的创建参数
+	 *
+	 * @param addArgument
+	 * 		新时间序列的创建参数
+	 */
+	public void setAddArgument(AddArgument addArgument) {
+		this.addArgument = addArgument;
+	}
+
+	/**
+	 * 返回写入监听器
+	 *
+	 * @return 写入监听器
+	 */
+	public TimeSeriesWriteListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * 设置写入监听器
+	 *
+	 * @param listener
+	 * 		写入监听器
+	 */
+	public void setListener(TimeSeriesWriteListener listener) {
+		this.listener = listener;
+	}
+
+}
@@ -33,6 +33,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Lettuce 事务
@@ -49,30 +50,69 @@ public class LettuceTransaction<K, V> implements Transaction {
 
 	private final RedisTransactionalAsyncCommands<K, V> delegate;
 
+	/**
+	 * 事务结束时的连接归还回调
+	 *
+	 * @since 4.0.0
+	 */
+	private final AtomicReference<Runnable> releaser;
+
 	private final static Logger logger = LoggerFactory.getLogger(LettuceTransaction.class);
 
 	public LettuceTransaction(final RedisTransactionalAsyncCommands<K, V> redisCommands) {
+		this(redisCommands, null);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisCommands
+	 * 		事务连接上的异步命令
+	 * @param releaser
+	 * 		事务结束（EXEC、DISCARD 或关闭）时归还事务连接的回调
+	 *
+	 * @since 4.0.0
+	 */
+	public LettuceTransaction(final RedisTransactionalAsyncCommands<K, V> redisCommands, final Runnable releaser) {
 		Assert.isNull(redisCommands, "Redis Transaction cloud not be null.");
 		this.delegate = redisCommands;
+		this.releaser = new AtomicReference<>(releaser);
 	}
 
 	@Override
 	public List<Object> exec() {
 		logger.info("Redis transaction exec.");
-		delegate.exec();
+		try{
+			delegate.exec();
+		}finally{
+			release();
+		}
 		return new ArrayList<>();
 	}
 
 	@Override
 	public String discard() {
 		logger.info("Redis transaction discard.");
-		delegate.discard();
+		try{
+			delegate.discard();
+		}finally{
+			release();
+		}
 		return Constants.OK;
 	}
 
 	@Override
 	public void close() {
 		logger.info("Redis transaction close.");
+		release();
+	}
+
+	private void release() {
+		final Runnable runnable = releaser.getAndSet(null);
+
+		if(runnable != null){
+			runnable.run();
+		}
 	}
 
 }
\ No newline at end of file
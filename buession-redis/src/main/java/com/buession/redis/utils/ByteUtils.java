@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.utils;
+
+/**
+ * 字节数组工具，按大端序在字节数组中读写整数
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class ByteUtils {
+
+	private ByteUtils() {
+
+	}
+
+	/**
+	 * 以大端序将整数写入字节数组
+	 *
+	 * @param dest
+	 * 		目标字节数组
+	 * @param offset
+	 * 		写入位置
+	 * @param value
+	 * 		整数
+	 */
+	public static void writeInt(final byte[] dest, final int offset, final int value) {
+		dest[offset] = (byte) (value >>> 24);
+		dest[offset + 1] = (byte) (value >>> 16);
+		dest[offset + 2] = (byte) (value >>> 8);
+		dest[offset + 3] = (byte) value;
+	}
+
+	/**
+	 * 以大端序从字节数组读取整数
+	 *
+	 * @param src
+	 * 		源字节数组
+	 * @param offset
+	 * 		读取位置
+	 *
+	 * @return 整数
+	 */
+	public static int readInt(final byte[] src, final int offset) {
+		return ((src[offset] & 0xFF) << 24) | ((src[offset + 1] & 0xFF) << 16) | ((src[offset + 2] & 0xFF) << 8) |
+				(src[offset + 3] & 0xFF);
+	}
+
+}
@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.utils;
+
+import com.buession.core.validator.Validate;
+import com.buession.lang.KeyValue;
+import com.buession.redis.core.Options;
+
+import java.util.Arrays;
+
+/**
+ * Key 编码器，每个模板创建一次，预先计算 Key 前缀及其 UTF-8 编码；
+ * String Key 编码为字节时将前缀拼接与 UTF-8 编码合并为一步，纯 ASCII 的 Key 直接写入结果数组。
+ *
+ * <p>开启驻留（{@code internCapacity > 0}）时，最近使用的 String Key 的编码结果缓存在固定大小的直接映射表中，
+ * 热点 Key 不再重复拼接和编码；缓存的字节数组在调用方之间共享，不可修改。</p>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class KeyEncoder {
+
+	/**
+	 * 无前缀、不驻留的编码器
+	 */
+	public final static KeyEncoder NONE = new KeyEncoder(null, 0);
+
+	/**
+	 * 非 ASCII Key 编码时复用的缓冲区最大保留大小
+	 */
+	private final static int MAX_BUFFER_SIZE = 8192;
+
+	private final static ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(()->new byte[256]);
+
+	private final String prefix;
+
+	private final byte[] prefixRaw;
+
+	private final Entry[] interned;
+
+	private final int mask;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param prefix
+	 * 		Key 前缀
+	 * @param internCapacity
+	 * 		驻留的 Key 数量，向上取整为 2 的幂，小于等于 0 时不驻留
+	 */
+	public KeyEncoder(final String prefix, final int internCapacity) {
+		this.prefix = Validate.isEmpty(prefix) ? null : prefix;
+		this.prefixRaw = this.prefix == null ? new byte[0] : SafeEncoder.encode(this.prefix);
+
+		if(internCapacity > 0){
+			final int capacity = Integer.highestOneBit(Math.min(internCapacity, 1 << 30) * 2 - 1);
+
+			this.interned = new Entry[capacity];
+			this.mask = capacity - 1;
+		}else{
+			this.interned = null;
+			this.mask = 0;
+		}
+	}
+
+	/**
+	 * 根据配置创建编码器
+	 *
+	 * @param options
+	 * 		配置
+	 *
+	 * @return Key 编码器
+	 */
+	public static KeyEncoder create(final Options options) {
+		if(options == null || (Validate.isEmpty(options.getPrefix()) && options.getKeyInternCapacity() <= 0)){
+			return NONE;
+		}
+
+		return new KeyEncoder(options.getPrefix(), options.getKeyInternCapacity());
+	}
+
+	/**
+	 * 返回 Key 前缀
+	 *
+	 * @return Key 前缀，无前缀时返回 null
+	 */
+	public String getPrefix() {
+		return prefix;
+	}
+
+	/**
+	 * 为 Key 添加前缀
+	 *
+	 * @param key
+	 * 		Key
+	 *
+	 * @return 添加前缀后的 Key
+	 */
+	public String encode(final String key) {
+		if(key == null || prefix == null){
+			return key;
+		}else if(interned == null){
+			return prefix.concat(key);
+		}else{
+			return intern(key).key;
+		}
+	}
+
+	/**
+	 * 为 Key 添加前缀
+	 *
+	 * @param key
+	 * 		Key
+	 *
+	 * @return 添加前缀后的 Key
+	 */
+	public byte[] encode(final byte[] key) {
+		if(key == null || prefix == null){
+			return key;
+		}
+
+		final byte[] result = new byte[prefixRaw.length + key.length];
+
+		System.arraycopy(prefixRaw, 0, result, 0, prefixRaw.length);
+		System.arraycopy(key, 0, result, prefixRaw.length, key.length);
+
+		return result;
+	}
+
+	/**
+	 * 为 Key 添加前缀并编码为 UTF-8 字节
+	 *
+	 * @param key
+	 * 		Key
+	 *
+	 * @return 添加前缀并编码后的 Key
+	 */
+	public byte[] encodeRaw(final String key) {
+		if(key == null){
+			return null;
+		}else if(interned == null){
+			return doEncodeRaw(key);
+		}else{
+			return intern(key).raw;
+		}
+	}
+
+	/**
+	 * 为一组 Key 添加前缀
+	 *
+	 * @param keys
+	 * 		Key
+	 *
+	 * @return 添加前缀后的 Key
+	 */
+	public String[] encode(final String[] keys) {
+		if(keys == null || keys.length == 0 || prefix == null){
+			return keys;
+		}
+
+		final String[] result = new String[keys.length];
+
+		for(int i = 0; i < keys.length; i++){
+			result[i] = encode(keys[i]);
+		}
+
+		return result;
+	}
+
+	/**
+	 * 为一组 Key 添加前缀
+	 *
+	 * @param keys
+	 * 		Key
+	 *
+	 * @return 添加前缀后的 Key
+	 */
+	public byte[][] encode(final byte[][] keys) {
+		if(keys == null || keys.length == 0 || prefix == null){
+			return keys;
+		}
+
+		final byte[][] result = new byte[keys.length][];
+
+		for(int i = 0; i < keys.length; i++){
+			result[i] = encode(keys[i]);
+		}
+
+		return result;
+	}
+
+	/**
+	 * 为一组 Key 添加前缀并编码为 UTF-8 字节
+	 *
+	 * @param keys
+	 * 		Key
+	 *
+	 * @return 添加前缀并编码后的 Key
+	 */
+	public byte[][] encodeRaw(final String[] keys) {
+		if(keys == null){
+			return null;
+		}
+
+		final byte[][] result = new byte[keys.length][];
+
+		for(int i = 0; i < keys.length; i++){
+			result[i] = encodeRaw(keys[i]);
+		}
+
+		return result;
+	}
+
+	/**
+	 * 为一组 Key / 值对的 Key 添加前缀，Key 类型为 String 或 byte[]
+	 *
+	 * @param data
+	 * 		Key / 值对
+	 * @param <K>
+	 * 		Key 类型
+	 * @param <V>
+	 * 		值类型
+	 *
+	 * @return Key 添加前缀后的 Key / 值对
+	 */
+	@SuppressWarnings({"unchecked"})
+	public <K, V> KeyValue<K, V>[] encode(final KeyValue<K, V>[] data) {
+		if(data == null || data.length == 0 || prefix == null){
+			return data;
+		}
+
+		final KeyValue<K, V>[] result = Arrays.copyOf(data, data.length);
+
+		for(int i = 0; i < data.length; i++){
+			final KeyValue<K, V> item = data[i];
+
+			if(item != null){
+				final K key = item.getKey();
+				final Object newKey = key instanceof byte[] ? encode((byte[]) key) : encode((String) key);
+
+				result[i] = new KeyValue<>((K) newKey, item.getValue());
+			}
+		}
+
+		return result;
+	}
+
+	private Entry intern(final String key) {
+		final int h = key.hashCode();
+		final int index = (h ^ (h >>> 16)) & mask;
+		final Entry entry = interned[index];
+
+		if(entry != null && entry.hash == h && entry.source.equals(key)){
+			return entry;
+		}
+
+		final Entry newEntry = new Entry(h, key, prefix == null ? key : prefix.concat(key), doEncodeRaw(key));
+		// 冲突时直接覆盖，频繁访问的 Key 会重新占据槽位
+		interned[index] = newEntry;
+
+		return newEntry;
+	}
+
+	private byte[] doEncodeRaw(final String key) {
+		final int prefixLength = prefixRaw.length;
+		final int length = key.length();
+		final byte[] result = new byte[prefixLength + length];
+
+		System.arraycopy(prefixRaw, 0, result, 0, prefixLength);
+		for(int i = 0; i < length; i++){
+			final char c = key.charAt(i);
+
+			if(c >= 0x80){
+				return encodeUtf8(key, i, result);
+			}
+
+			result[prefixLength + i] = (byte) c;
+		}
+
+		return result;
+	}
+
+	/**
+	 * 非 ASCII Key 的编码，已写入 asciiPrefix 中的前缀和前 from 个字符，剩余字符编码到线程复用的缓冲区
+	 */
+	private static byte[] encodeUtf8(final String key, final int from, final byte[] asciiPrefix) {
+		final int written = asciiPrefix.length - key.length() + from;
+		final int maxLength = written + (key.length() - from) * 3;
+		byte[] buffer = BUFFER.get();
+
+		if(buffer.length < maxLength){
+			buffer = new byte[maxLength];
+			if(maxLength <= MAX_BUFFER_SIZE){
+				BUFFER.set(buffer);
+			}
+		}
+
+		System.arraycopy(asciiPrefix, 0, buffer, 0, written);
+
+		int position = written;
+		for(int i = from, length = key.length(); i < length; i++){
+			final char c = key.charAt(i);
+
+			if(c < 0x80){
+				buffer[position++] = (byte) c;
+			}else if(c < 0x800){
+				buffer[position++] = (byte) (0xC0 | (c >> 6));
+				buffer[position++] = (byte) (0x80 | (c & 0x3F));
+			}else if(Character.isSurrogate(c)){
+				if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(key.charAt(i + 1))){
+					final int codePoint = Character.toCodePoint(c, key.charAt(++i));
+
+					buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+					buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+					buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+					buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+				}else{
+					// 与 String.getBytes 一致，不成对的代理字符替换为 '?'
+					buffer[position++] = '?';
+				}
+			}else{
+				buffer[position++] = (byte) (0xE0 | (c >> 12));
+				buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				buffer[position++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+
+		return Arrays.copyOf(buffer, position);
+	}
+
+	private final static class Entry {
+
+		private final int hash;
+
+		private final String source;
+
+		private final String key;
+
+		private final byte[] raw;
+
+		Entry(final int hash, final String source, final String key, final byte[] raw) {
+			this.hash = hash;
+			this.source = source;
+			this.key = key;
+			this.raw = raw;
+		}
+
+	}
+
+}
@@ -24,14 +24,12 @@
  */
 package com.buession.redis.utils;
 
-import com.buession.core.collect.Arrays;
-import com.buession.core.utils.ByteUtils;
-import com.buession.core.validator.Validate;
+import com.buession.lang.KeyValue;
 import com.buession.redis.RedisAccessor;
 import com.buession.redis.core.operations.RedisOperations;
 
 /**
- *
+ * Key 前缀工具，由模板的 {@link KeyEncoder} 完成编码
  *
  * @author Yong.Teng
  * @since 4.0.0
@@ -43,38 +41,29 @@ public class KeyUtils {
 	}
 
 	public static String rawKey(final RedisOperations operations, final String key) {
-		if(operations instanceof RedisAccessor redisAccessor){
-			String prefix = redisAccessor.getOptions().getPrefix();
-			return Validate.isEmpty(prefix) ? key : prefix.concat(key);
-		}else{
-			return key;
-		}
+		return operations instanceof RedisAccessor redisAccessor ? redisAccessor.getKeyEncoder().encode(key) : key;
 	}
 
 	public static byte[] rawKey(final RedisOperations operations, final byte[] key) {
-		if(operations instanceof RedisAccessor redisAccessor){
-			byte[] prefix = redisAccessor.getOptions().getPrefixRaw();
-			return Validate.isEmpty(prefix) ? key : ByteUtils.concat(prefix, key);
-		}else{
-			return key;
-		}
+		return operations instanceof RedisAccessor redisAccessor ? redisAccessor.getKeyEncoder().encode(key) : key;
 	}
 
 	public static String[] rawKeys(final RedisOperations operations, final String[] keys) {
-		if(Validate.isNotEmpty(keys)){
-			return Arrays.map(keys, String.class, (value)->rawKey(operations, value));
-		}else{
-			return keys;
-		}
+		return operations instanceof RedisAccessor redisAccessor ? redisAccessor.getKeyEncoder().encode(keys) : keys;
 	}
 
 	public static byte[][] rawKeys(final RedisOperations operations, final byte[][] keys) {
-		if(operations instanceof RedisAccessor redisAccessor && Validate.isNotEmpty(keys)){
-			byte[] prefix = redisAccessor.getOptions().getPrefixRaw();
-			return Arrays.map(keys, byte[].class, (value)->ByteUtils.concat(prefix, value));
-		}else{
-			return keys;
-		}
+		return operations instanceof RedisAccessor redisAccessor ? redisAccessor.getKeyEncoder().encode(keys) : keys;
+	}
+
+	public static <K, V> KeyValue<K, V>[] rawKeyValues(final RedisOperations operations,
+	                                                   final KeyValue<K, V>[] data) {
+		return operations instanceof RedisAccessor redisAccessor ? redisAccessor.getKeyEncoder().encode(data) : data;
+	}
+
+	public static byte[] rawKeyAsBytes(final RedisOperations operations, final String key) {
+		return operations instanceof RedisAccessor redisAccessor ? redisAccessor.getKeyEncoder()
+				.encodeRaw(key) : SafeEncoder.encode(key);
 	}
 
 }
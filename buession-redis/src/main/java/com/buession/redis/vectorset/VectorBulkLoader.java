@@ -0,0 +1,444 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.vectorset;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import com.buession.core.utils.Assert;
+import com.buession.lang.KeyValue;
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.exception.RedisException;
+import com.buession.redis.script.RedisScript;
+import com.buession.redis.utils.KeyUtils;
+import com.buession.redis.utils.SafeEncoder;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 向量批量导入器，流式读取元素，将 float 向量直接编码为 FP32 小端二进制串（不经过装箱及文本化），
+ * 按 {@link VectorBulkLoaderOptions#getChunkSize()} 分批，每批以一次 EVALSHA 在服务端循环执行 VADD，
+ * 最多 {@link VectorBulkLoaderOptions#getMaxInFlight()} 批同时在途，使网络往返与服务端插入相互重叠：
+ *
+ * <ul>
+ *     <li>向量为空或维度与本次导入的第一个向量不一致的元素在发送前剔除，计为失败，每累积一批即通过
+ *     {@link VectorLoadListener#onError} 通知</li>
+ *     <li>脚本逐个元素以 {@code redis.pcall} 执行 VADD，单个元素失败不影响同批其它元素，脚本返回失败元素的下标，
+ *     只有这些元素计为失败，并按错误信息分组通知；整批调用失败（如网络异常）时整批计为失败，此时服务端可能已执行部分 VADD</li>
+ *     <li>一批在服务端原子执行，脚本中的 VADD 不能使用 CAS 多线程插入，执行期间阻塞服务端，
+ *     应以较小的 {@link VectorBulkLoaderOptions#getChunkSize()} 换取更低的阻塞时长</li>
+ *     <li>不同批次并行写入，同一元素出现在多个批次时最终向量不确定</li>
+ * </ul>
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class VectorBulkLoader implements Closeable {
+
+	/**
+	 * ARGV[1]、ARGV[2] 分别为元素之前、之后的可选参数个数，随后依次为可选参数及 向量、元素 对；
+	 * 返回 新增元素数，随后为每个失败元素的 下标（从 0 开始）、错误信息 对
+	 */
+	private final static RedisScript VADD_SCRIPT = new RedisScript("""
+			local head = tonumber(ARGV[1])
+			local tail = tonumber(ARGV[2])
+			local command = {'VADD', KEYS[1]}
+			for i = 1, head do
+				command[#command + 1] = ARGV[2 + i]
+			end
+			command[#command + 1] = 'FP32'
+			local vector = #command + 1
+			local element = #command + 2
+			command[vector] = ''
+			command[element] = ''
+			for i = 1, tail do
+				command[element + i] = ARGV[2 + head + i]
+			end
+			local first = 3 + head + tail
+			local result = {0}
+			for i = first, #ARGV, 2 do
+				command[vector] = ARGV[i]
+				command[element] = ARGV[i + 1]
+				local reply = redis.pcall(unpack(command))
+				if type(reply) == 'table' and reply.err then
+					result[#result + 1] = (i - first) / 2
+					result[#result + 1] = reply.err
+				else
+					result[1] = result[1] + reply
+				end
+			end
+			return result
+			""");
+
+	private final RedisTemplate redisTemplate;
+
+	private final VectorBulkLoaderOptions options;
+
+	/**
+	 * 每批共用的 REDUCE 参数
+	 */
+	private final byte[][] head;
+
+	/**
+	 * 每批共用的量化方式、EF、M 参数
+	 */
+	private final byte[][] tail;
+
+	private final ExecutorService executor;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 */
+	public VectorBulkLoader(final RedisTemplate redisTemplate) {
+		this(redisTemplate, new VectorBulkLoaderOptions());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param options
+	 * 		导入配置
+	 */
+	public VectorBulkLoader(final RedisTemplate redisTemplate, final VectorBulkLoaderOptions options) {
+		Assert.isNull(redisTemplate, "RedisTemplate cloud not be null.");
+		Assert.isNull(options, "VectorBulkLoaderOptions cloud not be null.");
+		Assert.isFalse(options.getChunkSize() > 0, "Chunk size must be greater than 0");
+		Assert.isFalse(options.getMaxInFlight() > 0, "Max in flight must be greater than 0");
+		this.redisTemplate = redisTemplate;
+		this.options = options;
+
+		final List<byte[]> tailArguments = new ArrayList<>(5);
+
+		if(options.getQuantization() != null){
+			tailArguments.add(SafeEncoder.encode(options.getQuantization().getValue()));
+		}
+		if(options.getEf() != null){
+			tailArguments.add(SafeEncoder.encode("EF"));
+			tailArguments.add(SafeEncoder.encode(options.getEf().toString()));
+		}
+		if(options.getM() != null){
+			tailArguments.add(SafeEncoder.encode("M"));
+			tailArguments.add(SafeEncoder.encode(options.getM().toString()));
+		}
+
+		this.head = options.getReduce() == null ? new byte[0][] :
+				new byte[][]{SafeEncoder.encode("REDUCE"), SafeEncoder.encode(options.getReduce().toString())};
+		this.tail = tailArguments.toArray(new byte[0][]);
+		this.executor = Executors.newFixedThreadPool(options.getMaxInFlight(),
+				new DefaultThreadFactory("redis-vector-loader-", true));
+	}
+
+	/**
+	 * 导入元素，阻塞直到全部批次完成
+	 *
+	 * @param key
+	 * 		Key
+	 * @param elements
+	 * 		元素及其向量
+	 *
+	 * @return 导入结果
+	 *
+	 * @throws InterruptedException
+	 * 		等待期间线程被中断
+	 */
+	public VectorLoadResult load(final String key, final Stream<KeyValue<String, float[]>> elements)
+			throws InterruptedException {
+		Assert.isNull(elements, "Elements cloud not be null.");
+		return load(key, elements.iterator());
+	}
+
+	/**
+	 * 导入元素，阻塞直到全部批次完成
+	 *
+	 * @param key
+	 * 		Key
+	 * @param elements
+	 * 		元素及其向量
+	 *
+	 * @return 导入结果
+	 *
+	 * @throws InterruptedException
+	 * 		等待期间线程被中断
+	 */
+	public VectorLoadResult load(final String key, final Iterable<KeyValue<String, float[]>> elements)
+			throws InterruptedException {
+		Assert.isNull(elements, "Elements cloud not be null.");
+		return load(key, elements.iterator());
+	}
+
+	/**
+	 * 导入元素，阻塞直到全部批次完成
+	 *
+	 * @param key
+	 * 		Key
+	 * @param elements
+	 * 		元素及其向量
+	 *
+	 * @return 导入结果
+	 *
+	 * @throws InterruptedException
+	 * 		等待期间线程被中断
+	 */
+	public VectorLoadResult load(final String key, final Iterator<KeyValue<String, float[]>> elements)
+			throws InterruptedException {
+		Assert.isBlank(key, "Key cloud not be empty or null.");
+		Assert.isNull(elements, "Elements cloud not be null.");
+
+		final long startAt = System.currentTimeMillis();
+		final Progress progress = new Progress(key);
+		final Semaphore inFlight = new Semaphore(options.getMaxInFlight());
+		List<String> invalid = new ArrayList<>();
+		int dimension = -1;
+		Chunk chunk = new Chunk(options.getChunkSize());
+
+		try{
+			while(elements.hasNext()){
+				final KeyValue<String, float[]> element = elements.next();
+
+				if(element == null || element.getKey() == null || element.getValue() == null ||
+						element.getValue().length == 0 || (dimension >= 0 && element.getValue().length != dimension)){
+					invalid.add(element == null ? null : element.getKey());
+
+					if(invalid.size() >= options.getChunkSize()){
+						reportInvalid(invalid, progress);
+						invalid = new ArrayList<>();
+					}
+					continue;
+				}
+
+				if(dimension < 0){
+					dimension = element.getValue().length;
+				}
+
+				chunk.add(element.getKey(), element.getValue());
+
+				if(chunk.size() >= options.getChunkSize()){
+					submit(chunk, inFlight, progress);
+					chunk = new Chunk(options.getChunkSize());
+				}
+			}
+
+			if(chunk.size() > 0){
+				submit(chunk, inFlight, progress);
+			}
+
+			if(invalid.isEmpty() == false){
+				reportInvalid(invalid, progress);
+			}
+		}finally{
+			// 等待在途批次全部完成
+			inFlight.acquireUninterruptibly(options.getMaxInFlight());
+			inFlight.release(options.getMaxInFlight());
+		}
+
+		return new VectorLoadResult(progress.loaded.sum(), progress.added.sum(), progress.failed.sum(),
+				System.currentTimeMillis() - startAt);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	/**
+	 * 将向量编码为 VADD FP32 所需的小端 IEEE 754 单精度二进制串
+	 *
+	 * @param vector
+	 * 		向量
+	 *
+	 * @return 二进制串
+	 */
+	static byte[] fp32(final float[] vector) {
+		final byte[] blob = new byte[vector.length * Float.BYTES];
+
+		ByteBuffer.wrap(blob).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().put(vector);
+		return blob;
+	}
+
+	private void submit(final Chunk chunk, final Semaphore inFlight, final Progress progress)
+			throws InterruptedException {
+		inFlight.acquire();
+
+		try{
+			executor.execute(()->{
+				try{
+					final Object result;
+
+					try{
+						result = redisTemplate.eval(VADD_SCRIPT,
+								new byte[][]{KeyUtils.rawKeyAsBytes(redisTemplate, progress.key)},
+								chunk.arguments(head, tail));
+					}catch(Exception e){
+						progress.failed(chunk.elements, e);
+						return;
+					}
+
+					complete(chunk, result, progress);
+				}finally{
+					inFlight.release();
+				}
+			});
+		}catch(RuntimeException e){
+			inFlight.release();
+			throw e;
+		}
+	}
+
+	private static void complete(final Chunk chunk, final Object result, final Progress progress) {
+		final List<?> reply = result instanceof List<?> list ? list : null;
+
+		if(reply == null || reply.isEmpty()){
+			progress.loaded(chunk.size(), 0);
+			return;
+		}
+
+		final int failedCount = (reply.size() - 1) / 2;
+
+		if(failedCount > 0){
+			// 同一批中的元素可能因不同原因失败，按错误信息分组通知
+			final Map<String, List<String>> failed = new LinkedHashMap<>();
+
+			for(int i = 1; i + 1 < reply.size(); i += 2){
+				failed.computeIfAbsent(asString(reply.get(i + 1)), (message)->new ArrayList<>())
+						.add(chunk.elements.get((int) toLong(reply.get(i))));
+			}
+
+			failed.forEach((message, elements)->progress.failed(elements, new RedisException(message)));
+		}
+
+		progress.loaded(chunk.size() - failedCount, toLong(reply.get(0)));
+	}
+
+	private static void reportInvalid(final List<String> elements, final Progress progress) {
+		progress.failed(elements, new IllegalArgumentException("Empty or mismatched dimension vectors of " +
+				elements.size() + " elements."));
+	}
+
+	private static long toLong(final Object value) {
+		return value instanceof Number number ? number.longValue() : Long.parseLong(asString(value));
+	}
+
+	private static String asString(final Object value) {
+		return value instanceof byte[] bytes ? SafeEncoder.encode(bytes) : String.valueOf(value);
+	}
+
+	private final static class Chunk {
+
+		private final List<String> elements;
+
+		private final List<byte[]> vectors;
+
+		Chunk(final int size) {
+			this.elements = new ArrayList<>(size);
+			this.vectors = new ArrayList<>(size);
+		}
+
+		void add(final String element, final float[] vector) {
+			elements.add(element);
+			vectors.add(fp32(vector));
+		}
+
+		int size() {
+			return elements.size();
+		}
+
+		byte[][] arguments(final byte[][] head, final byte[][] tail) {
+			final byte[][] arguments = new byte[2 + head.length + tail.length + elements.size() * 2][];
+			int i = 0;
+
+			arguments[i++] = SafeEncoder.encode(Integer.toString(head.length));
+			arguments[i++] = SafeEncoder.encode(Integer.toString(tail.length));
+			for(byte[] argument : head){
+				arguments[i++] = argument;
+			}
+			for(byte[] argument : tail){
+				arguments[i++] = argument;
+			}
+			for(int j = 0; j < elements.size(); j++){
+				arguments[i++] = vectors.get(j);
+				arguments[i++] = SafeEncoder.encode(elements.get(j));
+			}
+
+			return arguments;
+		}
+
+	}
+
+	private final class Progress {
+
+		private final String key;
+
+		private final LongAdder loaded = new LongAdder();
+
+		private final LongAdder added = new LongAdder();
+
+		private final LongAdder failed = new LongAdder();
+
+		Progress(final String key) {
+			this.key = key;
+		}
+
+		void loaded(final int count, final long addedCount) {
+			loaded.add(count);
+			added.add(addedCount);
+			notifyProgress();
+		}
+
+		void failed(final List<String> elements, final Throwable throwable) {
+			failed.add(elements.size());
+
+			final VectorLoadListener listener = options.getListener();
+			if(listener != null){
+				listener.onError(key, elements, throwable);
+			}
+
+			notifyProgress();
+		}
+
+		private void notifyProgress() {
+			final VectorLoadListener listener = options.getListener();
+			if(listener != null){
+				listener.onProgress(key, loaded.sum(), failed.sum());
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.vectorset;
+
+import com.buession.redis.core.Quantization;
+
+/**
+ * 向量批量导入配置
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class VectorBulkLoaderOptions {
+
+	/**
+	 * 默认每批元素数
+	 */
+	public final static int DEFAULT_CHUNK_SIZE = 16;
+
+	/**
+	 * 默认最大并行批次数
+	 */
+	public final static int DEFAULT_MAX_IN_FLIGHT = 4;
+
+	/**
+	 * 每批元素数，即每次脚本调用执行的 VADD 数；一批在服务端原子地串行插入 HNSW 图，不能使用 CAS 多线程插入，
+	 * 过大会长时间阻塞服务端，吞吐不足时应优先增大最大并行批次数
+	 */
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	/**
+	 * 最大并行批次数，达到该值时读取数据源的线程等待，直到有批次写入完成
+	 */
+	private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+	/**
+	 * 量化方式，为 null 时使用服务端默认值（Q8）；同一 Key 的所有元素必须使用相同的量化方式
+	 */
+	private Quantization quantization;
+
+	/**
+	 * 随机投影降维后的维度，为 null 时不降维
+	 */
+	private Integer reduce;
+
+	/**
+	 * 构建 HNSW 图时的探索因子，为 null 时使用服务端默认值
+	 */
+	private Integer ef;
+
+	/**
+	 * HNSW 图中每个节点的最大连接数，为 null 时使用服务端默认值
+	 */
+	private Integer m;
+
+	/**
+	 * 进度及错误监听器
+	 */
+	private VectorLoadListener listener;
+
+	/**
+	 * 构造函数
+	 */
+	public VectorBulkLoaderOptions() {
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param chunkSize
+	 * 		每批元素数
+	 * @param maxInFlight
+	 * 		最大并行批次数
+	 */
+	public VectorBulkLoaderOptions(int chunkSize, int maxInFlight) {
+		this.chunkSize = chunkSize;
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * 返回每批元素数
+	 *
+	 * @return 每批元素数
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * 设置每批元素数
+	 *
+	 * @param chunkSize
+	 * 		每批元素数
+	 */
+	public void setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 返回最大并行批次数
+	 *
+	 * @return 最大并行批次数
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * 设置最大并行批次数
+	 *
+	 * @param maxInFlight
+	 * 		最大并行批次数
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * 返回量化方式
+	 *
+	 * @return 量化方式
+	 */
+	public Quantization getQuantization() {
+		return quantization;
+	}
+
+	/**
+	 * 设置量化方式
+	 *
+	 * @param quantization
+	 * 		量化方式
+	 */
+	public void setQuantization(Quantization quantization) {
+		this.quantization = quantization;
+	}
+
+	/**
+	 * 返回随机投影降维后的维度
+	 *
+	 * @return 随机投影降维后的维度
+	 */
+	public Integer getReduce() {
+		return reduce;
+	}
+
+	/**
+	 * 设置随机投影降维后的维度
+	 *
+	 * @param reduce
+	 * 		随机投影降维后的维度
+	 */
+	public void setReduce(Integer reduce) {
+		this.reduce = reduce;
+	}
+
+	/**
+	 * 返回构建 HNSW 图时的探索因子
+	 *
+	 * @return 构建 HNSW 图时的探索因子
+	 */
+	public Integer getEf() {
+		return ef;
+	}
+
+	/**
+	 * 设置构建 HNSW 图时的探索因子
+	 *
+	 * @param ef
+	 * 		构建 HNSW 图时的探索因子
+	 */
+	public void setEf(Integer ef) {
+		this.ef = ef;
+	}
+
+	/**
+	 * 返回 HNSW 图中每个节点的最大连接数
+	 *
+	 * @return HNSW 图中每个节点的最大连接数
+	 */
+	public Integer getM() {
+		return m;
+	}
+
+	/**
+	 * 设置 HNSW 图中每个节点的最大连接数
+	 *
+	 * @param m
+	 * 		HNSW 图中每个节点的最大连接数
+	 */
+	public void setM(Integer m) {
+		this.m = m;
+	}
+
+	/**
+	 * 返回进度及错误监听器
+	 *
+	 * @return 进度及错误监听器
+	 */
+	public VectorLoadListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * 设置进度及错误监听器
+	 *
+	 * @param listener
+	 * 		进度及错误监听器
+	 */
+	public void setListener(VectorLoadListener listener) {
+		this.listener = listener;
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.vectorset;
+
+import com.buession.redis.utils.ObjectStringBuilder;
+
+/**
+ * 向量批量导入结果
+ *
+ * @param loaded
+ * 		写入成功的元素数
+ * @param added
+ * 		新增的元素数，不包括已存在而被更新向量的元素
+ * @param failed
+ * 		写入失败或向量无效的元素数
+ * @param elapsed
+ * 		耗时（单位：毫秒）
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public record VectorLoadResult(long loaded, long added, long failed, long elapsed) {
+
+	@Override
+	public String toString() {
+		return ObjectStringBuilder.create()
+				.add("loaded", loaded)
+				.add("added", added)
+				.add("failed", failed)
+				.add("elapsed", elapsed)
+				.build();
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.vectorset;
+
+import com.buession.redis.utils.ObjectStringBuilder;
+
+import java.util.Arrays;
+
+/**
+ * 一个查询向量的相似度搜索结果，元素及其相似度分数按相似度降序存放在两个下标对应的数组中
+ *
+ * @param elements
+ * 		元素
+ * @param scores
+ * 		相似度分数，取值范围 0 ~ 1，1 表示完全相同
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public record VectorSimResult(String[] elements, float[] scores) {
+
+	/**
+	 * 返回命中的元素数
+	 *
+	 * @return 命中的元素数
+	 */
+	public int size() {
+		return elements.length;
+	}
+
+	@Override
+	public String toString() {
+		return ObjectStringBuilder.create()
+				.add("elements", Arrays.toString(elements))
+				.add("scores", Arrays.toString(scores))
+				.build();
+	}
+
+}
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.vectorset;
+
+import com.buession.core.concurrent.DefaultThreadFactory;
+import com.buession.core.utils.Assert;
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.exception.RedisException;
+import com.buession.redis.script.RedisScript;
+import com.buession.redis.utils.KeyUtils;
+import com.buession.redis.utils.SafeEncoder;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 批量向量相似度搜索，查询向量编码为 FP32 二进制串，按 {@link #DEFAULT_BATCH_SIZE} 个一批以一次只读脚本调用执行多个 VSIM，
+ * 多批并发执行；结果以 {@link VectorSimResult} 的元素数组及 float 分数数组返回，不构建装箱的 Map。
+ * 一批查询在服务端串行执行，批越大往返越少，但单次阻塞服务端越久
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class VectorSimSearcher implements Closeable {
+
+	/**
+	 * 默认最大并行批次数
+	 */
+	public final static int DEFAULT_PARALLELISM = 8;
+
+	/**
+	 * 默认每批查询向量数
+	 */
+	public final static int DEFAULT_BATCH_SIZE = 8;
+
+	/**
+	 * 默认超时时长
+	 */
+	public final static Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+	/**
+	 * ARGV[1]、ARGV[2] 分别为 COUNT、EF（0 表示使用服务端默认值），随后为查询向量
+	 */
+	private final static RedisScript VSIM_SCRIPT = new RedisScript("""
+			local command = {'VSIM', KEYS[1], 'FP32', '', 'WITHSCORES', 'COUNT', ARGV[1]}
+			if ARGV[2] ~= '0' then
+				command[#command + 1] = 'EF'
+				command[#command + 1] = ARGV[2]
+			end
+			local results = {}
+			for i = 3, #ARGV do
+				command[4] = ARGV[i]
+				results[#results + 1] = redis.call(unpack(command))
+			end
+			return results
+			""", true);
+
+	private final static String[] EMPTY_ELEMENTS = new String[0];
+
+	private final static float[] EMPTY_SCORES = new float[0];
+
+	private final RedisTemplate redisTemplate;
+
+	private final int batchSize;
+
+	private final Duration timeout;
+
+	private final ExecutorService executor;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 */
+	public VectorSimSearcher(final RedisTemplate redisTemplate) {
+		this(redisTemplate, DEFAULT_PARALLELISM, DEFAULT_BATCH_SIZE, DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisTemplate
+	 * 		{@link RedisTemplate}
+	 * @param parallelism
+	 * 		最大并行批次数
+	 * @param batchSize
+	 * 		每批查询向量数
+	 * @param timeout
+	 * 		一次批量搜索的超时时长
+	 */
+	public VectorSimSearcher(final RedisTemplate redisTemplate, final int parallelism, final int batchSize,
+	                         final Duration timeout) {
+		Assert.isNull(redisTemplate, "RedisTemplate cloud not be null.");
+		Assert.isNull(timeout, "Timeout cloud not be null.");
+		Assert.isFalse(parallelism > 0, "Parallelism must be greater than 0");
+		Assert.isFalse(batchSize > 0, "Batch size must be greater than 0");
+		this.redisTemplate = redisTemplate;
+		this.batchSize = batchSize;
+		this.timeout = timeout;
+		this.executor = Executors.newFixedThreadPool(parallelism,
+				new DefaultThreadFactory("redis-vector-search-", true));
+	}
+
+	/**
+	 * 批量搜索与各查询向量最相似的元素
+	 *
+	 * @param key
+	 * 		Key
+	 * @param queries
+	 * 		查询向量
+	 * @param count
+	 * 		每个查询向量返回的最大元素数
+	 *
+	 * @return 与查询向量下标对应的搜索结果
+	 */
+	public VectorSimResult[] search(final String key, final List<float[]> queries, final int count) {
+		return search(key, queries, count, 0);
+	}
+
+	/**
+	 * 批量搜索与各查询向量最相似的元素
+	 *
+	 * @param key
+	 * 		Key
+	 * @param queries
+	 * 		查询向量
+	 * @param count
+	 * 		每个查询向量返回的最大元素数
+	 * @param ef
+	 * 		搜索时的探索因子，小于等于 0 时使用服务端默认值
+	 *
+	 * @return 与查询向量下标对应的搜索结果
+	 */
+	public VectorSimResult[] search(final String key, final List<float[]> queries, final int count, final int ef) {
+		Assert.isBlank(key, "Key cloud not be empty or null.");
+		Assert.isNull(queries, "Queries cloud not be null.");
+		Assert.isFalse(count > 0, "Count must be greater than 0");
+
+		// 发起任何一批之前校验全部查询向量，避免部分批次已执行后才失败
+		for(float[] query : queries){
+			Assert.isFalse(query != null && query.length > 0, "Query vector cloud not be empty or null.");
+			Assert.isFalse(query.length == queries.get(0).length, "Query vectors must have the same dimension.");
+		}
+
+		final byte[][] keys = new byte[][]{KeyUtils.rawKeyAsBytes(redisTemplate, key)};
+		final byte[] countRaw = SafeEncoder.encode(Integer.toString(count));
+		final byte[] efRaw = SafeEncoder.encode(Integer.toString(Math.max(0, ef)));
+		final VectorSimResult[] results = new VectorSimResult[queries.size()];
+
+		if(queries.size() <= batchSize){
+			search(keys, countRaw, efRaw, queries, 0, results);
+			return results;
+		}
+
+		final List<Future<?>> futures = new ArrayList<>(queries.size() / batchSize + 1);
+		final long deadline = System.nanoTime() + timeout.toNanos();
+
+		for(int from = 0; from < queries.size(); from += batchSize){
+			final int offset = from;
+			final List<float[]> batch = queries.subList(from, Math.min(queries.size(), from + batchSize));
+
+			futures.add(executor.submit(()->search(keys, countRaw, efRaw, batch, offset, results)));
+		}
+
+		try{
+			for(Future<?> future : futures){
+				future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			}
+		}catch(TimeoutException e){
+			cancel(futures);
+			throw new RedisException("Vector similarity search timed out after " + timeout.toMillis() + "ms.", e);
+		}catch(ExecutionException e){
+			cancel(futures);
+			final Throwable cause = e.getCause();
+			throw cause instanceof RuntimeException ? (RuntimeException) cause :
+					new RedisException(cause.getMessage(), cause);
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			cancel(futures);
+			throw new RedisException("Vector similarity search interrupted.", e);
+		}
+
+		return results;
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	private void search(final byte[][] keys, final byte[] countRaw, final byte[] efRaw, final List<float[]> batch,
+	                    final int offset, final VectorSimResult[] results) {
+		final byte[][] arguments = new byte[2 + batch.size()][];
+
+		arguments[0] = countRaw;
+		arguments[1] = efRaw;
+		for(int i = 0; i < batch.size(); i++){
+			arguments[i + 2] = VectorBulkLoader.fp32(batch.get(i));
+		}
+
+		final List<?> replies = (List<?>) redisTemplate.eval(VSIM_SCRIPT, keys, arguments);
+
+		for(int i = 0; i < batch.size(); i++){
+			// 多批并发写入不同下标，Future.get 保证结果对调用线程可见
+			results[offset + i] = parse(replies == null || i >= replies.size() ? null : (List<?>) replies.get(i));
+		}
+	}
+
+	private static VectorSimResult parse(final List<?> reply) {
+		if(reply == null || reply.isEmpty()){
+			return new VectorSimResult(EMPTY_ELEMENTS, EMPTY_SCORES);
+		}
+
+		// RESP2 下 WITHSCORES 返回 元素、分数 交替的扁平数组
+		final int size = reply.size() / 2;
+		final String[] elements = new String[size];
+		final float[] scores = new float[size];
+
+		for(int i = 0; i < size; i++){
+			elements[i] = asString(reply.get(i * 2));
+			scores[i] = Float.parseFloat(asString(reply.get(i * 2 + 1)));
+		}
+
+		return new VectorSimResult(elements, scores);
+	}
+
+	private static String asString(final Object value) {
+		return value instanceof byte[] bytes ? SafeEncoder.encode(bytes) : String.valueOf(value);
+	}
+
+	private static void cancel(final List<? extends Future<?>> futures) {
+		for(Future<?> future : futures){
+			future.cancel(true);
+		}
+	}
+
+}
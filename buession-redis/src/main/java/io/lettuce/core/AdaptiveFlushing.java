@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package io.lettuce.core;
+
+import io.lettuce.core.api.PipeliningFlushState;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.protocol.CommandArgsSizeEstimator;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Pipeline state for adaptive flushing: flush once the buffered commands reach a byte size, or once the oldest
+ * buffered command has been waiting longer than the configured delay. The byte size is estimated from the arguments
+ * by {@link CommandArgsSizeEstimator} rather than measured, so commands are encoded only once, by the real write.
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class AdaptiveFlushing implements PipeliningFlushState {
+
+	private final int maxBytes;
+
+	private final long maxDelay;
+
+	private int pendingBytes;
+
+	private int pendingCommands;
+
+	private long firstPendingTime;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param maxBytes
+	 * 		缓冲命令达到该字节数时刷新
+	 * @param maxDelay
+	 * 		最早缓冲的命令等待超过该时长（单位：纳秒）时刷新
+	 */
+	public AdaptiveFlushing(final int maxBytes, final long maxDelay) {
+		this.maxBytes = maxBytes;
+		this.maxDelay = maxDelay;
+	}
+
+	@Override
+	public void onOpen(StatefulConnection<?, ?> connection) {
+		connection.setAutoFlushCommands(false);
+	}
+
+	@Override
+	public void onCommand(StatefulConnection<?, ?> connection) {
+		onCommand(connection, null);
+	}
+
+	@Override
+	public void onCommand(StatefulConnection<?, ?> connection, RedisCommand<?, ?, ?> command) {
+		final long now = System.nanoTime();
+
+		if(pendingCommands++ == 0){
+			firstPendingTime = now;
+		}
+
+		pendingBytes += command == null ? 0 : CommandArgsSizeEstimator.estimate(command.getArgs());
+
+		if(pendingBytes >= maxBytes || now - firstPendingTime >= maxDelay){
+			connection.flushCommands();
+			pendingBytes = 0;
+			pendingCommands = 0;
+		}
+	}
+
+	@Override
+	public void onClose(StatefulConnection<?, ?> connection) {
+		connection.flushCommands();
+		connection.setAutoFlushCommands(true);
+	}
+
+}
@@ -24,13 +24,18 @@
  */
 package io.lettuce.core;
 
+import io.lettuce.core.api.PipeliningFlushPolicy;
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.providers.ConnectionProvider;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  *
@@ -51,39 +56,151 @@ public abstract class BaseRedisClient<K, V> {
 
 	protected RedisAsyncCommands<K, V> redisAsyncCommands;
 
+	/**
+	 * 共享连接上的同步命令实例缓存，仅在连接提供者为多路复用模式时使用
+	 *
+	 * @since 4.0.0
+	 */
+	private final Map<StatefulConnection<K, V>, RedisCommands<K, V>> sharedRedisCommands = new ConcurrentHashMap<>(4);
+
+	/**
+	 * 共享连接上的异步命令实例缓存，仅在连接提供者为多路复用模式时使用
+	 *
+	 * @since 4.0.0
+	 */
+	private final Map<StatefulConnection<K, V>, RedisAsyncCommands<K, V>> sharedRedisAsyncCommands =
+			new ConcurrentHashMap<>(4);
+
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 
 	protected BaseRedisClient(ConnectionProvider<K, V> connectionProvider) {
 		this.connectionProvider = connectionProvider;
 	}
 
-	@SuppressWarnings({"unchecked"})
+	/**
+	 * 返回连接提供者
+	 *
+	 * @return 连接提供者
+	 */
+	public ConnectionProvider<K, V> getConnectionProvider() {
+		return connectionProvider;
+	}
+
 	public RedisCommands<K, V> getRedisCommands() {
+		if(connectionProvider.isMultiplexed()){
+			return getSharedCommands(sharedRedisCommands, this::createRedisCommands);
+		}
+
 		if(redisCommands == null){
-			redisCommands = (RedisCommands<K, V>) Proxy.newProxyInstance(RedisCommands.class.getClassLoader(),
-					new Class[]{RedisCommands.class}, createRedisCommandsInvocationHandler());
+			redisCommands = createRedisCommands(connectionProvider.getConnection());
 		}
 
 		return redisCommands;
 	}
 
-	@SuppressWarnings({"unchecked"})
 	public RedisAsyncCommands<K, V> getRedisAsyncCommands() {
+		if(connectionProvider.isMultiplexed()){
+			return getSharedCommands(sharedRedisAsyncCommands, this::createRedisAsyncCommands);
+		}
+
 		if(redisAsyncCommands == null){
-			redisAsyncCommands = (RedisAsyncCommands<K, V>) Proxy.newProxyInstance(
-					RedisAsyncCommands.class.getClassLoader(), new Class[]{RedisAsyncCommands.class},
-					createRedisAsyncCommandsInvocationHandler());
+			redisAsyncCommands = createRedisAsyncCommands(connectionProvider.getConnection());
 		}
 
 		return redisAsyncCommands;
 	}
 
-	public void multi() {
-		getRedisCommands().multi();
+	/**
+	 * 在一个独占连接上执行命令，执行完毕后归还连接；用于 BLPOP、XREAD BLOCK 等会长时间占用连接的阻塞命令，
+	 * 避免阻塞共享连接上其它线程的命令
+	 *
+	 * @param function
+	 * 		命令执行函数
+	 * @param <R>
+	 * 		返回值类型
+	 *
+	 * @return 命令执行结果
+	 *
+	 * @since 4.0.0
+	 */
+	public <R> R executeDedicated(final Function<RedisCommands<K, V>, R> function) {
+		final StatefulConnection<K, V> connection = connectionProvider.getDedicatedConnection();
+
+		try{
+			return function.apply(createRedisCommands(connection));
+		}finally{
+			connectionProvider.release(connection);
+		}
+	}
+
+	/**
+	 * 在一个独占连接上开启事务，事务结束后须通过 {@link #release(StatefulConnection)} 归还该连接
+	 *
+	 * @return 已开启事务的独占连接
+	 */
+	public StatefulConnection<K, V> multi() {
+		final StatefulConnection<K, V> connection = connectionProvider.getDedicatedConnection();
+
+		try{
+			createRedisCommands(connection).multi();
+		}catch(RuntimeException e){
+			connectionProvider.release(connection);
+			throw e;
+		}
+
+		return connection;
+	}
+
+	/**
+	 * 返回指定连接上的异步命令实例
+	 *
+	 * @param connection
+	 * 		连接
+	 *
+	 * @return 异步命令实例
+	 *
+	 * @since 4.0.0
+	 */
+	public RedisAsyncCommands<K, V> getRedisAsyncCommands(final StatefulConnection<K, V> connection) {
+		return createRedisAsyncCommands(connection);
 	}
 
 	public Pipeline<K, V> pipelined() {
-		return null;
+		return pipelined(PipeliningFlushPolicy.flushEachCommand());
+	}
+
+	/**
+	 * 以指定的刷新策略开启管道；管道独占一个连接，命令的发送与刷新均在该连接上进行，管道关闭时归还该连接
+	 *
+	 * @param flushPolicy
+	 * 		管道刷新策略
+	 *
+	 * @return 管道
+	 */
+	public Pipeline<K, V> pipelined(final PipeliningFlushPolicy flushPolicy) {
+		final StatefulConnection<K, V> connection = connectionProvider.getDedicatedConnection();
+		return new Pipeline<>(connection, createRedisAsyncCommands(connection), flushPolicy, connectionProvider);
+	}
+
+	/**
+	 * 归还通过 {@link #multi()} 等方法获取的独占连接
+	 *
+	 * @param connection
+	 * 		连接
+	 *
+	 * @since 4.0.0
+	 */
+	public void release(final StatefulConnection<K, V> connection) {
+		connectionProvider.release(connection);
+	}
+
+	/**
+	 * 创建一个独占的 Pub/Sub 连接，所有频道共用该连接，由调用方负责关闭
+	 *
+	 * @return Pub/Sub 连接
+	 */
+	public StatefulRedisPubSubConnection<K, V> connectPubSub() {
+		return connectionProvider.getPubSubConnection();
 	}
 
 	public boolean isConnected() {
@@ -91,15 +208,17 @@ public abstract class BaseRedisClient<K, V> {
 			return false;
 		}
 
-		return connectionProvider.getConnection() != null && connectionProvider.getConnection().isOpen();
-	}
+		final StatefulConnection<K, V> connection = connectionProvider.getConnection();
 
-	public boolean isClosed() {
-		if(connectionProvider == null){
-			return true;
+		try{
+			return connection != null && connection.isOpen();
+		}finally{
+			connectionProvider.release(connection);
 		}
+	}
 
-		return connectionProvider.getConnection() == null || connectionProvider.getConnection().isOpen() == false;
+	public boolean isClosed() {
+		return isConnected() == false;
 	}
 
 	public void close() {
@@ -108,10 +227,56 @@ public abstract class BaseRedisClient<K, V> {
 		}catch(Exception e){
 			logger.warn("Close redis connection error: {}", e.getMessage());
 		}
+
+		sharedRedisCommands.clear();
+		sharedRedisAsyncCommands.clear();
 	}
 
-	protected abstract RedisCommandsInvocationHandler<K, V> createRedisCommandsInvocationHandler();
+	/**
+	 * 创建同步命令实例，实现类应尽可能直接返回连接的原生命令接口，避免反射调用
+	 *
+	 * @param connection
+	 * 		连接
+	 *
+	 * @return 同步命令实例
+	 */
+	protected abstract RedisCommands<K, V> createRedisCommands(final StatefulConnection<K, V> connection);
+
+	/**
+	 * 创建异步命令实例，实现类应尽可能直接返回连接的原生命令接口，避免反射调用
+	 *
+	 * @param connection
+	 * 		连接
+	 *
+	 * @return 异步命令实例
+	 */
+	protected abstract RedisAsyncCommands<K, V> createRedisAsyncCommands(final StatefulConnection<K, V> connection);
+
+	/**
+	 * 返回当前轮询到的共享连接上的命令实例；集群模式下命令实例为动态代理，按连接缓存以避免每次命令都重新创建
+	 *
+	 * @param cache
+	 * 		命令实例缓存
+	 * @param factory
+	 * 		命令实例创建函数
+	 * @param <C>
+	 * 		命令实例类型
+	 *
+	 * @return 命令实例
+	 */
+	private <C> C getSharedCommands(final Map<StatefulConnection<K, V>, C> cache,
+	                                final Function<StatefulConnection<K, V>, C> factory) {
+		final StatefulConnection<K, V> connection = connectionProvider.getConnection();
+		final C commands = cache.get(connection);
 
-	protected abstract RedisCommandsInvocationHandler<K, V> createRedisAsyncCommandsInvocationHandler();
+		if(commands != null){
+			return commands;
+		}
+
+		// 共享连接被替换后，清理已关闭连接的命令实例
+		cache.keySet().removeIf((conn)->conn.isOpen() == false);
+
+		return cache.computeIfAbsent(connection, factory);
+	}
 
 }
@@ -27,6 +27,10 @@ package io.lettuce.core;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.masterreplica.MasterReplica;
+import io.lettuce.core.masterreplica.StatefulRedisMasterReplicaConnection;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import org.apache.commons.pool2.BasePooledObjectFactory;
 import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.impl.DefaultPooledObject;
@@ -56,11 +60,46 @@ public class ConnectionFactory<K, V, CONN extends StatefulConnection<K, V>> exte
 
 	private final Supplier<CONN> objectMaker;
 
+	/**
+	 * 只读命令的路由策略，为 null 时所有命令均在主节点上执行
+	 *
+	 * @since 4.0.0
+	 */
+	private final ReadFrom readFrom;
+
+	/**
+	 * 主从拓扑发现地址，单机客户端设置了 {@link #readFrom} 时，通过该地址（通常为哨兵地址）发现主从节点
+	 *
+	 * @since 4.0.0
+	 */
+	private final RedisURI masterReplicaURI;
+
 	private final static Logger logger = LoggerFactory.getLogger(ConnectionFactory.class);
 
 	public ConnectionFactory(final AbstractRedisClient redisClient, final RedisCodec<K, V> redisCodec) {
+		this(redisClient, redisCodec, null, null);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param redisClient
+	 * 		Redis 客户端
+	 * @param redisCodec
+	 * 		编解码器
+	 * @param readFrom
+	 * 		只读命令的路由策略
+	 * @param masterReplicaURI
+	 * 		主从拓扑发现地址，仅单机客户端需要
+	 *
+	 * @since 4.0.0
+	 */
+	public ConnectionFactory(final AbstractRedisClient redisClient, final RedisCodec<K, V> redisCodec,
+	                         final ReadFrom readFrom, final RedisURI masterReplicaURI) {
 		this.redisClient = redisClient;
 		this.redisCodec = redisCodec;
+		this.readFrom = readFrom;
+		this.masterReplicaURI = masterReplicaURI;
 		this.objectMaker = this::build;
 	}
 
@@ -102,12 +141,42 @@ public class ConnectionFactory<K, V, CONN extends StatefulConnection<K, V>> exte
 		}
 	}
 
+	/**
+	 * 创建一个独立于连接池的 Pub/Sub 连接，集群模式下返回 {@link io.lettuce.core.cluster.pubsub.StatefulRedisClusterPubSubConnection}
+	 *
+	 * @return Pub/Sub 连接
+	 */
+	public StatefulRedisPubSubConnection<K, V> connectPubSub() {
+		if(redisClient instanceof RedisClusterClient redisClusterClient){
+			return redisClusterClient.connectPubSub(redisCodec);
+		}else if(redisClient instanceof RedisClient standaloneClient){
+			return standaloneClient.connectPubSub(redisCodec);
+		}else{
+			throw new IllegalArgumentException("Unsupported redisClient: " + redisClient.getClass());
+		}
+	}
+
 	@SuppressWarnings({"unchecked"})
 	private CONN build() {
 		if(redisClient instanceof RedisClusterClient redisClusterClient){
-			return (CONN) redisClusterClient.connect(redisCodec);
+			final StatefulRedisClusterConnection<K, V> connection = redisClusterClient.connect(redisCodec);
+
+			if(readFrom != null){
+				connection.setReadFrom(readFrom);
+			}
+
+			return (CONN) connection;
 		}else if(redisClient instanceof RedisClient){
 			RedisClient redisClient = (RedisClient) this.redisClient;
+
+			if(readFrom != null && masterReplicaURI != null){
+				final StatefulRedisMasterReplicaConnection<K, V> connection = MasterReplica.connect(redisClient,
+						redisCodec, masterReplicaURI);
+
+				connection.setReadFrom(readFrom);
+				return (CONN) connection;
+			}
+
 			return (CONN) redisClient.connect(redisCodec);
 		}else{
 			throw new IllegalArgumentException("Unsupported redisClient: " + redisClient.getClass());
@@ -26,10 +26,13 @@ package io.lettuce.core;
 
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import org.apache.commons.pool2.PooledObjectFactory;
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 
+import java.util.function.LongConsumer;
+
 /**
  * 连接池
  *
@@ -45,12 +48,20 @@ import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
  */
 public class ConnectionPool<K, V, CONN extends StatefulConnection<K, V>> extends GenericObjectPool<CONN> {
 
+	/**
+	 * 借出连接等待时长监听器
+	 */
+	private final LongConsumer borrowWaitListener;
+
 	public ConnectionPool(final PooledObjectFactory<CONN> factory) {
 		super(factory);
+		this.borrowWaitListener = null;
 	}
 
 	public ConnectionPool(final PooledObjectFactory<CONN> factory, final GenericObjectPoolConfig<CONN> poolConfig) {
 		super(factory, poolConfig);
+		this.borrowWaitListener = poolConfig instanceof ConnectionPoolConfig<?, ?> connectionPoolConfig ?
+				connectionPoolConfig.getBorrowWaitListener() : null;
 	}
 
 	public ConnectionPool(final AbstractRedisClient redisClient, final RedisCodec<K, V> redisCodec) {
@@ -62,12 +73,40 @@ public class ConnectionPool<K, V, CONN extends StatefulConnection<K, V>> extends
 		this(new ConnectionFactory<>(redisClient, redisCodec), poolConfig);
 	}
 
+	/**
+	 * 通过连接池的连接工厂创建一个不受连接池管理的 Pub/Sub 连接，由调用方负责关闭
+	 *
+	 * @return Pub/Sub 连接
+	 */
+	@SuppressWarnings({"unchecked"})
+	public StatefulRedisPubSubConnection<K, V> connectPubSub() {
+		if(getFactory() instanceof ConnectionFactory<?, ?, ?> connectionFactory){
+			return ((ConnectionFactory<K, V, CONN>) connectionFactory).connectPubSub();
+		}
+
+		throw new RedisException("Pub/Sub connection is not supported by " + getFactory().getClass().getName());
+	}
+
 	public CONN getResource() {
 		return borrowObject();
 	}
 
 	@Override
 	public CONN borrowObject() {
+		if(borrowWaitListener == null){
+			return doBorrowObject();
+		}
+
+		final long startTime = System.nanoTime();
+
+		try{
+			return doBorrowObject();
+		}finally{
+			borrowWaitListener.accept(System.nanoTime() - startTime);
+		}
+	}
+
+	private CONN doBorrowObject() {
 		try{
 			return super.borrowObject();
 		}catch(RedisException re){
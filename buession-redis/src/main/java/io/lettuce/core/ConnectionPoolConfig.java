@@ -28,6 +28,7 @@ import io.lettuce.core.api.StatefulConnection;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 
 import java.time.Duration;
+import java.util.function.LongConsumer;
 
 /**
  * 连接池配置
@@ -42,6 +43,11 @@ import java.time.Duration;
  */
 public class ConnectionPoolConfig<K, V> extends GenericObjectPoolConfig<StatefulConnection<K, V>> {
 
+	/**
+	 * 借出连接等待时长监听器
+	 */
+	private LongConsumer borrowWaitListener;
+
 	public ConnectionPoolConfig() {
 		setMinEvictableIdleTime(Duration.ofMillis(60000));
 		setTimeBetweenEvictionRuns(Duration.ofMillis(30000));
@@ -49,4 +55,23 @@ public class ConnectionPoolConfig<K, V> extends GenericObjectPoolConfig<Stateful
 		setTestWhileIdle(true);
 	}
 
+	/**
+	 * 返回借出连接等待时长监听器
+	 *
+	 * @return 借出连接等待时长监听器
+	 */
+	public LongConsumer getBorrowWaitListener() {
+		return borrowWaitListener;
+	}
+
+	/**
+	 * 设置借出连接等待时长监听器，每次借出连接后以等待时长（单位：纳秒）回调
+	 *
+	 * @param borrowWaitListener
+	 * 		借出连接等待时长监听器
+	 */
+	public void setBorrowWaitListener(LongConsumer borrowWaitListener) {
+		this.borrowWaitListener = borrowWaitListener;
+	}
+
 }
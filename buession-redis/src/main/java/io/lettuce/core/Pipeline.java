@@ -29,6 +29,9 @@ import com.buession.redis.exception.RedisPipelineException;
 import io.lettuce.core.api.PipeliningFlushPolicy;
 import io.lettuce.core.api.PipeliningFlushState;
 import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.providers.ConnectionProvider;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -37,7 +40,7 @@ import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Lettuce Pipeline
@@ -54,115 +57,154 @@ public class Pipeline<K, V> {
 
 	private final StatefulConnection<K, V> connection;
 
-	private final PipeliningFlushPolicy flushPolicy = PipeliningFlushPolicy.flushEachCommand();
+	private final RedisAsyncCommands<K, V> asyncCommands;
 
 	private final Queue<LettuceResult<?, ?>> ppline = new LinkedList<>();
 
 	private PipeliningFlushState flushState;
 
-	public Pipeline(final StatefulConnection<K, V> connection) {
-		this.connection = connection;
-		this.flushState = flushPolicy.newPipeline();
-		this.flushState.onOpen(connection);
-	}
+	/**
+	 * 管道连接所属的连接提供者，管道关闭时将连接归还给它
+	 *
+	 * @since 4.0.0
+	 */
+	private ConnectionProvider<K, V> connectionProvider;
 
-	public void sync() {
-		List<CompletableFuture<?>> futures = creeateFutures();
-
-		try{
-			boolean done = checkDone(futures);
+	public Pipeline(final StatefulConnection<K, V> connection, final RedisAsyncCommands<K, V> asyncCommands) {
+		this(connection, asyncCommands, PipeliningFlushPolicy.flushEachCommand());
+	}
 
-			Exception problem = null;
+	public Pipeline(final StatefulConnection<K, V> connection, final RedisAsyncCommands<K, V> asyncCommands,
+	                final PipeliningFlushPolicy flushPolicy) {
+		this(connection, asyncCommands, flushPolicy, null);
+	}
 
-			if(done){
-				for(LettuceResult<?, ?> result : ppline){
-					CompletableFuture<?> future = result.getHolder();
+	public Pipeline(final StatefulConnection<K, V> connection, final RedisAsyncCommands<K, V> asyncCommands,
+	                final PipeliningFlushPolicy flushPolicy, final ConnectionProvider<K, V> connectionProvider) {
+		this.connection = connection;
+		this.connectionProvider = connectionProvider;
+		this.asyncCommands = asyncCommands;
+		this.flushState = (flushPolicy == null ? PipeliningFlushPolicy.flushEachCommand() : flushPolicy).newPipeline();
+		this.flushState.onOpen(connection);
+	}
 
-					if(future.isCompletedExceptionally()){
-						String message = get(future);
-						Exception exception = new RedisPipelineException(message);
+	/**
+	 * 返回管道所使用的连接
+	 *
+	 * @return 管道所使用的连接
+	 */
+	public StatefulConnection<K, V> getConnection() {
+		return connection;
+	}
 
-						// remember only the first error
-						if(problem == null){
-							problem = exception;
-						}
-					}
-				}
-			}
+	/**
+	 * 返回管道连接上的异步命令，经由管道执行的命令均须通过该实例发出，刷新策略才能生效
+	 *
+	 * @return 异步命令
+	 */
+	public RedisAsyncCommands<K, V> getAsyncCommands() {
+		return asyncCommands;
+	}
 
-			if(problem != null){
-				throw new RedisPipelineException(problem.getMessage(), problem);
-			}
+	/**
+	 * 登记一条已发出的管道命令，并通知刷新策略
+	 *
+	 * @param result
+	 * 		命令异步结果
+	 */
+	public void addCommand(final LettuceResult<?, ?> result) {
+		ppline.add(result);
+
+		if(result.getHolder() instanceof RedisCommand<?, ?, ?> command){
+			flushState.onCommand(connection, command);
+		}else{
+			flushState.onCommand(connection);
+		}
+	}
 
-			if(done){
-				return;
-			}
+	public void sync() {
+		await();
 
-			throw new RedisPipelineException("Redis command timed out");
-		}catch(Exception e){
-			throw new RedisPipelineException(e);
+		final RedisPipelineException problem = firstError();
+		if(problem != null){
+			throw problem;
 		}
 	}
 
 	public List<Object> syncAndReturnAll() {
-		List<CompletableFuture<?>> futures = creeateFutures();
+		await();
 
-		try{
-			boolean done = checkDone(futures);
-			List<Object> results = new ArrayList<>(futures.size());
+		final RedisPipelineException problem = firstError();
+		if(problem != null){
+			throw problem;
+		}
 
-			Exception problem = null;
+		final List<Object> results = new ArrayList<>(ppline.size());
 
-			if(done){
-				for(LettuceResult<?, ?> result : ppline){
-					CompletableFuture<?> future = result.getHolder();
+		for(LettuceResult<?, ?> result : ppline){
+			results.add(result.getHolder().join());
+		}
 
-					if(future.isCompletedExceptionally()){
-						String message = get(future);
+		return results;
+	}
 
-						Exception exception = new RedisPipelineException(message);
+	public void close() {
+		if(flushState != null){
+			flushState.onClose(connection);
+			flushState = null;
+		}
+		ppline.clear();
 
-						// remember only the first error
-						if(problem == null){
-							problem = exception;
-						}
+		if(connectionProvider != null){
+			connectionProvider.release(connection);
+			connectionProvider = null;
+		}
+	}
 
-						results.add(exception);
-					}
-				}
-			}
+	/**
+	 * 刷新缓冲中的命令，并在同一个截止时间内等待全部命令完成
+	 */
+	private void await() {
+		connection.flushCommands();
 
-			if(problem != null){
-				throw new RedisPipelineException(problem.getMessage(), problem);
-			}
+		if(ppline.isEmpty()){
+			return;
+		}
 
-			if(done){
-				return results;
-			}
+		final CompletableFuture<?>[] futures = new CompletableFuture<?>[ppline.size()];
+		int i = 0;
+
+		for(LettuceResult<?, ?> result : ppline){
+			futures[i++] = result.getHolder();
+		}
 
+		try{
+			CompletableFuture.allOf(futures).get(connection.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+		}catch(ExecutionException e){
+			// 单条命令的错误由 firstError 统一处理
+		}catch(TimeoutException e){
 			throw new RedisPipelineException("Redis command timed out");
-		}catch(Exception e){
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
 			throw new RedisPipelineException(e);
 		}
 	}
 
-	public void close() {
-		flushState.onClose(connection);
-		flushState = null;
-		ppline.clear();
-	}
+	private RedisPipelineException firstError() {
+		for(LettuceResult<?, ?> result : ppline){
+			final CompletableFuture<?> future = result.getHolder();
 
-	private List<CompletableFuture<?>> creeateFutures() {
-		return ppline.stream().map(LettuceResult::getHolder).collect(Collectors.toList());
-	}
+			// remember only the first error
+			if(future.isCompletedExceptionally()){
+				return new RedisPipelineException(get(future));
+			}
+		}
 
-	private boolean checkDone(final List<CompletableFuture<?>> futures) {
-		return LettuceFutures.awaitAll(connection.getTimeout().toMillis(), TimeUnit.MILLISECONDS,
-				futures.toArray(new RedisFuture[futures.size()]));
+		return null;
 	}
 
 	private String get(final CompletableFuture<?> future) {
-		if(future instanceof io.lettuce.core.protocol.RedisCommand<?, ?, ?> rc){
+		if(future instanceof RedisCommand<?, ?, ?> rc){
 			return rc.getOutput().getError();
 		}else{
 			try{
@@ -24,11 +24,15 @@
  */
 package io.lettuce.core;
 
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.builders.ClusterClientBuilder;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.providers.ConnectionProvider;
 
+import java.lang.reflect.Proxy;
 import java.util.Collections;
 import java.util.Set;
 
@@ -123,21 +127,20 @@ public class RedisClusterClient<K, V> extends BaseRedisClient<K, V> {
 		return new Builder<>();
 	}
 
+	@SuppressWarnings({"unchecked"})
 	@Override
-	public Pipeline<K, V> pipelined() {
-		return new Pipeline<>(connectionProvider.getConnection());
+	protected RedisCommands<K, V> createRedisCommands(final StatefulConnection<K, V> connection) {
+		return (RedisCommands<K, V>) Proxy.newProxyInstance(RedisCommands.class.getClassLoader(),
+				new Class[]{RedisCommands.class}, new StatefulRedisClusterCommandsHandler<>(
+						(StatefulRedisClusterConnection<K, V>) connection));
 	}
 
+	@SuppressWarnings({"unchecked"})
 	@Override
-	protected RedisCommandsInvocationHandler<K, V> createRedisCommandsInvocationHandler() {
-		return new StatefulRedisClusterCommandsHandler<>(
-				(StatefulRedisClusterConnection<K, V>) connectionProvider.getConnection());
-	}
-
-	@Override
-	protected RedisCommandsInvocationHandler<K, V> createRedisAsyncCommandsInvocationHandler() {
-		return new StatefulRedisClusterCommandsHandler<>(
-				(StatefulRedisClusterConnection<K, V>) connectionProvider.getConnection(), true);
+	protected RedisAsyncCommands<K, V> createRedisAsyncCommands(final StatefulConnection<K, V> connection) {
+		return (RedisAsyncCommands<K, V>) Proxy.newProxyInstance(RedisAsyncCommands.class.getClassLoader(),
+				new Class[]{RedisAsyncCommands.class}, new StatefulRedisClusterCommandsHandler<>(
+						(StatefulRedisClusterConnection<K, V>) connection, true));
 	}
 
 	/**
@@ -28,11 +28,15 @@ import com.buession.lang.Status;
 import com.buession.redis.core.Constants;
 import com.buession.redis.core.RedisNode;
 import com.buession.redis.core.RedisServer;
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.builders.SentinelClientBuilder;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.providers.ConnectionProvider;
 import io.lettuce.core.providers.SentinelConnectionProvider;
+import io.lettuce.core.providers.SharedConnectionProvider;
 import io.lettuce.core.sentinel.api.sync.RedisSentinelCommands;
 
 import java.util.List;
@@ -58,7 +62,7 @@ public class RedisSentinelClient<K, V> extends BaseRedisClient<K, V> {
 	}
 
 	public HostAndPort getCurrentMaster() {
-		return ((SentinelConnectionProvider<K, V>) connectionProvider).getCurrentMaster();
+		return getSentinelConnectionProvider().getCurrentMaster();
 	}
 
 	public String myId() {
@@ -124,20 +128,26 @@ public class RedisSentinelClient<K, V> extends BaseRedisClient<K, V> {
 	}
 
 	@Override
-	protected RedisCommandsInvocationHandler<K, V> createRedisCommandsInvocationHandler() {
-		return new StatefulRedisCommandsHandler<>((StatefulRedisConnection<K, V>) connectionProvider.getConnection());
+	protected RedisCommands<K, V> createRedisCommands(final StatefulConnection<K, V> connection) {
+		return ((StatefulRedisConnection<K, V>) connection).sync();
 	}
 
 	@Override
-	protected RedisCommandsInvocationHandler<K, V> createRedisAsyncCommandsInvocationHandler() {
-		return new StatefulRedisCommandsHandler<>(
-				(StatefulRedisConnection<K, V>) connectionProvider.getConnection(), true);
+	protected RedisAsyncCommands<K, V> createRedisAsyncCommands(final StatefulConnection<K, V> connection) {
+		return ((StatefulRedisConnection<K, V>) connection).async();
+	}
+
+	private SentinelConnectionProvider<K, V> getSentinelConnectionProvider() {
+		if(connectionProvider instanceof SharedConnectionProvider<K, V> sharedConnectionProvider){
+			return (SentinelConnectionProvider<K, V>) sharedConnectionProvider.getDelegate();
+		}
+
+		return (SentinelConnectionProvider<K, V>) connectionProvider;
 	}
 
 	private RedisSentinelCommands<String, String> getRedisSentinelCommands() {
 		if(redisSentinelCommands == null){
-			redisSentinelCommands = ((SentinelConnectionProvider<K, V>) connectionProvider).getSentinelConnection()
-					.sync();
+			redisSentinelCommands = getSentinelConnectionProvider().getSentinelConnection().sync();
 		}
 
 		return redisSentinelCommands;
@@ -25,7 +25,10 @@
 package io.lettuce.core;
 
 import com.buession.core.utils.Assert;
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.builders.StandaloneClientBuilder;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.providers.ConnectionProvider;
@@ -178,19 +181,13 @@ public class RedisStandaloneClient<K, V> extends BaseRedisClient<K, V> {
 	}
 
 	@Override
-	public Pipeline<K, V> pipelined() {
-		return new Pipeline<>(connectionProvider.getConnection());
+	protected RedisCommands<K, V> createRedisCommands(final StatefulConnection<K, V> connection) {
+		return ((StatefulRedisConnection<K, V>) connection).sync();
 	}
 
 	@Override
-	protected RedisCommandsInvocationHandler<K, V> createRedisCommandsInvocationHandler() {
-		return new StatefulRedisCommandsHandler<>((StatefulRedisConnection<K, V>) connectionProvider.getConnection());
-	}
-
-	@Override
-	protected RedisCommandsInvocationHandler<K, V> createRedisAsyncCommandsInvocationHandler() {
-		return new StatefulRedisCommandsHandler<>(
-				(StatefulRedisConnection<K, V>) connectionProvider.getConnection(), true);
+	protected RedisAsyncCommands<K, V> createRedisAsyncCommands(final StatefulConnection<K, V> connection) {
+		return ((StatefulRedisConnection<K, V>) connection).async();
 	}
 
 	/**
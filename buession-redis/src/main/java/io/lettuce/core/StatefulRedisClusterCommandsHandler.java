@@ -25,34 +25,97 @@
 package io.lettuce.core;
 
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
 import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link RedisAdvancedClusterCommands} 代理类
  *
+ * <p>集群连接的原生命令接口与 {@link io.lettuce.core.api.sync.RedisCommands} 并无继承关系，无法直接返回，因此仍需代理；
+ * 但每个方法只在首次调用时解析一次，并缓存为已展开参数的 {@link MethodHandle}，后续调用不再经过
+ * {@link Method#invoke(Object, Object...)}，异常也不再被包装为 {@link java.lang.reflect.InvocationTargetException}。</p>
+ *
  * @author Yong.Teng
  * @since 4.0.0
  */
 public final class StatefulRedisClusterCommandsHandler<K, V> implements RedisCommandsInvocationHandler<K, V> {
 
-	private final StatefulRedisClusterConnection<K, V> conn;
+	private final static Object[] EMPTY_ARGS = new Object[0];
+
+	private final static Map<Method, MethodHandle> SYNC_INVOKERS = new ConcurrentHashMap<>(512);
+
+	private final static Map<Method, MethodHandle> ASYNC_INVOKERS = new ConcurrentHashMap<>(512);
 
-	private final boolean async;
+	private final Object target;
+
+	private final Class<?> targetType;
+
+	private final Map<Method, MethodHandle> invokers;
 
 	public StatefulRedisClusterCommandsHandler(final StatefulRedisClusterConnection<K, V> conn) {
 		this(conn, false);
 	}
 
 	public StatefulRedisClusterCommandsHandler(final StatefulRedisClusterConnection<K, V> conn, final boolean async) {
-		this.conn = conn;
-		this.async = async;
+		if(async){
+			this.target = conn.async();
+			this.targetType = RedisAdvancedClusterAsyncCommands.class;
+			this.invokers = ASYNC_INVOKERS;
+		}else{
+			this.target = conn.sync();
+			this.targetType = RedisAdvancedClusterCommands.class;
+			this.invokers = SYNC_INVOKERS;
+		}
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-		return async ? method.invoke(conn.async(), args) : method.invoke(conn.sync(), args);
+		MethodHandle invoker = invokers.get(method);
+
+		if(invoker == null){
+			invoker = invokers.computeIfAbsent(method, (m)->createInvoker(m, targetType));
+		}
+
+		return (Object) invoker.invokeExact(target, args == null ? EMPTY_ARGS : args);
+	}
+
+	/**
+	 * 将代理接口方法解析为目标命令接口上的 {@link MethodHandle}，
+	 * 类型统一为 {@code (Object, Object[])Object}，以便使用 {@link MethodHandle#invokeExact(Object...)} 调用
+	 *
+	 * @param method
+	 * 		代理接口方法
+	 * @param targetType
+	 * 		目标命令接口
+	 *
+	 * @return {@link MethodHandle}
+	 */
+	private static MethodHandle createInvoker(final Method method, final Class<?> targetType) {
+		Method targetMethod = method;
+
+		try{
+			if(method.getDeclaringClass().isAssignableFrom(targetType) == false){
+				targetMethod = targetType.getMethod(method.getName(), method.getParameterTypes());
+			}
+
+			final int parameterCount = targetMethod.getParameterCount();
+
+			return MethodHandles.publicLookup().unreflect(targetMethod).asFixedArity()
+					.asType(MethodType.genericMethodType(parameterCount + 1))
+					.asSpreader(Object[].class, parameterCount);
+		}catch(NoSuchMethodException e){
+			throw new UnsupportedOperationException(
+					"Command " + method.getName() + " is not supported by " + targetType.getName(), e);
+		}catch(IllegalAccessException e){
+			throw new IllegalStateException("Cloud not access method: " + targetMethod, e);
+		}
 	}
 
 }
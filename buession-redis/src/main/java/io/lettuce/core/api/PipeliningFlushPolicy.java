@@ -26,10 +26,13 @@ package io.lettuce.core.api;
 
 import com.buession.core.utils.Assert;
 import com.buession.redis.client.connection.lettuce.LettuceRedisConnection;
+import io.lettuce.core.AdaptiveFlushing;
 import io.lettuce.core.BufferedFlushing;
 import io.lettuce.core.FlushEachCommand;
 import io.lettuce.core.FlushOnClose;
 
+import java.time.Duration;
+
 /**
  * Strategy interface to control pipelining flush behavior. Lettuce writes (flushes) each command individually to the
  * Redis connection. Flushing behavior can be customized to optimize for performance. Flushing can be either stateless
@@ -74,6 +77,28 @@ public interface PipeliningFlushPolicy {
 		return ()->new BufferedFlushing(bufferSize);
 	}
 
+	/**
+	 * Return a policy to buffer commands and to flush once the encoded size of the buffered commands reaches
+	 * {@code maxBytes} or the oldest buffered command has been waiting for {@code maxDelay}, whichever comes first.
+	 * The delay is checked when a command is issued; remaining commands are flushed on sync or close.
+	 *
+	 * @param maxBytes
+	 * 		the number of bytes to buffer before flushing. Must be greater than zero.
+	 * @param maxDelay
+	 * 		the maximum time a buffered command waits before flushing. Must be greater than zero.
+	 *
+	 * @return A policy to flush buffered commands by size or elapsed time.
+	 *
+	 * @since 4.0.0
+	 */
+	static PipeliningFlushPolicy adaptive(int maxBytes, Duration maxDelay) {
+		Assert.isFalse(maxBytes > 0, "Max bytes must be greater than 0");
+		Assert.isNull(maxDelay, "Max delay could not be null");
+		Assert.isFalse(maxDelay.isNegative() == false && maxDelay.isZero() == false,
+				"Max delay must be greater than 0");
+		return ()->new AdaptiveFlushing(maxBytes, maxDelay.toNanos());
+	}
+
 	PipeliningFlushState newPipeline();
 
 }
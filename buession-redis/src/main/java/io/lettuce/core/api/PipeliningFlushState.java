@@ -24,6 +24,8 @@
  */
 package io.lettuce.core.api;
 
+import io.lettuce.core.protocol.RedisCommand;
+
 /**
  * State object associated with flushing of the currently ongoing pipeline.
  *
@@ -48,6 +50,21 @@ public interface PipeliningFlushState {
 	 */
 	void onCommand(StatefulConnection<?, ?> connection);
 
+	/**
+	 * Callback for each issued Redis command, with access to the command itself. Defaults to
+	 * {@link #onCommand(StatefulConnection)}.
+	 *
+	 * @param connection
+	 *        {@link StatefulConnection}
+	 * @param command
+	 * 		the issued {@link RedisCommand}
+	 *
+	 * @since 4.0.0
+	 */
+	default void onCommand(StatefulConnection<?, ?> connection, RedisCommand<?, ?, ?> command) {
+		onCommand(connection);
+	}
+
 	/**
 	 * Callback if the pipeline gets closed.
 	 *
@@ -31,6 +31,7 @@ import io.lettuce.core.LettuceClientConfig;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.providers.ConnectionProvider;
+import io.lettuce.core.providers.SharedConnectionProvider;
 import io.lettuce.core.resource.ClientResources;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 
@@ -59,6 +60,13 @@ public abstract class AbstractClientBuilder<K, V, T extends AbstractClientBuilde
 
 	protected RedisCodec<K, V> codec;
 
+	/**
+	 * 共享连接数，小于等于 0 时每次命令均从连接池借还连接
+	 *
+	 * @since 4.0.0
+	 */
+	protected int sharedConnections = SharedConnectionProvider.DEFAULT_CONNECTIONS;
+
 	/**
 	 * Sets the client configuration for Redis connections.
 	 * <p>
@@ -155,6 +163,25 @@ public abstract class AbstractClientBuilder<K, V, T extends AbstractClientBuilde
 		return self();
 	}
 
+	/**
+	 * Sets the number of shared multiplexed connections.
+	 * <p>
+	 * When greater than 0, the default connection provider is wrapped by a {@link SharedConnectionProvider}:
+	 * non-blocking commands are dispatched round-robin over the shared connections, while blocking commands,
+	 * transactions, pipelines and Pub/Sub still get dedicated connections from the pool. When less than or
+	 * equal to 0, every command borrows a connection from the pool. Ignored when a custom connection provider is set.
+	 * </p>
+	 *
+	 * @param sharedConnections
+	 * 		the number of shared connections
+	 *
+	 * @return this builder
+	 */
+	public T sharedConnections(int sharedConnections) {
+		this.sharedConnections = sharedConnections;
+		return self();
+	}
+
 	public C build() {
 		// Validate configuration
 		validateSpecificConfiguration();
@@ -166,6 +193,10 @@ public abstract class AbstractClientBuilder<K, V, T extends AbstractClientBuilde
 		// Create default connection provider if not set
 		if(this.connectionProvider == null){
 			this.connectionProvider = createDefaultConnectionProvider();
+
+			if(sharedConnections > 0){
+				this.connectionProvider = new SharedConnectionProvider<>(this.connectionProvider, sharedConnections);
+			}
 		}
 
 		// Create and return the specific client instance
@@ -26,6 +26,7 @@ package io.lettuce.core.builders;
 
 import com.buession.core.validator.Validate;
 import com.buession.redis.client.connection.datasource.ClusterDataSource;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.providers.ClusterConnectionProvider;
@@ -55,6 +56,8 @@ public abstract class ClusterClientBuilder<K, V, C>
 
 	private boolean dynamicRefreshSources = ClusterTopologyRefreshOptions.DEFAULT_DYNAMIC_REFRESH_SOURCES;
 
+	private ReadFrom readFrom;
+
 	protected ClusterClientBuilder() {
 
 	}
@@ -133,6 +136,22 @@ public abstract class ClusterClientBuilder<K, V, C>
 		return this;
 	}
 
+	/**
+	 * Sets the read routing for read-only commands.
+	 * <p>
+	 * Replica health and latency are refreshed together with the cluster topology.
+	 * </p>
+	 *
+	 * @param readFrom
+	 * 		the read routing, {@literal null} reads from masters only
+	 *
+	 * @return this builder
+	 */
+	public ClusterClientBuilder<K, V, C> readFrom(ReadFrom readFrom) {
+		this.readFrom = readFrom;
+		return this;
+	}
+
 	@Override
 	protected ClusterClientBuilder<K, V, C> self() {
 		return this;
@@ -156,13 +175,9 @@ public abstract class ClusterClientBuilder<K, V, C>
 			topologyRefreshOptionsBuilder.disableAllAdaptiveRefreshTriggers();
 		}
 
-		if(this.maxRedirects > 0){
-			return new ClusterConnectionProvider<>(this.nodes, this.clientConfig, this.poolConfig,
-					topologyRefreshOptionsBuilder.build(), this.maxRedirects, this.codec);
-		}else{
-			return new ClusterConnectionProvider<>(this.nodes, this.clientConfig, this.poolConfig,
-					topologyRefreshOptionsBuilder.build(), this.codec);
-		}
+		return new ClusterConnectionProvider<>(this.nodes, this.clientConfig, this.poolConfig,
+				topologyRefreshOptionsBuilder.build(), this.maxRedirects > 0 ? this.maxRedirects : null, this.readFrom,
+				this.codec);
 	}
 
 	@Override
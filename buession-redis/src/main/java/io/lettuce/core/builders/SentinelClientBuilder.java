@@ -29,6 +29,7 @@ import com.buession.core.validator.Validate;
 import com.buession.redis.utils.SafeEncoder;
 import io.lettuce.core.DefaultLettuceClientConfig;
 import io.lettuce.core.LettuceClientConfig;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.providers.ConnectionProvider;
 import io.lettuce.core.providers.SentinelConnectionProvider;
@@ -59,6 +60,8 @@ public abstract class SentinelClientBuilder<K, V, C> extends AbstractClientBuild
 
 	private LettuceClientConfig sentinelClientConfig = null;
 
+	private ReadFrom readFrom = null;
+
 	private Delay sentinelReconnectDelay = Delay.constant(Duration.ofMillis(5000L));
 
 	protected SentinelClientBuilder() {
@@ -147,6 +150,23 @@ public abstract class SentinelClientBuilder<K, V, C> extends AbstractClientBuild
 		return this;
 	}
 
+	/**
+	 * Sets the read routing for read-only commands.
+	 * <p>
+	 * When set, the master/replica topology is discovered through the sentinels and read-only commands are
+	 * routed according to it; writes and transactions stay on the master.
+	 * </p>
+	 *
+	 * @param readFrom
+	 * 		the read routing, {@literal null} reads from the master only
+	 *
+	 * @return this builder
+	 */
+	public SentinelClientBuilder<K, V, C> readFrom(ReadFrom readFrom) {
+		this.readFrom = readFrom;
+		return this;
+	}
+
 	@Override
 	protected SentinelClientBuilder<K, V, C> self() {
 		return this;
@@ -155,7 +175,7 @@ public abstract class SentinelClientBuilder<K, V, C> extends AbstractClientBuild
 	@Override
 	protected ConnectionProvider<K, V> createDefaultConnectionProvider() {
 		return new SentinelConnectionProvider<>(this.sentinels, this.masterName, this.clientConfig,
-				this.sentinelClientConfig, this.poolConfig, this.codec);
+				this.sentinelClientConfig, this.poolConfig, this.readFrom, this.codec);
 	}
 
 	@Override
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package io.lettuce.core.protocol;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufEncoder;
+
+/**
+ * Estimates the RESP encoded size of {@link CommandArgs} without encoding them: key, value and byte array arguments
+ * contribute their length (through {@link ToByteBufEncoder#estimateSize(Object)} when the codec supports it), every
+ * other argument a small fixed size. Intended for flush heuristics, not for buffer sizing.
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public final class CommandArgsSizeEstimator {
+
+	/**
+	 * Estimated size of arguments whose length is unknown without encoding, such as numbers and keywords
+	 */
+	private final static int DEFAULT_ARGUMENT_SIZE = 8;
+
+	/**
+	 * RESP bulk string framing: '$', length digits and two CRLF
+	 */
+	private final static int BULK_OVERHEAD = 8;
+
+	private CommandArgsSizeEstimator() {
+
+	}
+
+	/**
+	 * Estimates the encoded size of the given arguments.
+	 *
+	 * @param args
+	 * 		command arguments, may be {@code null}
+	 *
+	 * @return estimated size in bytes
+	 */
+	public static int estimate(final CommandArgs<?, ?> args) {
+		if(args == null){
+			return 0;
+		}
+
+		int size = BULK_OVERHEAD;
+
+		for(CommandArgs.SingularArgument argument : args.singularArguments){
+			size += BULK_OVERHEAD + argumentSize(argument);
+		}
+
+		return size;
+	}
+
+	private static int argumentSize(final CommandArgs.SingularArgument argument) {
+		if(argument instanceof CommandArgs.KeyArgument<?, ?> keyArgument){
+			return estimateSize(keyArgument.codec, keyArgument.key);
+		}else if(argument instanceof CommandArgs.ValueArgument<?, ?> valueArgument){
+			return estimateSize(valueArgument.codec, valueArgument.val);
+		}else if(argument instanceof CommandArgs.BytesArgument bytesArgument){
+			return bytesArgument.val.length;
+		}else if(argument instanceof CommandArgs.StringArgument stringArgument){
+			return stringArgument.val.length();
+		}else{
+			return DEFAULT_ARGUMENT_SIZE;
+		}
+	}
+
+	private static int estimateSize(final RedisCodec<?, ?> codec, final Object value) {
+		if(value instanceof byte[] bytes){
+			return bytes.length;
+		}else if(codec instanceof ToByteBufEncoder<?, ?> encoder){
+			return encoder.estimateSize(value);
+		}else{
+			return DEFAULT_ARGUMENT_SIZE;
+		}
+	}
+
+}
@@ -24,8 +24,10 @@
  */
 package io.lettuce.core.providers;
 
+import io.lettuce.core.ConnectionFactory;
 import io.lettuce.core.ConnectionPool;
 import io.lettuce.core.LettuceClientConfig;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.cluster.ClusterClientOptions;
@@ -34,6 +36,7 @@ import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import io.lettuce.core.utils.IOUtils;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 
@@ -59,13 +62,13 @@ public class ClusterConnectionProvider<K, V> extends AbstractConnectionProvider<
 	public ClusterConnectionProvider(final Set<HostAndPort> clusterNodes, final LettuceClientConfig clientConfig,
 	                                 final GenericObjectPoolConfig<StatefulConnection<K, V>> poolConfig,
 	                                 final RedisCodec<K, V> redisCodec) {
-		this.pool = createPool(clusterNodes, clientConfig, poolConfig, null, null, redisCodec);
+		this.pool = createPool(clusterNodes, clientConfig, poolConfig, null, null, null, redisCodec);
 	}
 
 	public ClusterConnectionProvider(final Set<HostAndPort> clusterNodes, final LettuceClientConfig clientConfig,
 	                                 final GenericObjectPoolConfig<StatefulConnection<K, V>> poolConfig,
 	                                 final Integer maxRedirects, final RedisCodec<K, V> redisCodec) {
-		this.pool = createPool(clusterNodes, clientConfig, poolConfig, null, maxRedirects, redisCodec);
+		this.pool = createPool(clusterNodes, clientConfig, poolConfig, null, maxRedirects, null, redisCodec);
 	}
 
 	public ClusterConnectionProvider(final Set<HostAndPort> clusterNodes, final LettuceClientConfig clientConfig,
@@ -79,8 +82,36 @@ public class ClusterConnectionProvider<K, V> extends AbstractConnectionProvider<
 	                                 final GenericObjectPoolConfig<StatefulConnection<K, V>> poolConfig,
 	                                 final ClusterTopologyRefreshOptions topologyRefreshOptions,
 	                                 final Integer maxRedirects, final RedisCodec<K, V> redisCodec) {
+		this(clusterNodes, clientConfig, poolConfig, topologyRefreshOptions, maxRedirects, null, redisCodec);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param clusterNodes
+	 * 		集群节点
+	 * @param clientConfig
+	 * 		客户端配置
+	 * @param poolConfig
+	 * 		连接池配置
+	 * @param topologyRefreshOptions
+	 * 		拓扑刷新配置，从节点的健康状态与延迟随拓扑刷新一并更新
+	 * @param maxRedirects
+	 * 		最大重定向次数
+	 * @param readFrom
+	 * 		只读命令的路由策略，为 null 时只从主节点读取
+	 * @param redisCodec
+	 * 		编解码器
+	 *
+	 * @since 4.0.0
+	 */
+	public ClusterConnectionProvider(final Set<HostAndPort> clusterNodes, final LettuceClientConfig clientConfig,
+	                                 final GenericObjectPoolConfig<StatefulConnection<K, V>> poolConfig,
+	                                 final ClusterTopologyRefreshOptions topologyRefreshOptions,
+	                                 final Integer maxRedirects, final ReadFrom readFrom,
+	                                 final RedisCodec<K, V> redisCodec) {
 		this.pool = createPool(clusterNodes, clientConfig, poolConfig, topologyRefreshOptions, maxRedirects,
-				redisCodec);
+				readFrom, redisCodec);
 	}
 
 	@Override
@@ -93,6 +124,16 @@ public class ClusterConnectionProvider<K, V> extends AbstractConnectionProvider<
 		return pool.getResource();
 	}
 
+	@Override
+	public void release(StatefulConnection<K, V> connection) {
+		pool.returnResource(connection);
+	}
+
+	@Override
+	public StatefulRedisPubSubConnection<K, V> getPubSubConnection() {
+		return pool.connectPubSub();
+	}
+
 	@Override
 	public void close() {
 		IOUtils.closeQuietly(pool);
@@ -133,14 +174,17 @@ public class ClusterConnectionProvider<K, V> extends AbstractConnectionProvider<
 	                                                                  final GenericObjectPoolConfig<StatefulConnection<K, V>> poolConfig,
 	                                                                  final ClusterTopologyRefreshOptions topologyRefreshOptions,
 	                                                                  final Integer maxRedirects,
+	                                                                  final ReadFrom readFrom,
 	                                                                  final RedisCodec<K, V> redisCodec) {
 		final RedisClusterClient redisClusterClient = createRedisClusterClient(clusterNodes, clientConfig,
 				topologyRefreshOptions, maxRedirects);
+		final ConnectionFactory<K, V, StatefulConnection<K, V>> connectionFactory = new ConnectionFactory<>(
+				redisClusterClient, redisCodec, readFrom, null);
 
 		if(poolConfig == null){
-			return new ConnectionPool<>(redisClusterClient, redisCodec);
+			return new ConnectionPool<>(connectionFactory);
 		}else{
-			return new ConnectionPool<>(redisClusterClient, poolConfig, redisCodec);
+			return new ConnectionPool<>(connectionFactory, poolConfig);
 		}
 	}
 
@@ -26,6 +26,7 @@ package io.lettuce.core.providers;
 
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 
 /**
  * Lettuce Redis 连接提供者
@@ -44,4 +45,48 @@ public interface ConnectionProvider<K, V> extends AutoCloseable {
 
 	StatefulConnection<K, V> getConnection(CommandArgs<K, V> commandArgs);
 
+	/**
+	 * 获取一个独占连接，用于阻塞命令、事务、管道等会改变连接状态或长时间占用连接的场景，使用完毕后须通过
+	 * {@link #release(StatefulConnection)} 归还
+	 *
+	 * @return 独占连接
+	 *
+	 * @since 4.0.0
+	 */
+	default StatefulConnection<K, V> getDedicatedConnection() {
+		return getConnection();
+	}
+
+	/**
+	 * 返回 {@link #getConnection()} 是否返回的是多线程共享的复用连接；为 true 时，该连接无需也不可以被独占
+	 *
+	 * @return 是否为共享的复用连接
+	 *
+	 * @since 4.0.0
+	 */
+	default boolean isMultiplexed() {
+		return false;
+	}
+
+	/**
+	 * 归还通过 {@link #getConnection()} 或 {@link #getDedicatedConnection()} 获取的连接
+	 *
+	 * @param connection
+	 * 		连接
+	 */
+	default void release(StatefulConnection<K, V> connection) {
+	}
+
+	/**
+	 * 创建一个独占的 Pub/Sub 连接，该连接不归还到连接池，由调用方负责关闭
+	 *
+	 * @return Pub/Sub 连接
+	 *
+	 * @since 4.0.0
+	 */
+	default StatefulRedisPubSubConnection<K, V> getPubSubConnection() {
+		throw new UnsupportedOperationException(
+				"Pub/Sub connection is not supported by " + getClass().getSimpleName() + ".");
+	}
+
 }
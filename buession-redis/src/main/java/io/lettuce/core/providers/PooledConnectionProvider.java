@@ -34,6 +34,7 @@ import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import io.lettuce.core.utils.IOUtils;
 import org.apache.commons.pool2.PooledObjectFactory;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
@@ -96,6 +97,16 @@ public class PooledConnectionProvider<K, V> extends AbstractConnectionProvider<K
 		return pool.getResource();
 	}
 
+	@Override
+	public void release(StatefulConnection<K, V> connection) {
+		pool.returnResource(connection);
+	}
+
+	@Override
+	public StatefulRedisPubSubConnection<K, V> getPubSubConnection() {
+		return pool.connectPubSub();
+	}
+
 	@Override
 	public void close() {
 		IOUtils.closeQuietly(pool);
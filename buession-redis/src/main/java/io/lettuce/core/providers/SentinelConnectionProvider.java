@@ -24,8 +24,10 @@
  */
 package io.lettuce.core.providers;
 
+import io.lettuce.core.ConnectionFactory;
 import io.lettuce.core.ConnectionPool;
 import io.lettuce.core.LettuceClientConfig;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulConnection;
@@ -33,6 +35,7 @@ import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import io.lettuce.core.sentinel.api.StatefulRedisSentinelConnection;
 import io.lettuce.core.utils.IOUtils;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
@@ -82,6 +85,34 @@ public class SentinelConnectionProvider<K, V> extends AbstractConnectionProvider
 	                                  final LettuceClientConfig sentinelClientConfig,
 	                                  final GenericObjectPoolConfig<StatefulConnection<K, V>> poolConfig,
 	                                  final RedisCodec<K, V> redisCodec) {
+		this(sentinels, masterName, masterClientConfig, sentinelClientConfig, poolConfig, null, redisCodec);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param sentinels
+	 * 		哨兵节点
+	 * @param masterName
+	 * 		主节点名称
+	 * @param masterClientConfig
+	 * 		主从节点客户端配置
+	 * @param sentinelClientConfig
+	 * 		哨兵节点客户端配置
+	 * @param poolConfig
+	 * 		连接池配置
+	 * @param readFrom
+	 * 		只读命令的路由策略，不为 null 时通过哨兵发现主从拓扑，只读命令按该策略路由到从节点
+	 * @param redisCodec
+	 * 		编解码器
+	 *
+	 * @since 4.0.0
+	 */
+	public SentinelConnectionProvider(final Set<HostAndPort> sentinels, final String masterName,
+	                                  final LettuceClientConfig masterClientConfig,
+	                                  final LettuceClientConfig sentinelClientConfig,
+	                                  final GenericObjectPoolConfig<StatefulConnection<K, V>> poolConfig,
+	                                  final ReadFrom readFrom, final RedisCodec<K, V> redisCodec) {
 		this.sentinels = sentinels;
 		this.masterName = masterName;
 
@@ -89,7 +120,7 @@ public class SentinelConnectionProvider<K, V> extends AbstractConnectionProvider
 
 		this.sentinelConnectionFactory = defaultSentinelConnectionFactory();
 
-		this.pool = createPool(sentinels, masterName, masterClientConfig, poolConfig, redisCodec);
+		this.pool = createPool(sentinels, masterName, masterClientConfig, poolConfig, readFrom, redisCodec);
 	}
 
 	@Override
@@ -130,6 +161,16 @@ public class SentinelConnectionProvider<K, V> extends AbstractConnectionProvider
 		}
 	}
 
+	@Override
+	public void release(StatefulConnection<K, V> connection) {
+		pool.returnResource(connection);
+	}
+
+	@Override
+	public StatefulRedisPubSubConnection<K, V> getPubSubConnection() {
+		return pool.connectPubSub();
+	}
+
 	@Override
 	public void close() {
 		IOUtils.asyncCloseQuietly(sentinelConnection);
@@ -147,8 +188,8 @@ public class SentinelConnectionProvider<K, V> extends AbstractConnectionProvider
 		return null;
 	}
 
-	private RedisClient createRedisClient(final Set<HostAndPort> sentinels, final String masterName,
-	                                      final LettuceClientConfig clientConfig) {
+	private RedisURI createRedisURI(final Set<HostAndPort> sentinels, final String masterName,
+	                                final LettuceClientConfig clientConfig) {
 		final RedisURI.Builder redisURIBuilder = RedisURI.builder();
 
 		for(HostAndPort sentinel : sentinels){
@@ -172,8 +213,11 @@ public class SentinelConnectionProvider<K, V> extends AbstractConnectionProvider
 			redisURIBuilder.withTimeout(clientConfig.getSocketTimeout());
 		}
 
-		final RedisClient redisClient = RedisClient.create(createClientResources(clientConfig),
-				redisURIBuilder.build());
+		return redisURIBuilder.build();
+	}
+
+	private RedisClient createRedisClient(final RedisURI redisURI, final LettuceClientConfig clientConfig) {
+		final RedisClient redisClient = RedisClient.create(createClientResources(clientConfig), redisURI);
 
 		propertyMapper.from(createClientOptions(clientConfig)).to(redisClient::setOptions);
 
@@ -184,12 +228,17 @@ public class SentinelConnectionProvider<K, V> extends AbstractConnectionProvider
 	                                                                  final String masterName,
 	                                                                  final LettuceClientConfig clientConfig,
 	                                                                  final GenericObjectPoolConfig<StatefulConnection<K, V>> poolConfig,
+	                                                                  final ReadFrom readFrom,
 	                                                                  final RedisCodec<K, V> redisCodec) {
-		final RedisClient redisClient = createRedisClient(sentinels, masterName, clientConfig);
+		final RedisURI redisURI = createRedisURI(sentinels, masterName, clientConfig);
+		final RedisClient redisClient = createRedisClient(redisURI, clientConfig);
+		final ConnectionFactory<K, V, StatefulConnection<K, V>> connectionFactory = new ConnectionFactory<>(
+				redisClient, redisCodec, readFrom, readFrom == null ? null : redisURI);
+
 		if(poolConfig == null){
-			return new ConnectionPool<>(redisClient, redisCodec);
+			return new ConnectionPool<>(connectionFactory);
 		}else{
-			return new ConnectionPool<>(redisClient, poolConfig, redisCodec);
+			return new ConnectionPool<>(connectionFactory, poolConfig);
 		}
 	}
 
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package io.lettuce.core.providers;
+
+import com.buession.core.utils.Assert;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.utils.IOUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lettuce Redis 共享连接提供者
+ *
+ * <p>Lettuce 连接是线程安全且支持多路复用的，多个线程可同时在同一个连接上发送命令。本提供者从被代理的连接提供者中
+ * 一次性借出固定数量的连接并长期持有，{@link #getConnection()} 以轮询的方式返回这些共享连接，从而避免每次命令都从
+ * 连接池借还连接带来的锁竞争与大量空闲 Socket。</p>
+ *
+ * <p>阻塞命令（BLPOP、XREAD BLOCK 等）、事务、管道等会占用或改变连接状态的场景，应通过
+ * {@link #getDedicatedConnection()} 从被代理的连接提供者中获取独占连接；Pub/Sub 连接同样由被代理的连接提供者创建。</p>
+ *
+ * <p>集群模式下，每个共享连接内部会为每个节点维护一个连接，即每个节点的连接数等于共享连接数。</p>
+ *
+ * @param <K>
+ * 		Key 类型
+ * @param <V>
+ * 		值类型
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class SharedConnectionProvider<K, V> extends AbstractConnectionProvider<K, V> {
+
+	/**
+	 * 默认共享连接数
+	 */
+	public final static int DEFAULT_CONNECTIONS = 1;
+
+	/**
+	 * 被代理的连接提供者，用于创建共享连接和独占连接
+	 */
+	private final ConnectionProvider<K, V> delegate;
+
+	/**
+	 * 共享连接
+	 */
+	private final AtomicReferenceArray<StatefulConnection<K, V>> connections;
+
+	/**
+	 * 轮询计数器
+	 */
+	private final AtomicInteger counter = new AtomicInteger();
+
+	/**
+	 * 每个共享连接位置上的锁，重建连接时只阻塞使用同一位置的线程
+	 */
+	private final ReentrantLock[] locks;
+
+	private volatile boolean closed = false;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		被代理的连接提供者
+	 */
+	public SharedConnectionProvider(final ConnectionProvider<K, V> delegate) {
+		this(delegate, DEFAULT_CONNECTIONS);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		被代理的连接提供者
+	 * @param connections
+	 * 		共享连接数
+	 */
+	public SharedConnectionProvider(final ConnectionProvider<K, V> delegate, final int connections) {
+		Assert.isNull(delegate, "Delegate connection provider cloud not be null.");
+		Assert.isFalse(connections > 0, "Shared connections must be greater than 0.");
+		this.delegate = delegate;
+		this.connections = new AtomicReferenceArray<>(connections);
+		this.locks = new ReentrantLock[connections];
+
+		for(int i = 0; i < connections; i++){
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * 返回被代理的连接提供者
+	 *
+	 * @return 被代理的连接提供者
+	 */
+	public ConnectionProvider<K, V> getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * 返回共享连接数
+	 *
+	 * @return 共享连接数
+	 */
+	public int getConnections() {
+		return connections.length();
+	}
+
+	@Override
+	public StatefulConnection<K, V> getConnection() {
+		final int size = connections.length();
+		final int index = size == 1 ? 0 : Math.floorMod(counter.getAndIncrement(), size);
+		final StatefulConnection<K, V> connection = connections.get(index);
+
+		return connection != null && connection.isOpen() ? connection : renew(index);
+	}
+
+	@Override
+	public StatefulConnection<K, V> getConnection(CommandArgs<K, V> commandArgs) {
+		return getConnection();
+	}
+
+	@Override
+	public StatefulConnection<K, V> getDedicatedConnection() {
+		return delegate.getConnection();
+	}
+
+	@Override
+	public boolean isMultiplexed() {
+		return true;
+	}
+
+	@Override
+	public void release(StatefulConnection<K, V> connection) {
+		if(connection == null || isShared(connection)){
+			return;
+		}
+
+		delegate.release(connection);
+	}
+
+	@Override
+	public StatefulRedisPubSubConnection<K, V> getPubSubConnection() {
+		return delegate.getPubSubConnection();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+
+		for(int i = 0; i < connections.length(); i++){
+			locks[i].lock();
+			try{
+				final StatefulConnection<K, V> connection = connections.getAndSet(i, null);
+
+				if(connection != null){
+					delegate.release(connection);
+				}
+			}finally{
+				locks[i].unlock();
+			}
+		}
+
+		IOUtils.closeQuietly(delegate);
+	}
+
+	/**
+	 * 判断连接是否为本提供者持有的共享连接
+	 *
+	 * @param connection
+	 * 		连接
+	 *
+	 * @return 是否为共享连接
+	 */
+	protected boolean isShared(final StatefulConnection<K, V> connection) {
+		for(int i = 0; i < connections.length(); i++){
+			if(connections.get(i) == connection){
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * 创建或替换指定位置上的共享连接；已关闭的旧连接归还给被代理的连接提供者，由其决定销毁或复用
+	 *
+	 * @param index
+	 * 		共享连接位置
+	 *
+	 * @return 可用的共享连接
+	 */
+	private StatefulConnection<K, V> renew(final int index) {
+		final ReentrantLock lock = locks[index];
+
+		lock.lock();
+		try{
+			if(closed){
+				throw new RedisException("Shared connection provider is closed");
+			}
+
+			final StatefulConnection<K, V> current = connections.get(index);
+
+			if(current != null){
+				if(current.isOpen()){
+					return current;
+				}
+
+				connections.set(index, null);
+				delegate.release(current);
+			}
+
+			final StatefulConnection<K, V> connection = delegate.getConnection();
+
+			connections.set(index, connection);
+
+			return connection;
+		}finally{
+			lock.unlock();
+		}
+	}
+
+}
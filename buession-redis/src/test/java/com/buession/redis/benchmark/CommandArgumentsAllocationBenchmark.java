@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.benchmark;
+
+import com.buession.redis.core.command.CommandArguments;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 命令参数构建的分配开销，需配合 {@code -prof gc} 运行，观察 {@code gc.alloc.rate.norm}。
+ *
+ * <p>{@code capture = false} 时（DEBUG 日志未开启且关闭错误日志参数输出），命令参数不应产生任何分配，
+ * 包括整数、浮点数参数（不装箱），即各基准的 {@code gc.alloc.rate.norm} 应为 0。</p>
+ *
+ * @author Yong.Teng
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommandArgumentsAllocationBenchmark {
+
+	private final static byte[] KEY = "benchmark:key".getBytes(StandardCharsets.UTF_8);
+
+	private final static byte[] VALUE = "benchmark:value".getBytes(StandardCharsets.UTF_8);
+
+	// 超出 Long.valueOf 缓存范围，装箱时必然分配
+	private final static long SECONDS = 86_400L;
+
+	private final static double INCREMENT = 1.5D;
+
+	private final static double MIN = -1024.5D;
+
+	private final static double MAX = 1024.5D;
+
+	private final static int COUNT = 1000;
+
+	@Param({"true", "false"})
+	private boolean capture;
+
+	@Setup
+	public void setup() {
+		CommandArguments.setCaptureOnError(capture);
+	}
+
+	@Benchmark
+	public CommandArguments get() {
+		return CommandArguments.create(KEY);
+	}
+
+	@Benchmark
+	public CommandArguments set() {
+		return CommandArguments.create(KEY).add(VALUE);
+	}
+
+	@Benchmark
+	public CommandArguments mget() {
+		return CommandArguments.create(KEY, VALUE);
+	}
+
+	@Benchmark
+	public CommandArguments setEx() {
+		return CommandArguments.create(KEY).add(VALUE).add(SECONDS);
+	}
+
+	@Benchmark
+	public CommandArguments incrByFloat() {
+		return CommandArguments.create(KEY).add(INCREMENT);
+	}
+
+	@Benchmark
+	public CommandArguments zRangeByScore() {
+		return CommandArguments.create(KEY).add(MIN).add(MAX).add(0).add(COUNT);
+	}
+
+	@Benchmark
+	public String format() {
+		return CommandArguments.create(KEY).add(VALUE).add(true).toString();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(CommandArgumentsAllocationBenchmark.class.getSimpleName())
+				.addProfiler("gc").build()).run();
+	}
+
+}
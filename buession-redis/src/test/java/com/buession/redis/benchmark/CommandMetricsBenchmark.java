@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.benchmark;
+
+import com.buession.redis.core.command.RedisCommand;
+import com.buession.redis.metrics.CommandMetrics;
+import com.buession.redis.metrics.InMemoryCommandMetrics;
+import com.buession.redis.metrics.MicrometerCommandMetrics;
+import com.buession.redis.metrics.NoopCommandMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 命令指标记录开销：{@code record} 只测 {@link CommandMetrics#recordCommand}，{@code inMemory} 单线程下应低于 50ns；
+ * {@code recordWithClock} 加上 {@link com.buession.redis.client.AbstractRedisClient#execute} 中的两次
+ * {@link System#nanoTime()}，其开销取决于平台时钟源；{@code contended} 为 4 线程同时记录同一命令的情况。
+ *
+ * @author Yong.Teng
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommandMetricsBenchmark {
+
+	@Param({"noop", "inMemory", "micrometer"})
+	private String metrics;
+
+	private CommandMetrics commandMetrics;
+
+	private long elapsed;
+
+	@Setup
+	public void setup() {
+		commandMetrics = switch(metrics){
+			case "inMemory" -> new InMemoryCommandMetrics();
+			case "micrometer" -> new MicrometerCommandMetrics(new SimpleMeterRegistry());
+			default -> NoopCommandMetrics.INSTANCE;
+		};
+	}
+
+	@Benchmark
+	public void record() {
+		commandMetrics.recordCommand(RedisCommand.GET, elapsed++, true);
+	}
+
+	@Benchmark
+	public long recordWithClock() {
+		final long startTime = System.nanoTime();
+		final long duration = System.nanoTime() - startTime;
+
+		commandMetrics.recordCommand(RedisCommand.GET, duration, true);
+
+		return duration;
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void contended() {
+		commandMetrics.recordCommand(RedisCommand.GET, 1000L, true);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(CommandMetricsBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.benchmark;
+
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.client.connection.datasource.DataSource;
+import com.buession.redis.client.connection.datasource.jedis.JedisDataSource;
+import com.buession.redis.client.connection.datasource.lettuce.LettuceDataSource;
+import com.buession.redis.core.Options;
+import com.buession.redis.core.PoolConfig;
+import com.buession.redis.serializer.CompressingSerializer;
+import com.buession.redis.serializer.JacksonJsonSerializer;
+import com.buession.redis.serializer.Serializer;
+import com.buession.redis.serializer.compress.Lz4Codec;
+import com.buession.redis.serializer.compress.ZstdCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 值压缩的 CPU 开销与节省字节数对比：{@code serialize}、{@code deserialize} 只测序列化和压缩本身，
+ * 每组参数结束时打印压缩前后的字节数；{@code setGet} 通过 Jedis、Lettuce 的 {@link RedisTemplate}
+ * 访问真实 Redis（地址由 {@code redis.host}、{@code redis.port}、{@code redis.password} 系统属性指定），
+ * 包含网络传输节省的时间。
+ *
+ * @author Yong.Teng
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+
+	private final static int THRESHOLD = 256;
+
+	@Param({"none", "lz4", "zstd", "zstdDict"})
+	private String codec;
+
+	@Param({"512", "20480", "204800"})
+	private int payloadSize;
+
+	private Serializer serializer;
+
+	private Map<String, Object> payload;
+
+	private byte[] serialized;
+
+	@Setup
+	public void setup() {
+		serializer = createSerializer(codec);
+		payload = payload(payloadSize, 0);
+		serialized = serializer.serializeAsBytes(payload);
+	}
+
+	@TearDown
+	public void tearDown() {
+		final int original = new JacksonJsonSerializer().serializeAsBytes(payload).length;
+		System.out.printf("%n%s %d: %d -> %d bytes (%.3f)%n", codec, payloadSize, original, serialized.length,
+				(double) serialized.length / original);
+	}
+
+	@Benchmark
+	public byte[] serialize() {
+		return serializer.serializeAsBytes(payload);
+	}
+
+	@Benchmark
+	public Object deserialize() {
+		return serializer.deserializeBytes(serialized, Map.class);
+	}
+
+	@Benchmark
+	public Object setGet(final RedisState state) {
+		state.redisTemplate.set(state.key, payload);
+		return state.redisTemplate.get(state.key, Map.class);
+	}
+
+	@State(Scope.Benchmark)
+	public static class RedisState {
+
+		@Param({"jedis", "lettuce"})
+		private String client;
+
+		private RedisTemplate redisTemplate;
+
+		private byte[] key;
+
+		@Setup
+		public void setup(final CompressionBenchmark benchmark) {
+			final Options options = new Options();
+			options.setPrefix("benchmark:compression:");
+			options.setSerializer(benchmark.serializer);
+
+			redisTemplate = new RedisTemplate(dataSource(client), options);
+			redisTemplate.afterPropertiesSet();
+			key = (client + ':' + benchmark.codec + ':' + benchmark.payloadSize).getBytes(StandardCharsets.UTF_8);
+		}
+
+		@TearDown
+		public void tearDown() {
+			redisTemplate.del(key);
+			redisTemplate.close();
+		}
+
+		private static DataSource dataSource(final String client) {
+			final String host = System.getProperty("redis.host", "127.0.0.1");
+			final int port = Integer.getInteger("redis.port", 6379);
+			final String password = System.getProperty("redis.password");
+
+			if("jedis".equals(client)){
+				final JedisDataSource dataSource = new JedisDataSource();
+
+				dataSource.setHost(host);
+				dataSource.setPort(port);
+				dataSource.setPassword(password);
+				dataSource.setPoolConfig(new PoolConfig());
+
+				return dataSource;
+			}else{
+				final LettuceDataSource dataSource = new LettuceDataSource();
+
+				dataSource.setHost(host);
+				dataSource.setPort(port);
+				dataSource.setPassword(password);
+				dataSource.setPoolConfig(new PoolConfig());
+
+				return dataSource;
+			}
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(CompressionBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	private static Serializer createSerializer(final String codec) {
+		final JacksonJsonSerializer json = new JacksonJsonSerializer();
+
+		return switch(codec){
+			case "lz4" -> new CompressingSerializer(json, new Lz4Codec(), THRESHOLD);
+			case "zstd" -> new CompressingSerializer(json, new ZstdCodec(), THRESHOLD);
+			case "zstdDict" -> {
+				final List<byte[]> samples = new ArrayList<>();
+
+				for(int i = 1; i <= 1000; i++){
+					samples.add(json.serializeAsBytes(payload(512, i)));
+				}
+
+				yield new CompressingSerializer(json,
+						new ZstdCodec(ZstdCodec.DEFAULT_LEVEL, ZstdCodec.trainDictionary(samples, 16 * 1024)),
+						THRESHOLD);
+			}
+			default -> json;
+		};
+	}
+
+	/**
+	 * 生成约 size 字节的同构 JSON 数据
+	 */
+	private static Map<String, Object> payload(final int size, final int seed) {
+		final Map<String, Object> payload = new LinkedHashMap<>();
+		final List<Map<String, Object>> users = new ArrayList<>();
+
+		payload.put("version", seed);
+		payload.put("users", users);
+
+		for(int i = 0, length = 0; length < size; i++){
+			final Map<String, Object> user = new LinkedHashMap<>();
+
+			user.put("id", seed * 1000 + i);
+			user.put("username", "user_" + (seed * 31 + i * 17) % 9973);
+			user.put("email", "user" + i + "@buession.com");
+			user.put("enabled", i % 3 != 0);
+			user.put("score", (i * 7919) % 1000 / 10.0);
+			users.add(user);
+
+			length += 100;
+		}
+
+		return payload;
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.benchmark;
+
+import com.buession.redis.utils.KeyEncoder;
+import com.buession.redis.utils.SafeEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * String Key 加前缀并编码为字节的开销：{@code concatThenEncode} 为原先先拼接再 UTF-8 编码的方式，
+ * {@code fused} 为 {@link KeyEncoder#encodeRaw(String)}，{@code interned} 为开启热点 Key 驻留后的情况。
+ *
+ * @author Yong.Teng
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyEncoderBenchmark {
+
+	private final static String PREFIX = "app:user:";
+
+	@Param({"session:8f14e45fceea167a5a36dedd4bea2543", "会话:8f14e45fceea167a"})
+	private String key;
+
+	private KeyEncoder encoder;
+
+	private KeyEncoder internedEncoder;
+
+	@Setup
+	public void setup() {
+		encoder = new KeyEncoder(PREFIX, 0);
+		internedEncoder = new KeyEncoder(PREFIX, 1024);
+	}
+
+	@Benchmark
+	public byte[] concatThenEncode() {
+		return SafeEncoder.encode(PREFIX.concat(key));
+	}
+
+	@Benchmark
+	public byte[] fused() {
+		return encoder.encodeRaw(key);
+	}
+
+	@Benchmark
+	public byte[] interned() {
+		return internedEncoder.encodeRaw(key);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(KeyEncoderBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.benchmark;
+
+import io.lettuce.core.StatefulRedisClusterCommandsHandler;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lettuce 命令分发开销对比：旧的反射代理、直接调用与 {@link StatefulRedisClusterCommandsHandler} 的
+ * {@link java.lang.invoke.MethodHandle} 代理。
+ *
+ * <p>三种方式共用同一个不访问网络的命令桩，结果只反映分发本身的开销。</p>
+ *
+ * @author Yong.Teng
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LettuceCommandDispatchBenchmark {
+
+	private final static byte[] KEY = "benchmark:key".getBytes(StandardCharsets.UTF_8);
+
+	private final static byte[] VALUE = "benchmark:value".getBytes(StandardCharsets.UTF_8);
+
+	private RedisCommands<byte[], byte[]> direct;
+
+	private RedisCommands<byte[], byte[]> reflectiveProxy;
+
+	private RedisCommands<byte[], byte[]> methodHandleProxy;
+
+	@SuppressWarnings({"unchecked"})
+	@Setup
+	public void setup() {
+		final InvocationHandler stubHandler = (proxy, method, args)->"get".equals(method.getName()) ? VALUE : null;
+
+		direct = stub(RedisCommands.class, stubHandler);
+
+		final RedisAdvancedClusterCommands<byte[], byte[]> clusterCommands = stub(RedisAdvancedClusterCommands.class,
+				stubHandler);
+		final StatefulRedisClusterConnection<byte[], byte[]> clusterConnection = stub(
+				StatefulRedisClusterConnection.class,
+				(proxy, method, args)->"sync".equals(method.getName()) ? clusterCommands : null);
+
+		reflectiveProxy = stub(RedisCommands.class, new ReflectiveHandler(direct));
+		methodHandleProxy = stub(RedisCommands.class, new StatefulRedisClusterCommandsHandler<>(clusterConnection));
+	}
+
+	@Benchmark
+	public byte[] direct() {
+		return direct.get(KEY);
+	}
+
+	@Benchmark
+	public byte[] reflectiveProxy() {
+		return reflectiveProxy.get(KEY);
+	}
+
+	@Benchmark
+	public byte[] methodHandleProxy() {
+		return methodHandleProxy.get(KEY);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(LettuceCommandDispatchBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <T> T stub(final Class type, final InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, handler);
+	}
+
+	/**
+	 * 旧版本的反射分发实现
+	 */
+	private final static class ReflectiveHandler implements InvocationHandler {
+
+		private final Object target;
+
+		ReflectiveHandler(final Object target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			return method.invoke(target, args);
+		}
+
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.benchmark;
+
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.client.connection.datasource.DataSource;
+import com.buession.redis.client.connection.datasource.jedis.JedisDataSource;
+import com.buession.redis.client.connection.datasource.lettuce.LettuceDataSource;
+import com.buession.redis.core.Options;
+import com.buession.redis.core.PoolConfig;
+import com.buession.redis.lock.RedisLock;
+import com.buession.redis.lock.RedisLockFactory;
+import com.buession.redis.ratelimit.RateLimitAlgorithm;
+import com.buession.redis.ratelimit.RateLimitResult;
+import com.buession.redis.ratelimit.RedisRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分布式限流器、锁的判定吞吐量：每次判定为一次 EVALSHA，多线程并发访问真实 Redis
+ * （地址由 {@code redis.host}、{@code redis.port}、{@code redis.password} 系统属性指定），
+ * 限流 Key 在 {@code keys} 个 Key 中随机选择。
+ *
+ * @author Yong.Teng
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+	@Param({"jedis", "lettuce"})
+	private String client;
+
+	@Param({"TOKEN_BUCKET", "GCRA", "SLIDING_LOG"})
+	private RateLimitAlgorithm algorithm;
+
+	@Param({"1024"})
+	private int keys;
+
+	private RedisTemplate redisTemplate;
+
+	private RedisRateLimiter rateLimiter;
+
+	private RedisLockFactory lockFactory;
+
+	@Setup
+	public void setup() {
+		final Options options = new Options();
+		options.setPrefix("benchmark:ratelimit:");
+
+		redisTemplate = new RedisTemplate(dataSource(client), options);
+		redisTemplate.afterPropertiesSet();
+		rateLimiter = new RedisRateLimiter(redisTemplate, algorithm, 1000, Duration.ofSeconds(1));
+		lockFactory = new RedisLockFactory(redisTemplate);
+	}
+
+	@TearDown
+	public void tearDown() {
+		lockFactory.close();
+		redisTemplate.close();
+	}
+
+	@Benchmark
+	public RateLimitResult tryAcquire() {
+		return rateLimiter.tryAcquire(Integer.toString(ThreadLocalRandom.current().nextInt(keys)));
+	}
+
+	@Benchmark
+	public boolean lockUnlock() {
+		final RedisLock lock = lockFactory.getLock("lock:" + ThreadLocalRandom.current().nextInt(keys));
+		return lock.tryLock() && lock.unlock();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(RateLimiterBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	private static DataSource dataSource(final String client) {
+		final String host = System.getProperty("redis.host", "127.0.0.1");
+		final int port = Integer.getInteger("redis.port", 6379);
+		final String password = System.getProperty("redis.password");
+		final PoolConfig poolConfig = new PoolConfig();
+
+		poolConfig.setMaxTotal(128);
+		poolConfig.setMaxIdle(128);
+
+		if("jedis".equals(client)){
+			final JedisDataSource dataSource = new JedisDataSource();
+
+			dataSource.setHost(host);
+			dataSource.setPort(port);
+			dataSource.setPassword(password);
+			dataSource.setPoolConfig(poolConfig);
+
+			return dataSource;
+		}else{
+			final LettuceDataSource dataSource = new LettuceDataSource();
+
+			dataSource.setHost(host);
+			dataSource.setPort(port);
+			dataSource.setPassword(password);
+			dataSource.setPoolConfig(poolConfig);
+
+			return dataSource;
+		}
+	}
+
+}
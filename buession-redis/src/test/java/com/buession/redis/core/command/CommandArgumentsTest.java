@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.core.command;
+
+import com.buession.redis.core.command.args.bitmap.BitOperation;
+import com.buession.redis.core.command.args.list.Direction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class CommandArgumentsTest {
+
+	private final static byte[] KEY = "test:key".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	public void numericArgumentsAllocateNothingWithoutCapture() {
+		final com.sun.management.ThreadMXBean threadMXBean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final long threadId = Thread.currentThread().getId();
+		long checksum = 0;
+
+		CommandArguments.setCaptureOnError(false);
+		// DEBUG 日志开启时总会记录命令参数，开启字节数指标时每条命令会创建轻量实例
+		Assumptions.assumeFalse(CommandArguments.isCaptureEnabled());
+		Assumptions.assumeFalse(CommandArguments.isTrackingEnabled());
+
+		for(int i = 0; i < 10_000; i++){
+			checksum += build(i).hashCode();
+		}
+
+		final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+
+		for(int i = 0; i < 100_000; i++){
+			checksum += build(i).hashCode();
+		}
+
+		final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+		// 装箱 100000 次至少分配数 MB，只允许测量本身的少量分配
+		Assertions.assertTrue(allocated < 64 * 1024, "Allocated " + allocated + " bytes, checksum " + checksum);
+	}
+
+	@Test
+	public void forEachKey() {
+		CommandArguments.retainTracking();
+
+		try{
+			Assertions.assertEquals(List.of("test:key"), keys(RedisCommand.SET,
+					CommandArguments.create(KEY).add("value").add(100L)));
+			Assertions.assertEquals(List.of("a", "b"), keys(RedisCommand.DEL, CommandArguments.create("a", "b")));
+			Assertions.assertEquals(List.of("source", "dest"), keys(RedisCommand.RENAME,
+					CommandArguments.create("source").add("dest")));
+			Assertions.assertEquals(List.of("dest"), keys(RedisCommand.BITOP,
+					CommandArguments.create(BitOperation.AND).add("dest").add(new String[]{"a"})));
+			Assertions.assertEquals(List.of("a", "b"), keys(RedisCommand.EVAL,
+					CommandArguments.create("return 1").add(2).add("a", "b").add("argument")));
+			Assertions.assertEquals(List.of("a"), keys(RedisCommand.BLMPOP,
+					CommandArguments.create(1.5D).add(1).add(new String[]{"a"}).add(Direction.LEFT)));
+		}finally{
+			CommandArguments.releaseTracking();
+		}
+	}
+
+	private static List<String> keys(final RedisCommand command, final CommandArguments arguments) {
+		final List<String> result = new ArrayList<>();
+
+		arguments.forEachKey(command, (key)->result.add(new String(key, StandardCharsets.UTF_8)));
+		return result;
+	}
+
+	private static CommandArguments build(final int i) {
+		return CommandArguments.create(KEY).add(100_000L + i).add(i * 1.5D).add(i + 1024);
+	}
+
+}
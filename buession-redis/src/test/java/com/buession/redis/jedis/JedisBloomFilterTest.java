@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.jedis;
+
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.cache.BloomFilterShadow;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class JedisBloomFilterTest extends AbstractJedisRedisTest {
+
+	@Test
+	public void bloomFilterShadow() {
+		RedisTemplate redisTemplate = redisTemplate();
+		redisTemplate.del("bloom_filter_shadow");
+		redisTemplate.bfReserve("bloom_filter_shadow", 0.01, 10000);
+
+		for(int i = 0; i < 1000; i++){
+			redisTemplate.bfAdd("bloom_filter_shadow", "a" + i);
+		}
+
+		try(BloomFilterShadow shadow = new BloomFilterShadow(redisTemplate, "bloom_filter_shadow")){
+			Assertions.assertTrue(shadow.isActive());
+
+			shadow.add("b");
+			for(int i = 0; i < 1000; i++){
+				Assertions.assertTrue(shadow.exists("a" + i));
+			}
+			Assertions.assertTrue(shadow.exists("b"));
+
+			for(int i = 0; i < 1000; i++){
+				shadow.exists("c" + i);
+			}
+
+			System.out.println("memory: " + shadow.getMemoryUsage() + ", local negatives: " +
+					shadow.getLocalNegatives() + ", server checks: " + shadow.getServerChecks());
+		}
+	}
+
+}
@@ -25,13 +25,20 @@
 package com.buession.redis.jedis;
 
 import com.buession.lang.Geo;
+import com.buession.lang.KeyValue;
 import com.buession.redis.RedisTemplate;
 import com.buession.redis.core.GeoRadius;
 import com.buession.redis.core.command.args.geo.GeoUnit;
+import com.buession.redis.geo.GeoBulkLoader;
+import com.buession.redis.geo.GeoHit;
+import com.buession.redis.geo.GeoLoadResult;
+import com.buession.redis.geo.GeoMultiSearcher;
+import com.buession.redis.geo.GeoQuery;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * @author Yong.Teng
@@ -81,4 +88,29 @@ public class JedisGeoTest extends AbstractJedisRedisTest {
 		result.forEach(System.out::println);
 	}
 
+	@Test
+	public void geoBulkLoadAndMultiSearch() throws InterruptedException {
+		RedisTemplate redisTemplate = redisTemplate();
+		redisTemplate.del("poi_beijing", "poi_shanghai");
+
+		try(GeoBulkLoader loader = new GeoBulkLoader(redisTemplate)){
+			GeoLoadResult result = loader.load("poi_beijing", IntStream.range(0, 10000)
+					.mapToObj((i)->new KeyValue<>("bj_" + i, new Geo(116.3 + i % 100 * 0.002, 39.8 + i / 100 * 0.002))));
+			Assertions.assertEquals(10000, result.loaded());
+			System.out.println(result);
+
+			result = loader.load("poi_shanghai", IntStream.range(0, 10000)
+					.mapToObj((i)->new KeyValue<>("sh_" + i, new Geo(121.4 + i % 100 * 0.002, 31.2 + i / 100 * 0.002))));
+			Assertions.assertEquals(10000, result.loaded());
+		}
+
+		try(GeoMultiSearcher searcher = new GeoMultiSearcher(redisTemplate)){
+			List<GeoHit> hits = searcher.search(List.of(new GeoQuery("poi_beijing", 116.4, 39.9, 1, GeoUnit.KM),
+					new GeoQuery("poi_shanghai", 121.5, 31.3, 1000, GeoUnit.M)), 10, GeoUnit.M);
+
+			Assertions.assertEquals(10, hits.size());
+			hits.forEach(System.out::println);
+		}
+	}
+
 }
@@ -27,9 +27,14 @@ package com.buession.redis.jedis;
 import com.buession.lang.Status;
 import com.buession.redis.RedisTemplate;
 import com.buession.redis.core.ScanResult;
+import com.buession.redis.core.command.args.json.JsonPatch;
+import com.buession.redis.core.command.args.json.JsonProjection;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author Yong.Teng
  * @since 3.0.0
@@ -43,6 +48,26 @@ public class JedisJsonTest extends AbstractJedisRedisTest {
 				redisTemplate.jsonSet("json_1", "$", "{\"id\":100, \"name\":\"buession\"}") == Status.SUCCESS);
 	}
 
+	@Test
+	public void jsonPatchAndProject() {
+		RedisTemplate redisTemplate = redisTemplate();
+		redisTemplate.jsonSet("json_2", "$",
+				"{\"id\":100,\"visits\":1,\"tags\":[\"a\"],\"profile\":{\"name\":\"buession\"},\"tmp\":true}");
+
+		Assertions.assertEquals(Status.SUCCESS, redisTemplate.jsonPatch("json_2", JsonPatch.create()
+				.set("$.profile.name", "buession framework").numIncrBy("$.visits", 2).arrAppend("$.tags", "b", "c")
+				.del("$.tmp")));
+
+		Map<?, ?> result = redisTemplate.jsonProject("json_2", JsonProjection.create().field("$.profile.name")
+				.field("visits", "$.visits").field("tags", "$.tags").field("tmp", "$.tmp"), Map.class);
+
+		Assertions.assertEquals("buession framework", result.get("name"));
+		Assertions.assertEquals(3, ((Number) result.get("visits")).intValue());
+		Assertions.assertEquals(3, ((List<?>) result.get("tags")).size());
+		Assertions.assertNull(result.get("tmp"));
+		System.out.println(result);
+	}
+
 	@Test
 	public void jsonObjLen() {
 		RedisTemplate redisTemplate = redisTemplate();
@@ -26,6 +26,8 @@ package com.buession.redis.jedis;
 
 import com.buession.redis.RedisTemplate;
 import com.buession.redis.core.ScanResult;
+import com.buession.redis.scan.ScanIterator;
+import com.buession.redis.scan.ScanOptions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import redis.clients.jedis.Jedis;
@@ -57,6 +59,17 @@ public class JedisKeyTest extends AbstractJedisRedisTest {
 		result.getResults().forEach(System.out::println);
 	}
 
+	@Test
+	public void scanIterator() {
+		RedisTemplate redisTemplate = redisTemplate();
+		ScanOptions options = new ScanOptions();
+		options.setCount(10);
+
+		try(ScanIterator<String> iterator = redisTemplate.scanIterator("*", options)){
+			System.out.println(iterator.stream().count());
+		}
+	}
+
 	@Test
 	public void testSentinel() {
 		JedisPoolConfig jedisPoolConfig = new JedisPoolConfig();
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.jedis;
+
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.lock.RedisLock;
+import com.buession.redis.lock.RedisLockFactory;
+import com.buession.redis.lock.RedisSemaphore;
+import com.buession.redis.ratelimit.RateLimitAlgorithm;
+import com.buession.redis.ratelimit.RateLimitResult;
+import com.buession.redis.ratelimit.RedisRateLimiter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class JedisLockTest extends AbstractJedisRedisTest {
+
+	@Test
+	public void lock() throws InterruptedException {
+		RedisTemplate redisTemplate = redisTemplate();
+
+		try(RedisLockFactory factory = new RedisLockFactory(redisTemplate, Duration.ofSeconds(3))){
+			RedisLock lock = factory.getMultiLock("{order}:1", "{order}:2");
+			RedisLock other = factory.getLock("{order}:2");
+
+			Assertions.assertTrue(lock.tryLock());
+			Assertions.assertFalse(other.tryLock(Duration.ofMillis(200)));
+
+			// 超过租约时长后仍由续期器保持持有
+			Thread.sleep(5000);
+			Assertions.assertTrue(lock.isLocked());
+			Assertions.assertTrue(lock.unlock());
+			Assertions.assertTrue(other.tryLock());
+			Assertions.assertTrue(other.unlock());
+		}
+	}
+
+	@Test
+	public void semaphore() {
+		RedisTemplate redisTemplate = redisTemplate();
+
+		try(RedisLockFactory factory = new RedisLockFactory(redisTemplate)){
+			RedisSemaphore semaphore = factory.getSemaphore("semaphore", 2);
+			String a = semaphore.tryAcquire();
+			String b = semaphore.tryAcquire();
+
+			Assertions.assertNotNull(a);
+			Assertions.assertNotNull(b);
+			Assertions.assertNull(semaphore.tryAcquire());
+			Assertions.assertEquals(0, semaphore.availablePermits());
+			Assertions.assertTrue(semaphore.release(a));
+			Assertions.assertTrue(semaphore.release(b));
+			Assertions.assertEquals(2, semaphore.availablePermits());
+		}
+	}
+
+	@Test
+	public void rateLimiter() {
+		RedisTemplate redisTemplate = redisTemplate();
+
+		for(RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()){
+			RedisRateLimiter rateLimiter = new RedisRateLimiter(redisTemplate, algorithm, 10, Duration.ofMinutes(1));
+			String key = "rate_limit:" + algorithm.name().toLowerCase();
+			int allowed = 0;
+
+			redisTemplate.del(key);
+
+			for(int i = 0; i < 20; i++){
+				RateLimitResult result = rateLimiter.tryAcquire(key);
+
+				if(result.isAllowed()){
+					allowed++;
+				}else{
+					System.out.println(algorithm + ": " + result);
+				}
+			}
+
+			Assertions.assertEquals(10, allowed);
+		}
+	}
+
+}
@@ -27,6 +27,8 @@ package com.buession.redis.jedis;
 import com.buession.redis.RedisTemplate;
 import com.buession.redis.core.FunctionStats;
 import com.buession.redis.core.LibraryInfo;
+import com.buession.redis.script.RedisFunctionLibrary;
+import com.buession.redis.script.RedisScript;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -51,4 +53,23 @@ public class JedisScriptingTest extends AbstractJedisRedisTest {
 		System.out.println(result);
 	}
 
+	@Test
+	public void evalScript() {
+		RedisTemplate redisTemplate = redisTemplate();
+		RedisScript script = new RedisScript("return redis.call('GET', KEYS[1])", true);
+
+		redisTemplate.scriptFlush();
+		System.out.println(redisTemplate.eval(script, new String[]{"a"}, new String[]{}));
+		System.out.println(redisTemplate.eval(script, new String[]{"a"}, new String[]{}));
+	}
+
+	@Test
+	public void fCallLibrary() {
+		RedisTemplate redisTemplate = redisTemplate();
+		RedisFunctionLibrary library = new RedisFunctionLibrary(
+				"#!lua name=testlib\nredis.register_function('echo', function(keys, args) return args[1] end)");
+
+		System.out.println(redisTemplate.fCall(library, "echo", new String[]{}, new String[]{"hello"}));
+	}
+
 }
@@ -25,7 +25,10 @@
 package com.buession.redis.jedis;
 
 import com.buession.redis.RedisTemplate;
+import com.buession.redis.client.connection.datasource.jedis.JedisSentinelDataSource;
 import com.buession.redis.client.connection.jedis.JedisSentinelConnection;
+import com.buession.redis.core.Options;
+import com.buession.redis.core.ReadPreference;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -45,4 +48,20 @@ public class JedisSentinelTest extends AbstractJedisRedisTest {
 		System.out.println(result);
 	}
 
+	@Test
+	public void readFromReplica() {
+		JedisSentinelDataSource dataSource = sentinelDataSource();
+		dataSource.setReadPreference(ReadPreference.REPLICA_PREFERRED);
+
+		Options options = new Options();
+		options.setPrefix("test:");
+		RedisTemplate redisTemplate = new RedisTemplate(dataSource, options);
+		redisTemplate.afterPropertiesSet();
+
+		redisTemplate.set("read-preference", "replica");
+		for(int i = 0; i < 10; i++){
+			System.out.println(redisTemplate.get("read-preference"));
+		}
+	}
+
 }
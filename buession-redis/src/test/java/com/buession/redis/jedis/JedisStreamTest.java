@@ -34,9 +34,11 @@ import com.buession.redis.core.StreamConsumer;
 import com.buession.redis.core.StreamEntryId;
 import com.buession.redis.core.StreamFull;
 import com.buession.redis.core.StreamGroup;
+import com.buession.redis.stream.StreamConsumerContainer;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Yong.Teng
@@ -112,4 +114,23 @@ public class JedisStreamTest extends AbstractJedisRedisTest {
 		System.out.println(redisTemplate.xRead(MapBuilder.of("stream_b", new StreamEntryId(2, 2))));
 	}
 
+	@Test
+	public void consumerContainer() throws Exception {
+		RedisTemplate redisTemplate = redisTemplate();
+		AtomicInteger counter = new AtomicInteger();
+
+		try(StreamConsumerContainer container = new StreamConsumerContainer(redisTemplate)){
+			container.subscribe("stream_c", "group_c", (key, entry)->counter.incrementAndGet());
+			container.start();
+
+			for(int i = 0; i < 100; i++){
+				redisTemplate.xAdd("stream_c", "*", MapBuilder.<String, String>create().put("i", "" + i).build());
+			}
+
+			Thread.sleep(3000);
+			System.out.println(counter.get());
+			System.out.println(container.getMetrics());
+		}
+	}
+
 }
@@ -29,6 +29,10 @@ import com.buession.redis.RedisTemplate;
 import com.buession.redis.User;
 import com.buession.redis.core.Options;
 import com.buession.redis.core.ScanResult;
+import com.buession.redis.core.command.CommandArguments;
+import com.buession.redis.core.command.RedisCommand;
+import com.buession.redis.metrics.InMemoryCommandMetrics;
+import com.buession.redis.metrics.MetricsConfig;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -61,4 +65,37 @@ public class JedisStringTest extends AbstractJedisRedisTest {
 		System.out.println(user);
 	}
 
+	@Test
+	public void metrics() throws Exception {
+		InMemoryCommandMetrics commandMetrics = new InMemoryCommandMetrics(true);
+		Options options = new Options();
+		options.setMetricsConfig(new MetricsConfig(commandMetrics));
+
+		try(RedisTemplate redisTemplate = new RedisTemplate(dataSource(), options)){
+			redisTemplate.afterPropertiesSet();
+
+			redisTemplate.set("metrics", "buession");
+			redisTemplate.get("metrics");
+			System.out.println(commandMetrics.getCommandStats());
+			System.out.println(commandMetrics.getPoolWait());
+		}
+	}
+
+	@Test
+	public void metricsBytesOutWithoutArgumentCapture() throws Exception {
+		InMemoryCommandMetrics commandMetrics = new InMemoryCommandMetrics(true);
+		Options options = new Options();
+		options.setMetricsConfig(new MetricsConfig(commandMetrics));
+
+		// 默认配置：不记录命令参数
+		CommandArguments.setCaptureOnError(false);
+
+		try(RedisTemplate redisTemplate = new RedisTemplate(dataSource(), options)){
+			redisTemplate.afterPropertiesSet();
+			redisTemplate.set("metrics", "buession");
+
+			Assertions.assertTrue(commandMetrics.getCommandStats(RedisCommand.SET).getBytesOut() > 0);
+		}
+	}
+
 }
@@ -25,11 +25,20 @@
 package com.buession.redis.jedis;
 
 import com.buession.redis.RedisTemplate;
+import com.buession.redis.coalesce.CoalescingConfig;
+import com.buession.redis.core.Options;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import redis.clients.jedis.DefaultJedisClientConfig;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisClientConfig;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -67,4 +76,32 @@ public class JedisThreadTest extends AbstractJedisRedisTest {
 		}
 	}
 
+	@Test
+	public void testCoalescing() throws Exception {
+		Options options = new Options();
+		options.setPrefix("test:");
+		options.setCoalescingConfig(new CoalescingConfig(32, Duration.ofNanos(200_000)));
+
+		RedisTemplate redisTemplate = new RedisTemplate(dataSource(), options);
+		redisTemplate.afterPropertiesSet();
+
+		for(int i = 0; i < 100; i++){
+			redisTemplate.set("coalesce_" + i, i);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		List<Future<Integer>> futures = new ArrayList<>(100);
+
+		for(int i = 0; i < 100; i++){
+			final String key = "coalesce_" + i;
+			futures.add(executor.submit(()->redisTemplate.get(key, Integer.class)));
+		}
+
+		for(int i = 0; i < 100; i++){
+			Assertions.assertEquals(i, futures.get(i).get());
+		}
+
+		executor.shutdown();
+	}
+
 }
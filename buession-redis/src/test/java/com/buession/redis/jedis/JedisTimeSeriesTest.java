@@ -26,8 +26,12 @@ package com.buession.redis.jedis;
 
 import com.buession.redis.RedisTemplate;
 import com.buession.redis.core.TimeSeriesInfo;
+import com.buession.redis.timeseries.TimeSeriesWriter;
+import com.buession.redis.timeseries.TimeSeriesWriterOptions;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Date;
 
 /**
@@ -57,4 +61,22 @@ public class JedisTimeSeriesTest extends AbstractJedisRedisTest {
 		System.out.println(result);
 	}
 
+	@Test
+	public void timeSeriesWriter() throws Exception {
+		RedisTemplate redisTemplate = redisTemplate();
+		TimeSeriesWriterOptions options = new TimeSeriesWriterOptions();
+		options.setListener((samples, e)->System.out.println("failed: " + samples.size() + ", " + e.getMessage()));
+
+		try(TimeSeriesWriter writer = new TimeSeriesWriter(redisTemplate, options)){
+			long now = System.currentTimeMillis();
+
+			for(int i = 0; i < 10000; i++){
+				writer.add("time_series_" + (i % 10), now + i / 10, i);
+			}
+
+			Assertions.assertTrue(writer.flush(Duration.ofSeconds(10)));
+			System.out.println("written: " + writer.getWritten() + ", failed: " + writer.getFailed());
+		}
+	}
+
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.jedis;
+
+import com.buession.lang.KeyValue;
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.core.Quantization;
+import com.buession.redis.vectorset.VectorBulkLoader;
+import com.buession.redis.vectorset.VectorBulkLoaderOptions;
+import com.buession.redis.vectorset.VectorLoadResult;
+import com.buession.redis.vectorset.VectorSimResult;
+import com.buession.redis.vectorset.VectorSimSearcher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class JedisVectorSetTest extends AbstractJedisRedisTest {
+
+	@Test
+	public void vectorBulkLoadAndSearch() throws InterruptedException {
+		RedisTemplate redisTemplate = redisTemplate();
+		redisTemplate.del("embeddings");
+
+		final Random random = new Random(42);
+		final float[][] vectors = new float[2000][64];
+
+		for(float[] vector : vectors){
+			for(int i = 0; i < vector.length; i++){
+				vector[i] = random.nextFloat() - 0.5F;
+			}
+		}
+
+		final VectorBulkLoaderOptions options = new VectorBulkLoaderOptions();
+		options.setQuantization(Quantization.NOQUANT);
+
+		try(VectorBulkLoader loader = new VectorBulkLoader(redisTemplate, options)){
+			VectorLoadResult result = loader.load("embeddings", IntStream.range(0, vectors.length)
+					.mapToObj((i)->new KeyValue<>("doc_" + i, vectors[i])));
+			Assertions.assertEquals(vectors.length, result.added());
+			System.out.println(result);
+		}
+
+		try(VectorSimSearcher searcher = new VectorSimSearcher(redisTemplate)){
+			VectorSimResult[] results = searcher.search("embeddings", List.of(vectors).subList(0, 100), 5);
+
+			Assertions.assertEquals(100, results.length);
+			for(int i = 0; i < results.length; i++){
+				Assertions.assertEquals("doc_" + i, results[i].elements()[0]);
+			}
+			System.out.println(results[0]);
+		}
+	}
+
+}
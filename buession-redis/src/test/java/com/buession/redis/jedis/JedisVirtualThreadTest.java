@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.jedis;
+
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.client.connection.datasource.jedis.JedisDataSource;
+import com.buession.redis.core.Options;
+import com.buession.redis.core.PoolConfig;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 虚拟线程钉住载体线程检测，需要 JDK 21 及以上版本
+ *
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class JedisVirtualThreadTest extends AbstractJedisRedisTest {
+
+	@Test
+	public void pinning() throws Exception {
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		Assumptions.assumeTrue(executor != null, "Virtual threads are not supported");
+
+		JedisDataSource dataSource = dataSource();
+		PoolConfig poolConfig = new PoolConfig();
+		poolConfig.setMaxTotal(8);
+		dataSource.setPoolConfig(poolConfig);
+		dataSource.setVirtualThreadFriendly(true);
+
+		Options options = new Options();
+		options.setPrefix("test:");
+		RedisTemplate redisTemplate = new RedisTemplate(dataSource, options);
+		redisTemplate.afterPropertiesSet();
+		redisTemplate.set("vt", "1");
+
+		final AtomicInteger pinned = new AtomicInteger();
+
+		try(RecordingStream recordingStream = new RecordingStream()){
+			recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+			recordingStream.onEvent("jdk.VirtualThreadPinned", (event)->{
+				pinned.incrementAndGet();
+				System.out.println(event);
+			});
+			recordingStream.startAsync();
+
+			List<Future<String>> futures = new ArrayList<>(5000);
+			for(int i = 0; i < 5000; i++){
+				futures.add(executor.submit(()->redisTemplate.get("vt")));
+			}
+
+			for(Future<String> future : futures){
+				Assertions.assertEquals("1", future.get());
+			}
+
+			executor.shutdown();
+			// 等待事件流刷新
+			Thread.sleep(2000);
+		}
+
+		Assertions.assertEquals(0, pinned.get());
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try{
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}catch(ReflectiveOperationException e){
+			return null;
+		}
+	}
+
+}
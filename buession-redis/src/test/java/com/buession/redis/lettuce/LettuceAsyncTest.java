@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.lettuce;
+
+import com.buession.lang.Status;
+import com.buession.redis.AsyncRedisTemplate;
+import com.buession.redis.ReactiveRedisTemplate;
+import com.buession.redis.User;
+import com.buession.redis.core.Options;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class LettuceAsyncTest extends AbstractLettuceRedisTest {
+
+	@Test
+	public void async() throws Exception {
+		Options options = new Options();
+		options.setPrefix("test:");
+		AsyncRedisTemplate redisTemplate = new AsyncRedisTemplate(dataSource(), options);
+		redisTemplate.afterPropertiesSet();
+
+		User user = new User();
+		user.setId(1);
+
+		Assertions.assertEquals(Status.SUCCESS, redisTemplate.set("async_user", user).toCompletableFuture().get());
+		Assertions.assertEquals(1, redisTemplate.get("async_user", User.class).toCompletableFuture().get().getId());
+	}
+
+	@Test
+	public void reactive() {
+		Options options = new Options();
+		options.setPrefix("test:");
+		ReactiveRedisTemplate redisTemplate = new ReactiveRedisTemplate(dataSource(), options);
+		redisTemplate.afterPropertiesSet();
+
+		redisTemplate.set("reactive_a", "A").then(redisTemplate.get("reactive_a")).doOnNext(System.out::println)
+				.block();
+
+		List<String> keys = redisTemplate.scan("reactive_*", 100).collectList().block();
+		System.out.println(keys);
+	}
+
+}
@@ -24,8 +24,10 @@
  */
 package com.buession.redis.lettuce;
 
+import com.buession.lang.KeyValue;
 import com.buession.lang.Status;
 import com.buession.redis.RedisTemplate;
+import com.buession.redis.client.connection.datasource.lettuce.LettuceClusterDataSource;
 import com.buession.redis.core.ScanResult;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -108,4 +110,21 @@ public class LettuceClusterTest extends AbstractLettuceRedisTest {
 		System.out.println(redisTemplate.clusterReplicas("6c4b96dd2c27bf03b6e684445959eebf8c64bcea"));
 	}
 
+	@SuppressWarnings({"unchecked"})
+	@Test
+	public void crossSlotMultiKey() {
+		LettuceClusterDataSource dataSource = clusterDataSource();
+		dataSource.setMultiKeyParallelism(2);
+		dataSource.setMultiKeyNodeTimeout(1000);
+
+		RedisTemplate redisTemplate = new RedisTemplate(dataSource);
+		redisTemplate.afterPropertiesSet();
+
+		Assertions.assertEquals(Status.SUCCESS, redisTemplate.mSet(new KeyValue<>("a", "1"), new KeyValue<>("b", "2"),
+				new KeyValue<>("c", "3"), new KeyValue<>("{a}d", "4")));
+		System.out.println(redisTemplate.mGet("c", "a", "missing", "{a}d", "b"));
+		Assertions.assertEquals(4L, redisTemplate.exists("a", "b", "c", "{a}d"));
+		Assertions.assertEquals(4L, redisTemplate.del("a", "b", "c", "{a}d"));
+	}
+
 }
@@ -25,8 +25,10 @@
 package com.buession.redis.lettuce;
 
 import com.buession.redis.RedisTemplate;
+import io.lettuce.core.api.PipeliningFlushPolicy;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -55,4 +57,28 @@ public class LettucePipelineTest extends AbstractLettuceRedisTest {
 		System.out.println(redisTemplate.get("lp_1_2"));
 	}
 
+	@Test
+	public void testBuffered() {
+		RedisTemplate redisTemplate = redisTemplate();
+		redisTemplate.pipeline(PipeliningFlushPolicy.buffered(100));
+		for(int i = 0; i < 1000; i++){
+			redisTemplate.set("lp_b_" + i, Integer.toString(i));
+		}
+		List<Object> result = redisTemplate.exec();
+		System.out.println(result.size());
+		System.out.println(redisTemplate.get("lp_b_999"));
+	}
+
+	@Test
+	public void testAdaptive() {
+		RedisTemplate redisTemplate = redisTemplate();
+		redisTemplate.pipeline(PipeliningFlushPolicy.adaptive(64 * 1024, Duration.ofNanos(200_000)));
+		for(int i = 0; i < 1000; i++){
+			redisTemplate.set("lp_a_" + i, Integer.toString(i));
+		}
+		List<Object> result = redisTemplate.exec();
+		System.out.println(result.size());
+		System.out.println(redisTemplate.get("lp_a_999"));
+	}
+
 }
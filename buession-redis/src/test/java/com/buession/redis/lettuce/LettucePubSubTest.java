@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.lettuce;
+
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.core.PubSubListener;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class LettucePubSubTest extends AbstractLettuceRedisTest {
+
+	@Test
+	public void subscribe() throws Exception {
+		RedisTemplate redisTemplate = redisTemplate();
+
+		redisTemplate.subscribe(new String[]{"channel_a"}, new PubSubListener<>() {
+
+			@Override
+			public void onMessage(String channel, String message) {
+				System.out.println(Thread.currentThread().getName() + " " + channel + ": " + message);
+			}
+
+			@Override
+			public void onPMessage(String pattern, String channel, String message) {
+			}
+
+			@Override
+			public void onSubscribe(String channel, int subscribedChannels) {
+				System.out.println("subscribe " + channel + ": " + subscribedChannels);
+			}
+
+			@Override
+			public void onUnsubscribe(String channel, int subscribedChannels) {
+			}
+
+			@Override
+			public void onPUnsubscribe(String pattern, int subscribedChannels) {
+			}
+
+			@Override
+			public void onPSubscribe(String pattern, int subscribedChannels) {
+			}
+
+			@Override
+			public void onPong(String pattern) {
+			}
+
+		});
+
+		for(int i = 0; i < 10; i++){
+			redisTemplate.publish("channel_a", "message " + i);
+		}
+
+		Thread.sleep(1000);
+		redisTemplate.unSubscribe("channel_a");
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.redis.lettuce;
+
+import com.buession.redis.RedisTemplate;
+import com.buession.redis.client.connection.datasource.lettuce.LettuceDataSource;
+import com.buession.redis.core.Options;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Yong.Teng
+ * @since 4.0.0
+ */
+public class LettuceSharedConnectionTest extends AbstractLettuceRedisTest {
+
+	@Test
+	public void blockingDoesNotStallShared() throws Exception {
+		RedisTemplate redisTemplate = redisTemplate(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try{
+			Future<?> blocking = executor.submit(()->redisTemplate.blPop(new String[]{"sc_list"}, 2));
+
+			long start = System.nanoTime();
+			for(int i = 0; i < 100; i++){
+				redisTemplate.set("sc_s_" + i, Integer.toString(i));
+			}
+			System.out.println("set 100 keys while BLPOP blocking: " +
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+			System.out.println(redisTemplate.get("sc_s_99"));
+			System.out.println(blocking.get());
+		}finally{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void transaction() {
+		RedisTemplate redisTemplate = redisTemplate(1);
+
+		redisTemplate.multi();
+		redisTemplate.set("sc_t_1", "1");
+		redisTemplate.incr("sc_t_1");
+		System.out.println(redisTemplate.exec());
+		System.out.println(redisTemplate.get("sc_t_1"));
+	}
+
+	@Test
+	public void pooled() {
+		RedisTemplate redisTemplate = redisTemplate(0);
+
+		redisTemplate.set("sc_p_1", "1");
+		System.out.println(redisTemplate.get("sc_p_1"));
+	}
+
+	private RedisTemplate redisTemplate(final int sharedConnections) {
+		LettuceDataSource dataSource = dataSource();
+		dataSource.setSharedConnections(sharedConnections);
+
+		Options options = new Options();
+		options.setPrefix("test:");
+		RedisTemplate redisTemplate = new RedisTemplate(dataSource, options);
+
+		redisTemplate.afterPropertiesSet();
+
+		return redisTemplate;
+	}
+
+}
@@ -27,9 +27,17 @@ package com.buession.redis.lettuce;
 import com.buession.lang.Status;
 import com.buession.redis.RedisTemplate;
 import com.buession.redis.User;
+import com.buession.redis.cache.HotKeyConfig;
+import com.buession.redis.cache.NearCacheConfig;
+import com.buession.redis.core.Options;
+import com.buession.redis.serializer.KryoSerializer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * @author Yong.Teng
  * @since 3.0.0
@@ -55,4 +63,137 @@ public class LettuceStringTest extends AbstractLettuceRedisTest {
 		System.out.println(user);
 	}
 
+	@Test
+	public void nearCache() throws Exception {
+		Options options = new Options();
+		options.setPrefix("test:");
+		options.setNearCacheConfig(new NearCacheConfig());
+
+		RedisTemplate redisTemplate = new RedisTemplate(dataSource(), options);
+		redisTemplate.afterPropertiesSet();
+
+		User user = new User();
+		user.setId(1);
+		redisTemplate.set("near", user);
+
+		System.out.println(redisTemplate.get("near", User.class));
+		System.out.println(redisTemplate.get("near", User.class));
+
+		user.setId(2);
+		redisTemplate.set("near", user);
+		Thread.sleep(100);
+
+		Assertions.assertEquals(2, redisTemplate.get("near", User.class).getId());
+		System.out.println(redisTemplate.getNearCache().stats());
+
+		redisTemplate.close();
+	}
+
+	@Test
+	public void nearCacheDeserializedMap() throws Exception {
+		NearCacheConfig nearCacheConfig = new NearCacheConfig();
+		nearCacheConfig.setCacheDeserializedValue(true);
+
+		Options options = new Options();
+		options.setPrefix("test:");
+		options.setNearCacheConfig(nearCacheConfig);
+
+		RedisTemplate redisTemplate = new RedisTemplate(dataSource(), options);
+		redisTemplate.afterPropertiesSet();
+
+		User user = new User();
+		user.setId(1);
+		redisTemplate.hSet("near:hash", "user", user);
+
+		Map<String, User> first = redisTemplate.hGetAll("near:hash", User.class);
+		Map<String, User> second = redisTemplate.hGetAll("near:hash", User.class);
+
+		Assertions.assertEquals(1, second.get("user").getId());
+		Assertions.assertThrows(UnsupportedOperationException.class, ()->first.remove("user"));
+		Assertions.assertThrows(UnsupportedOperationException.class, ()->second.put("other", user));
+
+		redisTemplate.del("near:hash");
+		redisTemplate.close();
+	}
+
+	@Test
+	public void hotKey() throws Exception {
+		HotKeyConfig hotKeyConfig = new HotKeyConfig(100, Duration.ofMillis(500));
+		hotKeyConfig.setListener((key, qps)->System.out.println("promoted: " + key + ", qps: " + qps));
+
+		Options options = new Options();
+		options.setPrefix("test:");
+		options.setHotKeyConfig(hotKeyConfig);
+
+		RedisTemplate redisTemplate = new RedisTemplate(dataSource(), options);
+		redisTemplate.afterPropertiesSet();
+
+		User user = new User();
+		user.setId(1);
+		redisTemplate.set("hot", user);
+
+		for(int i = 0; i < 1000; i++){
+			Assertions.assertEquals(1, redisTemplate.get("hot", User.class).getId());
+		}
+
+		System.out.println(redisTemplate.getHotKeyCache().getHotKeys());
+		Assertions.assertTrue(redisTemplate.getHotKeyCache().getHotKeys().contains("test:hot"));
+
+		redisTemplate.close();
+	}
+
+	@Test
+	public void hotKeyReadYourWrites() {
+		Options options = new Options();
+		options.setPrefix("test:");
+		options.setHotKeyConfig(new HotKeyConfig(100, Duration.ofSeconds(10)));
+
+		RedisTemplate redisTemplate = new RedisTemplate(dataSource(), options);
+		redisTemplate.afterPropertiesSet();
+
+		User user = new User();
+		user.setId(1);
+		redisTemplate.set("hot:rw", user);
+
+		for(int i = 0; i < 1000; i++){
+			redisTemplate.get("hot:rw", User.class);
+		}
+		Assertions.assertTrue(redisTemplate.getHotKeyCache().getHotKeys().contains("test:hot:rw"));
+
+		user.setId(2);
+		redisTemplate.set("hot:rw", user);
+		Assertions.assertEquals(2, redisTemplate.get("hot:rw", User.class).getId());
+
+		user.setId(3);
+		redisTemplate.set("hot:rw:source", user);
+		redisTemplate.rename("hot:rw:source", "hot:rw");
+		Assertions.assertEquals(3, redisTemplate.get("hot:rw", User.class).getId());
+
+		redisTemplate.del("hot:rw");
+		Assertions.assertNull(redisTemplate.get("hot:rw", User.class));
+
+		redisTemplate.close();
+	}
+
+	@Test
+	public void kryoSerializer() {
+		Options options = new Options();
+		options.setPrefix("test:");
+		options.setSerializer(new KryoSerializer(User.class));
+
+		RedisTemplate redisTemplate = new RedisTemplate(dataSource(), options);
+		redisTemplate.afterPropertiesSet();
+
+		User user = new User();
+		user.setId(1);
+		user.setUsername("kryo");
+
+		byte[] key = "kryo".getBytes(StandardCharsets.UTF_8);
+		redisTemplate.set(key, user);
+		Assertions.assertEquals(1, redisTemplate.get(key, User.class).getId());
+
+		redisTemplate.set("kryo:string", user);
+		System.out.println(redisTemplate.get("kryo:string", User.class));
+	}
+
 }